@@ -31,6 +31,7 @@ dependencies {
         api(project(":mongodb-crypt"))
         api(project(":driver-core"))
         api(project(":bson"))
+        api(project(":bson-codec-processor"))
         api(project(":bson-record-codec"))
 
         api(project(":driver-sync"))
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.processor.CodecModel.InvalidModelException;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An annotation processor that generates a codec for each class or record annotated with
+ * {@code org.bson.codecs.pojo.annotations.BsonGenerateCodec}, and a {@code GeneratedBsonCodecProvider} for each package containing
+ * such classes.
+ *
+ * <p>The generated codecs read and write properties directly, without the reflection and boxing of the {@code PojoCodec} and the
+ * {@code RecordCodec}. Classes that use annotations the generated codecs do not support are reported as compilation errors.</p>
+ *
+ * @since 5.11
+ */
+@SupportedAnnotationTypes(BsonCodecProcessor.BSON_GENERATE_CODEC)
+public final class BsonCodecProcessor extends AbstractProcessor {
+    static final String BSON_GENERATE_CODEC = "org.bson.codecs.pojo.annotations.BsonGenerateCodec";
+
+    /**
+     * Construct a new instance.
+     */
+    public BsonCodecProcessor() {
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+        TypeElement annotation = processingEnv.getElementUtils().getTypeElement(BSON_GENERATE_CODEC);
+        if (annotation == null) {
+            return false;
+        }
+        CodecSourceWriter writer = new CodecSourceWriter(processingEnv.getTypeUtils());
+        Map<String, List<CodecModel>> modelsByPackage = new LinkedHashMap<>();
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(annotation)) {
+            try {
+                CodecModel model = CodecModel.create(processingEnv, (TypeElement) element);
+                writeSource(qualifiedName(model.getPackageName(), model.getCodecSimpleName()), writer.writeCodec(model), element);
+                modelsByPackage.computeIfAbsent(model.getPackageName(), k -> new ArrayList<>()).add(model);
+            } catch (InvalidModelException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+            }
+        }
+        for (Map.Entry<String, List<CodecModel>> entry : modelsByPackage.entrySet()) {
+            List<CodecModel> models = entry.getValue();
+            Element[] originatingElements = new Element[models.size()];
+            for (int i = 0; i < models.size(); i++) {
+                originatingElements[i] = models.get(i).getType();
+            }
+            writeSource(qualifiedName(entry.getKey(), CodecSourceWriter.PROVIDER_SIMPLE_NAME), writer.writeProvider(entry.getKey(), models),
+                    originatingElements);
+        }
+        return true;
+    }
+
+    private void writeSource(final String name, final String source, final Element... originatingElements) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, originatingElements);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + name + ": " + e.getMessage(),
+                    originatingElements[0]);
+        }
+    }
+
+    private static String qualifiedName(final String packageName, final String simpleName) {
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+}
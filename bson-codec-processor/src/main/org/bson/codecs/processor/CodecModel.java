@@ -0,0 +1,386 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * The properties of a class annotated with {@code BsonGenerateCodec}, discovered from its source the way the {@code PojoCodec} and the
+ * {@code RecordCodec} discover them at runtime.
+ */
+final class CodecModel {
+    private static final String ANNOTATIONS_PACKAGE = "org.bson.codecs.pojo.annotations.";
+    private static final String BSON_ID = ANNOTATIONS_PACKAGE + "BsonId";
+    private static final String BSON_IGNORE = ANNOTATIONS_PACKAGE + "BsonIgnore";
+    private static final String BSON_PROPERTY = ANNOTATIONS_PACKAGE + "BsonProperty";
+    private static final String[] UNSUPPORTED_ANNOTATIONS = {ANNOTATIONS_PACKAGE + "BsonCreator", ANNOTATIONS_PACKAGE + "BsonDiscriminator",
+            ANNOTATIONS_PACKAGE + "BsonExtraElements", ANNOTATIONS_PACKAGE + "BsonRepresentation"};
+    private static final String ID_NAME = "_id";
+
+    private final TypeElement type;
+    private final boolean isRecord;
+    private final String packageName;
+    private final String codecSimpleName;
+    private final List<Property> properties;
+
+    static final class Property {
+        private final String javaName;
+        private final String bsonName;
+        private final TypeMirror type;
+        private final String readExpression;
+        private final String setterName;
+        private final boolean fieldWritable;
+
+        Property(final String javaName, final String bsonName, final TypeMirror type, final String readExpression,
+                 final String setterName, final boolean fieldWritable) {
+            this.javaName = javaName;
+            this.bsonName = bsonName;
+            this.type = type;
+            this.readExpression = readExpression;
+            this.setterName = setterName;
+            this.fieldWritable = fieldWritable;
+        }
+
+        String getJavaName() {
+            return javaName;
+        }
+
+        String getBsonName() {
+            return bsonName;
+        }
+
+        boolean isId() {
+            return bsonName.equals(ID_NAME);
+        }
+
+        TypeMirror getType() {
+            return type;
+        }
+
+        /**
+         * @return the expression that reads the property from an instance, to be prefixed with the instance and a dot, or null if the
+         * property is not readable
+         */
+        String getReadExpression() {
+            return readExpression;
+        }
+
+        /**
+         * @return the name of the setter, or null if the property is written directly to its field or is not writable
+         */
+        String getSetterName() {
+            return setterName;
+        }
+
+        boolean isFieldWritable() {
+            return fieldWritable;
+        }
+
+        boolean isWritable() {
+            return setterName != null || fieldWritable;
+        }
+    }
+
+    static final class InvalidModelException extends Exception {
+        private static final long serialVersionUID = 1L;
+        private final transient Element element;
+
+        InvalidModelException(final Element element, final String message) {
+            super(message);
+            this.element = element;
+        }
+
+        Element getElement() {
+            return element;
+        }
+    }
+
+    static CodecModel create(final ProcessingEnvironment processingEnvironment, final TypeElement type) throws InvalidModelException {
+        Elements elements = processingEnvironment.getElementUtils();
+        boolean isRecord = type.getKind().name().equals("RECORD");
+        if (type.getKind() != ElementKind.CLASS && !isRecord) {
+            throw new InvalidModelException(type, "@BsonGenerateCodec is only supported on classes and records");
+        }
+        if (type.getModifiers().contains(Modifier.PRIVATE) || type.getModifiers().contains(Modifier.ABSTRACT)
+                || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC) && !isRecord)
+                || (type.getNestingKind() != NestingKind.TOP_LEVEL && type.getNestingKind() != NestingKind.MEMBER)) {
+            throw new InvalidModelException(type, "@BsonGenerateCodec requires a concrete, non-private, top-level or static nested class");
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new InvalidModelException(type, "@BsonGenerateCodec is not supported on generic classes");
+        }
+        checkSupportedAnnotations(type);
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String flatName = packageName.isEmpty() ? type.getQualifiedName().toString()
+                : type.getQualifiedName().toString().substring(packageName.length() + 1);
+        String codecSimpleName = flatName.replace('.', '_') + "BsonCodec";
+
+        List<Property> properties = isRecord ? getRecordProperties(type)
+                : getPojoProperties(processingEnvironment, type);
+        return new CodecModel(type, isRecord, packageName, codecSimpleName, properties);
+    }
+
+    private CodecModel(final TypeElement type, final boolean isRecord, final String packageName, final String codecSimpleName,
+                       final List<Property> properties) {
+        this.type = type;
+        this.isRecord = isRecord;
+        this.packageName = packageName;
+        this.codecSimpleName = codecSimpleName;
+        this.properties = properties;
+    }
+
+    TypeElement getType() {
+        return type;
+    }
+
+    boolean isRecord() {
+        return isRecord;
+    }
+
+    String getPackageName() {
+        return packageName;
+    }
+
+    String getCodecSimpleName() {
+        return codecSimpleName;
+    }
+
+    /**
+     * @return the properties in declaration order, which for records is the order of the canonical constructor parameters
+     */
+    List<Property> getProperties() {
+        return properties;
+    }
+
+    private static List<Property> getRecordProperties(final TypeElement type) throws InvalidModelException {
+        List<Property> properties = new ArrayList<>();
+        for (Element component : type.getEnclosedElements()) {
+            if (!component.getKind().name().equals("RECORD_COMPONENT")) {
+                continue;
+            }
+            String javaName = component.getSimpleName().toString();
+            // Annotations on record components are propagated to the field, the accessor and the canonical constructor parameter
+            List<Element> annotated = new ArrayList<>();
+            annotated.add(component);
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getSimpleName().contentEquals(javaName)
+                        && (member.getKind() == ElementKind.FIELD || isNoArgMethod(member))) {
+                    annotated.add(member);
+                }
+            }
+            if (findAnnotation(annotated, BSON_IGNORE) != null) {
+                throw new InvalidModelException(component, "@BsonIgnore is not supported on record components");
+            }
+            properties.add(new Property(javaName, getBsonName(annotated, javaName), component.asType(), javaName + "()", null, false));
+        }
+        return checkNames(properties, type);
+    }
+
+    private static List<Property> getPojoProperties(final ProcessingEnvironment processingEnvironment, final TypeElement type)
+            throws InvalidModelException {
+        Types types = processingEnvironment.getTypeUtils();
+        Elements elements = processingEnvironment.getElementUtils();
+        DeclaredType declaredType = (DeclaredType) type.asType();
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+
+        boolean hasNoArgConstructor = false;
+        for (Element member : type.getEnclosedElements()) {
+            if (member.getKind() == ElementKind.CONSTRUCTOR && ((ExecutableElement) member).getParameters().isEmpty()) {
+                hasNoArgConstructor = isAccessible(elements, member, packageName);
+            }
+        }
+        if (!hasNoArgConstructor) {
+            throw new InvalidModelException(type, "@BsonGenerateCodec requires a non-private no-args constructor");
+        }
+
+        // Superclass properties come first, as they do for the PojoCodec
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement current = type; current != null && !current.getQualifiedName().contentEquals("java.lang.Object");
+             current = current.getSuperclass().getKind() == TypeKind.DECLARED
+                     ? (TypeElement) ((DeclaredType) current.getSuperclass()).asElement() : null) {
+            hierarchy.push(current);
+        }
+        List<ExecutableElement> methods = new ArrayList<>();
+        for (TypeElement current : hierarchy) {
+            for (Element member : current.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.METHOD && !member.getModifiers().contains(Modifier.STATIC)) {
+                    methods.add((ExecutableElement) member);
+                }
+            }
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (TypeElement current : hierarchy) {
+            for (Element member : current.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.FIELD || member.getModifiers().contains(Modifier.STATIC)
+                        || member.getModifiers().contains(Modifier.TRANSIENT)) {
+                    continue;
+                }
+                VariableElement field = (VariableElement) member;
+                String javaName = field.getSimpleName().toString();
+                TypeMirror propertyType = types.asMemberOf(declaredType, field);
+                String capitalizedName = Character.toUpperCase(javaName.charAt(0)) + javaName.substring(1);
+
+                ExecutableElement getter = findMethod(types, declaredType, methods, "get" + capitalizedName, propertyType, false);
+                if (getter == null && isBoolean(propertyType)) {
+                    getter = findMethod(types, declaredType, methods, "is" + capitalizedName, propertyType, false);
+                }
+                ExecutableElement setter = findMethod(types, declaredType, methods, "set" + capitalizedName, propertyType, true);
+
+                List<Element> annotated = new ArrayList<>();
+                annotated.add(field);
+                if (getter != null) {
+                    annotated.add(getter);
+                }
+                if (setter != null) {
+                    annotated.add(setter);
+                }
+                if (findAnnotation(annotated, BSON_IGNORE) != null) {
+                    continue;
+                }
+                for (Element element : annotated) {
+                    checkSupportedAnnotations(element);
+                }
+
+                String readExpression = null;
+                if (getter != null && isAccessible(elements, getter, packageName)) {
+                    readExpression = getter.getSimpleName() + "()";
+                } else if (isAccessible(elements, field, packageName)) {
+                    readExpression = javaName;
+                }
+                String setterName = setter != null && isAccessible(elements, setter, packageName) ? setter.getSimpleName().toString()
+                        : null;
+                boolean fieldWritable = setterName == null && isAccessible(elements, field, packageName)
+                        && !field.getModifiers().contains(Modifier.FINAL);
+                if (readExpression == null && setterName == null && !fieldWritable) {
+                    continue;
+                }
+                properties.add(new Property(javaName, getBsonName(annotated, javaName), propertyType, readExpression, setterName,
+                        fieldWritable));
+            }
+        }
+        return checkNames(properties, type);
+    }
+
+    private static List<Property> checkNames(final List<Property> properties, final TypeElement type) throws InvalidModelException {
+        Set<String> bsonNames = new HashSet<>();
+        for (Property property : properties) {
+            if (!bsonNames.add(property.getBsonName())) {
+                throw new InvalidModelException(type, format("Duplicate BSON field name '%s'", property.getBsonName()));
+            }
+        }
+        return properties;
+    }
+
+    private static String getBsonName(final List<Element> annotated, final String javaName) {
+        if (findAnnotation(annotated, BSON_ID) != null) {
+            return ID_NAME;
+        }
+        AnnotationMirror bsonProperty = findAnnotation(annotated, BSON_PROPERTY);
+        if (bsonProperty != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : bsonProperty.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value") && !entry.getValue().getValue().toString().isEmpty()) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+        }
+        return javaName;
+    }
+
+    private static ExecutableElement findMethod(final Types types, final DeclaredType declaredType, final List<ExecutableElement> methods,
+                                                final String name, final TypeMirror propertyType, final boolean isSetter) {
+        ExecutableElement found = null;
+        for (ExecutableElement method : methods) {
+            if (!method.getSimpleName().contentEquals(name) || method.getParameters().size() != (isSetter ? 1 : 0)) {
+                continue;
+            }
+            TypeMirror methodType = types.asMemberOf(declaredType, method);
+            TypeMirror type = isSetter ? ((ExecutableType) methodType).getParameterTypes().get(0)
+                    : ((ExecutableType) methodType).getReturnType();
+            if (types.isSameType(type, propertyType)) {
+                // Later methods are declared in subclasses, and override earlier ones
+                found = method;
+            }
+        }
+        return found;
+    }
+
+    private static boolean isNoArgMethod(final Element element) {
+        return element.getKind() == ElementKind.METHOD && ((ExecutableElement) element).getParameters().isEmpty();
+    }
+
+    private static boolean isBoolean(final TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || type.toString().equals("java.lang.Boolean");
+    }
+
+    private static boolean isAccessible(final Elements elements, final Element member, final String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE)
+                && elements.getPackageOf(member).getQualifiedName().contentEquals(packageName);
+    }
+
+    private static AnnotationMirror findAnnotation(final List<Element> annotated, final String annotationName) {
+        for (Element element : annotated) {
+            for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+                if (((TypeElement) annotationMirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                    return annotationMirror;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void checkSupportedAnnotations(final Element element) throws InvalidModelException {
+        for (String annotationName : UNSUPPORTED_ANNOTATIONS) {
+            List<Element> annotated = new ArrayList<>();
+            annotated.add(element);
+            if (findAnnotation(annotated, annotationName) != null) {
+                throw new InvalidModelException(element, format("@%s is not supported by generated codecs",
+                        annotationName.substring(ANNOTATIONS_PACKAGE.length())));
+            }
+        }
+    }
+}
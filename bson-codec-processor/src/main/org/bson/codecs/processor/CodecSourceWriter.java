@@ -0,0 +1,407 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.processor;
+
+import org.bson.codecs.processor.CodecModel.InvalidModelException;
+import org.bson.codecs.processor.CodecModel.Property;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Writes the source of generated codecs and providers.
+ */
+final class CodecSourceWriter {
+    static final String PROVIDER_SIMPLE_NAME = "GeneratedBsonCodecProvider";
+
+    /**
+     * The BSON types with dedicated reader and writer methods, which generated codecs call directly rather than through a codec.
+     */
+    private enum FastPath {
+        INT32("java.lang.Integer", "INT32", "Int32"),
+        INT64("java.lang.Long", "INT64", "Int64"),
+        DOUBLE("java.lang.Double", "DOUBLE", "Double"),
+        BOOLEAN("java.lang.Boolean", "BOOLEAN", "Boolean"),
+        STRING("java.lang.String", "STRING", "String"),
+        OBJECT_ID("org.bson.types.ObjectId", "OBJECT_ID", "ObjectId");
+
+        private final String typeName;
+        private final String bsonType;
+        private final String methodSuffix;
+
+        FastPath(final String typeName, final String bsonType, final String methodSuffix) {
+            this.typeName = typeName;
+            this.bsonType = bsonType;
+            this.methodSuffix = methodSuffix;
+        }
+
+        static FastPath of(final String boxedTypeName) {
+            for (FastPath fastPath : values()) {
+                if (fastPath.typeName.equals(boxedTypeName)) {
+                    return fastPath;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Types types;
+
+    CodecSourceWriter(final Types types) {
+        this.types = types;
+    }
+
+    String writeCodec(final CodecModel model) throws InvalidModelException {
+        TypeElement type = model.getType();
+        String typeName = type.getQualifiedName().toString();
+        List<Property> properties = model.getProperties();
+        StringBuilder source = new StringBuilder();
+
+        writePackage(source, model.getPackageName());
+        source.append("import org.bson.BsonName;\n")
+                .append("import org.bson.BsonReader;\n")
+                .append("import org.bson.BsonType;\n")
+                .append("import org.bson.BsonWriter;\n")
+                .append("import org.bson.codecs.Codec;\n")
+                .append("import org.bson.codecs.DecoderContext;\n")
+                .append("import org.bson.codecs.EncoderContext;\n")
+                .append("import org.bson.codecs.configuration.CodecConfigurationException;\n")
+                .append("import org.bson.codecs.configuration.CodecRegistry;\n\n")
+                .append("/**\n")
+                .append(" * A codec for {@link ").append(typeName).append("}, generated from the {@code @BsonGenerateCodec} annotation.\n")
+                .append(" */\n")
+                .append("public final class ").append(model.getCodecSimpleName()).append(" implements Codec<").append(typeName)
+                .append("> {\n");
+
+        // The names are encoded once, so that a BsonBinaryWriter copies them rather than encoding them for every value
+        for (int i = 0; i < properties.size(); i++) {
+            if (hasNameConstant(properties.get(i))) {
+                source.append("    private static final BsonName NAME").append(i).append(" = BsonName.of(")
+                        .append(literal(properties.get(i).getBsonName())).append(");\n");
+            }
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            source.append("    private final Codec<").append(boxedTypeName(properties.get(i).getType())).append("> codec").append(i)
+                    .append(";\n");
+        }
+        source.append("\n")
+                .append("    /**\n")
+                .append("     * Construct a new instance.\n")
+                .append("     *\n")
+                .append("     * @param registry the registry for the codecs of the properties\n")
+                .append("     */\n")
+                .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                .append("    public ").append(model.getCodecSimpleName()).append("(final CodecRegistry registry) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            source.append("        this.codec").append(i).append(" = (Codec) ").append(registryLookup(type, property)).append(";\n");
+        }
+        source.append("    }\n\n");
+
+        writeEncode(source, typeName, properties);
+        writeDecode(source, model, typeName, properties);
+
+        source.append("    @Override\n")
+                .append("    public Class<").append(typeName).append("> getEncoderClass() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    String writeProvider(final String packageName, final List<CodecModel> models) {
+        StringBuilder source = new StringBuilder();
+        writePackage(source, packageName);
+        source.append("import org.bson.codecs.Codec;\n")
+                .append("import org.bson.codecs.configuration.CodecProvider;\n")
+                .append("import org.bson.codecs.configuration.CodecRegistry;\n\n")
+                .append("/**\n")
+                .append(" * A provider of the codecs generated from the {@code @BsonGenerateCodec} annotation in this package.\n")
+                .append(" */\n")
+                .append("public final class ").append(PROVIDER_SIMPLE_NAME).append(" implements CodecProvider {\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {\n");
+        for (CodecModel model : models) {
+            source.append("        if (clazz == ").append(model.getType().getQualifiedName()).append(".class) {\n")
+                    .append("            return (Codec<T>) new ").append(model.getCodecSimpleName()).append("(registry);\n")
+                    .append("        }\n");
+        }
+        source.append("        return null;\n")
+                .append("    }\n\n")
+                .append("    @Override\n")
+                .append("    public String toString() {\n")
+                .append("        return \"").append(PROVIDER_SIMPLE_NAME).append("{}\";\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void writeEncode(final StringBuilder source, final String typeName, final List<Property> properties) {
+        source.append("    @Override\n")
+                .append("    public void encode(final BsonWriter writer, final ").append(typeName)
+                .append(" value, final EncoderContext encoderContext) {\n")
+                .append("        writer.writeStartDocument();\n");
+        // The id is written first, as it is by the PojoCodec and the RecordCodec
+        int idIndex = idIndex(properties);
+        if (idIndex != -1) {
+            writeEncodeProperty(source, properties.get(idIndex), idIndex);
+        }
+        for (int i = 0; i < properties.size(); i++) {
+            if (i != idIndex) {
+                writeEncodeProperty(source, properties.get(i), i);
+            }
+        }
+        source.append("        writer.writeEndDocument();\n")
+                .append("    }\n\n");
+    }
+
+    private void writeEncodeProperty(final StringBuilder source, final Property property, final int i) {
+        if (property.getReadExpression() == null) {
+            return;
+        }
+        String name = hasNameConstant(property) ? "NAME" + i : literal(property.getBsonName());
+        String read = "value." + property.getReadExpression();
+        if (property.getType().getKind().isPrimitive()) {
+            writeEncodeValue(source, "        ", property, i, name, read);
+        } else {
+            String local = "property" + i;
+            source.append("        ").append(property.getType()).append(" ").append(local).append(" = ").append(read).append(";\n")
+                    .append("        if (").append(local).append(" != null) {\n");
+            writeEncodeValue(source, "            ", property, i, name, local);
+            source.append("        }\n");
+        }
+    }
+
+    private void writeEncodeValue(final StringBuilder source, final String indent, final Property property, final int i,
+            final String name, final String value) {
+        FastPath fastPath = FastPath.of(boxedTypeName(property.getType()));
+        source.append(indent).append("writer.writeName(").append(name).append(");\n");
+        if (fastPath != null) {
+            source.append(indent).append("writer.write").append(fastPath.methodSuffix).append("(").append(value).append(");\n");
+        } else {
+            source.append(indent).append("encoderContext.encodeWithChildContext(codec").append(i).append(", writer, ").append(value)
+                    .append(");\n");
+        }
+    }
+
+    // A name containing a null character cannot be encoded as a BsonName, so it is written as a string, which the writer rejects
+    private static boolean hasNameConstant(final Property property) {
+        return property.getReadExpression() != null && property.getBsonName().indexOf('\0') == -1;
+    }
+
+    private void writeDecode(final StringBuilder source, final CodecModel model, final String typeName, final List<Property> properties) {
+        source.append("    @Override\n")
+                .append("    public ").append(typeName).append(" decode(final BsonReader reader, final DecoderContext decoderContext) {\n");
+        if (model.isRecord()) {
+            for (int i = 0; i < properties.size(); i++) {
+                TypeMirror type = properties.get(i).getType();
+                source.append("        ").append(type).append(" property").append(i).append(" = ").append(defaultValue(type)).append(";\n");
+            }
+        } else {
+            source.append("        ").append(typeName).append(" instance = new ").append(typeName).append("();\n");
+        }
+        source.append("        reader.readStartDocument();\n")
+                .append("        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {\n")
+                .append("            String name = reader.readName();\n")
+                .append("            if (!decoderContext.isRequired(name)) {\n")
+                .append("                reader.skipValue();\n")
+                .append("                continue;\n")
+                .append("            }\n")
+                .append("            switch (name) {\n");
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            if (!model.isRecord() && !property.isWritable()) {
+                continue;
+            }
+            String name = literal(property.getBsonName());
+            TypeMirror type = property.getType();
+            FastPath fastPath = FastPath.of(boxedTypeName(type));
+            String decode = "codec" + i + ".decode(reader, decoderContext.getChildContext(" + name + "))";
+            if (fastPath != null) {
+                decode = "reader.getCurrentBsonType() == BsonType." + fastPath.bsonType + " ? reader.read" + fastPath.methodSuffix + "() : "
+                        + decode;
+            }
+            source.append("                case ").append(name).append(":\n")
+                    .append("                    if (reader.getCurrentBsonType() == BsonType.NULL) {\n")
+                    .append("                        reader.readNull();\n");
+            if (type.getKind().isPrimitive()) {
+                source.append("                        throw new CodecConfigurationException(")
+                        .append(literal(format("Failed to decode '%s'. Null value for primitive property '%s'",
+                                model.getType().getSimpleName(), property.getJavaName())))
+                        .append(");\n");
+            } else {
+                source.append("                        ").append(assignment(model, property, i, "null")).append("\n");
+            }
+            source.append("                    } else {\n")
+                    .append("                        ").append(assignment(model, property, i, decode)).append("\n")
+                    .append("                    }\n")
+                    .append("                    break;\n");
+        }
+        source.append("                default:\n")
+                .append("                    reader.skipValue();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        reader.readEndDocument();\n");
+        if (model.isRecord()) {
+            source.append("        return new ").append(typeName).append("(");
+            for (int i = 0; i < properties.size(); i++) {
+                source.append(i == 0 ? "" : ", ").append("property").append(i);
+            }
+            source.append(");\n");
+        } else {
+            source.append("        return instance;\n");
+        }
+        source.append("    }\n\n");
+    }
+
+    private static int idIndex(final List<Property> properties) {
+        for (int i = 0; i < properties.size(); i++) {
+            if (properties.get(i).isId()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String assignment(final CodecModel model, final Property property, final int index, final String value) {
+        if (model.isRecord()) {
+            return "property" + index + " = " + value + ";";
+        } else if (property.getSetterName() != null) {
+            return "instance." + property.getSetterName() + "(" + value + ");";
+        } else {
+            return "instance." + property.getJavaName() + " = " + value + ";";
+        }
+    }
+
+    private String registryLookup(final TypeElement owner, final Property property) throws InvalidModelException {
+        TypeMirror type = property.getType();
+        String rawClass = classLiteral(owner, property, type);
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).getTypeArguments().isEmpty()) {
+            return "registry.get(" + rawClass + ")";
+        }
+        StringBuilder lookup = new StringBuilder("registry.get(").append(rawClass).append(", java.util.Arrays.<java.lang.reflect.Type>asList(");
+        List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+        for (int i = 0; i < typeArguments.size(); i++) {
+            TypeMirror typeArgument = typeArguments.get(i);
+            if (typeArgument.getKind() != TypeKind.DECLARED || !((DeclaredType) typeArgument).getTypeArguments().isEmpty()) {
+                throw unsupportedType(owner, property);
+            }
+            lookup.append(i == 0 ? "" : ", ").append(classLiteral(owner, property, typeArgument));
+        }
+        return lookup.append("))").toString();
+    }
+
+    private String classLiteral(final TypeElement owner, final Property property, final TypeMirror type) throws InvalidModelException {
+        switch (type.getKind()) {
+            case DECLARED:
+            case ARRAY:
+                if (type.getKind() == TypeKind.ARRAY && !((ArrayType) type).getComponentType().getKind().isPrimitive()
+                        && ((ArrayType) type).getComponentType().getKind() != TypeKind.DECLARED) {
+                    throw unsupportedType(owner, property);
+                }
+                return types.erasure(type) + ".class";
+            default:
+                if (type.getKind().isPrimitive()) {
+                    return boxedTypeName(type) + ".class";
+                }
+                throw unsupportedType(owner, property);
+        }
+    }
+
+    private String boxedTypeName(final TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass(types.getPrimitiveType(type.getKind())).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private static String defaultValue(final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "false";
+            case CHAR:
+                return "'\\u0000'";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return "(" + type + ") 0";
+            default:
+                return "null";
+        }
+    }
+
+    private static InvalidModelException unsupportedType(final TypeElement owner, final Property property) {
+        return new InvalidModelException(owner, format("Unsupported type '%s' for property '%s'. Generated codecs support classes, "
+                + "arrays and classes with class type arguments", property.getType(), property.getJavaName()));
+    }
+
+    private static void writePackage(final StringBuilder source, final String packageName) {
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+    }
+
+    // Unicode escapes are translated before the source is parsed, so they cannot be used for line terminators or other control
+    // characters, which are written as escape sequences instead
+    private static String literal(final String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                case '\\':
+                    literal.append('\\').append(c);
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                case '\b':
+                    literal.append("\\b");
+                    break;
+                case '\f':
+                    literal.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20 || c == 0x7f) {
+                        literal.append(format("\\%03o", (int) c));
+                    } else if (c > 0x7f) {
+                        literal.append(format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.processor;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public final class BsonCodecProcessorTest {
+    private static final String BASE_MODEL = "package sample;\n"
+            + "public class BaseModel {\n"
+            + "    private String baseField;\n"
+            + "    public String getBaseField() { return baseField; }\n"
+            + "    public void setBaseField(final String baseField) { this.baseField = baseField; }\n"
+            + "}\n";
+
+    private static final String PERSON_MODEL = "package sample;\n"
+            + "import org.bson.codecs.pojo.annotations.*;\n"
+            + "import org.bson.types.ObjectId;\n"
+            + "import java.util.List;\n"
+            + "@BsonGenerateCodec\n"
+            + "public class PersonModel extends BaseModel {\n"
+            + "    private String name;\n"
+            + "    @BsonId\n"
+            + "    private ObjectId id;\n"
+            + "    private int age;\n"
+            + "    private Long score;\n"
+            + "    public boolean active;\n"
+            + "    @BsonProperty(\"t\")\n"
+            + "    private List<String> tags;\n"
+            + "    @BsonIgnore\n"
+            + "    private String ignored;\n"
+            + "    private static String staticField;\n"
+            + "    public String getName() { return name; }\n"
+            + "    public void setName(final String name) { this.name = name; }\n"
+            + "    public ObjectId getId() { return id; }\n"
+            + "    public void setId(final ObjectId id) { this.id = id; }\n"
+            + "    public int getAge() { return age; }\n"
+            + "    public void setAge(final int age) { this.age = age; }\n"
+            + "    public Long getScore() { return score; }\n"
+            + "    public void setScore(final Long score) { this.score = score; }\n"
+            + "    public List<String> getTags() { return tags; }\n"
+            + "    public void setTags(final List<String> tags) { this.tags = tags; }\n"
+            + "    public String getIgnored() { return ignored; }\n"
+            + "    public void setIgnored(final String ignored) { this.ignored = ignored; }\n"
+            + "    @Override\n"
+            + "    public String toString() {\n"
+            + "        return \"PersonModel{baseField=\" + getBaseField() + \", name=\" + name + \", id=\" + id + \", age=\" + age\n"
+            + "                + \", score=\" + score + \", active=\" + active + \", tags=\" + tags + \", ignored=\" + ignored + \"}\";\n"
+            + "    }\n"
+            + "}\n";
+
+    private static final String POINT_RECORD = "package sample;\n"
+            + "import org.bson.codecs.pojo.annotations.*;\n"
+            + "@BsonGenerateCodec\n"
+            + "public record PointRecord(@BsonProperty(\"label\") String name, double x, double y, @BsonId int id) {\n"
+            + "}\n";
+
+    private static final String ESCAPED_NAMES_MODEL = "package sample;\n"
+            + "import org.bson.codecs.pojo.annotations.*;\n"
+            + "@BsonGenerateCodec\n"
+            + "public class EscapedNamesModel {\n"
+            + "    @BsonProperty(\"line\\nbreak\\r\")\n"
+            + "    public String lineBreak;\n"
+            + "    @BsonProperty(\"tab\\tand\\u0001control\")\n"
+            + "    public String control;\n"
+            + "    @BsonProperty(\"caf\\u00e9 \\\"quoted\\\"\")\n"
+            + "    public int cafe;\n"
+            + "}\n";
+
+    private static final String PERSON_JSON = "{'_id': {'$oid': '5f0c8e9d3c6a2b1e4d7f8a90'}, 'baseField': 'base', 'name': 'Ada',"
+            + " 'age': 36, 'score': {'$numberLong': '42'}, 'active': true, 't': ['a', 'b']}";
+
+    @TempDir
+    private Path outputDirectory;
+    private ClassLoader classLoader;
+
+    @Test
+    public void testPojoRoundTrip() throws Exception {
+        CodecRegistry registry = compile(BASE_MODEL, PERSON_MODEL);
+        Codec<Object> codec = getCodec(registry, "sample.PersonModel");
+
+        Object person = decode(codec, PERSON_JSON, DecoderContext.builder().build());
+        assertEquals("PersonModel{baseField=base, name=Ada, id=5f0c8e9d3c6a2b1e4d7f8a90, age=36, score=42, active=true, tags=[a, b],"
+                + " ignored=null}", person.toString());
+        assertEquals(BsonDocument.parse(PERSON_JSON).toJson(), encode(codec, person).toJson());
+    }
+
+    @Test
+    public void testPojoNullsAndUnknownFields() throws Exception {
+        CodecRegistry registry = compile(BASE_MODEL, PERSON_MODEL);
+        Codec<Object> codec = getCodec(registry, "sample.PersonModel");
+
+        Object person = decode(codec, "{'name': null, 'unknown': {'a': 1}, 'age': 1, 'ignored': 'value'}", DecoderContext.builder().build());
+        assertEquals("PersonModel{baseField=null, name=null, id=null, age=1, score=null, active=false, tags=null, ignored=null}",
+                person.toString());
+        assertEquals(BsonDocument.parse("{'age': 1, 'active': false}"), encode(codec, person));
+    }
+
+    @Test
+    public void testPojoPartialDecoding() throws Exception {
+        CodecRegistry registry = compile(BASE_MODEL, PERSON_MODEL);
+        Codec<Object> codec = getCodec(registry, "sample.PersonModel");
+
+        Object person = decode(codec, PERSON_JSON, DecoderContext.builder().requiredPaths(asList("name", "t")).build());
+        assertEquals("PersonModel{baseField=null, name=Ada, id=null, age=0, score=null, active=false, tags=[a, b], ignored=null}",
+                person.toString());
+    }
+
+    @Test
+    public void testRecordRoundTrip() throws Exception {
+        assumeTrue(SourceVersion.latestSupported().ordinal() >= 16);
+        CodecRegistry registry = compile(POINT_RECORD);
+        Codec<Object> codec = getCodec(registry, "sample.PointRecord");
+
+        String json = "{'_id': 7, 'label': 'origin', 'x': 1.5, 'y': -2.0}";
+        Object point = decode(codec, json, DecoderContext.builder().build());
+        assertEquals("PointRecord[name=origin, x=1.5, y=-2.0, id=7]", point.toString());
+        assertEquals(BsonDocument.parse(json).toJson(), encode(codec, point).toJson());
+    }
+
+    @Test
+    public void testEscapedNamesRoundTrip() throws Exception {
+        CodecRegistry registry = compile(ESCAPED_NAMES_MODEL);
+        Codec<Object> codec = getCodec(registry, "sample.EscapedNamesModel");
+
+        BsonDocument document = new BsonDocument("line\nbreak\r", new BsonString("a"))
+                .append("tab\tand\u0001control", new BsonString("b"))
+                .append("caf\u00e9 \"quoted\"", new BsonInt32(1));
+        assertEquals(document, encode(codec, decode(codec, document.toJson(), DecoderContext.builder().build())));
+    }
+
+    @Test
+    public void testProviderReturnsNullForOtherClasses() throws Exception {
+        CodecRegistry registry = compile(BASE_MODEL, PERSON_MODEL);
+        CodecProvider provider = (CodecProvider) classLoader.loadClass("sample.GeneratedBsonCodecProvider").getDeclaredConstructor()
+                .newInstance();
+
+        assertNull(provider.get(String.class, registry));
+        assertNull(provider.get(classLoader.loadClass("sample.BaseModel"), registry));
+    }
+
+    @Test
+    public void testUnsupportedAnnotationIsACompilationError() throws Exception {
+        String source = "package sample;\n"
+                + "import org.bson.codecs.pojo.annotations.*;\n"
+                + "@BsonGenerateCodec\n"
+                + "@BsonDiscriminator\n"
+                + "public class DiscriminatorModel {\n"
+                + "    public String name;\n"
+                + "}\n";
+
+        List<String> errors = compileWithErrors(source);
+        assertEquals(singletonList("@BsonDiscriminator is not supported by generated codecs"), errors);
+    }
+
+    @Test
+    public void testMissingNoArgsConstructorIsACompilationError() throws Exception {
+        String source = "package sample;\n"
+                + "import org.bson.codecs.pojo.annotations.*;\n"
+                + "@BsonGenerateCodec\n"
+                + "public class ConstructorModel {\n"
+                + "    public String name;\n"
+                + "    public ConstructorModel(final String name) { this.name = name; }\n"
+                + "}\n";
+
+        List<String> errors = compileWithErrors(source);
+        assertEquals(singletonList("@BsonGenerateCodec requires a non-private no-args constructor"), errors);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Codec<Object> getCodec(final CodecRegistry registry, final String className) throws ClassNotFoundException {
+        Codec<Object> codec = (Codec<Object>) registry.get(classLoader.loadClass(className));
+        assertTrue(codec.getClass().getSimpleName().endsWith("BsonCodec"));
+        return codec;
+    }
+
+    private static Object decode(final Codec<Object> codec, final String json, final DecoderContext decoderContext) {
+        return codec.decode(new BsonDocumentReader(BsonDocument.parse(json)), decoderContext);
+    }
+
+    private static BsonDocument encode(final Codec<Object> codec, final Object value) {
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), value, EncoderContext.builder().build());
+        return document;
+    }
+
+    private CodecRegistry compile(final String... sources) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = runCompiler(diagnostics, sources);
+        assertTrue(success, diagnostics.getDiagnostics().toString());
+
+        classLoader = new URLClassLoader(new URL[]{outputDirectory.toUri().toURL()}, getClass().getClassLoader());
+        CodecProvider provider = (CodecProvider) classLoader.loadClass("sample.GeneratedBsonCodecProvider").getDeclaredConstructor()
+                .newInstance();
+        return fromRegistries(fromProviders(provider), Bson.DEFAULT_CODEC_REGISTRY);
+    }
+
+    private List<String> compileWithErrors(final String... sources) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        assertFalse(runCompiler(diagnostics, sources));
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(null));
+            }
+        }
+        return errors;
+    }
+
+    private boolean runCompiler(final DiagnosticCollector<JavaFileObject> diagnostics, final String... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<JavaFileObject> compilationUnits = new ArrayList<>();
+        for (String source : sources) {
+            String className = source.replaceAll("(?s).*public (?:class|record) (\\w+).*", "$1");
+            compilationUnits.add(new SourceFile("sample/" + className, source));
+        }
+        String bsonClassPath = Paths.get(BsonDocument.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics,
+                asList("-d", outputDirectory.toString(), "-classpath", bsonClassPath), null, compilationUnits);
+        task.setProcessors(singletonList(new BsonCodecProcessor()));
+        return task.call();
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        SourceFile(final String path, final String source) {
+            super(URI.create("string:///" + path + Kind.SOURCE.extension), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import kotlin.reflect.full.hasAnnotation
 import kotlin.reflect.full.primaryConstructor
 import kotlin.reflect.jvm.javaType
 import kotlin.reflect.jvm.jvmErasure
+import org.bson.BsonName
 import org.bson.BsonReader
 import org.bson.BsonType
 import org.bson.BsonWriter
@@ -58,7 +59,10 @@ internal data class DataClassCodec<T : Any>(
     private val fieldNamePropertyModelMap = propertyModels.associateBy { it.fieldName }
     private val propertyModelId: PropertyModel? = fieldNamePropertyModelMap[idFieldName]
 
-    data class PropertyModel(val param: KParameter, val fieldName: String, val codec: Codec<Any>)
+    data class PropertyModel(val param: KParameter, val fieldName: String, val codec: Codec<Any>) {
+        // null if the field name can not be encoded, in which case writing it fails
+        val encodedFieldName: BsonName? = if (fieldName.contains('\u0000')) null else BsonName.of(fieldName)
+    }
 
     override fun encode(writer: BsonWriter, value: T, encoderContext: EncoderContext) {
         writer.writeStartDocument()
@@ -138,7 +142,12 @@ internal data class DataClassCodec<T : Any>(
             ?.let {
                 val propertyValue = (it as KProperty1<Any, *>).get(value)
                 propertyValue?.let { pValue ->
-                    writer.writeName(propertyModel.fieldName)
+                    val encodedFieldName = propertyModel.encodedFieldName
+                    if (encodedFieldName != null) {
+                        writer.writeName(encodedFieldName)
+                    } else {
+                        writer.writeName(propertyModel.fieldName)
+                    }
                     encoderContext.encodeWithChildContext(propertyModel.codec, writer, pValue)
                 }
             }
@@ -17,6 +17,7 @@
 package org.bson.codecs.record;
 
 import org.bson.BsonInvalidOperationException;
+import org.bson.BsonName;
 import org.bson.BsonReader;
 import org.bson.BsonType;
 import org.bson.BsonWriter;
@@ -38,6 +39,7 @@ import org.bson.diagnostics.Loggers;
 
 import javax.annotation.Nullable;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.ParameterizedType;
@@ -67,7 +69,13 @@ final class RecordCodec<T extends Record> implements Codec<T> {
         private final Codec<?> codec;
         private final int index;
         private final String fieldName;
+        // null if the field name contains a null character, in which case it is written as a String, and the writer decides whether to
+        // accept it
+        @Nullable
+        private final BsonName encodedFieldName;
         private final boolean isNullable;
+        @Nullable
+        private final Object defaultValue;
 
         private ComponentModel(final List<Type> typeParameters, final RecordComponent component, final CodecRegistry codecRegistry,
                 final int index) {
@@ -76,7 +84,9 @@ final class RecordCodec<T extends Record> implements Codec<T> {
             this.codec = computeCodec(typeParameters, component, codecRegistry);
             this.index = index;
             this.fieldName = computeFieldName(component);
+            this.encodedFieldName = fieldName.indexOf('\0') >= 0 ? null : BsonName.of(fieldName);
             this.isNullable = !component.getType().isPrimitive();
+            this.defaultValue = isNullable ? null : Array.get(Array.newInstance(component.getType(), 1), 0);
         }
 
         String getComponentName() {
@@ -266,6 +276,11 @@ final class RecordCodec<T extends Record> implements Codec<T> {
         reader.readStartDocument();
 
         Object[] constructorArguments = new Object[componentModels.size()];
+        for (var componentModel : componentModels) {
+            if (!componentModel.isNullable && !decoderContext.isRequired(componentModel.fieldName)) {
+                constructorArguments[componentModel.index] = componentModel.defaultValue;
+            }
+        }
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             var fieldName = reader.readName();
             var componentModel = fieldNameToComponentModel.get(fieldName);
@@ -274,13 +289,16 @@ final class RecordCodec<T extends Record> implements Codec<T> {
                 if (LOGGER.isTraceEnabled()) {
                     LOGGER.trace(format("Found property not present in the ClassModel: %s", fieldName));
                 }
+            } else if (!decoderContext.isRequired(fieldName)) {
+                reader.skipValue();
             } else if (reader.getCurrentBsonType() == BsonType.NULL) {
                 if (!componentModel.isNullable) {
                     throw new BsonInvalidOperationException(format("Null value on primitive field: %s", componentModel.fieldName));
                 }
                 reader.readNull();
             } else {
-                constructorArguments[componentModel.index] = decoderContext.decodeWithChildContext(componentModel.codec, reader);
+                constructorArguments[componentModel.index] = componentModel.codec.decode(reader,
+                        decoderContext.getChildContext(fieldName));
             }
         }
         reader.readEndDocument();
@@ -318,7 +336,11 @@ final class RecordCodec<T extends Record> implements Codec<T> {
         try {
             Object componentValue = componentModel.getValue(record);
             if (componentValue != null) {
-                writer.writeName(componentModel.getFieldName());
+                if (componentModel.encodedFieldName != null) {
+                    writer.writeName(componentModel.encodedFieldName);
+                } else {
+                    writer.writeName(componentModel.getFieldName());
+                }
                 ((Codec) componentModel.codec).encode(writer, componentValue, EncoderContext.builder().build());
             }
         } catch (ReflectiveOperationException e) {
@@ -17,6 +17,7 @@
 package org.bson.codecs.record;
 
 import org.bson.BsonArray;
+import org.bson.BsonBinaryWriter;
 import org.bson.BsonDocument;
 import org.bson.BsonDocumentReader;
 import org.bson.BsonDocumentWriter;
@@ -25,6 +26,7 @@ import org.bson.BsonInt32;
 import org.bson.BsonInvalidOperationException;
 import org.bson.BsonNull;
 import org.bson.BsonObjectId;
+import org.bson.BsonSerializationException;
 import org.bson.BsonString;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
@@ -50,12 +52,14 @@ import org.bson.codecs.record.samples.TestRecordWithMapOfListOfRecords;
 import org.bson.codecs.record.samples.TestRecordWithMapOfRecords;
 import org.bson.codecs.record.samples.TestRecordWithNestedParameterized;
 import org.bson.codecs.record.samples.TestRecordWithNestedParameterizedRecord;
+import org.bson.codecs.record.samples.TestRecordWithNullCharacterInName;
 import org.bson.codecs.record.samples.TestRecordWithNullableField;
 import org.bson.codecs.record.samples.TestRecordWithParameterizedRecord;
 import org.bson.codecs.record.samples.TestRecordWithPojoAnnotations;
 import org.bson.codecs.record.samples.TestSelfReferentialHolderRecord;
 import org.bson.codecs.record.samples.TestSelfReferentialRecord;
 import org.bson.conversions.Bson;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
@@ -96,6 +100,44 @@ public class RecordCodecTest {
         assertEquals(testRecord, decoded);
     }
 
+    @Test
+    public void testRecordWithNullCharacterInFieldName() {
+        // the field name is not pre-encoded, so creating the codec succeeds
+        var codec = createRecordCodec(TestRecordWithNullCharacterInName.class, Bson.DEFAULT_CODEC_REGISTRY);
+        var testRecord = new TestRecordWithNullCharacterInName("Lucas", 14);
+
+        // when
+        var document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), testRecord, EncoderContext.builder().build());
+
+        // then
+        assertEquals(new BsonDocument("name", new BsonString("Lucas")).append("a\0ge", new BsonInt32(14)), document);
+        assertThrows(BsonSerializationException.class, () ->
+                codec.encode(new BsonBinaryWriter(new BasicOutputBuffer()), testRecord, EncoderContext.builder().build()));
+    }
+
+    @Test
+    public void testRecordDecodingOnlyRequiredPaths() {
+        var codec = createRecordCodec(TestRecordWithPojoAnnotations.class, Bson.DEFAULT_CODEC_REGISTRY);
+        var document = new BsonDocument("_id", new BsonObjectId(new ObjectId()))
+                .append("name", new BsonString("Lucas"))
+                .append("hobbies", new BsonArray(List.of(new BsonString("soccer"), new BsonString("basketball"))))
+                .append("a", new BsonInt32(14));
+
+        // when
+        var decoded = codec.decode(new BsonDocumentReader(document),
+                DecoderContext.builder().requiredPaths(List.of("name", "hobbies")).build());
+
+        // then
+        assertEquals(new TestRecordWithPojoAnnotations("Lucas", 0, List.of("soccer", "basketball"), null), decoded);
+
+        // when
+        decoded = codec.decode(new BsonDocumentReader(document), DecoderContext.builder().requiredPaths(List.of("a")).build());
+
+        // then
+        assertEquals(new TestRecordWithPojoAnnotations(null, 14, null, null), decoded);
+    }
+
     @Test
     public void testRecordWithNestedListOfRecords() {
         var codec = createRecordCodec(TestRecordWithListOfRecords.class,
@@ -528,6 +528,22 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
     @Override
     public void writeName(final String name) {
         notNull("name", name);
+        validateName(name);
+        doWriteName(name);
+        context.name = name;
+        state = State.VALUE;
+    }
+
+    @Override
+    public void writeName(final BsonName name) {
+        notNull("name", name);
+        validateName(name.getValue());
+        doWriteName(name);
+        context.name = name.getValue();
+        state = State.VALUE;
+    }
+
+    private void validateName(final String name) {
         if (state != State.NAME) {
             throwInvalidState("WriteName", State.NAME);
         }
@@ -535,9 +551,6 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
         if (!fieldNameValidator.validate(name)) {
             throw new IllegalArgumentException(fieldNameValidator.getValidationErrorMessage(name));
         }
-        doWriteName(name);
-        context.name = name;
-        state = State.VALUE;
     }
 
     /**
@@ -549,6 +562,19 @@ public abstract class AbstractBsonWriter implements BsonWriter, Closeable {
     protected void doWriteName(final String name) {
     }
 
+    /**
+     * Handles the logic of writing the element name, when it is written with {@link #writeName(BsonName)}.
+     *
+     * <p>The default implementation calls {@link #doWriteName(String)} with the {@linkplain BsonName#getValue() value} of the
+     * name.</p>
+     *
+     * @param name the name of the element
+     * @since 5.11
+     */
+    protected void doWriteName(final BsonName name) {
+        doWriteName(name.getValue());
+    }
+
     @Override
     public void writeNull(final String name) {
         writeName(name);
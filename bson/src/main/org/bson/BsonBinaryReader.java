@@ -19,9 +19,11 @@ package org.bson;
 import org.bson.io.BsonInput;
 import org.bson.io.BsonInputMark;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 
 import static java.lang.String.format;
@@ -35,6 +37,8 @@ import static org.bson.assertions.Assertions.notNull;
 public class BsonBinaryReader extends AbstractBsonReader {
 
     private final BsonInput bsonInput;
+    @Nullable
+    private final FieldNameCache fieldNameCache;
 
     /**
      * Construct an instance.
@@ -51,10 +55,23 @@ public class BsonBinaryReader extends AbstractBsonReader {
      * @param bsonInput the input for this reader
      */
     public BsonBinaryReader(final BsonInput bsonInput) {
+        this(bsonInput, null);
+    }
+
+    /**
+     * Construct an instance that reads the names of fields through the given cache, which may be shared between the readers of
+     * documents that repeat the same field names, e.g. the documents of a batch.
+     *
+     * @param bsonInput the input for this reader
+     * @param fieldNameCache the field name cache, which may be null
+     * @since 5.11
+     */
+    public BsonBinaryReader(final BsonInput bsonInput, @Nullable final FieldNameCache fieldNameCache) {
         if (bsonInput == null) {
             throw new IllegalArgumentException("bsonInput is null");
         }
         this.bsonInput = bsonInput;
+        this.fieldNameCache = fieldNameCache;
         setContext(new Context(null, BsonContextType.TOP_LEVEL, 0, 0));
     }
 
@@ -119,7 +136,7 @@ public class BsonBinaryReader extends AbstractBsonReader {
                     break;
                 case DOCUMENT:
                 case SCOPE_DOCUMENT:
-                    setCurrentName(bsonInput.readCString());
+                    setCurrentName(fieldNameCache == null ? bsonInput.readCString() : bsonInput.readCString(fieldNameCache));
                     setState(State.NAME);
                     break;
                 default:
@@ -44,6 +44,8 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
     private static final int[] ARRAY_INDEXES_OFFSETS;
     private static final int[] ARRAY_INDEXES_LENGTHS;
     private Mark mark;
+    // The name of the current element, if it was written with writeName(BsonName), which is written when the value is written
+    private BsonName currentBsonName;
 
     static {
         ARRAY_INDEXES_LENGTHS = new int[ARRAY_INDEXES_CACHE_SIZE];
@@ -144,6 +146,16 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
         return (Context) super.getContext();
     }
 
+    @Override
+    protected void doWriteName(final String name) {
+        currentBsonName = null;
+    }
+
+    @Override
+    protected void doWriteName(final BsonName name) {
+        currentBsonName = name;
+    }
+
     @Override
     protected void doWriteStartDocument() {
         if (getState() == State.VALUE) {
@@ -461,6 +473,10 @@ public class BsonBinaryWriter extends AbstractBsonWriter {
                         ARRAY_INDEXES_OFFSETS[index],
                         ARRAY_INDEXES_LENGTHS[index]);
             }
+        } else if (currentBsonName != null) {
+            byte[] encodedName = currentBsonName.getEncoded();
+            bsonOutput.writeBytes(encodedName, 0, encodedName.length);
+            currentBsonName = null;
         } else {
             bsonOutput.writeCString(getName());
         }
@@ -27,6 +27,7 @@ import org.bson.json.JsonReader;
 import org.bson.json.JsonWriter;
 import org.bson.json.JsonWriterSettings;
 
+import javax.annotation.Nullable;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -107,6 +108,11 @@ public class BsonDocument extends BsonValue implements Map<String, BsonValue>, C
          map = new LinkedHashMap<>();
     }
 
+    // For subclasses that store their elements themselves, and so override every method that uses the map
+    BsonDocument(@Nullable final Map<String, BsonValue> map) {
+        this.map = map;
+    }
+
     @Override
     public <C> BsonDocument toBsonDocument(final Class<C> documentClass, final CodecRegistry codecRegistry) {
         return this;
@@ -858,26 +864,26 @@ public class BsonDocument extends BsonValue implements Map<String, BsonValue>, C
     public BsonDocument clone() {
         BsonDocument to = new BsonDocument(this.size());
         for (Entry<String, BsonValue> cur : entrySet()) {
-            switch (cur.getValue().getBsonType()) {
-                case DOCUMENT:
-                    to.put(cur.getKey(), cur.getValue().asDocument().clone());
-                    break;
-                case ARRAY:
-                    to.put(cur.getKey(), cur.getValue().asArray().clone());
-                    break;
-                case BINARY:
-                    to.put(cur.getKey(), BsonBinary.clone(cur.getValue().asBinary()));
-                    break;
-                case JAVASCRIPT_WITH_SCOPE:
-                    to.put(cur.getKey(), BsonJavaScriptWithScope.clone(cur.getValue().asJavaScriptWithScope()));
-                    break;
-                default:
-                    to.put(cur.getKey(), cur.getValue());
-            }
+            to.put(cur.getKey(), cloneValue(cur.getValue()));
         }
         return to;
     }
 
+    static BsonValue cloneValue(final BsonValue value) {
+        switch (value.getBsonType()) {
+            case DOCUMENT:
+                return value.asDocument().clone();
+            case ARRAY:
+                return value.asArray().clone();
+            case BINARY:
+                return BsonBinary.clone(value.asBinary());
+            case JAVASCRIPT_WITH_SCOPE:
+                return BsonJavaScriptWithScope.clone(value.asJavaScriptWithScope());
+            default:
+                return value;
+        }
+    }
+
     private void throwIfKeyAbsent(final Object key) {
         if (!containsKey(key)) {
             throw new BsonInvalidOperationException("Document does not contain key " + key);
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * A BSON array of 32-bit integer values that stores the values as {@code int} primitives, and boxes a value as a {@link BsonInt32} only when it is
+ * requested.
+ *
+ * <p>Adding a value of any other type to the array is supported, but converts it into an array of boxed values, after which the
+ * primitive accessors box and unbox every value.</p>
+ *
+ * @see org.bson.codecs.BsonArrayCodec#withPrimitiveArrays()
+ * @since 5.11
+ */
+public final class BsonInt32Array extends BsonArray {
+    private final Int32List delegate;
+
+    /**
+     * Construct an empty instance.
+     */
+    public BsonInt32Array() {
+        this(new Int32List(new int[0], 0));
+    }
+
+    /**
+     * Construct an instance with the given values.
+     *
+     * @param values the values, which are copied
+     */
+    public BsonInt32Array(final int[] values) {
+        this(new Int32List(notNull("values", values).clone(), values.length));
+    }
+
+    private BsonInt32Array(final Int32List values) {
+        super(values, false);
+        this.delegate = values;
+    }
+
+    /**
+     * Appends the given value to the end of this array.
+     *
+     * @param value the value
+     */
+    public void add(final int value) {
+        if (delegate.getBoxedValues() != null) {
+            add(new BsonInt32(value));
+        } else {
+            int index = delegate.append();
+            delegate.getArray()[index] = value;
+        }
+    }
+
+    /**
+     * Gets the value at the given index as a {@code int}.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws BsonInvalidOperationException if the value is not of type INT32
+     */
+    public int intValue(final int index) {
+        List<BsonValue> boxedValues = delegate.getBoxedValues();
+        if (boxedValues != null) {
+            return boxedValues.get(index).asInt32().getValue();
+        }
+        if (index < 0 || index >= delegate.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + delegate.size());
+        }
+        return delegate.getArray()[index];
+    }
+
+    /**
+     * Gets a copy of the values in this array.
+     *
+     * @return the values
+     * @throws BsonInvalidOperationException if a value is not of type INT32
+     */
+    public int[] toIntArray() {
+        List<BsonValue> boxedValues = delegate.getBoxedValues();
+        if (boxedValues != null) {
+            int[] values = new int[boxedValues.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = boxedValues.get(i).asInt32().getValue();
+            }
+            return values;
+        }
+        return Arrays.copyOf(delegate.getArray(), delegate.size());
+    }
+
+    /**
+     * Gets a sequential stream of the values in this array. The array must not be modified while the stream is consumed.
+     *
+     * @return the stream
+     */
+    public IntStream intStream() {
+        List<BsonValue> boxedValues = delegate.getBoxedValues();
+        if (boxedValues != null) {
+            return boxedValues.stream().mapToInt(value -> value.asInt32().getValue());
+        }
+        return Arrays.stream(delegate.getArray(), 0, delegate.size());
+    }
+
+    @Override
+    public BsonArray clone() {
+        if (delegate.getBoxedValues() != null) {
+            return super.clone();
+        }
+        return new BsonInt32Array(new Int32List(Arrays.copyOf(delegate.getArray(), delegate.size()), delegate.size()));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static final class Int32List extends PrimitiveBsonValueList<int[]> {
+        Int32List(final int[] array, final int size) {
+            super(array, size);
+        }
+
+        @Override
+        int[] newArray(final int length) {
+            return new int[length];
+        }
+
+        @Override
+        int capacity() {
+            return getArray().length;
+        }
+
+        @Override
+        boolean accepts(@Nullable final BsonValue value) {
+            return value != null && value.getClass() == BsonInt32.class;
+        }
+
+        @Override
+        BsonValue box(final int index) {
+            return new BsonInt32(getArray()[index]);
+        }
+
+        @Override
+        void store(final int index, final BsonValue value) {
+            getArray()[index] = ((BsonInt32) value).getValue();
+        }
+    }
+}
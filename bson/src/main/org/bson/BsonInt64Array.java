@@ -0,0 +1,172 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * A BSON array of 64-bit integer values that stores the values as {@code long} primitives, and boxes a value as a {@link BsonInt64} only when it is
+ * requested.
+ *
+ * <p>Adding a value of any other type to the array is supported, but converts it into an array of boxed values, after which the
+ * primitive accessors box and unbox every value.</p>
+ *
+ * @see org.bson.codecs.BsonArrayCodec#withPrimitiveArrays()
+ * @since 5.11
+ */
+public final class BsonInt64Array extends BsonArray {
+    private final Int64List delegate;
+
+    /**
+     * Construct an empty instance.
+     */
+    public BsonInt64Array() {
+        this(new Int64List(new long[0], 0));
+    }
+
+    /**
+     * Construct an instance with the given values.
+     *
+     * @param values the values, which are copied
+     */
+    public BsonInt64Array(final long[] values) {
+        this(new Int64List(notNull("values", values).clone(), values.length));
+    }
+
+    private BsonInt64Array(final Int64List values) {
+        super(values, false);
+        this.delegate = values;
+    }
+
+    /**
+     * Appends the given value to the end of this array.
+     *
+     * @param value the value
+     */
+    public void add(final long value) {
+        if (delegate.getBoxedValues() != null) {
+            add(new BsonInt64(value));
+        } else {
+            int index = delegate.append();
+            delegate.getArray()[index] = value;
+        }
+    }
+
+    /**
+     * Gets the value at the given index as a {@code long}.
+     *
+     * @param index the index
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @throws BsonInvalidOperationException if the value is not of type INT64
+     */
+    public long longValue(final int index) {
+        List<BsonValue> boxedValues = delegate.getBoxedValues();
+        if (boxedValues != null) {
+            return boxedValues.get(index).asInt64().getValue();
+        }
+        if (index < 0 || index >= delegate.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + delegate.size());
+        }
+        return delegate.getArray()[index];
+    }
+
+    /**
+     * Gets a copy of the values in this array.
+     *
+     * @return the values
+     * @throws BsonInvalidOperationException if a value is not of type INT64
+     */
+    public long[] toLongArray() {
+        List<BsonValue> boxedValues = delegate.getBoxedValues();
+        if (boxedValues != null) {
+            long[] values = new long[boxedValues.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = boxedValues.get(i).asInt64().getValue();
+            }
+            return values;
+        }
+        return Arrays.copyOf(delegate.getArray(), delegate.size());
+    }
+
+    /**
+     * Gets a sequential stream of the values in this array. The array must not be modified while the stream is consumed.
+     *
+     * @return the stream
+     */
+    public LongStream longStream() {
+        List<BsonValue> boxedValues = delegate.getBoxedValues();
+        if (boxedValues != null) {
+            return boxedValues.stream().mapToLong(value -> value.asInt64().getValue());
+        }
+        return Arrays.stream(delegate.getArray(), 0, delegate.size());
+    }
+
+    @Override
+    public BsonArray clone() {
+        if (delegate.getBoxedValues() != null) {
+            return super.clone();
+        }
+        return new BsonInt64Array(new Int64List(Arrays.copyOf(delegate.getArray(), delegate.size()), delegate.size()));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    private static final class Int64List extends PrimitiveBsonValueList<long[]> {
+        Int64List(final long[] array, final int size) {
+            super(array, size);
+        }
+
+        @Override
+        long[] newArray(final int length) {
+            return new long[length];
+        }
+
+        @Override
+        int capacity() {
+            return getArray().length;
+        }
+
+        @Override
+        boolean accepts(@Nullable final BsonValue value) {
+            return value != null && value.getClass() == BsonInt64.class;
+        }
+
+        @Override
+        BsonValue box(final int index) {
+            return new BsonInt64(getArray()[index]);
+        }
+
+        @Override
+        void store(final int index, final BsonValue value) {
+            getArray()[index] = ((BsonInt64) value).getValue();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.io.BasicOutputBuffer;
+
+import static org.bson.assertions.Assertions.notNull;
+
+/**
+ * The name of an element, together with its encoding as a BSON CString.
+ *
+ * <p>Codecs that write the same fixed set of names for every value they encode, e.g. the names of the properties of a class, may
+ * create a {@code BsonName} for each of them once, and write it with {@link BsonWriter#writeName(BsonName)}. A
+ * {@link BsonBinaryWriter} then copies the encoded name to its output instead of encoding and validating the name again.</p>
+ *
+ * @see BsonWriter#writeName(BsonName)
+ * @since 5.11
+ */
+public final class BsonName {
+    private final String value;
+    private final byte[] encoded;
+
+    /**
+     * Creates a {@code BsonName} for the given name.
+     *
+     * @param value the name
+     * @return the {@code BsonName}
+     * @throws BsonSerializationException if the name contains a null character
+     */
+    public static BsonName of(final String value) {
+        return new BsonName(notNull("value", value));
+    }
+
+    private BsonName(final String value) {
+        this.value = value;
+        try (BasicOutputBuffer buffer = new BasicOutputBuffer(value.length() * 3 + 1)) {
+            buffer.writeCString(value);
+            this.encoded = buffer.toByteArray();
+        }
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return the name
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Gets the encoding of the name as a BSON CString, i.e. its UTF-8 encoding followed by a null terminator. The returned array must
+     * not be modified.
+     *
+     * @return the encoded name
+     */
+    byte[] getEncoded() {
+        return encoded;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return value.equals(((BsonName) o).value);
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -223,6 +223,18 @@ public interface BsonWriter {
      */
     void writeName(String name);
 
+    /**
+     * Writes the name of an element to the writer.
+     *
+     * <p>The default implementation calls {@link #writeName(String)} with the {@linkplain BsonName#getValue() value} of the name.</p>
+     *
+     * @param name The name of the element.
+     * @since 5.11
+     */
+    default void writeName(BsonName name) {
+        writeName(name.getValue());
+    }
+
     /**
      * Writes a BSON null to the writer.
      */
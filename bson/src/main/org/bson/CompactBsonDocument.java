@@ -0,0 +1,512 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * A {@code BsonDocument} that stores its keys and values in a pair of parallel arrays rather than in a {@code LinkedHashMap}, which
+ * saves the per-entry overhead of the map for documents that are held in memory in large numbers, e.g. in caches.
+ *
+ * <p>Up to {@value #INDEX_THRESHOLD} elements, keys are looked up by scanning the array of keys. Above that, an open-addressing hash
+ * index from key to position is built and maintained. Elements are kept in insertion order, and removing an element shifts the
+ * elements after it, so removal is linear in the size of the document. As the shift changes the positions in the index, removing an
+ * element also rebuilds the index, which is likewise linear in the size of the document. Lookups never modify the document, so, as
+ * for a {@link BsonDocument}, concurrent reads are safe as long as the document is not modified.</p>
+ *
+ * <p>Unlike a {@link BsonDocument}, a {@code CompactBsonDocument} does not accept null keys, which could not be encoded anyway.</p>
+ *
+ * <p>A {@code CompactBsonDocument} is serialized as a {@link BsonDocument}.</p>
+ *
+ * @see org.bson.codecs.BsonDocumentCodec#withCompactDocuments()
+ * @since 5.11
+ */
+public final class CompactBsonDocument extends BsonDocument {
+    private static final long serialVersionUID = 1L;
+    /**
+     * The number of elements above which a hash index is used to look up keys.
+     */
+    static final int INDEX_THRESHOLD = 8;
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final String[] EMPTY_KEYS = {};
+    private static final BsonValue[] EMPTY_VALUES = {};
+
+    private transient String[] keys;
+    private transient BsonValue[] values;
+    private transient int size;
+    // Open-addressing index from the hash of a key to 1 + its position, with 0 marking a free slot, or null below the threshold
+    private transient int[] index;
+    private transient int modCount;
+
+    /**
+     * Construct an empty document.
+     */
+    public CompactBsonDocument() {
+        this(0);
+    }
+
+    /**
+     * Construct an empty document with the specified initial capacity.
+     *
+     * @param initialCapacity the initial capacity
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public CompactBsonDocument(final int initialCapacity) {
+        super((Map<String, BsonValue>) null);
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException(format("Illegal initial capacity: %d", initialCapacity));
+        }
+        keys = initialCapacity == 0 ? EMPTY_KEYS : new String[initialCapacity];
+        values = initialCapacity == 0 ? EMPTY_VALUES : new BsonValue[initialCapacity];
+    }
+
+    /**
+     * Construct a new instance with a single key value pair
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    public CompactBsonDocument(final String key, final BsonValue value) {
+        this(1);
+        put(key, value);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(final Object value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i].equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public BsonValue get(final Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : values[i];
+    }
+
+    @Override
+    public BsonValue put(final String key, final BsonValue value) {
+        if (key == null) {
+            throw new IllegalArgumentException("The key can not be null");
+        }
+        if (value == null) {
+            throw new IllegalArgumentException(format("The value for key %s can not be null", key));
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            BsonValue previous = values[i];
+            values[i] = value;
+            return previous;
+        }
+        if (size == keys.length) {
+            int newCapacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        if (index != null && size * 2 <= index.length) {
+            addToIndex(index, key, size - 1);
+        } else if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    @Override
+    public BsonValue remove(final Object key) {
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        BsonValue previous = values[i];
+        removeAt(i);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        index = null;
+        modCount++;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new ElementIterator<String>() {
+                    @Override
+                    String element(final int i) {
+                        return keys[i];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public boolean remove(final Object o) {
+                int i = indexOf(o);
+                if (i < 0) {
+                    return false;
+                }
+                removeAt(i);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                CompactBsonDocument.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Collection<BsonValue> values() {
+        return new AbstractCollection<BsonValue>() {
+            @Override
+            public Iterator<BsonValue> iterator() {
+                return new ElementIterator<BsonValue>() {
+                    @Override
+                    BsonValue element(final int i) {
+                        return values[i];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                CompactBsonDocument.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<String, BsonValue>> entrySet() {
+        return new AbstractSet<Map.Entry<String, BsonValue>>() {
+            @Override
+            public Iterator<Map.Entry<String, BsonValue>> iterator() {
+                return new ElementIterator<Map.Entry<String, BsonValue>>() {
+                    @Override
+                    Map.Entry<String, BsonValue> element(final int i) {
+                        return new Element(i);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean contains(final Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                int i = indexOf(entry.getKey());
+                return i >= 0 && values[i].equals(entry.getValue());
+            }
+
+            @Override
+            public boolean remove(final Object o) {
+                if (!contains(o)) {
+                    return false;
+                }
+                removeAt(indexOf(((Map.Entry<?, ?>) o).getKey()));
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                CompactBsonDocument.this.clear();
+            }
+        };
+    }
+
+    @Override
+    public String getFirstKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return keys[0];
+    }
+
+    @Override
+    public BsonDocument clone() {
+        CompactBsonDocument to = new CompactBsonDocument(size);
+        for (int i = 0; i < size; i++) {
+            to.put(keys[i], cloneValue(values[i]));
+        }
+        return to;
+    }
+
+    private int indexOf(final Object key) {
+        if (key == null) {
+            return -1;
+        }
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = index.length - 1;
+        for (int slot = spread(key.hashCode()) & mask;; slot = (slot + 1) & mask) {
+            int position = index[slot] - 1;
+            if (position < 0) {
+                return -1;
+            }
+            if (keys[position].equals(key)) {
+                return position;
+            }
+        }
+    }
+
+    private void removeAt(final int i) {
+        int numMoved = size - i - 1;
+        if (numMoved > 0) {
+            System.arraycopy(keys, i + 1, keys, i, numMoved);
+            System.arraycopy(values, i + 1, values, i, numMoved);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        // positions after the removed element have shifted, so the index is rebuilt rather than patched
+        if (size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        } else {
+            index = null;
+        }
+    }
+
+    private void rebuildIndex() {
+        // at most half full, so that probe sequences stay short
+        int[] newIndex = new int[Integer.highestOneBit(size * 4 - 1)];
+        for (int i = 0; i < size; i++) {
+            addToIndex(newIndex, keys[i], i);
+        }
+        index = newIndex;
+    }
+
+    private static void addToIndex(final int[] index, final String key, final int position) {
+        int mask = index.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private abstract class ElementIterator<E> implements Iterator<E> {
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        abstract E element(int i);
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return element(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * An entry that follows its key when removals shift the elements. Once its key has been removed, the entry no longer writes
+     * through to the document, and keeps the value it last had.
+     */
+    private final class Element implements Map.Entry<String, BsonValue> {
+        private final String key;
+        private int position;
+        private BsonValue value;
+
+        Element(final int position) {
+            this.key = keys[position];
+            this.position = position;
+            this.value = values[position];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public BsonValue getValue() {
+            int i = position();
+            if (i >= 0) {
+                value = values[i];
+            }
+            return value;
+        }
+
+        @Override
+        public BsonValue setValue(final BsonValue value) {
+            if (value == null) {
+                throw new IllegalArgumentException(format("The value for key %s can not be null", key));
+            }
+            BsonValue previous = getValue();
+            int i = position();
+            if (i >= 0) {
+                values[i] = value;
+            }
+            this.value = value;
+            return previous;
+        }
+
+        private int position() {
+            // once the key has been removed, the entry stays detached
+            if (position >= 0 && (position >= size || keys[position] != key)) {
+                position = indexOf(key);
+            }
+            return position;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> that = (Map.Entry<?, ?>) o;
+            return getKey().equals(that.getKey()) && getValue().equals(that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ getValue().hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * Write the replacement object, a {@code BsonDocument} with the same elements, which is in turn replaced by its own proxy.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/output.html
+     * </p>
+     *
+     * @return a copy of the document
+     */
+    private Object writeReplace() {
+        BsonDocument document = new BsonDocument(size);
+        document.putAll(this);
+        return document;
+    }
+
+    /**
+     * Prevent normal deserialization.
+     *
+     * <p>
+     * See https://docs.oracle.com/javase/6/docs/platform/serialization/spec/input.html
+     * </p>
+     *
+     * @param stream the stream
+     * @throws InvalidObjectException in all cases
+     */
+    private void readObject(final ObjectInputStream stream) throws InvalidObjectException {
+        throw new InvalidObjectException("Proxy required");
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import javax.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of BSON values of a single numeric type that stores the values as primitives in an array of type {@code A}, and boxes a value
+ * only when it is requested. Storing a value of any other type converts the list into a list of boxed values.
+ *
+ * @param <A> the type of the primitive array
+ */
+abstract class PrimitiveBsonValueList<A> extends AbstractList<BsonValue> implements RandomAccess {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private A array;
+    private int size;
+    @Nullable
+    private List<BsonValue> boxedValues;
+
+    PrimitiveBsonValueList(final A array, final int size) {
+        this.array = array;
+        this.size = size;
+    }
+
+    abstract A newArray(int length);
+
+    abstract int capacity();
+
+    abstract boolean accepts(@Nullable BsonValue value);
+
+    abstract BsonValue box(int index);
+
+    /**
+     * Stores the given value, which is {@linkplain #accepts(BsonValue) accepted} by this list, at the given index of the array.
+     */
+    abstract void store(int index, BsonValue value);
+
+    /**
+     * Gets the array of primitives, whose first {@link #size()} elements are the values of this list unless it has been converted
+     * into a list of boxed values.
+     */
+    final A getArray() {
+        return array;
+    }
+
+    /**
+     * Gets the boxed values, if this list has been converted into a list of boxed values.
+     */
+    @Nullable
+    final List<BsonValue> getBoxedValues() {
+        return boxedValues;
+    }
+
+    /**
+     * Makes room at the end of the array for one more primitive, and returns the index at which to store it.
+     */
+    final int append() {
+        if (boxedValues != null) {
+            throw new IllegalStateException("The values are boxed");
+        }
+        ensureCapacity(size + 1);
+        modCount++;
+        return size++;
+    }
+
+    @Override
+    public final int size() {
+        return boxedValues == null ? size : boxedValues.size();
+    }
+
+    @Override
+    public final BsonValue get(final int index) {
+        if (boxedValues != null) {
+            return boxedValues.get(index);
+        }
+        checkIndex(index);
+        return box(index);
+    }
+
+    @Override
+    public final BsonValue set(final int index, final BsonValue element) {
+        if (boxedValues == null && accepts(element)) {
+            BsonValue previous = get(index);
+            store(index, element);
+            return previous;
+        }
+        return boxValues().set(index, element);
+    }
+
+    @Override
+    public final void add(final int index, final BsonValue element) {
+        modCount++;
+        if (boxedValues == null && accepts(element)) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            ensureCapacity(size + 1);
+            System.arraycopy(array, index, array, index + 1, size - index);
+            store(index, element);
+            size++;
+        } else {
+            boxValues().add(index, element);
+        }
+    }
+
+    @Override
+    public final BsonValue remove(final int index) {
+        modCount++;
+        if (boxedValues != null) {
+            return boxedValues.remove(index);
+        }
+        BsonValue previous = get(index);
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size--;
+        return previous;
+    }
+
+    @Override
+    public final void clear() {
+        modCount++;
+        boxedValues = null;
+        size = 0;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        int capacity = capacity();
+        if (minCapacity > capacity) {
+            A grown = newArray(Math.max(Math.max(DEFAULT_CAPACITY, capacity + (capacity >> 1)), minCapacity));
+            System.arraycopy(array, 0, grown, 0, size);
+            array = grown;
+        }
+    }
+
+    private List<BsonValue> boxValues() {
+        if (boxedValues == null) {
+            List<BsonValue> values = new ArrayList<>(size + 1);
+            for (int i = 0; i < size; i++) {
+                values.add(box(i));
+            }
+            boxedValues = values;
+            array = newArray(0);
+            size = 0;
+        }
+        return boxedValues;
+    }
+}
@@ -22,6 +22,7 @@ import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.codecs.EncoderContext;
 import org.bson.codecs.RawBsonDocumentCodec;
+import org.bson.internal.BsonDocumentFieldIndex;
 import org.bson.io.BasicOutputBuffer;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonMode;
@@ -67,6 +68,16 @@ public final class RawBsonDocument extends BsonDocument {
      */
     private final int length;
 
+    /**
+     * The field index, built on the second keyed lookup so that documents whose fields are looked up only once do not pay for it.
+     */
+    private transient volatile BsonDocumentFieldIndex fieldIndex;
+
+    /**
+     * Whether a keyed lookup has been made. Races only cause the index to be built one lookup earlier or later.
+     */
+    private transient boolean keyLookedUp;
+
     /**
      * Parses a string in MongoDB Extended JSON format to a {@code RawBsonDocument}
      *
@@ -230,6 +241,10 @@ public final class RawBsonDocument extends BsonDocument {
 
     @Override
     public boolean isEmpty() {
+        BsonDocumentFieldIndex index = fieldIndex;
+        if (index != null) {
+            return index.size() == 0;
+        }
         try (BsonBinaryReader bsonReader = createReader()) {
             bsonReader.readStartDocument();
             if (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
@@ -243,6 +258,10 @@ public final class RawBsonDocument extends BsonDocument {
 
     @Override
     public int size() {
+        BsonDocumentFieldIndex index = fieldIndex;
+        if (index != null) {
+            return index.size();
+        }
         int size = 0;
         try (BsonBinaryReader bsonReader = createReader()) {
             bsonReader.readStartDocument();
@@ -290,6 +309,10 @@ public final class RawBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
+        BsonDocumentFieldIndex index = getFieldIndexForLookup();
+        if (index != null) {
+            return index.containsKey(key);
+        }
         try (BsonBinaryReader bsonReader = createReader()) {
             bsonReader.readStartDocument();
             while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
@@ -324,6 +347,16 @@ public final class RawBsonDocument extends BsonDocument {
     public BsonValue get(final Object key) {
         notNull("key", key);
 
+        BsonDocumentFieldIndex index = getFieldIndexForLookup();
+        if (index != null) {
+            if (!index.containsKey(key)) {
+                return null;
+            }
+            try (BsonBinaryReader bsonReader = createReader()) {
+                index.moveToValue(bsonReader, key);
+                return RawBsonValueHelper.decode(bytes, bsonReader);
+            }
+        }
         try (BsonBinaryReader bsonReader = createReader()) {
             bsonReader.readStartDocument();
             while (bsonReader.readBsonType() != BsonType.END_OF_DOCUMENT) {
@@ -365,6 +398,22 @@ public final class RawBsonDocument extends BsonDocument {
         return new RawBsonDocument(bytes.clone(), offset, length);
     }
 
+    // Returns null for the first keyed lookup, which scans linearly, and builds the index on the second
+    private BsonDocumentFieldIndex getFieldIndexForLookup() {
+        BsonDocumentFieldIndex index = fieldIndex;
+        if (index == null) {
+            if (!keyLookedUp) {
+                keyLookedUp = true;
+                return null;
+            }
+            try (BsonBinaryReader bsonReader = createReader()) {
+                index = BsonDocumentFieldIndex.create(bsonReader);
+            }
+            fieldIndex = index;
+        }
+        return index;
+    }
+
     private BsonBinaryReader createReader() {
         return new BsonBinaryReader(new ByteBufferBsonInput(getByteBuffer()));
     }
@@ -17,12 +17,17 @@
 package org.bson.codecs;
 
 import org.bson.BsonArray;
+import org.bson.BsonDoubleArray;
+import org.bson.BsonInt32Array;
+import org.bson.BsonInt64Array;
 import org.bson.BsonReader;
 import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import java.util.function.BiFunction;
+
 import static org.bson.assertions.Assertions.notNull;
 import static org.bson.codecs.BsonValueCodecProvider.getBsonTypeClassMap;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
@@ -37,6 +42,7 @@ public class BsonArrayCodec implements Codec<BsonArray> {
     private static final CodecRegistry DEFAULT_REGISTRY = fromProviders(new BsonValueCodecProvider());
     private static final BsonTypeCodecMap DEFAULT_BSON_TYPE_CODEC_MAP = new BsonTypeCodecMap(getBsonTypeClassMap(), DEFAULT_REGISTRY);
     private final BsonTypeCodecMap bsonTypeCodecMap;
+    private final boolean primitiveArrays;
 
     /**
      * Creates a new instance with a default codec registry that uses the {@link BsonValueCodecProvider}.
@@ -57,11 +63,34 @@ public class BsonArrayCodec implements Codec<BsonArray> {
     }
 
     private BsonArrayCodec(final BsonTypeCodecMap bsonTypeCodecMap) {
+        this(bsonTypeCodecMap, false);
+    }
+
+    private BsonArrayCodec(final BsonTypeCodecMap bsonTypeCodecMap, final boolean primitiveArrays) {
         this.bsonTypeCodecMap = notNull("bsonTypeCodecMap", bsonTypeCodecMap);
+        this.primitiveArrays = primitiveArrays;
+    }
+
+    /**
+     * Returns a codec that decodes arrays whose values are all doubles, all 32-bit integers or all 64-bit integers as a
+     * {@link BsonDoubleArray}, {@link BsonInt32Array} or {@link BsonInt64Array} respectively, which store the values as primitives.
+     * Other arrays are decoded as a {@code BsonArray}, whose nested arrays are decoded in the same way. Encoding is unaffected.
+     *
+     * <p>The arrays nested in the documents of a decoded array are decoded by the {@code BsonDocumentCodec} of the registry. Use
+     * {@link BsonDocumentCodec#withPrimitiveArrays()} to decode all the arrays of a document as primitive arrays.</p>
+     *
+     * @return a codec that decodes homogeneous numeric arrays as primitive arrays
+     * @since 5.11
+     */
+    public BsonArrayCodec withPrimitiveArrays() {
+        return new BsonArrayCodec(bsonTypeCodecMap, true);
     }
 
     @Override
     public BsonArray decode(final BsonReader reader, final DecoderContext decoderContext) {
+        if (primitiveArrays) {
+            return decodePrimitiveArray(reader, decoderContext, this::readValue);
+        }
         BsonArray bsonArray = new BsonArray();
         reader.readStartArray();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
@@ -71,6 +100,53 @@ public class BsonArrayCodec implements Codec<BsonArray> {
         return bsonArray;
     }
 
+    /**
+     * Decodes an array as {@linkplain #withPrimitiveArrays() described}, reading the values that are neither arrays nor of the
+     * numeric type of a primitive array with {@code readValue}.
+     */
+    static BsonArray decodePrimitiveArray(final BsonReader reader, final DecoderContext decoderContext,
+            final BiFunction<BsonReader, DecoderContext, BsonValue> readValue) {
+        reader.readStartArray();
+        BsonType bsonType = reader.readBsonType();
+        BsonArray bsonArray;
+        switch (bsonType) {
+            case DOUBLE:
+                BsonDoubleArray doubles = new BsonDoubleArray();
+                do {
+                    doubles.add(reader.readDouble());
+                } while ((bsonType = reader.readBsonType()) == BsonType.DOUBLE);
+                bsonArray = doubles;
+                break;
+            case INT32:
+                BsonInt32Array int32s = new BsonInt32Array();
+                do {
+                    int32s.add(reader.readInt32());
+                } while ((bsonType = reader.readBsonType()) == BsonType.INT32);
+                bsonArray = int32s;
+                break;
+            case INT64:
+                BsonInt64Array int64s = new BsonInt64Array();
+                do {
+                    int64s.add(reader.readInt64());
+                } while ((bsonType = reader.readBsonType()) == BsonType.INT64);
+                bsonArray = int64s;
+                break;
+            default:
+                bsonArray = new BsonArray();
+        }
+        if (bsonType != BsonType.END_OF_DOCUMENT && !bsonArray.isEmpty()) {
+            // the array is not homogeneous after all
+            bsonArray = new BsonArray(bsonArray);
+        }
+        while (bsonType != BsonType.END_OF_DOCUMENT) {
+            bsonArray.add(bsonType == BsonType.ARRAY ? decodePrimitiveArray(reader, decoderContext, readValue)
+                    : readValue.apply(reader, decoderContext));
+            bsonType = reader.readBsonType();
+        }
+        reader.readEndArray();
+        return bsonArray;
+    }
+
     @Override
     @SuppressWarnings({"unchecked", "rawtypes"})
     public void encode(final BsonWriter writer, final BsonArray array, final EncoderContext encoderContext) {
@@ -16,12 +16,14 @@
 
 package org.bson.codecs;
 
+import org.bson.BsonArray;
 import org.bson.BsonDocument;
 import org.bson.BsonObjectId;
 import org.bson.BsonReader;
 import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.BsonWriter;
+import org.bson.CompactBsonDocument;
 import org.bson.RawBsonDocument;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.types.ObjectId;
@@ -45,6 +47,8 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
 
     private final CodecRegistry codecRegistry;
     private final BsonTypeCodecMap bsonTypeCodecMap;
+    private final boolean compactDocuments;
+    private final boolean primitiveArrays;
 
     /**
      * Creates a new instance with a default codec registry that uses the {@link BsonValueCodecProvider}.
@@ -63,8 +67,50 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
     }
 
     private BsonDocumentCodec(final CodecRegistry codecRegistry, final BsonTypeCodecMap bsonTypeCodecMap) {
+        this(codecRegistry, bsonTypeCodecMap, false, false);
+    }
+
+    private BsonDocumentCodec(final CodecRegistry codecRegistry, final BsonTypeCodecMap bsonTypeCodecMap, final boolean compactDocuments,
+            final boolean primitiveArrays) {
         this.codecRegistry = notNull("Codec registry", codecRegistry);
         this.bsonTypeCodecMap = notNull("bsonTypeCodecMap", bsonTypeCodecMap);
+        this.compactDocuments = compactDocuments;
+        this.primitiveArrays = primitiveArrays;
+    }
+
+    /**
+     * Returns a codec that decodes documents as {@link CompactBsonDocument}s, which use less memory than a {@code BsonDocument}
+     * when many documents are held in memory, e.g. in a cache. The documents nested in the decoded document, including those in its
+     * arrays, are decoded as {@code CompactBsonDocument}s too. Encoding is unaffected.
+     *
+     * @return a codec that decodes documents as {@code CompactBsonDocument}s
+     * @since 5.11
+     */
+    public BsonDocumentCodec withCompactDocuments() {
+        return new BsonDocumentCodec(codecRegistry, bsonTypeCodecMap, true, primitiveArrays);
+    }
+
+    /**
+     * Returns a codec that decodes the arrays of documents as described in {@link BsonArrayCodec#withPrimitiveArrays()}, so that
+     * arrays whose values are all doubles, all 32-bit integers or all 64-bit integers are decoded as a {@link org.bson.BsonDoubleArray},
+     * {@link org.bson.BsonInt32Array} or {@link org.bson.BsonInt64Array} respectively. This applies to the arrays at any depth of the
+     * decoded document, including those in nested documents and arrays. Encoding is unaffected. It may be combined with
+     * {@link #withCompactDocuments()}.
+     *
+     * <p>To decode the {@code BsonDocument}s returned by the driver this way, register the codec ahead of the default registry, e.g.</p>
+     * <pre>
+     * CodecRegistry registry = CodecRegistries.fromRegistries(
+     *         CodecRegistries.fromCodecs(new BsonDocumentCodec().withPrimitiveArrays()),
+     *         MongoClientSettings.getDefaultCodecRegistry());
+     * MongoCollection&lt;BsonDocument&gt; collection = database.getCollection("coll", BsonDocument.class)
+     *         .withCodecRegistry(registry);
+     * </pre>
+     *
+     * @return a codec that decodes homogeneous numeric arrays as primitive arrays
+     * @since 5.11
+     */
+    public BsonDocumentCodec withPrimitiveArrays() {
+        return new BsonDocumentCodec(codecRegistry, bsonTypeCodecMap, compactDocuments, true);
     }
 
     /**
@@ -78,7 +124,7 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
 
     @Override
     public BsonDocument decode(final BsonReader reader, final DecoderContext decoderContext) {
-        BsonDocument bsonDocument = new BsonDocument();
+        BsonDocument bsonDocument = compactDocuments ? new CompactBsonDocument() : new BsonDocument();
         reader.readStartDocument();
         while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             String fieldName = reader.readName();
@@ -98,9 +144,27 @@ public class BsonDocumentCodec implements CollectibleCodec<BsonDocument> {
      * @return the non-null value read from the reader
      */
     protected BsonValue readValue(final BsonReader reader, final DecoderContext decoderContext) {
+        if (compactDocuments || primitiveArrays) {
+            if (reader.getCurrentBsonType() == BsonType.DOCUMENT) {
+                return decode(reader, decoderContext);
+            } else if (reader.getCurrentBsonType() == BsonType.ARRAY) {
+                return primitiveArrays ? BsonArrayCodec.decodePrimitiveArray(reader, decoderContext, this::readValue)
+                        : readArray(reader, decoderContext);
+            }
+        }
         return (BsonValue) bsonTypeCodecMap.get(reader.getCurrentBsonType()).decode(reader, decoderContext);
     }
 
+    private BsonArray readArray(final BsonReader reader, final DecoderContext decoderContext) {
+        BsonArray bsonArray = new BsonArray();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            bsonArray.add(readValue(reader, decoderContext));
+        }
+        reader.readEndArray();
+        return bsonArray;
+    }
+
     @Override
     public void encode(final BsonWriter writer, final BsonDocument value, final EncoderContext encoderContext) {
         if (value instanceof RawBsonDocument) {
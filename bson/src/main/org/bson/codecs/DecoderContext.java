@@ -18,6 +18,10 @@ package org.bson.codecs;
 
 import org.bson.BsonReader;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.bson.assertions.Assertions.notNull;
 
 /**
@@ -29,6 +33,7 @@ import static org.bson.assertions.Assertions.notNull;
 public final class DecoderContext {
     private static final DecoderContext DEFAULT_CONTEXT = DecoderContext.builder().build();
     private final boolean checkedDiscriminator;
+    private final RequiredPathNode requiredPaths;
 
     /**
      * @return true if the discriminator has been checked
@@ -37,6 +42,37 @@ public final class DecoderContext {
         return checkedDiscriminator;
     }
 
+    /**
+     * Gets whether the value of the field with the given name must be decoded.
+     *
+     * <p>Decoders that support partial decoding skip the values of fields that are not required with
+     * {@link BsonReader#skipValue()}.  All fields are required unless {@linkplain Builder#requiredPaths(Collection) required paths}
+     * have been set.</p>
+     *
+     * @param fieldName the field name
+     * @return true if the value of the field must be decoded
+     * @since 5.11
+     */
+    public boolean isRequired(final String fieldName) {
+        return requiredPaths == null || requiredPaths.children.containsKey(fieldName);
+    }
+
+    /**
+     * Gets the context with which to decode the value of the field with the given name, which requires only the remainder of the
+     * required paths that go through that field.
+     *
+     * @param fieldName the field name
+     * @return the child context
+     * @since 5.11
+     */
+    public DecoderContext getChildContext(final String fieldName) {
+        if (requiredPaths == null) {
+            return DEFAULT_CONTEXT;
+        }
+        RequiredPathNode child = requiredPaths.children.get(fieldName);
+        return child == null ? DEFAULT_CONTEXT : child.context;
+    }
+
     /**
      * Create a builder.
      *
@@ -46,6 +82,21 @@ public final class DecoderContext {
         return new Builder();
     }
 
+    /**
+     * Create a builder initialized with the values of the given context.
+     *
+     * @param decoderContext the decoder context
+     * @return the builder
+     * @since 5.11
+     */
+    public static Builder builder(final DecoderContext decoderContext) {
+        notNull("decoderContext", decoderContext);
+        Builder builder = new Builder();
+        builder.checkedDiscriminator = decoderContext.checkedDiscriminator;
+        builder.requiredPaths = decoderContext.requiredPaths;
+        return builder;
+    }
+
     /**
      * A builder for {@code DecoderContext} instances.
      */
@@ -54,6 +105,7 @@ public final class DecoderContext {
         }
 
         private boolean checkedDiscriminator;
+        private RequiredPathNode requiredPaths;
 
         /**
          * @return true if the discriminator has been checked
@@ -73,6 +125,39 @@ public final class DecoderContext {
             return this;
         }
 
+        /**
+         * Sets the paths of the fields that must be decoded, in dot notation, such as {@code "address.city"}.
+         *
+         * <p>Decoders that support partial decoding, such as those for POJOs and records, skip the values of all other fields, so the
+         * corresponding properties are left unset.  A path that ends at a field requires its whole value.  Paths are followed through
+         * nested documents decoded by such decoders only: the values of collections, maps and other types on a required path are
+         * decoded whole.  By default all fields are decoded.</p>
+         *
+         * <p>Required paths take effect only where the context built here is passed to a codec, such as when an application calls
+         * {@link org.bson.codecs.Decoder#decode(BsonReader, DecoderContext)} itself, for example on the {@code RawBsonDocument} results of
+         * an operation.  The driver decodes the results of operations with a default context, so to limit the fields that are
+         * decoded there, use a projection, which also reduces what the server sends.</p>
+         *
+         * @param requiredPaths the required paths, or an empty collection to decode all fields
+         * @return this
+         * @since 5.11
+         */
+        public Builder requiredPaths(final Collection<String> requiredPaths) {
+            notNull("requiredPaths", requiredPaths);
+            if (requiredPaths.isEmpty()) {
+                this.requiredPaths = null;
+            } else {
+                RequiredPathNode root = new RequiredPathNode();
+                for (String requiredPath : requiredPaths) {
+                    notNull("requiredPath", requiredPath);
+                    root.add(requiredPath.split("\\."), 0);
+                }
+                root.createContexts();
+                this.requiredPaths = root;
+            }
+            return this;
+        }
+
         /**
          * Build an instance of {@code DecoderContext}.
          * @return the decoder context
@@ -98,5 +183,40 @@ public final class DecoderContext {
 
     private DecoderContext(final Builder builder) {
         this.checkedDiscriminator = builder.hasCheckedDiscriminator();
+        this.requiredPaths = builder.requiredPaths;
+    }
+
+    private DecoderContext(final RequiredPathNode requiredPaths) {
+        this.checkedDiscriminator = false;
+        this.requiredPaths = requiredPaths;
+    }
+
+    // A node in the tree of required paths.  A node without children requires the whole value of its field.
+    private static final class RequiredPathNode {
+        private final Map<String, RequiredPathNode> children = new HashMap<>();
+        private boolean whole;
+        private DecoderContext context = DEFAULT_CONTEXT;
+
+        void add(final String[] path, final int index) {
+            if (whole) {
+                return;
+            }
+            if (index == path.length) {
+                whole = true;
+                children.clear();
+                return;
+            }
+            children.computeIfAbsent(path[index], k -> new RequiredPathNode()).add(path, index + 1);
+        }
+
+        // Called once the tree is complete, so that child contexts need not be created while decoding
+        void createContexts() {
+            for (RequiredPathNode child : children.values()) {
+                child.createContexts();
+                if (!child.whole) {
+                    child.context = new DecoderContext(child);
+                }
+            }
+        }
     }
 }
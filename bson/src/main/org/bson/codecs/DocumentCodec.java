@@ -52,6 +52,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
 
     private final BsonTypeCodecMap bsonTypeCodecMap;
     private final CodecRegistry registry;
+    private final ValueCodecCache valueCodecCache;
     private final IdGenerator idGenerator;
     private final Transformer valueTransformer;
     private final UuidRepresentation uuidRepresentation;
@@ -103,6 +104,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
     private DocumentCodec(final CodecRegistry registry, final BsonTypeCodecMap bsonTypeCodecMap, final IdGenerator idGenerator,
                           final Transformer valueTransformer, final UuidRepresentation uuidRepresentation) {
         this.registry = notNull("registry", registry);
+        this.valueCodecCache = new ValueCodecCache(registry);
         this.bsonTypeCodecMap = bsonTypeCodecMap;
         this.idGenerator = idGenerator;
         this.valueTransformer = valueTransformer != null ? valueTransformer : value -> value;
@@ -202,7 +204,7 @@ public class DocumentCodec implements CollectibleCodec<Document>, OverridableUui
         if (value == null) {
             writer.writeNull();
         } else {
-            Codec codec = registry.get(value.getClass());
+            Codec codec = valueCodecCache.get(value.getClass());
             encoderContext.encodeWithChildContext(codec, writer, value);
         }
     }
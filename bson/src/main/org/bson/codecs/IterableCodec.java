@@ -36,6 +36,7 @@ import static org.bson.codecs.ContainerCodecHelper.readValue;
 class IterableCodec implements Codec<Iterable>, OverridableUuidRepresentationCodec<Iterable> {
 
     private final CodecRegistry registry;
+    private final ValueCodecCache valueCodecCache;
     private final BsonTypeCodecMap bsonTypeCodecMap;
     private final Transformer valueTransformer;
     private final UuidRepresentation uuidRepresentation;
@@ -48,6 +49,7 @@ class IterableCodec implements Codec<Iterable>, OverridableUuidRepresentationCod
     private IterableCodec(final CodecRegistry registry, final BsonTypeCodecMap bsonTypeCodecMap, final Transformer valueTransformer,
                           final UuidRepresentation uuidRepresentation) {
         this.registry = notNull("registry", registry);
+        this.valueCodecCache = new ValueCodecCache(registry);
         this.bsonTypeCodecMap = bsonTypeCodecMap;
         this.valueTransformer = valueTransformer != null ? valueTransformer : objectToTransform -> objectToTransform;
         this.uuidRepresentation = uuidRepresentation;
@@ -92,7 +94,7 @@ class IterableCodec implements Codec<Iterable>, OverridableUuidRepresentationCod
         if (value == null) {
             writer.writeNull();
         } else {
-            Codec codec = registry.get(value.getClass());
+            Codec codec = valueCodecCache.get(value.getClass());
             encoderContext.encodeWithChildContext(codec, writer, value);
         }
     }
@@ -42,6 +42,7 @@ final class MapCodec<M extends Map<String, Object>> extends AbstractMapCodec<Obj
 
     private final BsonTypeCodecMap bsonTypeCodecMap;
     private final CodecRegistry registry;
+    private final ValueCodecCache valueCodecCache;
     private final Transformer valueTransformer;
     private final UuidRepresentation uuidRepresentation;
 
@@ -66,6 +67,7 @@ final class MapCodec<M extends Map<String, Object>> extends AbstractMapCodec<Obj
                        final UuidRepresentation uuidRepresentation, final Class<M> clazz) {
         super(clazz);
         this.registry = notNull("registry", registry);
+        this.valueCodecCache = new ValueCodecCache(registry);
         this.bsonTypeCodecMap = bsonTypeCodecMap;
         this.valueTransformer = valueTransformer != null ? valueTransformer : (value) -> value;
         this.uuidRepresentation = uuidRepresentation;
@@ -87,7 +89,7 @@ final class MapCodec<M extends Map<String, Object>> extends AbstractMapCodec<Obj
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     void writeValue(final BsonWriter writer, final Object value, final EncoderContext encoderContext) {
-        Codec codec = registry.get(value.getClass());
+        Codec codec = valueCodecCache.get(value.getClass());
         encoderContext.encodeWithChildContext(codec, writer, value);
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.codecs.configuration.CodecRegistry;
+
+/**
+ * A small inline cache of the codecs that a container codec looks up by the class of each value it encodes.
+ *
+ * <p>Containers typically hold values of a handful of classes, so remembering the codec for each of them spares a registry lookup
+ * per value, whatever the registry. Each class is mapped to a single slot, which is filled once and never replaced, so classes
+ * that collide with an occupied slot are simply looked up in the registry every time.</p>
+ */
+final class ValueCodecCache {
+    private static final int SIZE = 8;
+
+    private final CodecRegistry registry;
+    // Racy but safe: the entries are immutable, so a thread either sees a complete entry or an empty slot
+    private final Entry[] entries = new Entry[SIZE];
+
+    ValueCodecCache(final CodecRegistry registry) {
+        this.registry = registry;
+    }
+
+    Codec<?> get(final Class<?> clazz) {
+        int index = clazz.hashCode() & (SIZE - 1);
+        Entry entry = entries[index];
+        if (entry != null && entry.clazz == clazz) {
+            return entry.codec;
+        }
+        Codec<?> codec = registry.get(clazz);
+        if (entry == null) {
+            entries[index] = new Entry(clazz, codec);
+        }
+        return codec;
+    }
+
+    private static final class Entry {
+        private final Class<?> clazz;
+        private final Codec<?> codec;
+
+        Entry(final Class<?> clazz, final Codec<?> codec) {
+            this.clazz = clazz;
+            this.codec = codec;
+        }
+    }
+}
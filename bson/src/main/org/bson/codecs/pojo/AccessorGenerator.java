@@ -0,0 +1,172 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Generates property getters, setters and creators once per class model, so that they need not be invoked by reflection for every
+ * document.
+ *
+ * <p>Public methods of public classes that are visible from the class loader of this class are bound with {@link LambdaMetafactory},
+ * which spins a class that invokes them directly.  Everything else is bound with a {@link MethodHandle}.  Each factory method returns
+ * {@code null} when access is not permitted, in which case the caller keeps using reflection.</p>
+ */
+final class AccessorGenerator {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    interface Getter {
+        Object get(Object instance) throws Throwable;
+    }
+
+    interface Setter {
+        void set(Object instance, Object value) throws Throwable;
+    }
+
+    interface Creator {
+        // params must hold exactly one element per parameter, so an empty array for a creator without parameters
+        Object create(Object[] params) throws Throwable;
+    }
+
+    static Getter getter(final Method method) {
+        if (canSpinLambda(method)) {
+            try {
+                MethodHandle target = LOOKUP.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "get", methodType(Getter.class), GETTER_TYPE, target,
+                        methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+                return (Getter) callSite.getTarget().invokeExact();
+            } catch (Throwable t) {
+                // fall through to a method handle
+            }
+        }
+        try {
+            return getter(LOOKUP.unreflect(method));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static Getter getter(final Field field) {
+        try {
+            return getter(LOOKUP.unreflectGetter(field));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static Setter setter(final Method method) {
+        if (canSpinLambda(method)) {
+            try {
+                MethodHandle target = LOOKUP.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "set", methodType(Setter.class), SETTER_TYPE, target,
+                        methodType(void.class, method.getDeclaringClass(), wrap(method.getParameterTypes()[0])));
+                return (Setter) callSite.getTarget().invokeExact();
+            } catch (Throwable t) {
+                // fall through to a method handle
+            }
+        }
+        try {
+            return setter(LOOKUP.unreflect(method));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static Setter setter(final Field field) {
+        try {
+            return setter(LOOKUP.unreflectSetter(field));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static Creator creator(final Constructor<?> constructor) {
+        try {
+            return creator(LOOKUP.unreflectConstructor(constructor));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static Creator creator(final Method method) {
+        if (!Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        try {
+            return creator(LOOKUP.unreflect(method));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static Getter getter(final MethodHandle methodHandle) {
+        MethodHandle getter = methodHandle.asType(GETTER_TYPE);
+        return instance -> (Object) getter.invokeExact(instance);
+    }
+
+    private static Setter setter(final MethodHandle methodHandle) {
+        MethodHandle setter = methodHandle.asType(SETTER_TYPE);
+        return (instance, value) -> {
+            setter.invokeExact(instance, value);
+        };
+    }
+
+    private static Creator creator(final MethodHandle methodHandle) {
+        int parameterCount = methodHandle.type().parameterCount();
+        MethodHandle creator = methodHandle.asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, parameterCount);
+        return params -> (Object) creator.invokeExact(params);
+    }
+
+    // A spun class links against the target class by name from this class loader, and invokes the target directly
+    private static boolean canSpinLambda(final Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+            return false;
+        }
+        for (Class<?> clazz = declaringClass; clazz != null; clazz = clazz.getEnclosingClass()) {
+            if (!Modifier.isPublic(clazz.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(declaringClass.getName(), false, AccessorGenerator.class.getClassLoader()) == declaringClass;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? methodType(type).wrap().returnType() : type;
+    }
+
+    private AccessorGenerator() {
+    }
+}
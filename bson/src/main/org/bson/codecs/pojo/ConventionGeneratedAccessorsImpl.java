@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo;
+
+final class ConventionGeneratedAccessorsImpl implements Convention {
+
+    @Override
+    public void apply(final ClassModelBuilder<?> classModelBuilder) {
+        for (PropertyModelBuilder<?> propertyModelBuilder : classModelBuilder.getPropertyModelBuilders()) {
+            setPropertyAccessor(propertyModelBuilder);
+        }
+        setInstanceCreatorFactory(classModelBuilder);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void setPropertyAccessor(final PropertyModelBuilder<T> propertyModelBuilder) {
+        PropertyAccessor<T> propertyAccessor = propertyModelBuilder.getPropertyAccessor();
+        if (propertyAccessor instanceof PropertyAccessorImpl) {
+            propertyModelBuilder.propertyAccessor(new GeneratedPropertyAccessor<>((PropertyAccessorImpl<T>) propertyAccessor));
+        } else if (propertyAccessor instanceof FieldPropertyAccessor) {
+            propertyModelBuilder.propertyAccessor(new GeneratedPropertyAccessor<>((FieldPropertyAccessor<T>) propertyAccessor));
+        }
+    }
+
+    private <T> void setInstanceCreatorFactory(final ClassModelBuilder<T> classModelBuilder) {
+        InstanceCreatorFactory<T> instanceCreatorFactory = classModelBuilder.getInstanceCreatorFactory();
+        if (instanceCreatorFactory instanceof InstanceCreatorFactoryImpl) {
+            CreatorExecutable<T> creatorExecutable = ((InstanceCreatorFactoryImpl<T>) instanceCreatorFactory).getCreatorExecutable();
+            classModelBuilder.instanceCreatorFactory(new InstanceCreatorFactoryImpl<>(creatorExecutable.withGeneratedCreator()));
+        }
+    }
+}
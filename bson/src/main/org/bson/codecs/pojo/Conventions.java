@@ -78,6 +78,20 @@ public final class Conventions {
      */
     public static final Convention OBJECT_ID_GENERATORS = new ConventionObjectIdGeneratorsImpl();
 
+    /**
+     * A convention that generates the property accessors and the instance creator of a class model once, instead of invoking getters,
+     * setters, fields and creators by reflection for every document.
+     *
+     * <p>Public getters and setters of public classes are bound with {@link java.lang.invoke.LambdaMetafactory}, and other accessible
+     * members with {@link java.lang.invoke.MethodHandle}s.  Members that cannot be bound fall back to reflection, as do custom
+     * {@link PropertyAccessor} and {@link InstanceCreatorFactory} implementations, which are left unchanged.</p>
+     * <p>Note: This convention is not part of the {@code DEFAULT_CONVENTIONS} list and must explicitly be set.  It must come after any
+     * other convention that sets property accessors, such as {@link #SET_PRIVATE_FIELDS_CONVENTION}.</p>
+     *
+     * @since 5.11
+     */
+    public static final Convention GENERATED_ACCESSORS_CONVENTION = new ConventionGeneratedAccessorsImpl();
+
     /**
      * The default conventions list
      */
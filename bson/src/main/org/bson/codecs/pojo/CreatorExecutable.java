@@ -31,6 +31,7 @@ import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
 final class CreatorExecutable<T> {
+    private static final Object[] NO_PARAMS = new Object[0];
     private final Class<T> clazz;
     private final Constructor<T> constructor;
     private final Method method;
@@ -38,6 +39,7 @@ final class CreatorExecutable<T> {
     private final Integer idPropertyIndex;
     private final List<Class<?>> parameterTypes = new ArrayList<>();
     private final List<Type> parameterGenericTypes = new ArrayList<>();
+    private final AccessorGenerator.Creator generatedCreator;
 
     CreatorExecutable(final Class<T> clazz, final Constructor<T> constructor) {
         this(clazz, constructor, null);
@@ -51,6 +53,7 @@ final class CreatorExecutable<T> {
         this.clazz = clazz;
         this.constructor = constructor;
         this.method = method;
+        this.generatedCreator = null;
         Integer idPropertyIndex = null;
 
         if (constructor != null || method != null) {
@@ -82,6 +85,30 @@ final class CreatorExecutable<T> {
         this.idPropertyIndex = idPropertyIndex;
     }
 
+    private CreatorExecutable(final CreatorExecutable<T> from, final AccessorGenerator.Creator generatedCreator) {
+        this.clazz = from.clazz;
+        this.constructor = from.constructor;
+        this.method = from.method;
+        this.properties.addAll(from.properties);
+        this.idPropertyIndex = from.idPropertyIndex;
+        this.parameterTypes.addAll(from.parameterTypes);
+        this.parameterGenericTypes.addAll(from.parameterGenericTypes);
+        this.generatedCreator = generatedCreator;
+    }
+
+    /**
+     * @return a copy of this that invokes a generated creator, or this if a creator cannot be generated
+     */
+    CreatorExecutable<T> withGeneratedCreator() {
+        AccessorGenerator.Creator creator = null;
+        if (constructor != null) {
+            creator = AccessorGenerator.creator(constructor);
+        } else if (method != null) {
+            creator = AccessorGenerator.creator(method);
+        }
+        return creator == null ? this : new CreatorExecutable<>(this, creator);
+    }
+
     Class<T> getType() {
         return clazz;
     }
@@ -105,6 +132,9 @@ final class CreatorExecutable<T> {
     @SuppressWarnings("unchecked")
     T getInstance() {
         checkHasAnExecutable();
+        if (generatedCreator != null) {
+            return invokeGeneratedCreator(NO_PARAMS);
+        }
         try {
             if (constructor != null) {
                 return constructor.newInstance();
@@ -119,6 +149,9 @@ final class CreatorExecutable<T> {
     @SuppressWarnings("unchecked")
     T getInstance(final Object[] params) {
         checkHasAnExecutable();
+        if (generatedCreator != null) {
+            return invokeGeneratedCreator(params);
+        }
         try {
             if (constructor != null) {
                 return constructor.newInstance(params);
@@ -130,6 +163,16 @@ final class CreatorExecutable<T> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private T invokeGeneratedCreator(final Object[] params) {
+        try {
+            return (T) generatedCreator.create(params);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new CodecConfigurationException(t.getMessage(), t);
+        }
+    }
 
     CodecConfigurationException getError(final Class<?> clazz, final String msg) {
         return getError(clazz, constructor != null, msg);
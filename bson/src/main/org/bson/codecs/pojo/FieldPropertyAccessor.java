@@ -32,6 +32,10 @@ final class FieldPropertyAccessor<T> implements PropertyAccessor<T> {
         }
     }
 
+    PropertyAccessorImpl<T> getWrapped() {
+        return wrapped;
+    }
+
     @Override
     public <S> T get(final S instance) {
         return wrapped.get(instance);
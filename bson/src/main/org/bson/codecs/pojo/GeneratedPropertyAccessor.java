@@ -0,0 +1,89 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo;
+
+final class GeneratedPropertyAccessor<T> implements PropertyAccessor<T> {
+    private final PropertyAccessor<T> wrapped;
+    private final PropertyAccessorImpl<T> defaultAccessor;
+    private final AccessorGenerator.Getter getter;
+    private final AccessorGenerator.Setter setter;
+
+    GeneratedPropertyAccessor(final PropertyAccessorImpl<T> wrapped) {
+        this(wrapped, wrapped, false);
+    }
+
+    GeneratedPropertyAccessor(final FieldPropertyAccessor<T> wrapped) {
+        this(wrapped, wrapped.getWrapped(), true);
+    }
+
+    private GeneratedPropertyAccessor(final PropertyAccessor<T> wrapped, final PropertyAccessorImpl<T> defaultAccessor,
+                                      final boolean setField) {
+        this.wrapped = wrapped;
+        this.defaultAccessor = defaultAccessor;
+        PropertyMetadata<T> propertyMetadata = defaultAccessor.getPropertyMetadata();
+
+        // Anything that cannot be generated, including accesses that always fail, is left to the wrapped accessor
+        if (!propertyMetadata.isSerializable()) {
+            getter = null;
+        } else if (propertyMetadata.getGetter() != null) {
+            getter = AccessorGenerator.getter(propertyMetadata.getGetter());
+        } else if (propertyMetadata.getField() != null) {
+            getter = AccessorGenerator.getter(propertyMetadata.getField());
+        } else {
+            getter = null;
+        }
+
+        if (setField || (propertyMetadata.isDeserializable() && propertyMetadata.getSetter() == null)) {
+            setter = propertyMetadata.getField() != null ? AccessorGenerator.setter(propertyMetadata.getField()) : null;
+        } else if (propertyMetadata.isDeserializable()) {
+            setter = AccessorGenerator.setter(propertyMetadata.getSetter());
+        } else {
+            setter = null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S> T get(final S instance) {
+        if (getter == null) {
+            return wrapped.get(instance);
+        }
+        try {
+            return (T) getter.get(instance);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw defaultAccessor.getError(t);
+        }
+    }
+
+    @Override
+    public <S> void set(final S instance, final T value) {
+        if (setter == null) {
+            wrapped.set(instance, value);
+            return;
+        }
+        try {
+            setter.set(instance, value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw defaultAccessor.setError(t);
+        }
+    }
+}
@@ -23,6 +23,10 @@ final class InstanceCreatorFactoryImpl<T> implements InstanceCreatorFactory<T> {
         this.creatorExecutable = creatorExecutable;
     }
 
+    CreatorExecutable<T> getCreatorExecutable() {
+        return creatorExecutable;
+    }
+
     @Override
     public InstanceCreator<T> create() {
         return new InstanceCreatorImpl<>(creatorExecutable);
@@ -16,9 +16,13 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.codecs.DecoderContext;
 import org.bson.codecs.configuration.CodecConfigurationException;
 
+import java.lang.reflect.Array;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import static java.lang.String.format;
@@ -82,6 +86,47 @@ final class InstanceCreatorImpl<T> implements InstanceCreator<T> {
         }
     }
 
+    /**
+     * Gives the primitive creator parameters of the properties that the decoder context does not require their default value, as the
+     * values of those properties are skipped rather than decoded. If that leaves no creator parameter to be decoded, the instance is
+     * constructed, so that the decoded values are set on it.
+     */
+    void setSkippedPrimitiveParameters(final List<PropertyModel<?>> propertyModels, final DecoderContext decoderContext) {
+        if (newInstance != null) {
+            return;
+        }
+        Iterator<Map.Entry<String, Integer>> iterator = properties.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Integer> entry = iterator.next();
+            Class<?> parameterType = creatorExecutable.getParameterTypes().get(entry.getValue());
+            if (parameterType.isPrimitive() && !decoderContext.isRequired(getWriteName(propertyModels, entry.getKey()))) {
+                params[entry.getValue()] = Array.get(Array.newInstance(parameterType, 1), 0);
+                iterator.remove();
+            }
+        }
+        if (properties.isEmpty()) {
+            constructInstanceAndProcessCachedValues();
+        }
+    }
+
+    /**
+     * Gets the name of the field that holds the value of the creator parameter with the given property name, matching the property
+     * names in the same order as {@link #set(Object, PropertyModel)}.
+     */
+    private static String getWriteName(final List<PropertyModel<?>> propertyModels, final String propertyName) {
+        for (PropertyModel<?> propertyModel : propertyModels) {
+            if (propertyName.equals(propertyModel.getWriteName())) {
+                return propertyName;
+            }
+        }
+        for (PropertyModel<?> propertyModel : propertyModels) {
+            if (propertyName.equals(propertyModel.getName()) && propertyModel.getWriteName() != null) {
+                return propertyModel.getWriteName();
+            }
+        }
+        return propertyName;
+    }
+
     @Override
     public T getInstance() {
         if (newInstance == null) {
@@ -94,12 +94,15 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
     public T decode(final BsonReader reader, final DecoderContext decoderContext) {
         if (decoderContext.hasCheckedDiscriminator()) {
             InstanceCreator<T> instanceCreator = classModel.getInstanceCreator();
+            if (instanceCreator instanceof InstanceCreatorImpl) {
+                ((InstanceCreatorImpl<T>) instanceCreator).setSkippedPrimitiveParameters(classModel.getPropertyModels(), decoderContext);
+            }
             decodeProperties(reader, decoderContext, instanceCreator);
             return instanceCreator.getInstance();
         } else {
             return getCodecFromDocument(reader, classModel.useDiscriminator(), classModel.getDiscriminatorKey(), registry,
                     discriminatorLookup, this, classModel.getName())
-                    .decode(reader, DecoderContext.builder().checkedDiscriminator(true).build());
+                    .decode(reader, DecoderContext.builder(decoderContext).checkedDiscriminator(true).build());
         }
     }
 
@@ -168,7 +171,11 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
                         });
                     }
                 } else {
-                    writer.writeName(propertyModel.getReadName());
+                    if (propertyModel.getEncodedReadName() != null) {
+                        writer.writeName(propertyModel.getEncodedReadName());
+                    } else {
+                        writer.writeName(propertyModel.getReadName());
+                    }
                     if (propertyValue == null) {
                         writer.writeNull();
                     } else {
@@ -195,6 +202,8 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
             String name = reader.readName();
             if (classModel.useDiscriminator() && classModel.getDiscriminatorKey().equals(name)) {
                 reader.readString();
+            } else if (!decoderContext.isRequired(name)) {
+                reader.skipValue();
             } else {
                 decodePropertyModel(reader, decoderContext, instanceCreator, name, getPropertyModelByWriteName(classModel, name), extraElements);
             }
@@ -217,7 +226,7 @@ final class PojoCodecImpl<T> extends PojoCodec<T> {
                         throw new CodecConfigurationException(format("Missing codec in '%s' for '%s'",
                                 classModel.getName(), propertyModel.getName()));
                     }
-                    value = decoderContext.decodeWithChildContext(codec, reader);
+                    value = codec.decode(reader, decoderContext.getChildContext(name));
                 }
                 return value;
             }, propertyModel);
@@ -65,12 +65,12 @@ final class PropertyAccessorImpl<T> implements PropertyAccessor<T> {
         return propertyMetadata;
     }
 
-    private CodecConfigurationException getError(final Exception cause) {
+    CodecConfigurationException getError(final Throwable cause) {
         return new CodecConfigurationException(format("Unable to get value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
 
-    private CodecConfigurationException setError(final Exception cause) {
+    CodecConfigurationException setError(final Throwable cause) {
         return new CodecConfigurationException(format("Unable to set value for property '%s' in %s", propertyMetadata.getName(),
                 propertyMetadata.getDeclaringClassName()), cause);
     }
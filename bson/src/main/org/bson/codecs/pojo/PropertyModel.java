@@ -16,6 +16,7 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonName;
 import org.bson.BsonType;
 import org.bson.codecs.Codec;
 
@@ -30,6 +31,7 @@ import java.util.Objects;
 public final class PropertyModel<T> {
     private final String name;
     private final String readName;
+    private final BsonName encodedReadName;
     private final String writeName;
     private final TypeData<T> typeData;
     private final Codec<T> codec;
@@ -45,6 +47,9 @@ public final class PropertyModel<T> {
                   final PropertyAccessor<T> propertyAccessor, final String error, final BsonType bsonRepresentation) {
         this.name = name;
         this.readName = readName;
+        // a name with a null character can not be encoded as a CString, so it is written as a String, and the writer decides whether
+        // to accept it
+        this.encodedReadName = readName == null || readName.indexOf('\0') >= 0 ? null : BsonName.of(readName);
         this.writeName = writeName;
         this.typeData = typeData;
         this.codec = codec;
@@ -86,6 +91,14 @@ public final class PropertyModel<T> {
         return readName;
     }
 
+    /**
+     * @return the pre-encoded name of the property to use as the key when serializing into BSON, or null if the property is not
+     * readable or its name contains a null character
+     */
+    BsonName getEncodedReadName() {
+        return encodedReadName;
+    }
+
     /**
      * Property is writable.
      *
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation that requests a codec for the annotated POJO or Java record to be generated at compile time.
+ *
+ * <p>Requires the {@code org.mongodb:bson-codec-processor} annotation processor.  For each annotated class {@code Foo} it generates a
+ * {@code FooBsonCodec} class, and for each package with annotated classes a {@code GeneratedBsonCodecProvider} class that provides
+ * those codecs without reflection.  The {@link BsonId}, {@link BsonProperty} and {@link BsonIgnore} annotations are supported.</p>
+ *
+ * @since 5.11
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface BsonGenerateCodec {
+}
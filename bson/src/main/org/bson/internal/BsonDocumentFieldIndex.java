@@ -0,0 +1,102 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.internal;
+
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.io.BsonInput;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An index from field name to the position of the field's element in an encoded BSON document, used by documents backed by raw bytes
+ * to locate a field without scanning every element before it.
+ *
+ * <p>The index holds only names and positions, so building it does not decode any values. Positions are those reported by the
+ * {@link BsonInput} of the reader the index was built from, so a reader used to look up a field must be created over the same
+ * bytes in the same way. When a name appears more than once, the first occurrence wins, which is what a linear scan finds.</p>
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BsonDocumentFieldIndex {
+    private final Map<String, Integer> elementPositions;
+    private final int size;
+
+    /**
+     * Builds an index by reading the whole document.
+     *
+     * @param reader a reader positioned at the start of the document
+     * @return the index
+     */
+    public static BsonDocumentFieldIndex create(final BsonBinaryReader reader) {
+        BsonInput bsonInput = reader.getBsonInput();
+        Map<String, Integer> elementPositions = new HashMap<>();
+        int size = 0;
+        reader.readStartDocument();
+        int elementPosition = bsonInput.getPosition();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            size++;
+            elementPositions.putIfAbsent(reader.readName(), elementPosition);
+            reader.skipValue();
+            elementPosition = bsonInput.getPosition();
+        }
+        reader.readEndDocument();
+        return new BsonDocumentFieldIndex(elementPositions, size);
+    }
+
+    private BsonDocumentFieldIndex(final Map<String, Integer> elementPositions, final int size) {
+        this.elementPositions = elementPositions;
+        this.size = size;
+    }
+
+    /**
+     * @return the number of elements in the document, including any with duplicate names
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param key the field name
+     * @return true if the document contains a field with the given name
+     */
+    public boolean containsKey(final Object key) {
+        return elementPositions.containsKey(key);
+    }
+
+    /**
+     * Positions the reader on the value of the field with the given name, so that the value can be read next.
+     *
+     * @param reader a reader positioned at the start of the document
+     * @param key the field name
+     * @return true if the field was found, false if the document does not contain it, in which case the reader is left unchanged
+     */
+    public boolean moveToValue(final BsonBinaryReader reader, final Object key) {
+        Integer elementPosition = elementPositions.get(key);
+        if (elementPosition == null) {
+            return false;
+        }
+        reader.readStartDocument();
+        BsonInput bsonInput = reader.getBsonInput();
+        bsonInput.skip(elementPosition - bsonInput.getPosition());
+        reader.readBsonType();
+        reader.skipName();
+        return true;
+    }
+}
@@ -65,7 +65,8 @@ class ChildCodecRegistry<T> implements CodecRegistry {
         if (hasCycles(clazz)) {
             return new LazyCodec<>(registry, clazz, null);
         } else {
-            return registry.get(new ChildCodecRegistry<>(this, clazz, null));
+            Codec<U> codec = registry.getIfCached(clazz);
+            return codec != null ? codec : registry.get(new ChildCodecRegistry<>(this, clazz, null));
         }
     }
 
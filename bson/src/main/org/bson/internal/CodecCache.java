@@ -18,6 +18,7 @@ package org.bson.internal;
 
 import org.bson.codecs.Codec;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Objects;
@@ -52,7 +53,7 @@ final class CodecCache {
 
         @Override
         public int hashCode() {
-            return Objects.hash(clazz, types);
+            return 31 * clazz.hashCode() + Objects.hashCode(types);
         }
 
         @Override
@@ -65,17 +66,30 @@ final class CodecCache {
     }
 
     private final ConcurrentMap<CodecCacheKey, Codec<?>> codecCache = new ConcurrentHashMap<>();
+    // Codecs for classes without type arguments are keyed by the class alone, so that looking them up allocates nothing
+    private final ConcurrentMap<Class<?>, Codec<?>> rawClassCodecCache = new ConcurrentHashMap<>();
 
     public <T> Codec<T> putIfAbsent(final CodecCacheKey codecCacheKey, final Codec<T> codec) {
         assertNotNull(codec);
         @SuppressWarnings("unchecked")
-        Codec<T> prevCodec = (Codec<T>) codecCache.putIfAbsent(codecCacheKey, codec);
+        Codec<T> prevCodec = (Codec<T>) (codecCacheKey.types == null
+                ? rawClassCodecCache.putIfAbsent(codecCacheKey.clazz, codec)
+                : codecCache.putIfAbsent(codecCacheKey, codec));
         return prevCodec == null ? codec : prevCodec;
     }
 
     public <T> Optional<Codec<T>> get(final CodecCacheKey codecCacheKey) {
         @SuppressWarnings("unchecked")
-        Codec<T> codec = (Codec<T>) codecCache.get(codecCacheKey);
+        Codec<T> codec = (Codec<T>) (codecCacheKey.types == null
+                ? rawClassCodecCache.get(codecCacheKey.clazz)
+                : codecCache.get(codecCacheKey));
         return Optional.ofNullable(codec);
     }
+
+    @Nullable
+    public <T> Codec<T> get(final Class<T> clazz) {
+        @SuppressWarnings("unchecked")
+        Codec<T> codec = (Codec<T>) rawClassCodecCache.get(clazz);
+        return codec;
+    }
 }
@@ -19,6 +19,8 @@ package org.bson.internal;
 import org.bson.codecs.Codec;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import javax.annotation.Nullable;
+
 /**
  * A marker interface for {@code CodecRegistry} implementations that are able to detect cycles.
  *
@@ -33,4 +35,14 @@ interface CycleDetectingCodecRegistry extends CodecRegistry {
      * @return the Codec
      */
     <T> Codec<T> get(ChildCodecRegistry<T> context);
+
+    /**
+     * Get the Codec for the given class without type arguments, if it has already been created by this registry.
+     *
+     * @param clazz the class
+     * @param <T> the value type
+     * @return the Codec, or null if it has not been created yet
+     */
+    @Nullable
+    <T> Codec<T> getIfCached(Class<T> clazz);
 }
@@ -22,6 +22,7 @@ import org.bson.codecs.configuration.CodecProvider;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.internal.CodecCache.CodecCacheKey;
 
+import javax.annotation.Nullable;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -46,7 +47,8 @@ public final class ProvidersCodecRegistry implements CycleDetectingCodecRegistry
 
     @Override
     public <T> Codec<T> get(final Class<T> clazz) {
-        return get(new ChildCodecRegistry<>(this, clazz, null));
+        Codec<T> codec = codecCache.get(clazz);
+        return codec != null ? codec : get(new ChildCodecRegistry<>(this, clazz, null));
     }
 
     @Override
@@ -87,6 +89,12 @@ public final class ProvidersCodecRegistry implements CycleDetectingCodecRegistry
         });
     }
 
+    @Override
+    @Nullable
+    public <T> Codec<T> getIfCached(final Class<T> clazz) {
+        return codecCache.get(clazz);
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -98,6 +98,20 @@ public interface BsonInput extends Closeable {
      */
     String readCString();
 
+    /**
+     * Reads a BSON CString value from the stream, which is the name of a field, using the given cache to avoid decoding names that
+     * were read before.
+     *
+     * <p>The default implementation ignores the cache and calls {@link #readCString()}.</p>
+     *
+     * @param fieldNameCache the field name cache
+     * @return the CString
+     * @since 5.11
+     */
+    default String readCString(final FieldNameCache fieldNameCache) {
+        return readCString();
+    }
+
     /**
      * Skips a BSON CString value from the stream.
      *
@@ -139,6 +139,21 @@ public class ByteBufferBsonInput implements BsonInput {
         return readString(size);
     }
 
+    @Override
+    public String readCString(final FieldNameCache fieldNameCache) {
+        ensureOpen();
+        int position = buffer.position();
+        int size = computeCStringLength(position);
+        if (size > 2) {
+            String name = fieldNameCache.get(buffer, position, size - 1);
+            if (name != null) {
+                buffer.position(position + size);
+                return name;
+            }
+        }
+        return readString(size);
+    }
+
     private String readString(final int bsonStringSize) {
         if (bsonStringSize == 2) {
             byte asciiByte = buffer.get();               // if only one byte in the string, it must be ascii.
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import org.bson.ByteBuf;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+
+import static org.bson.assertions.Assertions.isTrueArgument;
+
+/**
+ * A bounded cache of the field names read by a {@link BsonInput}, keyed on their UTF-8 encoding.
+ *
+ * <p>The documents of a batch typically repeat the same field names, so sharing a cache between the readers of a batch, or of a
+ * cursor, lets each of them return a previously decoded {@code String} for a name instead of decoding and allocating a new one. A
+ * name is looked up by hashing and comparing its bytes in place, so a hit neither copies nor decodes them.</p>
+ *
+ * <p>Each name is mapped to a single slot, and a name replaces the one that occupied its slot, so the cache never holds more than its
+ * capacity. Names longer than {@value #MAX_NAME_LENGTH} bytes are not cached. Instances are safe to share between threads.</p>
+ *
+ * @see BsonInput#readCString(FieldNameCache)
+ * @see org.bson.BsonBinaryReader#BsonBinaryReader(BsonInput, FieldNameCache)
+ * @since 5.11
+ */
+public final class FieldNameCache {
+    /**
+     * The maximum length in bytes of the UTF-8 encoding of a cached name.
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+    private static final int DEFAULT_CAPACITY = 256;
+
+    // Racy but safe: the entries are immutable, so a thread either sees a complete entry or the one it replaced
+    private final Entry[] entries;
+
+    /**
+     * Construct an instance with a capacity of 256 names.
+     */
+    public FieldNameCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Construct an instance with the given capacity, which is rounded up to the nearest power of two.
+     *
+     * @param capacity the maximum number of names to cache, which must be positive and at most 2^16
+     */
+    public FieldNameCache(final int capacity) {
+        isTrueArgument("capacity > 0 && capacity <= 65536", capacity > 0 && capacity <= 1 << 16);
+        entries = new Entry[capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1];
+    }
+
+    /**
+     * Gets the name encoded by the given bytes of the buffer, decoding and caching it if it is not cached yet.
+     *
+     * @param buffer the buffer, whose position is left unchanged
+     * @param position the absolute position of the first byte of the name
+     * @param length the length in bytes of the name, excluding its null terminator
+     * @return the name, or null if the name is too long to be cached
+     */
+    @Nullable
+    String get(final ByteBuf buffer, final int position, final int length) {
+        if (length > MAX_NAME_LENGTH) {
+            return null;
+        }
+        int hash = hash(buffer, position, length);
+        int index = hash & (entries.length - 1);
+        Entry entry = entries[index];
+        if (entry != null && entry.hash == hash && entry.matches(buffer, position, length)) {
+            return entry.name;
+        }
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(position + i);
+        }
+        String name = new String(bytes, StandardCharsets.UTF_8);
+        entries[index] = new Entry(bytes, hash, name);
+        return name;
+    }
+
+    private static int hash(final ByteBuf buffer, final int position, final int length) {
+        int hash = 1;
+        for (int i = position; i < position + length; i++) {
+            hash = 31 * hash + buffer.get(i);
+        }
+        // spread the higher bits, as only the lower bits select the slot
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class Entry {
+        private final byte[] bytes;
+        private final int hash;
+        private final String name;
+
+        Entry(final byte[] bytes, final int hash, final String name) {
+            this.bytes = bytes;
+            this.hash = hash;
+            this.name = name;
+        }
+
+        boolean matches(final ByteBuf buffer, final int position, final int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != buffer.get(position + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package org.bson;
 
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +26,7 @@ import java.nio.ByteBuffer;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class BsonBinaryReaderTest {
@@ -70,6 +72,32 @@ public class BsonBinaryReaderTest {
         }
     }
 
+    @Test
+    public void testReadNamesThroughFieldNameCache() {
+        byte[] bytes = BsonHelper.toBson(new BsonDocument("createdAt", new BsonInt32(1)).append("a", new BsonInt32(2))).array();
+        FieldNameCache fieldNameCache = new FieldNameCache();
+
+        String firstName = readFirstName(new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes))),
+                fieldNameCache));
+        String secondName = readFirstName(new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes.clone()))),
+                fieldNameCache));
+
+        assertEquals("createdAt", firstName);
+        assertSame(firstName, secondName);
+    }
+
+    private String readFirstName(final BsonBinaryReader reader) {
+        reader.readStartDocument();
+        reader.readBsonType();
+        String name = reader.readName();
+        assertEquals(1, reader.readInt32());
+        assertEquals("a", reader.readName());
+        assertEquals(2, reader.readInt32());
+        reader.readEndDocument();
+        reader.close();
+        return name;
+    }
+
     private BsonBinaryReader createReaderForBytes(final byte[] bytes) {
         return new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes))));
     }
@@ -882,6 +882,40 @@ public class BsonBinaryWriterTest {
     }
     // CHECKSTYLE:ON
 
+    @Test
+    public void shouldWritePreEncodedNamesAsTheirStringValues() {
+        BsonName createdAt = BsonName.of("createdAt");
+        BsonName multiByteName = BsonName.of("\u00e9t\u00e9");
+        writer.writeStartDocument();
+        writer.writeName(createdAt);
+        writer.writeDateTime(1);
+        writer.writeName("a");
+        writer.writeInt32(1);
+        writer.writeName(multiByteName);
+        writer.writeStartDocument();
+        writer.writeName(createdAt);
+        writer.writeString("nested");
+        writer.writeEndDocument();
+        writer.writeEndDocument();
+
+        BasicOutputBuffer expectedBuffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter expectedWriter = new BsonBinaryWriter(expectedBuffer)) {
+            expectedWriter.writeStartDocument();
+            expectedWriter.writeDateTime("createdAt", 1);
+            expectedWriter.writeInt32("a", 1);
+            expectedWriter.writeStartDocument("\u00e9t\u00e9");
+            expectedWriter.writeString("createdAt", "nested");
+            expectedWriter.writeEndDocument();
+            expectedWriter.writeEndDocument();
+        }
+        assertArrayEquals(expectedBuffer.toByteArray(), buffer.toByteArray());
+    }
+
+    @Test
+    public void shouldNotCreateAPreEncodedNameWithANullCharacter() {
+        assertThrows(BsonSerializationException.class, () -> BsonName.of("a\u0000b"));
+    }
+
     private BsonBinaryReader createReaderForBytes(final byte[] bytes) {
         return new BsonBinaryReader(new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes))));
     }
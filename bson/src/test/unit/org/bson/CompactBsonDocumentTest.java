@@ -0,0 +1,297 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Don't convert to Spock, as Groovy intercepts equals/hashCode methods that we are trying to test
+public class CompactBsonDocumentTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, CompactBsonDocument.INDEX_THRESHOLD, CompactBsonDocument.INDEX_THRESHOLD + 1, 100})
+    public void shouldBehaveLikeBsonDocument(final int size) {
+        BsonDocument expected = new BsonDocument();
+        CompactBsonDocument document = new CompactBsonDocument();
+        for (int i = 0; i < size; i++) {
+            assertNull(document.put("key" + i, new BsonInt32(i)));
+            expected.put("key" + i, new BsonInt32(i));
+        }
+
+        assertEquals(expected, document);
+        assertEquals(document, expected);
+        assertEquals(expected.hashCode(), document.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(document.keySet()));
+        assertEquals(new ArrayList<>(expected.values()), new ArrayList<>(document.values()));
+        assertEquals(expected.toJson(), document.toJson());
+        for (int i = 0; i < size; i++) {
+            assertTrue(document.containsKey("key" + i));
+            assertEquals(new BsonInt32(i), document.get("key" + i));
+        }
+        assertFalse(document.containsKey("missing"));
+        assertNull(document.get("missing"));
+        assertNull(document.get(null));
+    }
+
+    @Test
+    public void shouldReplaceTheValueOfAnExistingKeyInPlace() {
+        CompactBsonDocument document = new CompactBsonDocument();
+        for (int i = 0; i < 20; i++) {
+            document.put("key" + i, new BsonInt32(i));
+        }
+
+        assertEquals(new BsonInt32(5), document.put("key5", new BsonString("five")));
+
+        assertEquals(20, document.size());
+        assertEquals(new BsonString("five"), document.get("key5"));
+        assertEquals("key5", new ArrayList<>(document.keySet()).get(5));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {3, CompactBsonDocument.INDEX_THRESHOLD + 1, 40})
+    public void shouldRemoveAndKeepTheOrderOfTheOtherElements(final int size) {
+        BsonDocument expected = new BsonDocument();
+        CompactBsonDocument document = new CompactBsonDocument();
+        for (int i = 0; i < size; i++) {
+            expected.put("key" + i, new BsonInt32(i));
+            document.put("key" + i, new BsonInt32(i));
+        }
+
+        assertEquals(expected.remove("key1"), document.remove("key1"));
+        assertNull(document.remove("key1"));
+        Iterator<Map.Entry<String, BsonValue>> iterator = document.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().asInt32().getValue() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        expected.entrySet().removeIf(entry -> entry.getValue().asInt32().getValue() % 2 == 0);
+
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(document.keySet()));
+        for (String key : expected.keySet()) {
+            assertEquals(expected.get(key), document.get(key));
+        }
+        assertFalse(document.containsKey("key0"));
+        document.put("key0", new BsonInt32(0));
+        assertEquals(new BsonInt32(0), document.get("key0"));
+        assertEquals("key0", new ArrayList<>(document.keySet()).get(document.size() - 1));
+    }
+
+    @Test
+    public void shouldLookUpKeysBetweenRemovals() {
+        int size = 40;
+        CompactBsonDocument document = new CompactBsonDocument();
+        for (int i = 0; i < size; i++) {
+            document.put("key" + i, new BsonInt32(i));
+        }
+
+        // remove from the front, so that the positions of all the remaining elements shift, through the threshold and back over it
+        for (int removed = 0; removed < size; removed++) {
+            assertEquals(new BsonInt32(removed), document.remove("key" + removed));
+            assertNull(document.get("key" + removed));
+            for (int i = removed + 1; i < size; i++) {
+                assertEquals(new BsonInt32(i), document.get("key" + i));
+            }
+            if (removed == size / 2) {
+                for (int i = 0; i <= removed; i++) {
+                    document.put("key" + i, new BsonInt32(i));
+                }
+                for (int i = 0; i <= removed; i++) {
+                    assertEquals(new BsonInt32(i), document.remove("key" + i));
+                }
+            }
+        }
+        assertTrue(document.isEmpty());
+    }
+
+    @Test
+    public void shouldLookUpKeysFromConcurrentReadersAfterRemovals() throws InterruptedException, ExecutionException {
+        int size = 1000;
+        CompactBsonDocument document = new CompactBsonDocument();
+        for (int i = 0; i < size; i++) {
+            document.put("key" + i, new BsonInt32(i));
+        }
+        for (int i = 0; i < size; i += 2) {
+            document.remove("key" + i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> readers = new ArrayList<>();
+            for (int reader = 0; reader < 4; reader++) {
+                readers.add(executor.submit(() -> {
+                    for (int i = 1; i < size; i += 2) {
+                        if (!new BsonInt32(i).equals(document.get("key" + i))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> reader : readers) {
+                assertTrue(reader.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldWriteThroughEntries() {
+        CompactBsonDocument document = new CompactBsonDocument("a", new BsonInt32(1));
+
+        document.entrySet().iterator().next().setValue(new BsonInt32(2));
+
+        assertEquals(new BsonInt32(2), document.get("a"));
+        assertThrows(IllegalArgumentException.class, () -> document.put("b", null));
+    }
+
+    @Test
+    public void shouldKeepEntriesOnTheirKeysWhenElementsShift() {
+        CompactBsonDocument document = new CompactBsonDocument();
+        document.append("a", new BsonInt32(1)).append("b", new BsonInt32(2)).append("c", new BsonInt32(3));
+        Iterator<Map.Entry<String, BsonValue>> iterator = document.entrySet().iterator();
+        Map.Entry<String, BsonValue> a = iterator.next();
+        Map.Entry<String, BsonValue> b = iterator.next();
+        Map.Entry<String, BsonValue> c = iterator.next();
+
+        document.remove("a");
+
+        assertEquals("b", b.getKey());
+        assertEquals(new BsonInt32(2), b.getValue());
+        assertEquals(new BsonInt32(3), c.setValue(new BsonInt32(4)));
+        assertEquals(new BsonInt32(4), document.get("c"));
+        assertEquals(new BsonInt32(2), document.get("b"));
+
+        // the entry of a removed key no longer writes through
+        assertEquals(new BsonInt32(1), a.setValue(new BsonInt32(5)));
+        assertEquals(new BsonInt32(5), a.getValue());
+        assertFalse(document.containsKey("a"));
+        assertEquals(2, document.size());
+    }
+
+    @Test
+    public void shouldRejectNullKeys() {
+        CompactBsonDocument document = new CompactBsonDocument();
+
+        assertThrows(IllegalArgumentException.class, () -> document.put(null, new BsonInt32(1)));
+        assertThrows(IllegalArgumentException.class, () -> new CompactBsonDocument(null, new BsonInt32(1)));
+        assertTrue(document.isEmpty());
+        assertNull(document.get(null));
+        assertFalse(document.containsKey(null));
+        assertNull(document.remove(null));
+    }
+
+    @Test
+    public void shouldFailFastWhenModifiedDuringIteration() {
+        BsonDocument document = new CompactBsonDocument("a", new BsonInt32(1)).append("b", new BsonInt32(2));
+
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (String key : document.keySet()) {
+                document.put(key + key, new BsonInt32(3));
+            }
+        });
+    }
+
+    @Test
+    public void shouldClear() {
+        CompactBsonDocument document = new CompactBsonDocument();
+        for (int i = 0; i < 20; i++) {
+            document.put("key" + i, new BsonInt32(i));
+        }
+
+        document.clear();
+
+        assertTrue(document.isEmpty());
+        assertFalse(document.containsKey("key15"));
+        document.put("key15", new BsonInt32(15));
+        assertEquals(new BsonInt32(15), document.get("key15"));
+    }
+
+    @Test
+    public void shouldCloneDeeply() {
+        BsonDocument nested = new BsonDocument("x", BsonBoolean.TRUE);
+        CompactBsonDocument document = new CompactBsonDocument("a", nested);
+
+        BsonDocument clone = document.clone();
+
+        assertInstanceOf(CompactBsonDocument.class, clone);
+        assertEquals(document, clone);
+        nested.put("y", BsonBoolean.FALSE);
+        assertFalse(clone.getDocument("a").containsKey("y"));
+    }
+
+    @Test
+    public void shouldSerializeAsBsonDocument() throws IOException, ClassNotFoundException {
+        CompactBsonDocument document = new CompactBsonDocument("a", new BsonInt32(1));
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        new ObjectOutputStream(baos).writeObject(document);
+        Object deserialized = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray())).readObject();
+
+        assertSame(BsonDocument.class, deserialized.getClass());
+        assertEquals(document, deserialized);
+    }
+
+    @Test
+    public void shouldDecodeCompactDocumentsOnRequest() {
+        BsonDocument document = new BsonDocument("a", new BsonInt32(1))
+                .append("b", new BsonDocument("c", new BsonString("d")))
+                .append("e", new BsonArray(asList(new BsonDocument("f", BsonBoolean.TRUE), new BsonInt32(2))));
+        List<BsonDocument> decodedDocuments = new ArrayList<>();
+
+        BsonDocument decoded = new BsonDocumentCodec().withCompactDocuments()
+                .decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+        decodedDocuments.add(decoded);
+        decodedDocuments.add(decoded.getDocument("b"));
+        decodedDocuments.add(decoded.getArray("e").get(0).asDocument());
+
+        assertEquals(document, decoded);
+        for (BsonDocument decodedDocument : decodedDocuments) {
+            assertInstanceOf(CompactBsonDocument.class, decodedDocument);
+        }
+        assertSame(BsonDocument.class, new BsonDocumentCodec()
+                .decode(new BsonDocumentReader(document), DecoderContext.builder().build()).getClass());
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson;
+
+import org.bson.codecs.BsonArrayCodec;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.BsonValueCodecProvider;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.json.JsonReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+
+import static java.util.Arrays.asList;
+import static org.bson.codecs.configuration.CodecRegistries.fromCodecs;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Don't convert to Spock, as Groovy intercepts equals/hashCode methods that we are trying to test
+public class PrimitiveBsonArrayTest {
+
+    @Test
+    public void shouldBehaveLikeBsonArray() {
+        BsonDoubleArray array = new BsonDoubleArray(new double[] {1.0, 2.5});
+        BsonArray expected = new BsonArray(asList(new BsonDouble(1.0), new BsonDouble(2.5)));
+
+        assertEquals(expected, array);
+        assertEquals(array, expected);
+        assertEquals(expected.hashCode(), array.hashCode());
+        assertEquals(expected.toString(), array.toString());
+        assertEquals(new BsonDouble(2.5), array.get(1));
+        assertEquals(1, array.indexOf(new BsonDouble(2.5)));
+        assertEquals(expected, array.clone());
+        assertThrows(IndexOutOfBoundsException.class, () -> array.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.doubleValue(-1));
+    }
+
+    @Test
+    public void shouldProvidePrimitiveAccessors() {
+        BsonDoubleArray doubles = new BsonDoubleArray();
+        BsonInt32Array int32s = new BsonInt32Array();
+        BsonInt64Array int64s = new BsonInt64Array();
+        for (int i = 0; i < 100; i++) {
+            doubles.add(i / 2.0);
+            int32s.add(i);
+            int64s.add(Long.MAX_VALUE - i);
+        }
+
+        assertEquals(100, doubles.size());
+        assertEquals(24.5, doubles.doubleValue(49));
+        assertEquals(2475.0, doubles.doubleStream().sum());
+        assertEquals(99.0 / 2, doubles.toDoubleArray()[99]);
+        assertEquals(new BsonInt32(49), int32s.get(49));
+        assertEquals(4950, int32s.intStream().sum());
+        assertArrayEquals(new int[] {0, 1, 2}, new BsonInt32Array(new int[] {0, 1, 2}).toIntArray());
+        assertEquals(new BsonInt64(Long.MAX_VALUE - 99), int64s.get(99));
+        assertEquals(Long.MAX_VALUE - 1, int64s.longValue(1));
+        assertEquals(Long.MAX_VALUE - 1, int64s.longStream().skip(1).findFirst().getAsLong());
+        assertEquals(100, int64s.toLongArray().length);
+    }
+
+    @Test
+    public void shouldSupportListModifications() {
+        BsonInt32Array array = new BsonInt32Array(new int[] {1, 2, 3});
+
+        array.set(0, new BsonInt32(10));
+        array.add(1, new BsonInt32(20));
+        array.remove(2);
+        Iterator<BsonValue> iterator = array.iterator();
+        iterator.next();
+        iterator.next();
+        iterator.remove();
+        array.add(new BsonInt32(4));
+
+        assertArrayEquals(new int[] {10, 3, 4}, array.toIntArray());
+        array.clear();
+        assertArrayEquals(new int[0], array.toIntArray());
+    }
+
+    @Test
+    public void shouldBoxTheValuesWhenAValueOfAnotherTypeIsAdded() {
+        BsonDoubleArray array = new BsonDoubleArray(new double[] {1.0, 2.0});
+
+        array.add(new BsonString("three"));
+        array.add(4.0);
+
+        assertEquals(new BsonArray(asList(new BsonDouble(1.0), new BsonDouble(2.0), new BsonString("three"), new BsonDouble(4.0))),
+                array);
+        assertEquals(2.0, array.doubleValue(1));
+        assertThrows(BsonInvalidOperationException.class, () -> array.doubleValue(2));
+        assertThrows(BsonInvalidOperationException.class, array::toDoubleArray);
+        assertThrows(BsonInvalidOperationException.class, () -> array.doubleStream().sum());
+
+        array.remove(2);
+        assertArrayEquals(new double[] {1.0, 2.0, 4.0}, array.toDoubleArray());
+        assertEquals(7.0, array.doubleStream().sum());
+        assertEquals(array, array.clone());
+    }
+
+    @Test
+    public void shouldNotStoreSubclassesAsPrimitives() {
+        BsonDouble value = new BsonDouble(1.0) {
+        };
+        BsonDoubleArray array = new BsonDoubleArray();
+
+        array.add(value);
+
+        assertSame(value, array.get(0));
+    }
+
+    @Test
+    public void shouldCloneIndependently() {
+        BsonInt64Array array = new BsonInt64Array(new long[] {1, 2});
+
+        BsonArray clone = array.clone();
+        array.set(0, new BsonInt64(3));
+
+        assertInstanceOf(BsonInt64Array.class, clone);
+        assertNotSame(array, clone);
+        assertArrayEquals(new long[] {1, 2}, ((BsonInt64Array) clone).toLongArray());
+    }
+
+    @Test
+    public void shouldDecodeHomogeneousNumericArraysAsPrimitiveArraysOnRequest() {
+        assertInstanceOf(BsonDoubleArray.class, decode("[1.0, 2.5]"));
+        assertInstanceOf(BsonInt32Array.class, decode("[1, 2]"));
+        assertInstanceOf(BsonInt64Array.class, decode("[NumberLong(1), NumberLong(2)]"));
+        assertSame(BsonArray.class, decode("[]").getClass());
+        assertSame(BsonArray.class, decode("[1, NumberLong(2)]").getClass());
+        assertSame(BsonArray.class, decode("[1.0, 'two']").getClass());
+        assertSame(BsonArray.class, new BsonArrayCodec().decode(new JsonReader("[1.0, 2.5]"), DecoderContext.builder().build())
+                .getClass());
+
+        BsonArray matrix = decode("[[1.0, 2.0], [3.0, 4.0]]");
+        assertEquals(BsonArray.parse("[[1.0, 2.0], [3.0, 4.0]]"), matrix);
+        assertInstanceOf(BsonDoubleArray.class, matrix.get(1));
+        assertEquals(BsonArray.parse("[1, NumberLong(2), {a: 1}]"), decode("[1, NumberLong(2), {a: 1}]"));
+    }
+
+    @Test
+    public void shouldDecodeTheArraysOfDocumentsAsPrimitiveArraysOnRequest() {
+        String json = "{vector: [1.0, 2.0], nested: {counts: [1, 2]}, items: [{ids: [NumberLong(1)]}], mixed: [1, 'two']}";
+        CodecRegistry registry = fromRegistries(fromCodecs(new BsonDocumentCodec().withPrimitiveArrays()),
+                fromProviders(new BsonValueCodecProvider()));
+
+        BsonDocument document = registry.get(BsonDocument.class).decode(new JsonReader(json), DecoderContext.builder().build());
+
+        assertEquals(BsonDocument.parse(json), document);
+        assertInstanceOf(BsonDoubleArray.class, document.get("vector"));
+        assertInstanceOf(BsonInt32Array.class, document.getDocument("nested").get("counts"));
+        assertInstanceOf(BsonInt64Array.class, document.getArray("items").get(0).asDocument().get("ids"));
+        assertSame(BsonArray.class, document.get("mixed").getClass());
+        assertSame(BsonArray.class, new BsonDocumentCodec().decode(new JsonReader(json), DecoderContext.builder().build())
+                .get("vector").getClass());
+
+        BsonDocument compact = new BsonDocumentCodec().withCompactDocuments().withPrimitiveArrays()
+                .decode(new JsonReader(json), DecoderContext.builder().build());
+        assertInstanceOf(CompactBsonDocument.class, compact.get("nested"));
+        assertInstanceOf(BsonInt32Array.class, compact.getDocument("nested").get("counts"));
+    }
+
+    private static BsonArray decode(final String json) {
+        return new BsonArrayCodec().withPrimitiveArrays().decode(new JsonReader(json), DecoderContext.builder().build());
+    }
+}
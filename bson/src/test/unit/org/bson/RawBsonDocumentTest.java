@@ -19,6 +19,7 @@ package org.bson;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.EncoderContext;
 import org.bson.io.BasicOutputBuffer;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.api.Named;
 import org.junit.jupiter.params.provider.Arguments;
@@ -29,6 +30,9 @@ import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RawBsonDocumentTest {
 
@@ -72,6 +76,54 @@ class RawBsonDocumentTest {
                         rawDocument.getByteOffset() + rawDocument.getByteLength()));
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("backingArrayAccessors")
+    void shouldGetSameValuesOnRepeatedLookups(final RawBsonDocument rawDocument) {
+        for (int i = 0; i < 3; i++) {
+            for (String key : DOCUMENT.keySet()) {
+                assertTrue(rawDocument.containsKey(key));
+                assertEquals(DOCUMENT.get(key), rawDocument.get(key));
+            }
+            assertFalse(rawDocument.containsKey("z"));
+            assertNull(rawDocument.get("z"));
+            assertEquals(DOCUMENT.size(), rawDocument.size());
+            assertFalse(rawDocument.isEmpty());
+        }
+        assertEquals(new BsonDocument("x", BsonBoolean.TRUE), rawDocument.getDocument("c"));
+        assertEquals(BsonBoolean.TRUE, rawDocument.getDocument("c").get("x"));
+    }
+
+    @Test
+    void shouldGetFirstOccurrenceOfDuplicateKeyOnRepeatedLookups() {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        try (BsonBinaryWriter writer = new BsonBinaryWriter(buffer)) {
+            writer.writeStartDocument();
+            writer.writeInt32("a", 1);
+            writer.writeInt32("b", 2);
+            writer.writeInt32("a", 3);
+            writer.writeEndDocument();
+        }
+        RawBsonDocument rawDocument = new RawBsonDocument(buffer.toByteArray());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(new BsonInt32(1), rawDocument.get("a"));
+            assertEquals(new BsonInt32(2), rawDocument.get("b"));
+            assertEquals(3, rawDocument.size());
+        }
+    }
+
+    @Test
+    void shouldLookUpEmptyDocumentRepeatedly() {
+        RawBsonDocument rawDocument = new RawBsonDocument(new byte[] {5, 0, 0, 0, 0});
+
+        for (int i = 0; i < 3; i++) {
+            assertNull(rawDocument.get("a"));
+            assertFalse(rawDocument.containsKey("a"));
+            assertEquals(0, rawDocument.size());
+            assertTrue(rawDocument.isEmpty());
+        }
+    }
+
     private static Named<RawBsonDocument> createFromDocument() {
         return Named.of("from document", new RawBsonDocument(DOCUMENT, new BsonDocumentCodec()));
     }
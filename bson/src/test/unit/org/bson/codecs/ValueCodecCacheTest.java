@@ -0,0 +1,66 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.codecs;
+
+import org.bson.Document;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ValueCodecCacheTest {
+    private final CodecRegistry codecRegistry = fromProviders(asList(new ValueCodecProvider(), new DocumentCodecProvider()));
+
+    @Test
+    public void shouldReturnTheCodecsOfTheRegistry() {
+        ValueCodecCache cache = new ValueCodecCache(codecRegistry);
+
+        for (Class<?> clazz : asList(String.class, Integer.class, ObjectId.class, Document.class, String.class, Integer.class)) {
+            assertSame(codecRegistry.get(clazz), cache.get(clazz));
+        }
+    }
+
+    @Test
+    public void shouldLookUpEachClassInTheRegistryOnlyOnce() {
+        List<Class<?>> lookups = new ArrayList<>();
+        ValueCodecCache cache = new ValueCodecCache(new CodecRegistry() {
+            @Override
+            public <T> Codec<T> get(final Class<T> clazz) {
+                lookups.add(clazz);
+                return codecRegistry.get(clazz);
+            }
+
+            @Override
+            public <T> Codec<T> get(final Class<T> clazz, final CodecRegistry registry) {
+                return codecRegistry.get(clazz, registry);
+            }
+        });
+
+        for (int i = 0; i < 3; i++) {
+            cache.get(String.class);
+        }
+
+        assertEquals(asList(String.class), lookups);
+    }
+}
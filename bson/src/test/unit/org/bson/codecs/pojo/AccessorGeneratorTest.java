@@ -0,0 +1,104 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo;
+
+import org.bson.codecs.pojo.entities.PrimitivesModel;
+import org.bson.codecs.pojo.entities.SimpleModel;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public final class AccessorGeneratorTest {
+
+    @Test
+    public void testGetterAndSetterMethods() throws Throwable {
+        AccessorGenerator.Getter getter = AccessorGenerator.getter(SimpleModel.class.getMethod("getStringField"));
+        AccessorGenerator.Setter setter = AccessorGenerator.setter(SimpleModel.class.getMethod("setStringField", String.class));
+        SimpleModel model = new SimpleModel(1, "a");
+
+        setter.set(model, "b");
+
+        assertEquals("b", getter.get(model));
+        assertThrows(ClassCastException.class, () -> setter.set(model, 1));
+    }
+
+    @Test
+    public void testPrimitiveGetterAndSetterMethods() throws Throwable {
+        AccessorGenerator.Getter getter = AccessorGenerator.getter(PrimitivesModel.class.getMethod("getMyInteger"));
+        AccessorGenerator.Setter setter = AccessorGenerator.setter(PrimitivesModel.class.getMethod("setMyInteger", int.class));
+        PrimitivesModel model = new PrimitivesModel();
+
+        setter.set(model, 42);
+
+        assertEquals(42, getter.get(model));
+    }
+
+    @Test
+    public void testPrivateField() throws Throwable {
+        Field field = SimpleModel.class.getDeclaredField("integerField");
+        assertNull(AccessorGenerator.getter(field));
+        assertNull(AccessorGenerator.setter(field));
+
+        field.setAccessible(true);
+        AccessorGenerator.Getter getter = AccessorGenerator.getter(field);
+        AccessorGenerator.Setter setter = AccessorGenerator.setter(field);
+        SimpleModel model = new SimpleModel(1, "a");
+
+        setter.set(model, 2);
+
+        assertEquals(2, getter.get(model));
+    }
+
+    @Test
+    public void testMethodsOfNonPublicClass() throws Throwable {
+        AccessorGenerator.Getter getter = AccessorGenerator.getter(PackagePrivateModel.class.getMethod("getValue"));
+        AccessorGenerator.Setter setter = AccessorGenerator.setter(PackagePrivateModel.class.getMethod("setValue", String.class));
+        PackagePrivateModel model = new PackagePrivateModel();
+
+        setter.set(model, "a");
+
+        assertEquals("a", getter.get(model));
+    }
+
+    @Test
+    public void testCreator() throws Throwable {
+        AccessorGenerator.Creator creator = AccessorGenerator.creator(SimpleModel.class.getConstructor(Integer.class, String.class));
+        assertNotNull(creator);
+
+        assertEquals(new SimpleModel(1, "a"), creator.create(new Object[] {1, "a"}));
+        assertEquals(new SimpleModel(), AccessorGenerator.creator(SimpleModel.class.getConstructor()).create(new Object[0]));
+        assertThrows(IllegalArgumentException.class, () -> creator.create(new Object[] {1}));
+    }
+
+    static final class PackagePrivateModel {
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(final String value) {
+            this.value = value;
+        }
+    }
+}
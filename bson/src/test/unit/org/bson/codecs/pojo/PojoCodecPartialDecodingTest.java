@@ -0,0 +1,114 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.pojo.entities.ShapeHolderModel;
+import org.bson.codecs.pojo.entities.ShapeModelAbstract;
+import org.bson.codecs.pojo.entities.ShapeModelCircle;
+import org.bson.codecs.pojo.entities.ShapeModelRectangle;
+import org.bson.codecs.pojo.entities.SimpleModel;
+import org.bson.codecs.pojo.entities.SimpleNestedPojoModel;
+import org.bson.codecs.pojo.entities.conventions.CreatorConstructorLegacyBsonPropertyPrimitiveModel;
+import org.bson.codecs.pojo.entities.conventions.CreatorConstructorPrimitiveAndSetterModel;
+import org.bson.codecs.pojo.entities.conventions.CreatorConstructorPrimitivesModel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public final class PojoCodecPartialDecodingTest extends PojoTestCase {
+    private static final String NESTED_JSON = "{'simple': {'integerField': 42, 'stringField': 'myString'}, 'extra': {'a': [1, 2, 3]}}";
+
+    @Test
+    public void testDecodeAllWhenNoPathsAreRequired() {
+        assertEquals(new SimpleNestedPojoModel(new SimpleModel(42, "myString")),
+                decode(getCodec(getPojoCodecProviderBuilder(SimpleNestedPojoModel.class, SimpleModel.class), SimpleNestedPojoModel.class),
+                        NESTED_JSON, DecoderContext.builder().requiredPaths(Collections.emptyList()).build()));
+    }
+
+    @Test
+    public void testDecodeOnlyRequiredNestedProperty() {
+        Codec<SimpleNestedPojoModel> codec = getCodec(getPojoCodecProviderBuilder(SimpleNestedPojoModel.class, SimpleModel.class),
+                SimpleNestedPojoModel.class);
+
+        assertEquals(new SimpleNestedPojoModel(new SimpleModel(null, "myString")),
+                decode(codec, NESTED_JSON, DecoderContext.builder().requiredPaths(asList("simple.stringField", "missing")).build()));
+        assertEquals(new SimpleNestedPojoModel(new SimpleModel(42, "myString")),
+                decode(codec, NESTED_JSON, DecoderContext.builder().requiredPaths(asList("simple.stringField", "simple")).build()));
+        assertEquals(new SimpleNestedPojoModel(),
+                decode(codec, NESTED_JSON, DecoderContext.builder().requiredPaths(asList("extra", "simpleField")).build()));
+    }
+
+    @Test
+    public void testDecodeOnlyRequiredPropertyOfDiscriminatedSubclass() {
+        Codec<ShapeHolderModel> codec = getCodec(getPojoCodecProviderBuilder(ShapeModelAbstract.class, ShapeModelCircle.class,
+                ShapeModelRectangle.class, ShapeHolderModel.class), ShapeHolderModel.class);
+        String json = "{'shape': {'_t': 'org.bson.codecs.pojo.entities.ShapeModelCircle', 'color': 'orange', 'radius': 4.2}}";
+
+        assertEquals(new ShapeHolderModel(new ShapeModelCircle(null, 4.2)),
+                decode(codec, json, DecoderContext.builder().requiredPaths(asList("shape.radius")).build()));
+    }
+
+    @Test
+    public void testDefaultSkippedPrimitiveCreatorParameters() {
+        Codec<CreatorConstructorPrimitivesModel> codec = getCodec(getPojoCodecProviderBuilder(CreatorConstructorPrimitivesModel.class),
+                CreatorConstructorPrimitivesModel.class);
+
+        assertEquals(new CreatorConstructorPrimitivesModel(0, "myString", 0L),
+                decode(codec, "{'intField': 10, 'stringField': 'myString', 'longField': {'$numberLong': '42'}}",
+                        DecoderContext.builder().requiredPaths(asList("stringField")).build()));
+        assertEquals(new CreatorConstructorPrimitivesModel(10, null, 0L),
+                decode(codec, "{'intField': 10, 'stringField': 'myString', 'longField': {'$numberLong': '42'}}",
+                        DecoderContext.builder().requiredPaths(asList("intField")).build()));
+    }
+
+    @Test
+    public void testSetDecodedPropertiesWhenAllCreatorParametersAreSkippedPrimitives() {
+        Codec<CreatorConstructorPrimitiveAndSetterModel> codec = getCodec(
+                getPojoCodecProviderBuilder(CreatorConstructorPrimitiveAndSetterModel.class),
+                CreatorConstructorPrimitiveAndSetterModel.class);
+
+        assertEquals(new CreatorConstructorPrimitiveAndSetterModel(0, "myString"),
+                decode(codec, "{'intField': 10, 'stringField': 'myString'}",
+                        DecoderContext.builder().requiredPaths(asList("stringField")).build()));
+    }
+
+    @Test
+    public void testDecodeRequiredPrimitiveCreatorParameterWithLegacyBsonProperty() {
+        Codec<CreatorConstructorLegacyBsonPropertyPrimitiveModel> codec = getCodec(
+                getPojoCodecProviderBuilder(CreatorConstructorLegacyBsonPropertyPrimitiveModel.class),
+                CreatorConstructorLegacyBsonPropertyPrimitiveModel.class);
+
+        assertEquals(new CreatorConstructorLegacyBsonPropertyPrimitiveModel(10, null),
+                decode(codec, "{'intField': 10, 'stringField': 'myString'}",
+                        DecoderContext.builder().requiredPaths(asList("intField")).build()));
+        assertEquals(new CreatorConstructorLegacyBsonPropertyPrimitiveModel(0, "myString"),
+                decode(codec, "{'intField': 10, 'stringField': 'myString'}",
+                        DecoderContext.builder().requiredPaths(asList("stringField")).build()));
+    }
+
+    private static <T> T decode(final Codec<T> codec, final String json, final DecoderContext decoderContext) {
+        return codec.decode(new BsonDocumentReader(BsonDocument.parse(json)), decoderContext);
+    }
+}
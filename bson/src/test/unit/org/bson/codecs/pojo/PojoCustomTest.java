@@ -16,7 +16,13 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentWriter;
+import org.bson.BsonInt32;
 import org.bson.BsonReader;
+import org.bson.BsonSerializationException;
+import org.bson.BsonString;
 import org.bson.BsonWriter;
 import org.bson.Document;
 import org.bson.codecs.BsonValueCodecProvider;
@@ -87,6 +93,7 @@ import org.bson.codecs.pojo.entities.conventions.MapGetterImmutableModel;
 import org.bson.codecs.pojo.entities.conventions.MapGetterMutableModel;
 import org.bson.codecs.pojo.entities.conventions.MapGetterNonEmptyModel;
 import org.bson.codecs.pojo.entities.conventions.MapGetterNullModel;
+import org.bson.io.BasicOutputBuffer;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 
@@ -105,6 +112,7 @@ import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 import static org.bson.codecs.pojo.Conventions.CLASS_AND_PROPERTY_CONVENTION;
 import static org.bson.codecs.pojo.Conventions.DEFAULT_CONVENTIONS;
+import static org.bson.codecs.pojo.Conventions.GENERATED_ACCESSORS_CONVENTION;
 import static org.bson.codecs.pojo.Conventions.NO_CONVENTIONS;
 import static org.bson.codecs.pojo.Conventions.SET_PRIVATE_FIELDS_CONVENTION;
 import static org.bson.codecs.pojo.Conventions.USE_GETTERS_FOR_SETTERS;
@@ -124,6 +132,21 @@ public final class PojoCustomTest extends PojoTestCase {
                 + "'stringField': 'myString'}");
     }
 
+    @Test
+    public void testPropertyNameWithNullCharacterIsWrittenAsString() {
+        ClassModelBuilder<SimpleModel> classModelBuilder = ClassModel.builder(SimpleModel.class);
+        classModelBuilder.getProperty("stringField").readName("string\0Field");
+        Codec<SimpleModel> codec = getCodecRegistry(getPojoCodecProviderBuilder(classModelBuilder)).get(SimpleModel.class);
+
+        // the name is not pre-encoded, so building the codec succeeds, and each writer handles the name as it does any other
+        BsonDocument document = new BsonDocument();
+        codec.encode(new BsonDocumentWriter(document), getSimpleModel(), EncoderContext.builder().build());
+        assertEquals(new BsonDocument("integerField", new BsonInt32(42)).append("string\0Field", new BsonString("myString")), document);
+
+        assertThrows(BsonSerializationException.class, () ->
+                codec.encode(new BsonBinaryWriter(new BasicOutputBuffer()), getSimpleModel(), EncoderContext.builder().build()));
+    }
+
     @Test
     public void testPackageDiscriminator() {
         AnnotationModel model = new AnnotationModel("myId", new AnnotationModel("child", null, null),
@@ -266,6 +289,26 @@ public final class PojoCustomTest extends PojoTestCase {
                 "{'someMethod': 'some method', 'integerField': 1, 'stringField': '2', listField: ['a', 'b']}");
     }
 
+    @Test
+    public void testGeneratedAccessorsConvention() {
+        PojoCodecProvider.Builder builder = getPojoCodecProviderBuilder(PrivateSetterFieldModel.class);
+        ArrayList<Convention> conventions = new ArrayList<>(DEFAULT_CONVENTIONS);
+        conventions.add(SET_PRIVATE_FIELDS_CONVENTION);
+        conventions.add(GENERATED_ACCESSORS_CONVENTION);
+        builder.conventions(conventions);
+
+        roundTrip(builder, new PrivateSetterFieldModel(1, "2", asList("a", "b")),
+                "{'someMethod': 'some method', 'integerField': 1, 'stringField': '2', listField: ['a', 'b']}");
+
+        List<Convention> useGettersConventions = getDefaultAndUseGettersConvention();
+        useGettersConventions.add(GENERATED_ACCESSORS_CONVENTION);
+        builder = getPojoCodecProviderBuilder(CollectionsGetterMutableModel.class, MapGetterMutableModel.class)
+                .conventions(useGettersConventions);
+
+        roundTrip(builder, new CollectionsGetterMutableModel(asList(1, 2)), "{listField: [1, 2]}");
+        roundTrip(builder, new MapGetterMutableModel(Collections.singletonMap("a", 3)), "{mapField: {a: 3}}");
+    }
+
     @Test
     public void testUseGettersForSettersConvention() {
         PojoCodecProvider.Builder builder = getPojoCodecProviderBuilder(CollectionsGetterMutableModel.class, MapGetterMutableModel.class)
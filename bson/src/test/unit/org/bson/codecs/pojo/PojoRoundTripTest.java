@@ -562,11 +562,16 @@ public final class PojoRoundTripTest extends PojoTestCase {
             data.add(Arguments.of(format("%s", testData.getName()), testData.getModel(), testData.getJson(), testData.getBuilder()));
             data.add(Arguments.of(format("%s [Auto]", testData.getName()), testData.getModel(), testData.getJson(), AUTOMATIC_BUILDER));
             data.add(Arguments.of(format("%s [Package]", testData.getName()), testData.getModel(), testData.getJson(), PACKAGE_BUILDER));
+            data.add(Arguments.of(format("%s [Generated]", testData.getName()), testData.getModel(), testData.getJson(),
+                    GENERATED_ACCESSORS_BUILDER));
         }
         return data.stream();
     }
 
     private static final PojoCodecProvider.Builder AUTOMATIC_BUILDER = PojoCodecProvider.builder().automatic(true);
+    private static final PojoCodecProvider.Builder GENERATED_ACCESSORS_BUILDER = PojoCodecProvider.builder().automatic(true)
+            .conventions(asList(Conventions.CLASS_AND_PROPERTY_CONVENTION, Conventions.ANNOTATION_CONVENTION,
+                    Conventions.OBJECT_ID_GENERATORS, Conventions.GENERATED_ACCESSORS_CONVENTION));
     private static final PojoCodecProvider.Builder PACKAGE_BUILDER = PojoCodecProvider.builder().register("org.bson.codecs.pojo.entities",
             "org.bson.codecs.pojo.entities.conventions");
 
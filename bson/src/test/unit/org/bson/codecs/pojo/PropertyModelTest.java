@@ -16,6 +16,7 @@
 
 package org.bson.codecs.pojo;
 
+import org.bson.BsonName;
 import org.bson.codecs.IntegerCodec;
 import org.bson.codecs.pojo.annotations.BsonProperty;
 import org.junit.jupiter.api.Test;
@@ -75,6 +76,17 @@ public final class PropertyModelTest {
         assertFalse(propertyModel.useDiscriminator());
     }
 
+    @Test
+    public void testEncodedReadName() {
+        PropertyModel<Integer> propertyModel = createPropertyModelBuilder(PROPERTY_METADATA)
+                .readName("altDocumentFieldName")
+                .build();
+        assertEquals(BsonName.of("altDocumentFieldName"), propertyModel.getEncodedReadName());
+
+        assertNull(createPropertyModelBuilder(PROPERTY_METADATA).readName("alt\0DocumentFieldName").build().getEncodedReadName());
+        assertNull(createPropertyModelBuilder(PROPERTY_METADATA).readName(null).build().getEncodedReadName());
+    }
+
     private static final List<Annotation> ANNOTATIONS = Collections.singletonList(
             new BsonProperty() {
                 @Override
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.bson.codecs.pojo.entities.conventions;
+
+import org.bson.codecs.pojo.annotations.BsonCreator;
+import org.bson.codecs.pojo.annotations.BsonProperty;
+
+import java.util.Objects;
+
+public final class CreatorConstructorLegacyBsonPropertyPrimitiveModel {
+    @BsonProperty("intField")
+    private final int myIntField;
+    private String stringField;
+
+    // Here we use the @BsonProperty using the actual field name, that has been set to read and write to "intField"
+    @BsonCreator
+    public CreatorConstructorLegacyBsonPropertyPrimitiveModel(@BsonProperty("myIntField") final int intField) {
+        this.myIntField = intField;
+    }
+
+    public CreatorConstructorLegacyBsonPropertyPrimitiveModel(final int intField, final String stringField) {
+        this.myIntField = intField;
+        this.stringField = stringField;
+    }
+
+    public int getMyIntField() {
+        return myIntField;
+    }
+
+    public String getStringField() {
+        return stringField;
+    }
+
+    public void setStringField(final String stringField) {
+        this.stringField = stringField;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CreatorConstructorLegacyBsonPropertyPrimitiveModel that = (CreatorConstructorLegacyBsonPropertyPrimitiveModel) o;
+        return myIntField == that.myIntField && Objects.equals(stringField, that.stringField);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(myIntField, stringField);
+    }
+
+    @Override
+    public String toString() {
+        return "CreatorConstructorLegacyBsonPropertyPrimitiveModel{"
+                + "myIntField=" + myIntField
+                + ", stringField='" + stringField + "'"
+                + "}";
+    }
+}
@@ -61,4 +61,16 @@ class CodecCacheSpecification extends Specification {
         then:
         !cache.get(cacheKey).isPresent()
     }
+
+    def 'should return the cached codec by class only if a codec for the class without type arguments exists'() {
+        when:
+        def codec = new MinKeyCodec()
+        def cache = new CodecCache()
+        cache.putIfAbsent(new CodecCache.CodecCacheKey(MinKey, null), codec)
+        cache.putIfAbsent(new CodecCache.CodecCacheKey(List, [Integer]), codec)
+
+        then:
+        cache.get(MinKey).is(codec)
+        cache.get(List) == null
+    }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bson.io;
+
+import org.bson.ByteBufNIO;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FieldNameCacheTest {
+
+    @Test
+    void shouldReturnTheCachedNameForTheSameBytes() {
+        FieldNameCache fieldNameCache = new FieldNameCache();
+
+        String first = readCString("tenantId", fieldNameCache);
+        String second = readCString("tenantId", fieldNameCache);
+
+        assertEquals("tenantId", first);
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldAdvanceThePositionPastTheNullTerminator() {
+        FieldNameCache fieldNameCache = new FieldNameCache();
+        byte[] bytes = cStrings("_id", "_id", "createdAt");
+
+        try (ByteBufferBsonInput bsonInput = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(bytes)))) {
+            assertEquals("_id", bsonInput.readCString(fieldNameCache));
+            assertEquals("_id", bsonInput.readCString(fieldNameCache));
+            assertEquals("createdAt", bsonInput.readCString(fieldNameCache));
+            assertEquals(bytes.length, bsonInput.getPosition());
+        }
+    }
+
+    @Test
+    void shouldDecodeMultiByteNames() {
+        FieldNameCache fieldNameCache = new FieldNameCache();
+
+        assertEquals("\u00e9t\u00e9", readCString("\u00e9t\u00e9", fieldNameCache));
+        assertEquals("\u00e9t\u00e9", readCString("\u00e9t\u00e9", fieldNameCache));
+    }
+
+    @Test
+    void shouldReplaceNamesThatShareASlot() {
+        FieldNameCache fieldNameCache = new FieldNameCache(1);
+
+        String first = readCString("name", fieldNameCache);
+        assertEquals("other", readCString("other", fieldNameCache));
+        String second = readCString("name", fieldNameCache);
+
+        assertEquals("name", second);
+        assertNotSame(first, second);
+        assertSame(second, readCString("name", fieldNameCache));
+    }
+
+    @Test
+    void shouldNotCacheLongNames() {
+        FieldNameCache fieldNameCache = new FieldNameCache();
+        char[] chars = new char[FieldNameCache.MAX_NAME_LENGTH + 1];
+        Arrays.fill(chars, 'x');
+        String longName = new String(chars);
+
+        String first = readCString(longName, fieldNameCache);
+        String second = readCString(longName, fieldNameCache);
+
+        assertEquals(longName, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    void shouldValidateTheCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new FieldNameCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new FieldNameCache((1 << 16) + 1));
+    }
+
+    private static String readCString(final String name, final FieldNameCache fieldNameCache) {
+        try (ByteBufferBsonInput bsonInput = new ByteBufferBsonInput(new ByteBufNIO(ByteBuffer.wrap(cStrings(name))))) {
+            return bsonInput.readCString(fieldNameCache);
+        }
+    }
+
+    private static byte[] cStrings(final String... names) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer();
+        for (String name : names) {
+            buffer.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+            buffer.writeByte(0);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -83,6 +83,10 @@ public class BenchmarkSuite {
                 DOCUMENT_CLASS, ID_REMOVER));
 
         runBenchmark(new FindManyBenchmark<Document>("single_and_multi_document/tweet.json", BenchmarkSuite.DOCUMENT_CLASS));
+        runBenchmark(new FindManyBenchmark<Document>("Find many with getMore batches of 100 and empty the cursor",
+                "single_and_multi_document/tweet.json", BenchmarkSuite.DOCUMENT_CLASS, 100, false));
+        runBenchmark(new FindManyBenchmark<Document>("Find many with exhaust batches of 100 and empty the cursor",
+                "single_and_multi_document/tweet.json", BenchmarkSuite.DOCUMENT_CLASS, 100, true));
         runBenchmark(new InsertManyBenchmark<Document>("Small", "./single_and_multi_document/small_doc.json", 10_000,
                 DOCUMENT_CLASS));
         runBenchmark(new InsertManyBenchmark<Document>("Large", "./single_and_multi_document/large_doc.json", 10,
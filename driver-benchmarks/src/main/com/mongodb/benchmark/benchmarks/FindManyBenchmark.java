@@ -17,16 +17,32 @@
 
 package com.mongodb.benchmark.benchmarks;
 
+import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
 
 public class FindManyBenchmark<T> extends AbstractFindBenchmark<T> {
+    private final int batchSize;
+    private final boolean exhaust;
+
     public FindManyBenchmark(final String resourcePath, final Class<T> clazz) {
-        super("Find many and empty the cursor", resourcePath, clazz);
+        this("Find many and empty the cursor", resourcePath, clazz, 0, false);
+    }
+
+    /**
+     * @param batchSize the batch size, or 0 to use the server default
+     * @param exhaust whether to let the server stream the batches back-to-back instead of requesting each of them with a getMore
+     */
+    public FindManyBenchmark(final String name, final String resourcePath, final Class<T> clazz, final int batchSize,
+            final boolean exhaust) {
+        super(name, resourcePath, clazz);
+        this.batchSize = batchSize;
+        this.exhaust = exhaust;
     }
 
     @Override
     public void run() {
-        try (MongoCursor<T> cursor = collection.find().iterator()) {
+        FindIterable<T> findIterable = collection.find().batchSize(batchSize).exhaust(exhaust);
+        try (MongoCursor<T> cursor = findIterable.iterator()) {
             while (cursor.hasNext()) {
                 cursor.next();
             }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonValue;
+import org.bson.CompactBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DecoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.benchmark.jmh.codec.BsonUtils.getDocumentAsBuffer;
+
+/**
+ * Compares {@link CompactBsonDocument} with {@link BsonDocument} for documents of various sizes.
+ *
+ * <p>The values are allocated up front, so that when run with {@code -prof gc} the {@code gc.alloc.rate.norm} of the {@code put}
+ * benchmark is the heap footprint of a document of the given size, including the garbage left behind by growing it.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(3)
+public class CompactBsonDocumentBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"BsonDocument", "CompactBsonDocument"})
+        protected String implementation;
+        @Param({"4", "8", "16", "64"})
+        protected int size;
+        protected String[] keys;
+        protected BsonValue[] values;
+        protected BsonDocument document;
+        protected BsonDocumentCodec bsonDocumentCodec;
+        protected byte[] documentBytes;
+
+        @Setup
+        public void setup() throws IOException {
+            keys = new String[size];
+            values = new BsonValue[size];
+            for (int i = 0; i < size; i++) {
+                // copy the keys, so that lookups compare the characters rather than only the references
+                keys[i] = new String(("field" + i).toCharArray());
+                values[i] = new BsonInt32(i);
+            }
+            document = createDocument();
+            for (int i = 0; i < size; i++) {
+                document.put("field" + i, values[i]);
+            }
+            bsonDocumentCodec = implementation.equals("CompactBsonDocument")
+                    ? new BsonDocumentCodec().withCompactDocuments() : new BsonDocumentCodec();
+            documentBytes = getDocumentAsBuffer(document);
+        }
+
+        BsonDocument createDocument() {
+            return implementation.equals("CompactBsonDocument") ? new CompactBsonDocument() : new BsonDocument();
+        }
+    }
+
+    @Benchmark
+    public void get(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        for (String key : input.keys) {
+            blackhole.consume(input.document.get(key));
+        }
+    }
+
+    @Benchmark
+    public void getMissing(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.document.get("missing"));
+    }
+
+    @Benchmark
+    public BsonDocument put(@NonNull final Input input) {
+        BsonDocument document = input.createDocument();
+        for (int i = 0; i < input.size; i++) {
+            document.put(input.keys[i], input.values[i]);
+        }
+        return document;
+    }
+
+    @Benchmark
+    public BsonDocument decode(@NonNull final Input input) {
+        return input.bsonDocumentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(input.documentBytes)), DecoderContext.builder().build());
+    }
+}
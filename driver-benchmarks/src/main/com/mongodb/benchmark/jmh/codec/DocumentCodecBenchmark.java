@@ -0,0 +1,101 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes and decodes a {@link Document} of mixed value types with the codec from the default codec registry, which looks up the
+ * codec of every value it encodes by the class of the value.
+ *
+ * <p>Run with {@code -prof gc} to report the bytes allocated per operation.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+public class DocumentCodecBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        private Codec<Document> codec;
+        private Document document;
+        private byte[] documentBytes;
+
+        @Setup
+        public void setup() {
+            codec = MongoClientSettings.getDefaultCodecRegistry().get(Document.class);
+
+            document = new Document("_id", new ObjectId());
+            for (int i = 0; i < 20; i++) {
+                List<Object> values = new ArrayList<>();
+                values.add(i);
+                values.add("value " + i);
+                document.append("field" + i, new Document("int", i)
+                        .append("long", (long) i)
+                        .append("double", i / 2.0)
+                        .append("string", "value " + i)
+                        .append("boolean", i % 2 == 0)
+                        .append("date", new Date(i))
+                        .append("array", values));
+            }
+
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            codec.encode(new BsonBinaryWriter(buffer), document, EncoderContext.builder().build());
+            documentBytes = buffer.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public void encode(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(input.documentBytes.length);
+        input.codec.encode(new BsonBinaryWriter(buffer), input.document, EncoderContext.builder().build());
+        blackhole.consume(buffer);
+    }
+
+    @Benchmark
+    public void decode(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.codec.decode(new BsonBinaryReader(ByteBuffer.wrap(input.documentBytes)), DecoderContext.builder().build()));
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.codecs.pojo.Convention;
+import org.bson.codecs.pojo.Conventions;
+import org.bson.codecs.pojo.PojoCodecProvider;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
+import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
+import static org.bson.codecs.pojo.Conventions.DEFAULT_CONVENTIONS;
+
+/**
+ * Compares encoding and decoding a POJO with reflective property accessors, the default, and with accessors generated by
+ * {@link Conventions#GENERATED_ACCESSORS_CONVENTION}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+public class PojoCodecBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"reflection", "generated"})
+        private String accessorStrategy;
+
+        private Codec<Person> codec;
+        private Person person;
+        private byte[] personBytes;
+
+        @Setup
+        public void setup() {
+            List<Convention> conventions = new ArrayList<>(DEFAULT_CONVENTIONS);
+            if (accessorStrategy.equals("generated")) {
+                conventions.add(Conventions.GENERATED_ACCESSORS_CONVENTION);
+            }
+            CodecRegistry codecRegistry = fromRegistries(MongoClientSettings.getDefaultCodecRegistry(),
+                    fromProviders(PojoCodecProvider.builder().register(Person.class, Address.class).conventions(conventions).build()));
+            codec = codecRegistry.get(Person.class);
+
+            person = new Person();
+            person.setFirstName("Ada");
+            person.setLastName("Lovelace");
+            person.setAge(36);
+            person.setHeight(1.65);
+            person.setActive(true);
+            person.setScore(123456789L);
+            person.setEmail("ada@example.com");
+            person.setTags(Arrays.asList("math", "engines", "poetry"));
+            Address address = new Address();
+            address.setStreet("12 St James's Square");
+            address.setCity("London");
+            address.setZip(10001);
+            person.setAddress(address);
+
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            codec.encode(new BsonBinaryWriter(buffer), person, EncoderContext.builder().build());
+            personBytes = buffer.toByteArray();
+        }
+    }
+
+    @Benchmark
+    public void encode(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        BasicOutputBuffer buffer = new BasicOutputBuffer(512);
+        input.codec.encode(new BsonBinaryWriter(buffer), input.person, EncoderContext.builder().build());
+        blackhole.consume(buffer);
+    }
+
+    @Benchmark
+    public void decode(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.codec.decode(new BsonBinaryReader(ByteBuffer.wrap(input.personBytes)), DecoderContext.builder().build()));
+    }
+
+    public static final class Person {
+        private String firstName;
+        private String lastName;
+        private int age;
+        private double height;
+        private boolean active;
+        private long score;
+        private String email;
+        private List<String> tags;
+        private Address address;
+
+        public String getFirstName() {
+            return firstName;
+        }
+
+        public void setFirstName(final String firstName) {
+            this.firstName = firstName;
+        }
+
+        public String getLastName() {
+            return lastName;
+        }
+
+        public void setLastName(final String lastName) {
+            this.lastName = lastName;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(final int age) {
+            this.age = age;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        public void setHeight(final double height) {
+            this.height = height;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(final boolean active) {
+            this.active = active;
+        }
+
+        public long getScore() {
+            return score;
+        }
+
+        public void setScore(final long score) {
+            this.score = score;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(final String email) {
+            this.email = email;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(final List<String> tags) {
+            this.tags = tags;
+        }
+
+        public Address getAddress() {
+            return address;
+        }
+
+        public void setAddress(final Address address) {
+            this.address = address;
+        }
+    }
+
+    public static final class Address {
+        private String street;
+        private String city;
+        private int zip;
+
+        public String getStreet() {
+            return street;
+        }
+
+        public void setStreet(final String street) {
+            this.street = street;
+        }
+
+        public String getCity() {
+            return city;
+        }
+
+        public void setCity(final String city) {
+            this.city = city;
+        }
+
+        public int getZip() {
+            return zip;
+        }
+
+        public void setZip(final int zip) {
+            this.zip = zip;
+        }
+    }
+}
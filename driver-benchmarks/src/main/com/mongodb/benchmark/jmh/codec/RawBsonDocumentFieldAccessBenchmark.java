@@ -0,0 +1,100 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.benchmark.jmh.codec;
+
+import com.mongodb.lang.NonNull;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures keyed field access on a {@link RawBsonDocument}, both on a document that is looked up repeatedly, which uses the lazily
+ * built field index, and on a fresh document per lookup, which scans the encoded bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(3)
+public class RawBsonDocumentFieldAccessBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        @Param({"10", "250"})
+        private int fieldCount;
+
+        private byte[] documentBytes;
+        private RawBsonDocument document;
+        private String[] keys;
+        private String lastKey;
+
+        @Setup
+        public void setup() {
+            BsonDocument bsonDocument = new BsonDocument();
+            keys = new String[fieldCount];
+            for (int i = 0; i < fieldCount; i++) {
+                keys[i] = "field" + i;
+                bsonDocument.append(keys[i], i % 2 == 0 ? new BsonInt32(i) : new BsonString("value" + i));
+            }
+            lastKey = keys[fieldCount - 1];
+            document = new RawBsonDocument(bsonDocument, new BsonDocumentCodec());
+            documentBytes = document.getBackingArray();
+            document.get(lastKey);
+            document.get(lastKey);
+        }
+    }
+
+    @Benchmark
+    public void getLastField(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.document.get(input.lastKey));
+    }
+
+    @Benchmark
+    public void containsMissingKey(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(input.document.containsKey("missing"));
+    }
+
+    @Benchmark
+    public void getLastFieldOfFreshDocument(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        blackhole.consume(new RawBsonDocument(input.documentBytes, 0, input.document.getByteLength()).get(input.lastKey));
+    }
+
+    @Benchmark
+    public void getEveryFieldOfFreshDocument(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        RawBsonDocument document = new RawBsonDocument(input.documentBytes, 0, input.document.getByteLength());
+        for (String key : input.keys) {
+            blackhole.consume(document.get(key));
+        }
+    }
+}
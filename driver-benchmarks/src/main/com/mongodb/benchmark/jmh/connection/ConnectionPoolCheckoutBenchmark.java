@@ -0,0 +1,120 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.benchmark.jmh.connection;
+
+import com.mongodb.internal.connection.ConcurrentPool;
+import com.mongodb.lang.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the latency of checking an item out of the connection pool and back in, at increasing numbers of threads.
+ *
+ * <p>The sample-time mode reports the latency distribution, including the p50, p99 and p99.99 percentiles.  With a {@code maxSize}
+ * of 500 checkouts never wait, so only the fast path is measured.  With a {@code maxSize} of 16, threads beyond 16 have to wait for
+ * a checkin.</p>
+ */
+@BenchmarkMode(Mode.SampleTime)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class ConnectionPoolCheckoutBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"16", "500"})
+        private int maxSize;
+
+        private ConcurrentPool<Object> pool;
+
+        @Setup
+        public void setup() {
+            pool = new ConcurrentPool<>(maxSize, new ConcurrentPool.ItemFactory<Object>() {
+                @Override
+                public Object create() {
+                    return new Object();
+                }
+
+                @Override
+                public void close(final Object o) {
+                }
+
+                @Override
+                public boolean shouldPrune(final Object o) {
+                    return false;
+                }
+            });
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.close();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void checkoutAndCheckin1Thread(@NonNull final Pool pool, @NonNull final Blackhole blackhole) {
+        checkoutAndCheckin(pool, blackhole);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void checkoutAndCheckin4Threads(@NonNull final Pool pool, @NonNull final Blackhole blackhole) {
+        checkoutAndCheckin(pool, blackhole);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void checkoutAndCheckin16Threads(@NonNull final Pool pool, @NonNull final Blackhole blackhole) {
+        checkoutAndCheckin(pool, blackhole);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void checkoutAndCheckin64Threads(@NonNull final Pool pool, @NonNull final Blackhole blackhole) {
+        checkoutAndCheckin(pool, blackhole);
+    }
+
+    @Benchmark
+    @Threads(256)
+    public void checkoutAndCheckin256Threads(@NonNull final Pool pool, @NonNull final Blackhole blackhole) {
+        checkoutAndCheckin(pool, blackhole);
+    }
+
+    private static void checkoutAndCheckin(final Pool pool, final Blackhole blackhole) {
+        Object item = pool.pool.get();
+        blackhole.consume(item);
+        pool.pool.release(item);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.benchmark.jmh.connection;
+
+import com.mongodb.internal.connection.ConcurrentPool;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.NonNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measures how long it takes for a burst of virtual threads to each check an item out of the connection pool, hold it for a simulated
+ * round trip, and check it back in.
+ *
+ * <p>With {@code roundTripMicros} of 0 the checkout and checkin path dominates, otherwise the result approaches
+ * {@code virtualThreadCount * roundTripMicros / maxSize}, and any carrier thread pinned while waiting for a checkout shows as
+ * a deviation from that bound.  Requires Java 21 or later.</p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+public class VirtualThreadCheckoutBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"1000", "10000", "100000"})
+        private int virtualThreadCount;
+
+        @Param({"100"})
+        private int maxSize;
+
+        @Param({"0", "100"})
+        private long roundTripMicros;
+
+        private ConcurrentPool<Object> pool;
+        private ThreadFactory virtualThreadFactory;
+
+        @Setup
+        public void setup() {
+            if (!DaemonThreadFactory.isVirtualThreadSupported()) {
+                throw new IllegalStateException("Virtual threads require Java 21 or later");
+            }
+            virtualThreadFactory = new DaemonThreadFactory("benchmark", true);
+            pool = new ConcurrentPool<>(maxSize, new ConcurrentPool.ItemFactory<Object>() {
+                @Override
+                public Object create() {
+                    return new Object();
+                }
+
+                @Override
+                public void close(final Object o) {
+                }
+
+                @Override
+                public boolean shouldPrune(final Object o) {
+                    return false;
+                }
+            });
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.close();
+        }
+    }
+
+    @Benchmark
+    public void checkoutAndCheckin(@NonNull final Pool pool) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(pool.virtualThreadCount);
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(pool.roundTripMicros);
+        for (int i = 0; i < pool.virtualThreadCount; i++) {
+            pool.virtualThreadFactory.newThread(() -> {
+                try {
+                    Object item = pool.pool.get();
+                    if (roundTripNanos > 0) {
+                        LockSupport.parkNanos(roundTripNanos);
+                    }
+                    pool.pool.release(item);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.lang.NonNull;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+import org.bson.ByteBuf;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures OP_COMPRESSED message body compression and decompression for each compressor.
+ *
+ * <p>Throughput in bytes per second is the reported operations per second multiplied by {@code messageSize}.  Run with
+ * {@code -prof gc} to also report the allocation rate per operation.</p>
+ *
+ * <p>The benchmark is in the package of the compressors, which are package-private.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 2, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+public class CompressorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+        private final PowerOfTwoBufferPool bufferPool = PowerOfTwoBufferPool.DEFAULT;
+
+        @Param({"zlib", "snappy", "zstd"})
+        private String compressorName;
+
+        @Param({"16384", "1048576", "16777216"})
+        private int messageSize;
+
+        private Compressor compressor;
+        private ByteBufferBsonOutput uncompressed;
+        private ByteBuf compressed;
+        private List<ByteBuf> source;
+        private ByteBuf target;
+
+        @Setup
+        public void setup() {
+            switch (compressorName) {
+                case "zlib":
+                    compressor = new ZlibCompressor(MongoCompressor.createZlibCompressor());
+                    break;
+                case "snappy":
+                    compressor = new SnappyCompressor();
+                    break;
+                case "zstd":
+                    compressor = new ZstdCompressor();
+                    break;
+                default:
+                    throw new IllegalArgumentException(compressorName);
+            }
+
+            uncompressed = new ByteBufferBsonOutput(bufferPool);
+            BsonBinaryWriter writer = new BsonBinaryWriter(uncompressed);
+            BsonDocumentCodec codec = new BsonDocumentCodec();
+            for (int i = 0; uncompressed.getPosition() < messageSize; i++) {
+                BsonDocument document = new BsonDocument("_id", new BsonInt32(i))
+                        .append("tenantId", new BsonString("tenant-" + (i % 16)))
+                        .append("status", new BsonString(i % 3 == 0 ? "ACTIVE" : "INACTIVE"))
+                        .append("counter", new BsonInt32(i * 31));
+                codec.encode(writer, document, EncoderContext.builder().build());
+            }
+            uncompressed.truncateToPosition(messageSize);
+
+            try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(bufferPool)) {
+                compressor.compress(uncompressed.getByteBuffers(), output);
+                compressed = bufferPool.getBuffer(output.getPosition());
+                for (ByteBuf cur : output.getByteBuffers()) {
+                    compressed.put(cur.array(), cur.arrayOffset() + cur.position(), cur.remaining());
+                    cur.release();
+                }
+                compressed.flip();
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void beforeInvocation() {
+            source = uncompressed.getByteBuffers();
+            compressed.position(0);
+            target = bufferPool.getBuffer(messageSize);
+        }
+
+        @TearDown(Level.Invocation)
+        public void afterInvocation() {
+            source.forEach(ByteBuf::release);
+            target.release();
+        }
+
+        @TearDown
+        public void tearDown() {
+            uncompressed.close();
+            compressed.release();
+        }
+    }
+
+    @Benchmark
+    public void compress(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(input.bufferPool)) {
+            input.compressor.compress(input.source, output);
+            blackhole.consume(output.getPosition());
+        }
+    }
+
+    @Benchmark
+    public void uncompress(@NonNull final Input input, @NonNull final Blackhole blackhole) {
+        input.compressor.uncompress(input.compressed, input.target);
+        blackhole.consume(input.target.position());
+    }
+}
@@ -45,6 +45,7 @@ public final class ClientSessionOptions {
     private final Boolean snapshot;
     private final Long defaultTimeoutMS;
     private final TransactionOptions defaultTransactionOptions;
+    private final OperationPriority operationPriority;
 
     /**
      * Whether operations using the session should causally consistent with each other.
@@ -107,6 +108,17 @@ public final class ClientSessionOptions {
         return defaultTimeoutMS == null ? null : timeUnit.convert(defaultTimeoutMS, MILLISECONDS);
     }
 
+    /**
+     * Gets the priority of the operations executed with the session.
+     *
+     * @return the operation priority
+     * @since 5.11
+     * @see Builder#operationPriority(OperationPriority)
+     */
+    public OperationPriority getOperationPriority() {
+        return operationPriority;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -119,12 +131,13 @@ public final class ClientSessionOptions {
         return Objects.equals(causallyConsistent, that.causallyConsistent)
                 && Objects.equals(snapshot, that.snapshot)
                 && Objects.equals(defaultTimeoutMS, that.defaultTimeoutMS)
-                && Objects.equals(defaultTransactionOptions, that.defaultTransactionOptions);
+                && Objects.equals(defaultTransactionOptions, that.defaultTransactionOptions)
+                && operationPriority == that.operationPriority;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(causallyConsistent, snapshot, defaultTimeoutMS, defaultTransactionOptions);
+        return Objects.hash(causallyConsistent, snapshot, defaultTimeoutMS, defaultTransactionOptions, operationPriority);
     }
 
     @Override
@@ -134,6 +147,7 @@ public final class ClientSessionOptions {
                 + ", snapshot=" + snapshot
                 + ", defaultTimeoutMS=" + defaultTimeoutMS
                 + ", defaultTransactionOptions=" + defaultTransactionOptions
+                + ", operationPriority=" + operationPriority
                 + '}';
     }
 
@@ -160,6 +174,7 @@ public final class ClientSessionOptions {
         builder.snapshot = options.isSnapshot();
         builder.defaultTransactionOptions = options.getDefaultTransactionOptions();
         builder.defaultTimeoutMS = options.defaultTimeoutMS;
+        builder.operationPriority = options.operationPriority;
         return builder;
     }
 
@@ -172,6 +187,7 @@ public final class ClientSessionOptions {
         private Boolean snapshot;
         private Long defaultTimeoutMS;
         private TransactionOptions defaultTransactionOptions = TransactionOptions.builder().build();
+        private OperationPriority operationPriority = OperationPriority.NORMAL;
 
         /**
          * Sets whether operations using the session should causally consistent with each other.
@@ -242,6 +258,26 @@ public final class ClientSessionOptions {
             return this;
         }
 
+        /**
+         * Sets the priority of the operations executed with the session.
+         *
+         * <p>If the checkouts of the connection pools are
+         * {@linkplain com.mongodb.connection.ConnectionPoolSettings.Builder#prioritizedCheckout(boolean) prioritized}, operations of a
+         * higher priority that wait for a connection are given one before operations of a lower priority, and may use the connections
+         * {@linkplain com.mongodb.connection.ConnectionPoolSettings.Builder#reservedShare(OperationPriority, double) reserved} for their
+         * priority. Operations executed without an explicit session have the {@link OperationPriority#NORMAL} priority.</p>
+         *
+         * <p>The default value is {@link OperationPriority#NORMAL}.</p>
+         *
+         * @param operationPriority the operation priority
+         * @return this
+         * @since 5.11
+         */
+        public Builder operationPriority(final OperationPriority operationPriority) {
+            this.operationPriority = notNull("operationPriority", operationPriority);
+            return this;
+        }
+
         /**
          * Build the session options instance.
          *
@@ -265,5 +301,6 @@ public final class ClientSessionOptions {
         this.snapshot = builder.snapshot;
         this.defaultTransactionOptions = builder.defaultTransactionOptions;
         this.defaultTimeoutMS = builder.defaultTimeoutMS;
+        this.operationPriority = builder.operationPriority;
     }
 }
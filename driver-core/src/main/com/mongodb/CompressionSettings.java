@@ -0,0 +1,246 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.event.CompressionListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Settings that decide which messages sent to a server are compressed, when compression has been negotiated with the server by
+ * configuring {@linkplain MongoClientSettings.Builder#compressorList(List) compressors}.
+ *
+ * <p>By default, every message other than those of security-sensitive commands is compressed with the first compressor negotiated
+ * with the server.</p>
+ *
+ * @see MongoClientSettings.Builder#applyToCompressionSettings(Block)
+ * @see CompressionListener
+ * @since 5.11
+ */
+@Immutable
+public final class CompressionSettings {
+    private final int minMessageSize;
+    private final boolean skipCompressedBinaryPayloads;
+    private final boolean adaptive;
+    private final List<CompressionListener> compressionListeners;
+
+    /**
+     * Creates a builder for CompressionSettings.
+     *
+     * @return a new Builder for creating CompressionSettings
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @param compressionSettings existing CompressionSettings to default the builder settings on
+     * @return a builder
+     */
+    public static Builder builder(final CompressionSettings compressionSettings) {
+        return builder().applySettings(compressionSettings);
+    }
+
+    /**
+     * A builder for the settings.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private int minMessageSize;
+        private boolean skipCompressedBinaryPayloads;
+        private boolean adaptive;
+        private List<CompressionListener> compressionListeners = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Applies the compressionSettings to the builder
+         *
+         * <p>Note: Overwrites all existing settings</p>
+         *
+         * @param compressionSettings the compressionSettings
+         * @return this
+         */
+        public Builder applySettings(final CompressionSettings compressionSettings) {
+            notNull("compressionSettings", compressionSettings);
+            minMessageSize = compressionSettings.minMessageSize;
+            skipCompressedBinaryPayloads = compressionSettings.skipCompressedBinaryPayloads;
+            adaptive = compressionSettings.adaptive;
+            compressionListeners = new ArrayList<>(compressionSettings.compressionListeners);
+            return this;
+        }
+
+        /**
+         * Sets the minimum size in bytes of a message to compress. Smaller messages are sent uncompressed, as compressing them costs more
+         * CPU time than it saves on the wire. The default value is 0.
+         *
+         * @param minMessageSize the minimum message size, which must not be negative
+         * @return this
+         */
+        public Builder minMessageSize(final int minMessageSize) {
+            isTrueArgument("minMessageSize >= 0", minMessageSize >= 0);
+            this.minMessageSize = minMessageSize;
+            return this;
+        }
+
+        /**
+         * Sets whether to send uncompressed the messages that mostly consist of binary values that are already compressed, such as gzip,
+         * zstd or zip archives and PNG, JPEG or GIF images, which are recognized by the signature at the start of their data. The
+         * default value is {@code false}.
+         *
+         * @param skipCompressedBinaryPayloads whether to skip messages that mostly consist of already-compressed binary values
+         * @return this
+         */
+        public Builder skipCompressedBinaryPayloads(final boolean skipCompressedBinaryPayloads) {
+            this.skipCompressedBinaryPayloads = skipCompressedBinaryPayloads;
+            return this;
+        }
+
+        /**
+         * Sets whether compression is adaptive. The default value is {@code false}.
+         *
+         * <p>When enabled, the driver measures the compression ratio and CPU time of every negotiated compressor for each command type
+         * and server, picks the compressor that saves the most bytes per unit of CPU time, and sends uncompressed the messages of command
+         * types that do not compress well. Such command types are periodically re-sampled.</p>
+         *
+         * @param adaptive whether compression is adaptive
+         * @return this
+         */
+        public Builder adaptive(final boolean adaptive) {
+            this.adaptive = adaptive;
+            return this;
+        }
+
+        /**
+         * Adds a compression listener.
+         *
+         * @param compressionListener the non-null compression listener
+         * @return this
+         */
+        public Builder addCompressionListener(final CompressionListener compressionListener) {
+            notNull("compressionListener", compressionListener);
+            compressionListeners.add(compressionListener);
+            return this;
+        }
+
+        /**
+         * Sets the compression listeners.
+         *
+         * @param compressionListeners list of compression listeners
+         * @return this
+         */
+        public Builder compressionListenerList(final List<CompressionListener> compressionListeners) {
+            notNull("compressionListeners", compressionListeners);
+            this.compressionListeners = new ArrayList<>(compressionListeners);
+            return this;
+        }
+
+        /**
+         * Create a new CompressionSettings from the settings applied to this builder.
+         *
+         * @return a CompressionSettings with the given settings
+         */
+        public CompressionSettings build() {
+            return new CompressionSettings(this);
+        }
+    }
+
+    /**
+     * Gets the minimum size in bytes of a message to compress. The default value is 0.
+     *
+     * @return the minimum message size
+     */
+    public int getMinMessageSize() {
+        return minMessageSize;
+    }
+
+    /**
+     * Gets whether to send uncompressed the messages that mostly consist of binary values that are already compressed. The default
+     * value is {@code false}.
+     *
+     * @return whether to skip messages that mostly consist of already-compressed binary values
+     */
+    public boolean isSkipCompressedBinaryPayloads() {
+        return skipCompressedBinaryPayloads;
+    }
+
+    /**
+     * Gets whether compression is adaptive. The default value is {@code false}.
+     *
+     * @return whether compression is adaptive
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Gets the compression listeners. The default value is an empty list.
+     *
+     * @return the compression listeners
+     */
+    public List<CompressionListener> getCompressionListeners() {
+        return compressionListeners;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CompressionSettings that = (CompressionSettings) o;
+        return minMessageSize == that.minMessageSize
+                && skipCompressedBinaryPayloads == that.skipCompressedBinaryPayloads
+                && adaptive == that.adaptive
+                && Objects.equals(compressionListeners, that.compressionListeners);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minMessageSize, skipCompressedBinaryPayloads, adaptive, compressionListeners);
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionSettings{"
+                + "minMessageSize=" + minMessageSize
+                + ", skipCompressedBinaryPayloads=" + skipCompressedBinaryPayloads
+                + ", adaptive=" + adaptive
+                + ", compressionListeners=" + compressionListeners
+                + '}';
+    }
+
+    private CompressionSettings(final Builder builder) {
+        minMessageSize = builder.minMessageSize;
+        skipCompressedBinaryPayloads = builder.skipCompressedBinaryPayloads;
+        adaptive = builder.adaptive;
+        compressionListeners = unmodifiableList(builder.compressionListeners);
+    }
+}
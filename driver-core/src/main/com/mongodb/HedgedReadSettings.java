@@ -0,0 +1,230 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.annotations.Immutable;
+import com.mongodb.annotations.NotThreadSafe;
+import com.mongodb.event.HedgedReadListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Settings for client-side hedged reads.
+ *
+ * <p>When hedged reads are enabled, a read that has not completed within the hedging delay is sent a second time to another server
+ * that is eligible under the read preference of the read. The result that arrives first is returned, and the cursor of the other
+ * read, if any, is killed. Hedged reads apply to find, aggregate (without {@code $out} or {@code $merge}), distinct and count
+ * operations that use a read preference other than primary, and are executed without an explicit {@link com.mongodb.session.ClientSession}.
+ * The two reads share the timeout of the operation.</p>
+ *
+ * <p>Both reads are executed on threads that the client owns, which are virtual threads if
+ * {@link MongoClientSettings#isVirtualThreads() virtual threads} are enabled, while the application's thread waits for the first
+ * result. A read that has not completed when the other one succeeds is therefore abandoned, and its cursor is killed once it
+ * completes.</p>
+ *
+ * <p>Hedged reads are currently performed only by the synchronous driver.</p>
+ *
+ * @see MongoClientSettings.Builder#hedgedReadSettings(HedgedReadSettings)
+ * @see HedgedReadListener
+ * @since 5.11
+ */
+@Immutable
+public final class HedgedReadSettings {
+    private final long delayMS;
+    private final boolean adaptive;
+    private final List<HedgedReadListener> hedgedReadListeners;
+
+    /**
+     * Creates a builder for HedgedReadSettings.
+     *
+     * @return a new Builder for creating HedgedReadSettings
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a builder instance.
+     *
+     * @param hedgedReadSettings existing HedgedReadSettings to default the builder settings on
+     * @return a builder
+     */
+    public static Builder builder(final HedgedReadSettings hedgedReadSettings) {
+        return builder().applySettings(hedgedReadSettings);
+    }
+
+    /**
+     * A builder for the settings.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long delayMS = 100;
+        private boolean adaptive;
+        private List<HedgedReadListener> hedgedReadListeners = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Applies the hedgedReadSettings to the builder
+         *
+         * <p>Note: Overwrites all existing settings</p>
+         *
+         * @param hedgedReadSettings the hedgedReadSettings
+         * @return this
+         */
+        public Builder applySettings(final HedgedReadSettings hedgedReadSettings) {
+            notNull("hedgedReadSettings", hedgedReadSettings);
+            delayMS = hedgedReadSettings.delayMS;
+            adaptive = hedgedReadSettings.adaptive;
+            hedgedReadListeners = new ArrayList<>(hedgedReadSettings.hedgedReadListeners);
+            return this;
+        }
+
+        /**
+         * Sets the time to wait for the response to a read before sending the read to another server. If hedged reads are
+         * {@linkplain #adaptive(boolean) adaptive}, this is the delay used until enough reads have been observed. The default value
+         * is 100 milliseconds.
+         *
+         * @param delay the delay, which must not be negative
+         * @param timeUnit the time unit
+         * @return this
+         */
+        public Builder delay(final long delay, final TimeUnit timeUnit) {
+            notNull("timeUnit", timeUnit);
+            isTrueArgument("delay >= 0", delay >= 0);
+            this.delayMS = TimeUnit.MILLISECONDS.convert(delay, timeUnit);
+            return this;
+        }
+
+        /**
+         * Sets whether the hedging delay adapts to the 95th percentile of the latencies of the reads recently executed by the client,
+         * so that about one in twenty reads is hedged whatever the latency of the deployment. The default value is {@code false}.
+         *
+         * @param adaptive whether the hedging delay is adaptive
+         * @return this
+         */
+        public Builder adaptive(final boolean adaptive) {
+            this.adaptive = adaptive;
+            return this;
+        }
+
+        /**
+         * Adds a hedged read listener.
+         *
+         * @param hedgedReadListener the non-null hedged read listener
+         * @return this
+         */
+        public Builder addHedgedReadListener(final HedgedReadListener hedgedReadListener) {
+            notNull("hedgedReadListener", hedgedReadListener);
+            hedgedReadListeners.add(hedgedReadListener);
+            return this;
+        }
+
+        /**
+         * Sets the hedged read listeners.
+         *
+         * @param hedgedReadListeners list of hedged read listeners
+         * @return this
+         */
+        public Builder hedgedReadListenerList(final List<HedgedReadListener> hedgedReadListeners) {
+            notNull("hedgedReadListeners", hedgedReadListeners);
+            this.hedgedReadListeners = new ArrayList<>(hedgedReadListeners);
+            return this;
+        }
+
+        /**
+         * Create a new HedgedReadSettings from the settings applied to this builder.
+         *
+         * @return a HedgedReadSettings with the given settings
+         */
+        public HedgedReadSettings build() {
+            return new HedgedReadSettings(this);
+        }
+    }
+
+    /**
+     * Gets the time to wait for the response to a read before sending the read to another server. The default value is 100
+     * milliseconds.
+     *
+     * @param timeUnit the time unit
+     * @return the delay
+     */
+    public long getDelay(final TimeUnit timeUnit) {
+        return timeUnit.convert(delayMS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets whether the hedging delay adapts to the 95th percentile of the latencies of the reads recently executed by the client.
+     * The default value is {@code false}.
+     *
+     * @return whether the hedging delay is adaptive
+     */
+    public boolean isAdaptive() {
+        return adaptive;
+    }
+
+    /**
+     * Gets the hedged read listeners. The default value is an empty list.
+     *
+     * @return the hedged read listeners
+     */
+    public List<HedgedReadListener> getHedgedReadListeners() {
+        return hedgedReadListeners;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        HedgedReadSettings that = (HedgedReadSettings) o;
+        return delayMS == that.delayMS
+                && adaptive == that.adaptive
+                && Objects.equals(hedgedReadListeners, that.hedgedReadListeners);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delayMS, adaptive, hedgedReadListeners);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgedReadSettings{"
+                + "delayMS=" + delayMS
+                + ", adaptive=" + adaptive
+                + ", hedgedReadListeners=" + hedgedReadListeners
+                + '}';
+    }
+
+    private HedgedReadSettings(final Builder builder) {
+        delayMS = builder.delayMS;
+        adaptive = builder.adaptive;
+        hedgedReadListeners = unmodifiableList(builder.hedgedReadListeners);
+    }
+}
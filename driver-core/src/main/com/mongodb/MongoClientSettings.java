@@ -107,6 +107,7 @@ public final class MongoClientSettings {
     private final SslSettings sslSettings;
     private final String applicationName;
     private final List<MongoCompressor> compressorList;
+    private final CompressionSettings compressionSettings;
     private final UuidRepresentation uuidRepresentation;
     private final ServerApi serverApi;
 
@@ -120,6 +121,9 @@ public final class MongoClientSettings {
     private final ObservabilitySettings observabilitySettings;
     @Nullable
     private final Long timeoutMS;
+    private final boolean virtualThreads;
+    @Nullable
+    private final HedgedReadSettings hedgedReadSettings;
 
     /**
      * Gets the default codec registry.  It includes the following providers:
@@ -226,6 +230,7 @@ public final class MongoClientSettings {
         private final ConnectionPoolSettings.Builder connectionPoolSettingsBuilder = ConnectionPoolSettings.builder();
         private final ServerSettings.Builder serverSettingsBuilder = ServerSettings.builder();
         private final SslSettings.Builder sslSettingsBuilder = SslSettings.builder();
+        private final CompressionSettings.Builder compressionSettingsBuilder = CompressionSettings.builder();
         private MongoCredential credential;
         private String applicationName;
         private List<MongoCompressor> compressorList = Collections.emptyList();
@@ -237,6 +242,8 @@ public final class MongoClientSettings {
         private int heartbeatConnectTimeoutMS;
         private int heartbeatSocketTimeoutMS;
         private Long timeoutMS;
+        private boolean virtualThreads;
+        private HedgedReadSettings hedgedReadSettings;
 
         private ContextProvider contextProvider;
         private DnsClient dnsClient;
@@ -261,6 +268,8 @@ public final class MongoClientSettings {
             serverApi = settings.getServerApi();
             dnsClient = settings.getDnsClient();
             timeoutMS = settings.getTimeout(MILLISECONDS);
+            virtualThreads = settings.isVirtualThreads();
+            hedgedReadSettings = settings.getHedgedReadSettings();
             inetAddressResolver = settings.getInetAddressResolver();
             transportSettings = settings.getTransportSettings();
             observabilitySettings = settings.getObservabilitySettings();
@@ -272,6 +281,7 @@ public final class MongoClientSettings {
             socketSettingsBuilder.applySettings(settings.getSocketSettings());
             connectionPoolSettingsBuilder.applySettings(settings.getConnectionPoolSettings());
             sslSettingsBuilder.applySettings(settings.getSslSettings());
+            compressionSettingsBuilder.applySettings(settings.getCompressionSettings());
 
             if (settings.heartbeatConnectTimeoutSetExplicitly) {
                 heartbeatConnectTimeoutMS = settings.heartbeatSocketSettings.getConnectTimeout(MILLISECONDS);
@@ -580,6 +590,19 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Applies the {@link CompressionSettings.Builder} block and then sets the compressionSettings.
+         *
+         * @param block the block to apply to the CompressionSettings.
+         * @return this
+         * @see MongoClientSettings#getCompressionSettings()
+         * @since 5.11
+         */
+        public Builder applyToCompressionSettings(final Block<CompressionSettings.Builder> block) {
+            notNull("block", block).apply(compressionSettingsBuilder);
+            return this;
+        }
+
         /**
          * Sets the UUID representation to use when encoding instances of {@link java.util.UUID} and when decoding BSON binary values with
          * subtype of 3.
@@ -730,6 +753,44 @@ public final class MongoClientSettings {
             return this;
         }
 
+        /**
+         * Sets whether the background threads that the driver starts on behalf of the client are virtual threads.
+         *
+         * <p>Virtual threads require Java 21 or later. On earlier versions this setting has no effect, and platform daemon threads are
+         * used. Application threads calling the synchronous API may be virtual threads regardless of this setting: the driver does
+         * not pin carrier threads while waiting for a connection or for socket I/O.</p>
+         *
+         * <p>The background threads include the server monitor threads, of which there are one per server, or two per server when the
+         * streaming protocol is used. With virtual threads, the heartbeats and round trip time samples of all clients in the JVM run
+         * on the JVM's shared pool of carrier threads, and a sleeping or awaiting monitor does not occupy any platform thread.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param virtualThreads whether to use virtual threads for the driver's background threads
+         * @return this
+         * @see #isVirtualThreads()
+         * @since 5.11
+         */
+        public Builder virtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
+        /**
+         * Sets the hedged read settings, which enable client-side hedged reads.
+         *
+         * <p>Default is {@code null}, which disables hedged reads.</p>
+         *
+         * @param hedgedReadSettings the hedged read settings, which may be null
+         * @return this
+         * @see #getHedgedReadSettings()
+         * @since 5.11
+         */
+        public Builder hedgedReadSettings(@Nullable final HedgedReadSettings hedgedReadSettings) {
+            this.hedgedReadSettings = hedgedReadSettings;
+            return this;
+        }
+
         // Package-private to provide interop with MongoClientOptions
         Builder heartbeatConnectTimeoutMS(final int heartbeatConnectTimeoutMS) {
             this.heartbeatConnectTimeoutMS = heartbeatConnectTimeoutMS;
@@ -881,6 +942,17 @@ public final class MongoClientSettings {
         return Collections.unmodifiableList(compressorList);
     }
 
+    /**
+     * Gets the settings that decide which messages are compressed, when compression has been negotiated with the server.
+     *
+     * @return the compression settings
+     * @see Builder#applyToCompressionSettings(Block)
+     * @since 5.11
+     */
+    public CompressionSettings getCompressionSettings() {
+        return compressionSettings;
+    }
+
     /**
      * Gets the UUID representation to use when encoding instances of {@link java.util.UUID} and when decoding BSON binary values with
      * subtype of 3.
@@ -1074,6 +1146,33 @@ public final class MongoClientSettings {
         return observabilitySettings;
     }
 
+    /**
+     * Gets whether the background threads that the driver starts on behalf of the client are virtual threads.
+     *
+     * <p>Default is {@code false}.</p>
+     *
+     * @return whether to use virtual threads for the driver's background threads
+     * @see Builder#virtualThreads(boolean)
+     * @since 5.11
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Gets the hedged read settings.
+     *
+     * <p>Default is {@code null}, which disables hedged reads.</p>
+     *
+     * @return the hedged read settings, which may be null
+     * @see Builder#hedgedReadSettings(HedgedReadSettings)
+     * @since 5.11
+     */
+    @Nullable
+    public HedgedReadSettings getHedgedReadSettings() {
+        return hedgedReadSettings;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -1103,13 +1202,16 @@ public final class MongoClientSettings {
                 && Objects.equals(sslSettings, that.sslSettings)
                 && Objects.equals(applicationName, that.applicationName)
                 && Objects.equals(compressorList, that.compressorList)
+                && Objects.equals(compressionSettings, that.compressionSettings)
                 && uuidRepresentation == that.uuidRepresentation
                 && Objects.equals(serverApi, that.serverApi)
                 && Objects.equals(autoEncryptionSettings, that.autoEncryptionSettings)
                 && Objects.equals(dnsClient, that.dnsClient)
                 && Objects.equals(inetAddressResolver, that.inetAddressResolver)
                 && Objects.equals(contextProvider, that.contextProvider)
-                && Objects.equals(timeoutMS, that.timeoutMS);
+                && Objects.equals(timeoutMS, that.timeoutMS)
+                && virtualThreads == that.virtualThreads
+                && Objects.equals(hedgedReadSettings, that.hedgedReadSettings);
     }
 
     @Override
@@ -1117,8 +1219,9 @@ public final class MongoClientSettings {
         return Objects.hash(readPreference, writeConcern, retryWrites, retryReads, readConcern, credential, transportSettings,
                 commandListeners, codecRegistry, loggerSettings, clusterSettings, socketSettings,
                 heartbeatSocketSettings, connectionPoolSettings, serverSettings, sslSettings, applicationName, compressorList,
-                uuidRepresentation, serverApi, autoEncryptionSettings, heartbeatSocketTimeoutSetExplicitly,
-                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, contextProvider, timeoutMS);
+                compressionSettings, uuidRepresentation, serverApi, autoEncryptionSettings, heartbeatSocketTimeoutSetExplicitly,
+                heartbeatConnectTimeoutSetExplicitly, dnsClient, inetAddressResolver, contextProvider, timeoutMS,
+                virtualThreads, hedgedReadSettings);
 
     }
 
@@ -1143,6 +1246,7 @@ public final class MongoClientSettings {
                 + ", sslSettings=" + sslSettings
                 + ", applicationName='" + applicationName + '\''
                 + ", compressorList=" + compressorList
+                + ", compressionSettings=" + compressionSettings
                 + ", uuidRepresentation=" + uuidRepresentation
                 + ", serverApi=" + serverApi
                 + ", autoEncryptionSettings=" + autoEncryptionSettings
@@ -1150,6 +1254,8 @@ public final class MongoClientSettings {
                 + ", inetAddressResolver=" + inetAddressResolver
                 + ", contextProvider=" + contextProvider
                 + ", timeoutMS=" + timeoutMS
+                + ", virtualThreads=" + virtualThreads
+                + ", hedgedReadSettings=" + hedgedReadSettings
                 + '}';
     }
 
@@ -1173,6 +1279,7 @@ public final class MongoClientSettings {
         sslSettings = builder.sslSettingsBuilder.build();
         observabilitySettings = builder.observabilitySettings;
         compressorList = builder.compressorList;
+        compressionSettings = builder.compressionSettingsBuilder.build();
         uuidRepresentation = builder.uuidRepresentation;
         serverApi = builder.serverApi;
         dnsClient = builder.dnsClient;
@@ -1191,5 +1298,7 @@ public final class MongoClientSettings {
         heartbeatConnectTimeoutSetExplicitly = builder.heartbeatConnectTimeoutMS != 0;
         contextProvider = builder.contextProvider;
         timeoutMS = builder.timeoutMS;
+        virtualThreads = builder.virtualThreads;
+        hedgedReadSettings = builder.hedgedReadSettings;
     }
 }
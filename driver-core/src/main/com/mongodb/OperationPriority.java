@@ -0,0 +1,41 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+/**
+ * The priority of operations, which orders the checkouts of connections waiting for a connection pool whose checkouts are
+ * {@linkplain com.mongodb.connection.ConnectionPoolSettings.Builder#prioritizedCheckout(boolean) prioritized}.
+ *
+ * @see ClientSessionOptions.Builder#operationPriority(OperationPriority)
+ * @since 5.11
+ */
+public enum OperationPriority {
+    /**
+     * The priority of latency-sensitive operations, such as those serving interactive requests.
+     */
+    HIGH,
+
+    /**
+     * The default priority.
+     */
+    NORMAL,
+
+    /**
+     * The priority of operations that can wait, such as those of background batch jobs.
+     */
+    LOW
+}
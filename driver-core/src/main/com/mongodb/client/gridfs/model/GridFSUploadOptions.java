@@ -19,6 +19,8 @@ package com.mongodb.client.gridfs.model;
 import com.mongodb.lang.Nullable;
 import org.bson.Document;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+
 /**
  * GridFS upload options
  * <p>
@@ -29,6 +31,8 @@ import org.bson.Document;
 public final class GridFSUploadOptions {
     private Integer chunkSizeBytes;
     private Document metadata;
+    private Integer chunksPerBatch;
+    private Integer parallelism;
 
     /**
      * Construct a new instance.
@@ -80,4 +84,67 @@ public final class GridFSUploadOptions {
         return this;
     }
 
+    /**
+     * The number of chunks to insert per batch.
+     *
+     * <p>If no value has been set then each chunk is inserted on its own as soon as it is filled.</p>
+     *
+     * @return the number of chunks to insert per batch if set or null
+     * @since 5.11
+     */
+    @Nullable
+    public Integer getChunksPerBatch() {
+        return chunksPerBatch;
+    }
+
+    /**
+     * Sets the number of chunks to insert per batch.
+     *
+     * <p>Chunks are accumulated and inserted together with a single {@code insertMany}, trading memory for fewer round trips. At most
+     * {@code chunksPerBatch * (parallelism + 1)} chunks are held in memory. Currently only applied by the synchronous driver.</p>
+     *
+     * @param chunksPerBatch the number of chunks to insert per batch, which must be greater than 0
+     * @return this
+     * @see #parallelism(Integer)
+     * @since 5.11
+     */
+    public GridFSUploadOptions chunksPerBatch(@Nullable final Integer chunksPerBatch) {
+        isTrueArgument("chunksPerBatch > 0", chunksPerBatch == null || chunksPerBatch > 0);
+        this.chunksPerBatch = chunksPerBatch;
+        return this;
+    }
+
+    /**
+     * The number of chunk batches to insert concurrently.
+     *
+     * <p>If no value has been set then one batch is inserted at a time.</p>
+     *
+     * @return the number of chunk batches to insert concurrently if set or null
+     * @since 5.11
+     */
+    @Nullable
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the number of chunk batches to insert concurrently.
+     *
+     * <p>When greater than 1, filled batches are inserted in the background over separate connections while the next batch is being
+     * filled, using the threads the {@code MongoClient} owns for background work. The files collection document is only inserted once all
+     * the chunks have been inserted; if inserting any chunk fails, the chunks already inserted are deleted. Batches are always inserted
+     * one at a time if the upload uses a {@code ClientSession}, as a session must not be used concurrently. Currently only applied by the
+     * synchronous driver.</p>
+     *
+     * @param parallelism the number of chunk batches to insert concurrently, which must be greater than 0
+     * @return this
+     * @see #chunksPerBatch(Integer)
+     * @since 5.11
+     */
+    public GridFSUploadOptions parallelism(@Nullable final Integer parallelism) {
+        isTrueArgument("parallelism > 0", parallelism == null || parallelism > 0);
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
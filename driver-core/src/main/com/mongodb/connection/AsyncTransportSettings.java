@@ -21,6 +21,7 @@ import com.mongodb.lang.Nullable;
 
 import java.util.concurrent.ExecutorService;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 /**
@@ -32,9 +33,11 @@ import static com.mongodb.assertions.Assertions.notNull;
 public final class AsyncTransportSettings extends TransportSettings {
 
     private final ExecutorService executorService;
+    private final long maxDirectBufferMemory;
 
     private AsyncTransportSettings(final Builder builder) {
         this.executorService = builder.executorService;
+        this.maxDirectBufferMemory = builder.maxDirectBufferMemory;
     }
 
     static Builder builder() {
@@ -47,6 +50,7 @@ public final class AsyncTransportSettings extends TransportSettings {
     public static final class Builder {
 
         private ExecutorService executorService;
+        private long maxDirectBufferMemory;
 
         private Builder() {
         }
@@ -69,6 +73,24 @@ public final class AsyncTransportSettings extends TransportSettings {
             return this;
         }
 
+        /**
+         * Sets the maximum amount of direct (off-heap) memory, in bytes, that the transport may use for its I/O buffers.
+         *
+         * <p>By default, this is 0 and the transport uses heap buffers, which the JDK copies into temporary direct buffers when
+         * they are written to or read from a socket. When positive, the transport allocates direct buffers, which it pools and
+         * prunes when idle, and falls back to heap buffers whenever the direct buffers it has allocated reach this limit.</p>
+         *
+         * @param maxDirectBufferMemory the maximum amount of direct memory in bytes, which must be &gt;= 0
+         * @return this
+         * @see #getMaxDirectBufferMemory()
+         * @since 5.11
+         */
+        public Builder maxDirectBufferMemory(final long maxDirectBufferMemory) {
+            isTrueArgument("maxDirectBufferMemory >= 0", maxDirectBufferMemory >= 0);
+            this.maxDirectBufferMemory = maxDirectBufferMemory;
+            return this;
+        }
+
         /**
          * Build an instance of {@link AsyncTransportSettings}
          * @return an instance of {@link AsyncTransportSettings}
@@ -89,10 +111,22 @@ public final class AsyncTransportSettings extends TransportSettings {
         return executorService;
     }
 
+    /**
+     * Gets the maximum amount of direct memory, in bytes, that the transport may use for its I/O buffers.
+     *
+     * @return the maximum amount of direct memory in bytes, or 0 if the transport uses heap buffers
+     * @see Builder#maxDirectBufferMemory(long)
+     * @since 5.11
+     */
+    public long getMaxDirectBufferMemory() {
+        return maxDirectBufferMemory;
+    }
+
     @Override
     public String toString() {
         return "AsyncTransportSettings{"
                 + "executorService=" + executorService
+                + ", maxDirectBufferMemory=" + maxDirectBufferMemory
                 + '}';
     }
 }
@@ -57,6 +57,7 @@ public final class ClusterSettings {
     private final ServerSelector serverSelector;
     private final long localThresholdMS;
     private final long serverSelectionTimeoutMS;
+    private final ServerSelectionMode serverSelectionMode;
     private final List<ClusterListener> clusterListeners;
 
     /**
@@ -95,6 +96,7 @@ public final class ClusterSettings {
         private ServerSelector serverSelector;
         private long serverSelectionTimeoutMS = MILLISECONDS.convert(30, TimeUnit.SECONDS);
         private long localThresholdMS = MILLISECONDS.convert(15, MILLISECONDS);
+        private ServerSelectionMode serverSelectionMode = ServerSelectionMode.OPERATION_COUNT;
         private List<ClusterListener> clusterListeners = new ArrayList<>();
 
         private Builder() {
@@ -120,6 +122,7 @@ public final class ClusterSettings {
             requiredClusterType = clusterSettings.requiredClusterType;
             localThresholdMS = clusterSettings.localThresholdMS;
             serverSelectionTimeoutMS = clusterSettings.serverSelectionTimeoutMS;
+            serverSelectionMode = clusterSettings.serverSelectionMode;
             clusterListeners = new ArrayList<>(clusterSettings.clusterListeners);
             serverSelector = clusterSettings.serverSelector;
             return this;
@@ -288,6 +291,20 @@ public final class ClusterSettings {
             return this;
         }
 
+        /**
+         * Sets the server selection mode, which defines how the driver chooses between two suitable servers within the latency window.
+         * The default value is {@link ServerSelectionMode#OPERATION_COUNT}.
+         *
+         * @param serverSelectionMode the server selection mode
+         * @return this
+         * @see #getServerSelectionMode()
+         * @since 5.11
+         */
+        public Builder serverSelectionMode(final ServerSelectionMode serverSelectionMode) {
+            this.serverSelectionMode = notNull("serverSelectionMode", serverSelectionMode);
+            return this;
+        }
+
         /**
          * Adds a cluster listener.
          *
@@ -478,7 +495,8 @@ public final class ClusterSettings {
      * <ul>
      * <li>select from within the latency window</li>
      * <li>select at most two random servers from those remaining</li>
-     * <li>select the one with fewer outstanding concurrent operations</li>
+     * <li>select the one with fewer outstanding concurrent operations, or with the lower expected operation latency, depending on the
+     * {@linkplain #getServerSelectionMode() server selection mode}</li>
      * </ul>
      * <p>To skip the latency window selector, an application can:</p>
      * <ul>
@@ -530,6 +548,18 @@ public final class ClusterSettings {
         return timeUnit.convert(localThresholdMS, MILLISECONDS);
     }
 
+    /**
+     * Gets the server selection mode, which defines how the driver chooses between two suitable servers within the latency window.
+     * The default value is {@link ServerSelectionMode#OPERATION_COUNT}.
+     *
+     * @return the server selection mode
+     * @see Builder#serverSelectionMode(ServerSelectionMode)
+     * @since 5.11
+     */
+    public ServerSelectionMode getServerSelectionMode() {
+        return serverSelectionMode;
+    }
+
     /**
      * Gets the cluster listeners.  The default value is an empty list.
      *
@@ -551,6 +581,7 @@ public final class ClusterSettings {
         ClusterSettings that = (ClusterSettings) o;
         return localThresholdMS == that.localThresholdMS
                 && serverSelectionTimeoutMS == that.serverSelectionTimeoutMS
+                && serverSelectionMode == that.serverSelectionMode
                 && Objects.equals(srvHost, that.srvHost)
                 && Objects.equals(srvMaxHosts, that.srvMaxHosts)
                 && srvServiceName.equals(that.srvServiceName)
@@ -565,7 +596,7 @@ public final class ClusterSettings {
     @Override
     public int hashCode() {
         return Objects.hash(srvHost, srvMaxHosts, srvServiceName, hosts, mode, requiredClusterType, requiredReplicaSetName, serverSelector,
-                localThresholdMS, serverSelectionTimeoutMS, clusterListeners);
+                localThresholdMS, serverSelectionTimeoutMS, serverSelectionMode, clusterListeners);
     }
 
     @Override
@@ -582,6 +613,7 @@ public final class ClusterSettings {
                + ", clusterListeners='" + clusterListeners + '\''
                + ", serverSelectionTimeout='" + serverSelectionTimeoutMS + " ms" + '\''
                + ", localThreshold='" + localThresholdMS + " ms" + '\''
+               + ", serverSelectionMode=" + serverSelectionMode
                + '}';
     }
 
@@ -658,6 +690,7 @@ public final class ClusterSettings {
         localThresholdMS = builder.localThresholdMS;
         serverSelector = builder.serverSelector;
         serverSelectionTimeoutMS = builder.serverSelectionTimeoutMS;
+        serverSelectionMode = builder.serverSelectionMode;
         clusterListeners = unmodifiableList(builder.clusterListeners);
     }
 }
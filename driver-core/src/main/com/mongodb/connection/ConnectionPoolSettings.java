@@ -17,6 +17,7 @@
 package com.mongodb.connection;
 
 import com.mongodb.ConnectionString;
+import com.mongodb.OperationPriority;
 import com.mongodb.annotations.Immutable;
 import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.event.ConnectionCheckOutStartedEvent;
@@ -27,12 +28,16 @@ import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.event.ConnectionReadyEvent;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.MINUTES;
 
@@ -52,6 +57,9 @@ public class ConnectionPoolSettings {
     private final long maintenanceInitialDelayMS;
     private final long maintenanceFrequencyMS;
     private final int maxConnecting;
+    private final boolean adaptiveConcurrencyLimit;
+    private final boolean prioritizedCheckout;
+    private final Map<OperationPriority, Double> reservedShares;
 
     /**
      * Gets a Builder for creating a new ConnectionPoolSettings instance.
@@ -87,6 +95,9 @@ public class ConnectionPoolSettings {
         private long maintenanceInitialDelayMS;
         private long maintenanceFrequencyMS = MILLISECONDS.convert(1, MINUTES);
         private int maxConnecting = 2;
+        private boolean adaptiveConcurrencyLimit;
+        private boolean prioritizedCheckout;
+        private Map<OperationPriority, Double> reservedShares = new EnumMap<>(OperationPriority.class);
 
         Builder() {
         }
@@ -111,6 +122,10 @@ public class ConnectionPoolSettings {
             maintenanceInitialDelayMS = connectionPoolSettings.maintenanceInitialDelayMS;
             maintenanceFrequencyMS = connectionPoolSettings.maintenanceFrequencyMS;
             maxConnecting = connectionPoolSettings.maxConnecting;
+            adaptiveConcurrencyLimit = connectionPoolSettings.adaptiveConcurrencyLimit;
+            prioritizedCheckout = connectionPoolSettings.prioritizedCheckout;
+            reservedShares = new EnumMap<>(OperationPriority.class);
+            reservedShares.putAll(connectionPoolSettings.reservedShares);
             return this;
         }
 
@@ -272,6 +287,73 @@ public class ConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * Sets whether the number of connections that may be checked out of the pool concurrently is limited adaptively.
+         *
+         * <p>If enabled, the pool lowers the limit multiplicatively when an operation fails with a network error or timeout, or when
+         * the recent latencies of the operations rise well above their long-term average, and raises it additively while checkouts
+         * are waiting for the limit and the server is healthy. The limit never exceeds {@link #maxSize(int)}, and checkouts beyond
+         * the limit wait for a connection to be checked in, for at most {@link #maxWaitTime(long, TimeUnit)}.
+         * Changes of the limit are reported by
+         * {@link com.mongodb.event.ConnectionPoolListener#connectionPoolConcurrencyLimitChanged(
+         * com.mongodb.event.ConnectionPoolConcurrencyLimitChangedEvent)}.
+         * </p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param adaptiveConcurrencyLimit whether the concurrency limit is adaptive
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isAdaptiveConcurrencyLimit()
+         * @since 5.11
+         */
+        public Builder adaptiveConcurrencyLimit(final boolean adaptiveConcurrencyLimit) {
+            this.adaptiveConcurrencyLimit = adaptiveConcurrencyLimit;
+            return this;
+        }
+
+        /**
+         * Sets whether checkouts waiting for a connection are served by the
+         * {@linkplain com.mongodb.ClientSessionOptions#getOperationPriority() priority} of their operations, rather than in the order
+         * in which they started.
+         *
+         * <p>If enabled, a connection that becomes available is given to the longest waiting checkout of the highest priority,
+         * unless that would use a connection {@linkplain #reservedShare(OperationPriority, double) reserved} for another priority.
+         * So that operations of a lower priority are not starved, a checkout that has been passed over by checkouts of higher
+         * priorities eight times in a row is served next.</p>
+         *
+         * <p>Default is {@code false}.</p>
+         *
+         * @param prioritizedCheckout whether checkouts are prioritized
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#isPrioritizedCheckout()
+         * @since 5.11
+         */
+        public Builder prioritizedCheckout(final boolean prioritizedCheckout) {
+            this.prioritizedCheckout = prioritizedCheckout;
+            return this;
+        }
+
+        /**
+         * Sets the share of the {@linkplain #maxSize(int) maximum number of connections} that only operations of the given priority may
+         * check out while fewer than that many connections are checked out by operations of that priority. The reservation applies only
+         * if checkouts are {@linkplain #prioritizedCheckout(boolean) prioritized}, and the sum of the shares of all priorities must
+         * not exceed 1.
+         *
+         * <p>Default is 0 for all priorities.</p>
+         *
+         * @param operationPriority the operation priority
+         * @param reservedShare the reserved share, which must be between 0 and 1
+         * @return {@code this}.
+         * @see ConnectionPoolSettings#getReservedShare(OperationPriority)
+         * @since 5.11
+         */
+        public Builder reservedShare(final OperationPriority operationPriority, final double reservedShare) {
+            notNull("operationPriority", operationPriority);
+            isTrueArgument("reservedShare >= 0 and <= 1", reservedShare >= 0 && reservedShare <= 1);
+            reservedShares.put(operationPriority, reservedShare);
+            return this;
+        }
+
         /**
          * Creates a new ConnectionPoolSettings object with the settings initialised on this builder.
          *
@@ -456,6 +538,47 @@ public class ConnectionPoolSettings {
         return maxConnecting;
     }
 
+    /**
+     * Whether the number of connections that may be checked out of the pool concurrently is limited adaptively.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return whether the concurrency limit is adaptive
+     * @see Builder#adaptiveConcurrencyLimit(boolean)
+     * @since 5.11
+     */
+    public boolean isAdaptiveConcurrencyLimit() {
+        return adaptiveConcurrencyLimit;
+    }
+
+    /**
+     * Whether checkouts waiting for a connection are served by the priority of their operations.
+     * <p>
+     * Default is {@code false}.</p>
+     *
+     * @return whether checkouts are prioritized
+     * @see Builder#prioritizedCheckout(boolean)
+     * @since 5.11
+     */
+    public boolean isPrioritizedCheckout() {
+        return prioritizedCheckout;
+    }
+
+    /**
+     * Gets the share of the maximum number of connections reserved for operations of the given priority.
+     * <p>
+     * Default is 0.</p>
+     *
+     * @param operationPriority the operation priority
+     * @return the reserved share
+     * @see Builder#reservedShare(OperationPriority, double)
+     * @since 5.11
+     */
+    public double getReservedShare(final OperationPriority operationPriority) {
+        Double reservedShare = reservedShares.get(notNull("operationPriority", operationPriority));
+        return reservedShare == null ? 0 : reservedShare;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -494,6 +617,15 @@ public class ConnectionPoolSettings {
         if (maxConnecting != that.maxConnecting) {
             return false;
         }
+        if (adaptiveConcurrencyLimit != that.adaptiveConcurrencyLimit) {
+            return false;
+        }
+        if (prioritizedCheckout != that.prioritizedCheckout) {
+            return false;
+        }
+        if (!reservedShares.equals(that.reservedShares)) {
+            return false;
+        }
         return true;
     }
 
@@ -508,6 +640,9 @@ public class ConnectionPoolSettings {
         result = 31 * result + (int) (maintenanceFrequencyMS ^ (maintenanceFrequencyMS >>> 32));
         result = 31 * result + connectionPoolListeners.hashCode();
         result = 31 * result + maxConnecting;
+        result = 31 * result + (adaptiveConcurrencyLimit ? 1 : 0);
+        result = 31 * result + (prioritizedCheckout ? 1 : 0);
+        result = 31 * result + reservedShares.hashCode();
         return result;
     }
 
@@ -523,6 +658,9 @@ public class ConnectionPoolSettings {
                 + ", maintenanceFrequencyMS=" + maintenanceFrequencyMS
                 + ", connectionPoolListeners=" + connectionPoolListeners
                 + ", maxConnecting=" + maxConnecting
+                + ", adaptiveConcurrencyLimit=" + adaptiveConcurrencyLimit
+                + ", prioritizedCheckout=" + prioritizedCheckout
+                + ", reservedShares=" + reservedShares
                 + '}';
     }
 
@@ -535,6 +673,7 @@ public class ConnectionPoolSettings {
         isTrue("sizeMaintenanceFrequency > 0", builder.maintenanceFrequencyMS > 0);
         isTrue("maxSize >= minSize", builder.maxSize >= builder.minSize);
         isTrue("maxConnecting > 0", builder.maxConnecting > 0);
+        isTrue("sum of reservedShares <= 1", builder.reservedShares.values().stream().mapToDouble(Double::doubleValue).sum() <= 1);
 
         maxSize = builder.maxSize;
         minSize = builder.minSize;
@@ -545,5 +684,8 @@ public class ConnectionPoolSettings {
         maintenanceFrequencyMS = builder.maintenanceFrequencyMS;
         connectionPoolListeners = unmodifiableList(builder.connectionPoolListeners);
         maxConnecting = builder.maxConnecting;
+        adaptiveConcurrencyLimit = builder.adaptiveConcurrencyLimit;
+        prioritizedCheckout = builder.prioritizedCheckout;
+        reservedShares = unmodifiableMap(new EnumMap<>(builder.reservedShares));
     }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.connection;
+
+/**
+ * The server selection mode, which defines how the driver chooses between two suitable servers within the latency window.
+ *
+ * @see ClusterSettings.Builder#serverSelectionMode(ServerSelectionMode)
+ * @since 5.11
+ */
+public enum ServerSelectionMode {
+    /**
+     * Choose the server with fewer operations in progress. This is the default.
+     */
+    OPERATION_COUNT,
+
+    /**
+     * Choose the server with the lower expected operation latency, which is the product of a moving average of the latencies of the
+     * operations the server has recently executed and the number of its operations in progress plus one.
+     * <p>
+     * The moving average rises to a latency peak as soon as it is observed, and decays exponentially over time otherwise, so that
+     * requests are steered away from an overloaded server within milliseconds, rather than within the heartbeat frequency after which a
+     * change in its heartbeat round trip time would be noticed. Until an operation completes on a server, its heartbeat round trip time
+     * is used as its average operation latency.</p>
+     */
+    OPERATION_LATENCY
+}
@@ -23,6 +23,7 @@ import com.mongodb.annotations.Immutable;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.lang.Math.toIntExact;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -38,6 +39,7 @@ public final class SocketSettings {
     private final int readTimeoutMS;
     private final int receiveBufferSize;
     private final int sendBufferSize;
+    private final int connectionAttemptDelayMS;
     private final ProxySettings proxySettings;
 
     /**
@@ -68,6 +70,7 @@ public final class SocketSettings {
         private int readTimeoutMS;
         private int receiveBufferSize;
         private int sendBufferSize;
+        private int connectionAttemptDelayMS = 250;
         private ProxySettings.Builder proxySettingsBuilder = ProxySettings.builder();
 
         private Builder() {
@@ -88,6 +91,7 @@ public final class SocketSettings {
             readTimeoutMS = socketSettings.readTimeoutMS;
             receiveBufferSize = socketSettings.receiveBufferSize;
             sendBufferSize = socketSettings.sendBufferSize;
+            connectionAttemptDelayMS = socketSettings.connectionAttemptDelayMS;
             proxySettingsBuilder.applySettings(socketSettings.getProxySettings());
             return this;
         }
@@ -141,6 +145,40 @@ public final class SocketSettings {
             return this;
         }
 
+        /**
+         * Sets the delay between starting concurrent connection attempts to the addresses that a host name resolves to.
+         *
+         * <p>If greater than 0, the addresses are ordered so that their address families alternate, and a connection attempt to the
+         * next address is started whenever the previous attempt failed or has not completed within the delay, without abandoning the
+         * attempts that are still in progress. The first attempt to succeed is used and the others are cancelled, so that an
+         * unreachable address, such as a black-holed IPv6 address of a dual-stack host, does not delay connecting by the whole connect
+         * timeout. This is the "Happy Eyeballs" algorithm of RFC 8305, which recommends a delay of 250 milliseconds.</p>
+         *
+         * <p>Defaults to 250 milliseconds. A delay of 0 connects to the addresses one at a time, in the order in which they are
+         * resolved.</p>
+         *
+         * <p>Concurrent connection attempts are only made by the default transports of the synchronous driver and of the asynchronous
+         * driver without TLS. They are not made:</p>
+         * <ul>
+         *     <li>when connecting via a SOCKS5 proxy, which resolves the host name itself;</li>
+         *     <li>by the Netty transport, which connects to the addresses one at a time;</li>
+         *     <li>by the asynchronous driver's default transport when TLS is enabled, which only connects to the first address that the
+         *     host name resolves to.</li>
+         * </ul>
+         *
+         * @param connectionAttemptDelay the connection attempt delay, which must not be negative.
+         * The delay converted to milliseconds must not be greater than {@link Integer#MAX_VALUE}.
+         * @param timeUnit the time unit
+         * @return this
+         * @see #getConnectionAttemptDelay(TimeUnit)
+         * @since 5.11
+         */
+        public Builder connectionAttemptDelay(final long connectionAttemptDelay, final TimeUnit timeUnit) {
+            isTrueArgument("connectionAttemptDelay >= 0", connectionAttemptDelay >= 0);
+            this.connectionAttemptDelayMS = timeoutArgumentToMillis(connectionAttemptDelay, timeUnit);
+            return this;
+        }
+
         /**
          * Applies the {@link ProxySettings.Builder} block and then sets the {@link SocketSettings#proxySettings}.
          *
@@ -207,6 +245,19 @@ public final class SocketSettings {
         return (int) timeUnit.convert(readTimeoutMS, MILLISECONDS);
     }
 
+    /**
+     * Gets the delay between starting concurrent connection attempts to the addresses that a host name resolves to.
+     * Defaults to 250 milliseconds. A delay of 0 indicates that the addresses are connected to one at a time.
+     *
+     * @param timeUnit the time unit to get the delay in
+     * @return the connection attempt delay in the requested time unit
+     * @see Builder#connectionAttemptDelay(long, TimeUnit)
+     * @since 5.11
+     */
+    public int getConnectionAttemptDelay(final TimeUnit timeUnit) {
+        return (int) timeUnit.convert(connectionAttemptDelayMS, MILLISECONDS);
+    }
+
     /**
      * Gets the proxy settings used for connecting to MongoDB via a SOCKS5 proxy server.
      *
@@ -259,12 +310,15 @@ public final class SocketSettings {
         if (sendBufferSize != that.sendBufferSize) {
             return false;
         }
+        if (connectionAttemptDelayMS != that.connectionAttemptDelayMS) {
+            return false;
+        }
         return proxySettings.equals(that.proxySettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(connectTimeoutMS, readTimeoutMS, receiveBufferSize, sendBufferSize, proxySettings);
+        return Objects.hash(connectTimeoutMS, readTimeoutMS, receiveBufferSize, sendBufferSize, connectionAttemptDelayMS, proxySettings);
     }
 
     @Override
@@ -273,6 +327,7 @@ public final class SocketSettings {
                 + "connectTimeoutMS=" + connectTimeoutMS
                 + ", readTimeoutMS=" + readTimeoutMS
                 + ", receiveBufferSize=" + receiveBufferSize
+                + ", connectionAttemptDelayMS=" + connectionAttemptDelayMS
                 + ", proxySettings=" + proxySettings
                 + '}';
     }
@@ -282,6 +337,7 @@ public final class SocketSettings {
         readTimeoutMS = builder.readTimeoutMS;
         receiveBufferSize = builder.receiveBufferSize;
         sendBufferSize = builder.sendBufferSize;
+        connectionAttemptDelayMS = builder.connectionAttemptDelayMS;
         proxySettings = builder.proxySettingsBuilder.build();
     }
 
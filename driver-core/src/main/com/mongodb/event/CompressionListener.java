@@ -0,0 +1,41 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.event;
+
+import java.util.EventListener;
+
+/**
+ * A listener for the compression decisions made for messages sent to a server.
+ *
+ * <p>A listener is registered with {@link com.mongodb.CompressionSettings.Builder#addCompressionListener(CompressionListener)}.
+ * It is invoked on the thread that sends the message after the message is sent, so it must not block. Exceptions it throws are
+ * logged and otherwise ignored.</p>
+ *
+ * @see com.mongodb.CompressionSettings
+ * @since 5.11
+ */
+public interface CompressionListener extends EventListener {
+
+    /**
+     * Listener for messages that have been encoded and sent, whether compressed or not.
+     *
+     * @param event the message compression event
+     */
+    default void messageEncoded(MessageCompressionEvent event) {
+    }
+}
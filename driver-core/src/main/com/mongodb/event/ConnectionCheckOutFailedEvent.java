@@ -16,6 +16,7 @@
 
 package com.mongodb.event;
 
+import com.mongodb.OperationPriority;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerId;
 
@@ -60,6 +61,7 @@ public final class ConnectionCheckOutFailedEvent {
     private final long operationId;
     private final Reason reason;
     private final long elapsedTimeNanos;
+    private final OperationPriority operationPriority;
 
     /**
      * Constructs an instance.
@@ -71,11 +73,27 @@ public final class ConnectionCheckOutFailedEvent {
      * @since 4.11
      */
     public ConnectionCheckOutFailedEvent(final ServerId serverId, final long operationId, final Reason reason, final long elapsedTimeNanos) {
+        this(serverId, operationId, reason, elapsedTimeNanos, OperationPriority.NORMAL);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param serverId The server ID. See {@link #getServerId()}.
+     * @param operationId The operation ID. See {@link #getOperationId()}.
+     * @param reason The reason the connection check out failed. See {@link #getReason()}.
+     * @param elapsedTimeNanos The time it took while trying to check out the connection. See {@link #getElapsedTime(TimeUnit)}.
+     * @param operationPriority The operation priority. See {@link #getOperationPriority()}.
+     * @since 5.11
+     */
+    public ConnectionCheckOutFailedEvent(final ServerId serverId, final long operationId, final Reason reason, final long elapsedTimeNanos,
+            final OperationPriority operationPriority) {
         this.serverId = notNull("serverId", serverId);
         this.operationId = operationId;
         this.reason = notNull("reason", reason);
         isTrueArgument("waited time is not negative", elapsedTimeNanos >= 0);
         this.elapsedTimeNanos = elapsedTimeNanos;
+        this.operationPriority = notNull("operationPriority", operationPriority);
     }
 
     /**
@@ -126,6 +144,17 @@ public final class ConnectionCheckOutFailedEvent {
         return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Gets the priority of the operation that failed to check out a connection, by which the pool served the checkout if checkouts are
+     * {@linkplain ConnectionPoolSettings#isPrioritizedCheckout() prioritized}.
+     *
+     * @return the operation priority
+     * @since 5.11
+     */
+    public OperationPriority getOperationPriority() {
+        return operationPriority;
+    }
+
     @Override
     public String toString() {
         return "ConnectionCheckOutFailedEvent{"
@@ -134,6 +163,7 @@ public final class ConnectionCheckOutFailedEvent {
                 + ", operationId=" + operationId
                 + ", reason=" + reason
                 + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + ", operationPriority=" + operationPriority
                 + '}';
     }
 }
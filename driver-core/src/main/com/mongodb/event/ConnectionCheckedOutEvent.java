@@ -16,6 +16,7 @@
 
 package com.mongodb.event;
 
+import com.mongodb.OperationPriority;
 import com.mongodb.connection.ConnectionId;
 import com.mongodb.connection.ConnectionPoolSettings;
 
@@ -34,6 +35,7 @@ public final class ConnectionCheckedOutEvent {
     private final ConnectionId connectionId;
     private final long operationId;
     private final long elapsedTimeNanos;
+    private final OperationPriority operationPriority;
 
     /**
      * Constructs an instance.
@@ -44,10 +46,25 @@ public final class ConnectionCheckedOutEvent {
      * @since 4.11
      */
     public ConnectionCheckedOutEvent(final ConnectionId connectionId, final long operationId, final long elapsedTimeNanos) {
+        this(connectionId, operationId, elapsedTimeNanos, OperationPriority.NORMAL);
+    }
+
+    /**
+     * Constructs an instance.
+     *
+     * @param connectionId The connection ID. See {@link #getConnectionId()}.
+     * @param operationId The operation ID. See {@link #getOperationId()}.
+     * @param elapsedTimeNanos The time it took to check out the connection. See {@link #getElapsedTime(TimeUnit)}.
+     * @param operationPriority The operation priority. See {@link #getOperationPriority()}.
+     * @since 5.11
+     */
+    public ConnectionCheckedOutEvent(final ConnectionId connectionId, final long operationId, final long elapsedTimeNanos,
+            final OperationPriority operationPriority) {
         this.connectionId = notNull("connectionId", connectionId);
         this.operationId = operationId;
         isTrueArgument("waited time is not negative", elapsedTimeNanos >= 0);
         this.elapsedTimeNanos = elapsedTimeNanos;
+        this.operationPriority = notNull("operationPriority", operationPriority);
     }
 
     /**
@@ -88,6 +105,17 @@ public final class ConnectionCheckedOutEvent {
         return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
     }
 
+    /**
+     * Gets the priority of the operation that checked out the connection, by which the pool served the checkout if checkouts are
+     * {@linkplain ConnectionPoolSettings#isPrioritizedCheckout() prioritized}.
+     *
+     * @return the operation priority
+     * @since 5.11
+     */
+    public OperationPriority getOperationPriority() {
+        return operationPriority;
+    }
+
     @Override
     public String toString() {
         return "ConnectionCheckedOutEvent{"
@@ -96,6 +124,7 @@ public final class ConnectionCheckedOutEvent {
                 + ", clusterId=" + connectionId.getServerId().getClusterId()
                 + ", operationId=" + operationId
                 + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + ", operationPriority=" + operationPriority
                 + '}';
     }
 }
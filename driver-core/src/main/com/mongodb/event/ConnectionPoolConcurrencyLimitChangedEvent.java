@@ -0,0 +1,82 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.connection.ServerId;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+
+/**
+ * An event signifying that the adaptive concurrency limit of a connection pool changed.
+ *
+ * @see com.mongodb.connection.ConnectionPoolSettings.Builder#adaptiveConcurrencyLimit(boolean)
+ * @since 5.11
+ */
+public final class ConnectionPoolConcurrencyLimitChangedEvent {
+    private final ServerId serverId;
+    private final int previousLimit;
+    private final int limit;
+
+    /**
+     * Constructs a new instance of the event.
+     *
+     * @param serverId the server id
+     * @param previousLimit the previous concurrency limit
+     * @param limit the new concurrency limit
+     */
+    public ConnectionPoolConcurrencyLimitChangedEvent(final ServerId serverId, final int previousLimit, final int limit) {
+        this.serverId = assertNotNull(serverId);
+        this.previousLimit = previousLimit;
+        this.limit = limit;
+    }
+
+    /**
+     * Gets the server id
+     *
+     * @return the server id
+     */
+    public ServerId getServerId() {
+        return serverId;
+    }
+
+    /**
+     * Gets the maximum number of connections that could be checked out of the pool concurrently before the change.
+     *
+     * @return the previous concurrency limit
+     */
+    public int getPreviousLimit() {
+        return previousLimit;
+    }
+
+    /**
+     * Gets the maximum number of connections that may be checked out of the pool concurrently.
+     *
+     * @return the concurrency limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolConcurrencyLimitChangedEvent{"
+                + "serverId=" + serverId
+                + ", previousLimit=" + previousLimit
+                + ", limit=" + limit
+                + '}';
+    }
+}
@@ -59,6 +59,16 @@ public interface ConnectionPoolListener extends EventListener {
     default void connectionPoolClosed(ConnectionPoolClosedEvent event) {
     }
 
+    /**
+     * Invoked when the adaptive concurrency limit of a connection pool changes. The default implementation does nothing.
+     *
+     * @param event the event
+     * @see com.mongodb.connection.ConnectionPoolSettings.Builder#adaptiveConcurrencyLimit(boolean)
+     * @since 5.11
+     */
+    default void connectionPoolConcurrencyLimitChanged(ConnectionPoolConcurrencyLimitChangedEvent event) {
+    }
+
     /**
      * Invoked when attempting to check out a connection from a pool. The default implementation does nothing.
      *
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.ServerAddress;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An event signifying that a hedged read has completed, either with the first response of its two reads, or with the failure of both.
+ *
+ * @see HedgedReadListener
+ * @since 5.11
+ */
+public final class HedgedReadCompletedEvent {
+    private final String commandName;
+    private final ServerAddress serverAddress;
+    private final boolean succeeded;
+    private final boolean hedgeWon;
+    private final long elapsedTimeNanos;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param commandName the name of the command
+     * @param serverAddress the address of the server to which the read was first sent
+     * @param succeeded whether either of the reads succeeded
+     * @param hedgeWon whether the response of the read sent to the second server was returned
+     * @param elapsedTimeNanos the time elapsed from the start of the first read until the completion of the hedged read
+     */
+    public HedgedReadCompletedEvent(final String commandName, final ServerAddress serverAddress, final boolean succeeded,
+            final boolean hedgeWon, final long elapsedTimeNanos) {
+        this.commandName = notNull("commandName", commandName);
+        this.serverAddress = notNull("serverAddress", serverAddress);
+        isTrueArgument("the hedge can only win if it succeeded", succeeded || !hedgeWon);
+        isTrueArgument("elapsed time is not negative", elapsedTimeNanos >= 0);
+        this.succeeded = succeeded;
+        this.hedgeWon = hedgeWon;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the address of the server to which the read was first sent.
+     *
+     * @return the server address
+     */
+    public ServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    /**
+     * Gets whether either of the reads succeeded.
+     *
+     * @return true if a response was returned, false if both reads failed
+     */
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    /**
+     * Gets whether the response of the read sent to the second server was returned.
+     *
+     * @return true if the hedge won, false if the response of the read first sent was returned, or if both reads failed
+     */
+    public boolean isHedgeWon() {
+        return hedgeWon;
+    }
+
+    /**
+     * Gets the time elapsed from the start of the first read until the completion of the hedged read.
+     *
+     * @param timeUnit the time unit of the result
+     * @return the elapsed time
+     */
+    public long getElapsedTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgedReadCompletedEvent{"
+                + "commandName='" + commandName + '\''
+                + ", serverAddress=" + serverAddress
+                + ", succeeded=" + succeeded
+                + ", hedgeWon=" + hedgeWon
+                + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + '}';
+    }
+}
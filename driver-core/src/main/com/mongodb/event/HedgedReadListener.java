@@ -0,0 +1,47 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import java.util.EventListener;
+
+/**
+ * A listener for client-side hedged reads, which can be used to count how often reads are hedged and how often the hedged read wins.
+ *
+ * <p>A listener is registered with {@link com.mongodb.HedgedReadSettings.Builder#addHedgedReadListener(HedgedReadListener)}.
+ * It is invoked on the driver's hedging threads, so it must not block.</p>
+ *
+ * @see com.mongodb.HedgedReadSettings
+ * @since 5.11
+ */
+public interface HedgedReadListener extends EventListener {
+
+    /**
+     * Listener for reads that did not complete within the hedging delay, and which have been sent to a second server.
+     *
+     * @param event the hedged read started event
+     */
+    default void hedgedReadStarted(HedgedReadStartedEvent event) {
+    }
+
+    /**
+     * Listener for hedged reads whose first response has been returned, or both of whose reads have failed.
+     *
+     * @param event the hedged read completed event
+     */
+    default void hedgedReadCompleted(HedgedReadCompletedEvent event) {
+    }
+}
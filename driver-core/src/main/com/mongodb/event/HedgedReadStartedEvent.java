@@ -0,0 +1,87 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.event;
+
+import com.mongodb.ServerAddress;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An event signifying that a read did not complete within the hedging delay, and that it has been sent to a second server.
+ *
+ * @see HedgedReadListener
+ * @since 5.11
+ */
+public final class HedgedReadStartedEvent {
+    private final String commandName;
+    private final ServerAddress serverAddress;
+    private final long delayNanos;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param commandName the name of the command
+     * @param serverAddress the address of the server to which the read was first sent
+     * @param delayNanos the hedging delay that elapsed before the read was sent to a second server
+     */
+    public HedgedReadStartedEvent(final String commandName, final ServerAddress serverAddress, final long delayNanos) {
+        this.commandName = notNull("commandName", commandName);
+        this.serverAddress = notNull("serverAddress", serverAddress);
+        isTrueArgument("delay is not negative", delayNanos >= 0);
+        this.delayNanos = delayNanos;
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the address of the server to which the read was first sent, and which is excluded from the selection of the second server.
+     *
+     * @return the server address
+     */
+    public ServerAddress getServerAddress() {
+        return serverAddress;
+    }
+
+    /**
+     * Gets the hedging delay that elapsed before the read was sent to a second server.
+     *
+     * @param timeUnit the time unit of the result
+     * @return the hedging delay
+     */
+    public long getDelay(final TimeUnit timeUnit) {
+        return timeUnit.convert(delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "HedgedReadStartedEvent{"
+                + "commandName='" + commandName + '\''
+                + ", serverAddress=" + serverAddress
+                + ", delayNanos=" + delayNanos
+                + '}';
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.event;
+
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.assertions.Assertions.notNull;
+
+/**
+ * An event describing whether, how, and at what cost a message sent to the server was compressed.
+ *
+ * @see CompressionListener
+ * @since 5.11
+ */
+public final class MessageCompressionEvent {
+    private final ConnectionId connectionId;
+    private final String commandName;
+    private final String compressorName;
+    private final int uncompressedSize;
+    private final int compressedSize;
+    private final long elapsedTimeNanos;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param connectionId the connection id
+     * @param commandName the name of the command
+     * @param compressorName the name of the compressor, or null if the message was sent uncompressed
+     * @param uncompressedSize the size of the message before compression
+     * @param compressedSize the size of the message as sent, which equals {@code uncompressedSize} if the message was not compressed
+     * @param elapsedTimeNanos the time spent compressing the message, which is zero if the message was not compressed
+     */
+    public MessageCompressionEvent(final ConnectionId connectionId, final String commandName, @Nullable final String compressorName,
+            final int uncompressedSize, final int compressedSize, final long elapsedTimeNanos) {
+        this.connectionId = notNull("connectionId", connectionId);
+        this.commandName = notNull("commandName", commandName);
+        isTrueArgument("uncompressed size is not negative", uncompressedSize >= 0);
+        isTrueArgument("compressed size is not negative", compressedSize >= 0);
+        isTrueArgument("elapsed time is not negative", elapsedTimeNanos >= 0);
+        this.compressorName = compressorName;
+        this.uncompressedSize = uncompressedSize;
+        this.compressedSize = compressedSize;
+        this.elapsedTimeNanos = elapsedTimeNanos;
+    }
+
+    /**
+     * Gets the connection id.
+     *
+     * @return the connection id
+     */
+    public ConnectionId getConnectionId() {
+        return connectionId;
+    }
+
+    /**
+     * Gets the name of the command.
+     *
+     * @return the command name
+     */
+    public String getCommandName() {
+        return commandName;
+    }
+
+    /**
+     * Gets the name of the compressor used, or null if the message was sent uncompressed.
+     *
+     * @return the compressor name, which may be null
+     */
+    @Nullable
+    public String getCompressorName() {
+        return compressorName;
+    }
+
+    /**
+     * Gets whether the message was compressed.
+     *
+     * @return true if the message was compressed
+     */
+    public boolean isCompressed() {
+        return compressorName != null;
+    }
+
+    /**
+     * Gets the size of the message before compression.
+     *
+     * @return the uncompressed size in bytes
+     */
+    public int getUncompressedSize() {
+        return uncompressedSize;
+    }
+
+    /**
+     * Gets the size of the message as sent.
+     *
+     * @return the compressed size in bytes, or the uncompressed size if the message was not compressed
+     */
+    public int getCompressedSize() {
+        return compressedSize;
+    }
+
+    /**
+     * Gets the time spent compressing the message.
+     *
+     * @param timeUnit the time unit of the result
+     * @return the time spent compressing the message, or zero if the message was not compressed
+     */
+    public long getElapsedTime(final TimeUnit timeUnit) {
+        return timeUnit.convert(elapsedTimeNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "MessageCompressionEvent{"
+                + "connectionId=" + connectionId
+                + ", commandName='" + commandName + '\''
+                + ", compressorName='" + compressorName + '\''
+                + ", uncompressedSize=" + uncompressedSize
+                + ", compressedSize=" + compressedSize
+                + ", elapsedTimeNanos=" + elapsedTimeNanos
+                + '}';
+    }
+}
@@ -29,8 +29,12 @@ import com.mongodb.internal.selector.ReadPreferenceServerSelector;
 import com.mongodb.internal.selector.ReadPreferenceWithFallbackServerSelector;
 import com.mongodb.internal.selector.ServerAddressSelector;
 import com.mongodb.internal.selector.WritableServerSelector;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.CompositeServerSelector;
+import com.mongodb.selector.ServerSelector;
 
 import static com.mongodb.assertions.Assertions.notNull;
+import static java.util.Arrays.asList;
 
 /**
  * A simple ReadWriteBinding implementation that supplies write connection sources bound to a possibly different primary each time, and a
@@ -41,6 +45,8 @@ import static com.mongodb.assertions.Assertions.notNull;
 public class ClusterBinding extends AbstractReferenceCounted implements ClusterAwareReadWriteBinding {
     private final Cluster cluster;
     private final ReadPreference readPreference;
+    @Nullable
+    private final ServerSelector additionalReadServerSelector;
 
     /**
      * Creates an instance.
@@ -48,8 +54,21 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
      * @param readPreference   a non-null ReadPreference for read operations
      */
     public ClusterBinding(final Cluster cluster, final ReadPreference readPreference) {
+        this(cluster, readPreference, null);
+    }
+
+    /**
+     * Creates an instance.
+     * @param cluster                      a non-null Cluster which will be used to select a server to bind to
+     * @param readPreference               a non-null ReadPreference for read operations
+     * @param additionalReadServerSelector a selector applied to the servers that satisfy the read preference for read operations,
+     *                                     or null
+     */
+    public ClusterBinding(final Cluster cluster, final ReadPreference readPreference,
+            @Nullable final ServerSelector additionalReadServerSelector) {
         this.cluster = notNull("cluster", cluster);
         this.readPreference = notNull("readPreference", readPreference);
+        this.additionalReadServerSelector = additionalReadServerSelector;
     }
 
     @Override
@@ -66,7 +85,7 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
     @Override
     public ConnectionSource getReadConnectionSource(final OperationContext operationContext) {
         return new ClusterBindingConnectionSource(
-                cluster.selectServer(new ReadPreferenceServerSelector(readPreference), operationContext),
+                cluster.selectServer(getReadServerSelector(new ReadPreferenceServerSelector(readPreference)), operationContext),
                 readPreference);
     }
 
@@ -79,7 +98,8 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
         } else {
             ReadPreferenceWithFallbackServerSelector readPreferenceWithFallbackServerSelector
                     = new ReadPreferenceWithFallbackServerSelector(readPreference, minWireVersion, fallbackReadPreference);
-            ServerTuple serverTuple = cluster.selectServer(readPreferenceWithFallbackServerSelector, operationContext);
+            ServerTuple serverTuple = cluster.selectServer(getReadServerSelector(readPreferenceWithFallbackServerSelector),
+                    operationContext);
             return new ClusterBindingConnectionSource(serverTuple,
                     readPreferenceWithFallbackServerSelector.getAppliedReadPreference());
         }
@@ -99,6 +119,12 @@ public class ClusterBinding extends AbstractReferenceCounted implements ClusterA
                 readPreference);
     }
 
+    private ServerSelector getReadServerSelector(final ServerSelector readPreferenceServerSelector) {
+        return additionalReadServerSelector == null
+                ? readPreferenceServerSelector
+                : new CompositeServerSelector(asList(readPreferenceServerSelector, additionalReadServerSelector));
+    }
+
     private final class ClusterBindingConnectionSource extends AbstractReferenceCounted implements ConnectionSource {
         private final Server server;
         private final ServerDescription serverDescription;
@@ -58,6 +58,8 @@ public final class FindOptions {
     private boolean showRecordId;
     private Boolean allowDiskUse;
     private TimeoutMode timeoutMode;
+    private int prefetchBatches;
+    private boolean exhaust;
 
     /**
      * Construct a new instance.
@@ -71,7 +73,7 @@ public final class FindOptions {
             final Bson sort, final CursorType cursorType, final boolean noCursorTimeout, final boolean partial,
             final Collation collation, final BsonValue comment, final Bson hint, final String hintString, final Bson variables,
             final Bson max, final Bson min, final boolean returnKey, final boolean showRecordId, final Boolean allowDiskUse,
-            final TimeoutMode timeoutMode) {
+            final TimeoutMode timeoutMode, final int prefetchBatches, final boolean exhaust) {
         this.batchSize = batchSize;
         this.limit = limit;
         this.projection = projection;
@@ -93,12 +95,15 @@ public final class FindOptions {
         this.showRecordId = showRecordId;
         this.allowDiskUse = allowDiskUse;
         this.timeoutMode = timeoutMode;
+        this.prefetchBatches = prefetchBatches;
+        this.exhaust = exhaust;
     }
     //CHECKSTYLE:ON
 
     public FindOptions withBatchSize(final int batchSize) {
         return new FindOptions(batchSize, limit, projection, maxTimeMS, maxAwaitTimeMS, skip, sort, cursorType, noCursorTimeout,
-                partial, collation, comment, hint, hintString, variables, max, min, returnKey, showRecordId, allowDiskUse, timeoutMode);
+                partial, collation, comment, hint, hintString, variables, max, min, returnKey, showRecordId, allowDiskUse, timeoutMode,
+                prefetchBatches, exhaust);
     }
 
     /**
@@ -602,4 +607,44 @@ public final class FindOptions {
         this.allowDiskUse = allowDiskUse;
         return this;
     }
+
+    /**
+     * Gets the maximum number of batches to request in the background ahead of the application.  The default is 0.
+     *
+     * @return the maximum number of batches to prefetch
+     */
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * Sets the maximum number of batches to request in the background ahead of the application.
+     *
+     * @param prefetchBatches the maximum number of batches to prefetch, or 0 to not prefetch
+     * @return this
+     */
+    public FindOptions prefetchBatches(final int prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    /**
+     * Gets whether the server may stream the batches after the first one back-to-back.  The default is false.
+     *
+     * @return whether to use an exhaust cursor
+     */
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets whether the server may stream the batches after the first one back-to-back.
+     *
+     * @param exhaust whether to use an exhaust cursor
+     * @return this
+     */
+    public FindOptions exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionPoolConcurrencyLimitChangedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.assertTrue;
+import static com.mongodb.internal.Locks.lockInterruptibly;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+
+/**
+ * Limits the number of connections that are checked out of a {@link DefaultConnectionPool} concurrently, adapting the limit with the
+ * additive-increase/multiplicative-decrease algorithm.
+ *
+ * <p>An operation is a sign of congestion if it fails with a network error or timeout, or if the short-term average of the operation
+ * latencies exceeds their long-term average by more than {@value #LATENCY_TOLERANCE} times. Congestion decreases the limit to
+ * {@value #BACKOFF_RATIO} times the number of connections in use, at most once per generation of operations, that is only for
+ * operations that started after the previous decrease. Otherwise, the limit is increased by one per limit operations, as long as
+ * the limit is reached.</p>
+ */
+@ThreadSafe
+final class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double LATENCY_TOLERANCE = 2;
+    private static final double SHORT_TERM_LATENCY_ALPHA = 0.1;
+    private static final double LONG_TERM_LATENCY_ALPHA = 0.01;
+    private static final int MIN_LIMIT = 1;
+
+    private final ServerId serverId;
+    private final int maxLimit;
+    private final ConnectionPoolListener connectionPoolListener;
+    private final Runnable throwIfClosedOrPaused;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailableOrClosedOrPausedCondition = lock.newCondition();
+    private double limit;
+    private int inUse;
+    private int waiters;
+    private double shortTermLatencyNanos = -1;
+    private double longTermLatencyNanos = -1;
+    private long lastDecreaseNanos;
+
+    /**
+     * @param maxLimit The initial and maximum limit.
+     * @param throwIfClosedOrPaused Throws if the pool is closed or paused, which is checked before a permit is taken.
+     */
+    AdaptiveConcurrencyLimiter(final ServerId serverId, final int maxLimit, final ConnectionPoolListener connectionPoolListener,
+            final Runnable throwIfClosedOrPaused, final long nowNanos) {
+        assertTrue(maxLimit >= MIN_LIMIT);
+        this.serverId = assertNotNull(serverId);
+        this.maxLimit = maxLimit;
+        this.connectionPoolListener = assertNotNull(connectionPoolListener);
+        this.throwIfClosedOrPaused = assertNotNull(throwIfClosedOrPaused);
+        limit = maxLimit;
+        lastDecreaseNanos = nowNanos;
+    }
+
+    int getLimit() {
+        return withLock(lock, () -> (int) limit);
+    }
+
+    int getInUse() {
+        return withLock(lock, () -> inUse);
+    }
+
+    /**
+     * Takes a permit if one is available, without checking whether the pool is closed or paused, and without waiting.
+     */
+    boolean tryAcquire() {
+        return withLock(lock, () -> {
+            if (inUse >= (int) limit) {
+                return false;
+            }
+            inUse++;
+            return true;
+        });
+    }
+
+    /**
+     * @param timeout Waits indefinitely if negative.
+     * @return {@code false} if the timeout elapsed before a permit became available.
+     */
+    boolean tryAcquire(final long timeout, final TimeUnit unit) throws MongoInterruptedException {
+        long remainingNanos = unit.toNanos(timeout);
+        lockInterruptibly(lock);
+        try {
+            throwIfClosedOrPaused.run();
+            while (inUse >= (int) limit) {
+                waiters++;
+                try {
+                    if (timeout < 0 || remainingNanos == Long.MAX_VALUE) {
+                        permitAvailableOrClosedOrPausedCondition.await();
+                    } else if (remainingNanos > 0) {
+                        remainingNanos = permitAvailableOrClosedOrPausedCondition.awaitNanos(remainingNanos);
+                    } else {
+                        return false;
+                    }
+                } catch (InterruptedException e) {
+                    throw interruptAndCreateMongoInterruptedException(null, e);
+                } finally {
+                    waiters--;
+                }
+                throwIfClosedOrPaused.run();
+            }
+            inUse++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit without adapting the limit, for a checkout that failed or a connection whose latency is not representative.
+     */
+    void release() {
+        withLock(lock, () -> {
+            assertTrue(inUse > 0);
+            inUse--;
+            permitAvailableOrClosedOrPausedCondition.signal();
+        });
+    }
+
+    /**
+     * Releases a permit and adapts the limit to the outcome of the operations executed with the connection.
+     *
+     * @param checkedOutNanos When the connection was checked out.
+     * @param failed Whether the connection was closed because of an error.
+     */
+    void release(final long checkedOutNanos, final long nowNanos, final boolean failed) {
+        release(checkedOutNanos, nowNanos, failed, false);
+    }
+
+    /**
+     * @param othersWaiting Whether checkouts that the caller queues itself are waiting, in which case the limit is reached even if
+     * fewer permits than the limit are in use.
+     */
+    void release(final long checkedOutNanos, final long nowNanos, final boolean failed, final boolean othersWaiting) {
+        int previousLimit;
+        int newLimit;
+        lock.lock();
+        try {
+            assertTrue(inUse > 0);
+            previousLimit = (int) limit;
+            boolean limitReached = inUse >= previousLimit || waiters > 0 || othersWaiting;
+            if (failed || addLatencySample(nowNanos - checkedOutNanos)) {
+                if (checkedOutNanos - lastDecreaseNanos >= 0) {
+                    limit = Math.max(MIN_LIMIT, Math.min(limit, inUse) * BACKOFF_RATIO);
+                    lastDecreaseNanos = nowNanos;
+                }
+            } else if (limitReached) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            inUse--;
+            newLimit = (int) limit;
+            if (newLimit > previousLimit) {
+                permitAvailableOrClosedOrPausedCondition.signalAll();
+            } else {
+                permitAvailableOrClosedOrPausedCondition.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (newLimit != previousLimit) {
+            connectionPoolListener.connectionPoolConcurrencyLimitChanged(
+                    new ConnectionPoolConcurrencyLimitChangedEvent(serverId, previousLimit, newLimit));
+        }
+    }
+
+    void signalClosedOrPaused() {
+        withLock(lock, permitAvailableOrClosedOrPausedCondition::signalAll);
+    }
+
+    /**
+     * @return Whether the latencies indicate congestion.
+     */
+    private boolean addLatencySample(final long latencyNanos) {
+        if (shortTermLatencyNanos < 0) {
+            shortTermLatencyNanos = latencyNanos;
+            longTermLatencyNanos = latencyNanos;
+            return false;
+        }
+        shortTermLatencyNanos = SHORT_TERM_LATENCY_ALPHA * latencyNanos + (1 - SHORT_TERM_LATENCY_ALPHA) * shortTermLatencyNanos;
+        longTermLatencyNanos = LONG_TERM_LATENCY_ALPHA * latencyNanos + (1 - LONG_TERM_LATENCY_ALPHA) * longTermLatencyNanos;
+        return shortTermLatencyNanos > LATENCY_TOLERANCE * longTermLatencyNanos;
+    }
+}
@@ -25,20 +25,30 @@ import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousChannelGroup;
 import java.nio.channels.AsynchronousSocketChannel;
 import java.nio.channels.CompletionHandler;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.mongodb.assertions.Assertions.isTrue;
+import static com.mongodb.internal.Locks.withLock;
 import static com.mongodb.internal.connection.ServerAddressHelper.getSocketAddresses;
+import static com.mongodb.internal.connection.ServerAddressHelper.interleaveAddressFamilies;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -49,6 +59,8 @@ public final class AsynchronousSocketChannelStream extends AsynchronousChannelSt
     private final SocketSettings settings;
     @Nullable
     private final AsynchronousChannelGroup group;
+    @Nullable
+    private final ScheduledExecutorService backgroundExecutor;
 
     AsynchronousSocketChannelStream(
             final ServerAddress serverAddress, final InetAddressResolver inetAddressResolver,
@@ -60,26 +72,42 @@ public final class AsynchronousSocketChannelStream extends AsynchronousChannelSt
             final ServerAddress serverAddress, final InetAddressResolver inetAddressResolver,
             final SocketSettings settings, final PowerOfTwoBufferPool bufferProvider,
             @Nullable final AsynchronousChannelGroup group) {
+        this(serverAddress, inetAddressResolver, settings, bufferProvider, group, null);
+    }
+
+    /**
+     * @param backgroundExecutor the executor of the client to schedule concurrent connection attempts on, or null to make the connection
+     * attempts one at a time
+     */
+    public AsynchronousSocketChannelStream(
+            final ServerAddress serverAddress, final InetAddressResolver inetAddressResolver,
+            final SocketSettings settings, final PowerOfTwoBufferPool bufferProvider,
+            @Nullable final AsynchronousChannelGroup group, @Nullable final ScheduledExecutorService backgroundExecutor) {
         super(serverAddress, settings, bufferProvider);
         this.serverAddress = serverAddress;
         this.inetAddressResolver = inetAddressResolver;
         this.settings = settings;
         this.group = group;
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @Override
     public void openAsync(final OperationContext operationContext, final AsyncCompletionHandler<Void> handler) {
         isTrue("unopened", getChannel() == null);
-        Queue<SocketAddress> socketAddressQueue;
+        List<InetSocketAddress> socketAddresses;
 
         try {
-            socketAddressQueue = new LinkedList<>(getSocketAddresses(serverAddress, inetAddressResolver));
+            socketAddresses = getSocketAddresses(serverAddress, inetAddressResolver);
         } catch (Throwable t) {
             handler.failed(t);
             return;
         }
 
-        initializeSocketChannel(handler, socketAddressQueue);
+        if (backgroundExecutor != null && settings.getConnectionAttemptDelay(MILLISECONDS) > 0 && socketAddresses.size() > 1) {
+            new ConcurrentOpenAttempts(handler, interleaveAddressFamilies(socketAddresses), backgroundExecutor).startNextAttempt();
+        } else {
+            initializeSocketChannel(handler, new LinkedList<>(socketAddresses));
+        }
     }
 
     private void initializeSocketChannel(final AsyncCompletionHandler<Void> handler, final Queue<SocketAddress> socketAddressQueue) {
@@ -89,19 +117,7 @@ public final class AsynchronousSocketChannelStream extends AsynchronousChannelSt
             SocketAddress socketAddress = socketAddressQueue.poll();
 
             try {
-                AsynchronousSocketChannel attemptConnectionChannel;
-                attemptConnectionChannel = group == null
-                        ? AsynchronousSocketChannel.open()
-                        : AsynchronousSocketChannel.open(group);
-                attemptConnectionChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
-                attemptConnectionChannel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
-                if (settings.getReceiveBufferSize() > 0) {
-                    attemptConnectionChannel.setOption(StandardSocketOptions.SO_RCVBUF, settings.getReceiveBufferSize());
-                }
-                if (settings.getSendBufferSize() > 0) {
-                    attemptConnectionChannel.setOption(StandardSocketOptions.SO_SNDBUF, settings.getSendBufferSize());
-                }
-
+                AsynchronousSocketChannel attemptConnectionChannel = openAttemptConnectionChannel();
                 attemptConnectionChannel.connect(socketAddress, null,
                         new OpenCompletionHandler(handler, socketAddressQueue, attemptConnectionChannel));
             } catch (IOException e) {
@@ -112,6 +128,165 @@ public final class AsynchronousSocketChannelStream extends AsynchronousChannelSt
         }
     }
 
+    private AsynchronousSocketChannel openAttemptConnectionChannel() throws IOException {
+        AsynchronousSocketChannel attemptConnectionChannel;
+        attemptConnectionChannel = group == null
+                ? AsynchronousSocketChannel.open()
+                : AsynchronousSocketChannel.open(group);
+        attemptConnectionChannel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        attemptConnectionChannel.setOption(StandardSocketOptions.SO_KEEPALIVE, true);
+        if (settings.getReceiveBufferSize() > 0) {
+            attemptConnectionChannel.setOption(StandardSocketOptions.SO_RCVBUF, settings.getReceiveBufferSize());
+        }
+        if (settings.getSendBufferSize() > 0) {
+            attemptConnectionChannel.setOption(StandardSocketOptions.SO_SNDBUF, settings.getSendBufferSize());
+        }
+        return attemptConnectionChannel;
+    }
+
+    private static void closeQuietly(final AsynchronousSocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    /**
+     * Staggered concurrent connection attempts, as described by RFC 8305. The attempt to the next address is started as soon as the
+     * previous attempt fails, or once the connection attempt delay has elapsed. The first channel to connect is used, and the channels
+     * of the other attempts are closed. Only starting an attempt once the delay has elapsed runs on the client's background executor: the
+     * attempts themselves complete on the channel group's threads.
+     */
+    private final class ConcurrentOpenAttempts {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AsyncCompletionHandler<Void> handler;
+        private final Queue<SocketAddress> socketAddressQueue;
+        private final ScheduledExecutorService backgroundExecutor;
+        private final List<AsynchronousSocketChannel> attemptConnectionChannels = new ArrayList<>();
+        private int attemptsInProgress;
+        private boolean done;
+        @Nullable
+        private ScheduledFuture<?> scheduledAttempt;
+
+        ConcurrentOpenAttempts(final AsyncCompletionHandler<Void> handler, final List<InetSocketAddress> socketAddresses,
+                final ScheduledExecutorService backgroundExecutor) {
+            this.handler = handler;
+            this.socketAddressQueue = new LinkedList<>(socketAddresses);
+            this.backgroundExecutor = backgroundExecutor;
+        }
+
+        void startNextAttempt() {
+            SocketAddress socketAddress = withLock(lock, () -> {
+                cancelScheduledAttempt();
+                return done ? null : socketAddressQueue.poll();
+            });
+            if (socketAddress == null) {
+                return;
+            }
+            AsynchronousSocketChannel attemptConnectionChannel;
+            try {
+                attemptConnectionChannel = openAttemptConnectionChannel();
+            } catch (Throwable t) {
+                onAttemptFailed(null, t);
+                return;
+            }
+            boolean started = withLock(lock, () -> {
+                if (done) {
+                    return false;
+                }
+                attemptConnectionChannels.add(attemptConnectionChannel);
+                attemptsInProgress++;
+                if (!socketAddressQueue.isEmpty()) {
+                    try {
+                        scheduledAttempt = backgroundExecutor.schedule(this::startNextAttempt,
+                                settings.getConnectionAttemptDelay(MILLISECONDS), MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // the client is being closed, so the next attempt is only started once this one has failed
+                    }
+                }
+                return true;
+            });
+            if (!started) {
+                closeQuietly(attemptConnectionChannel);
+                return;
+            }
+            try {
+                attemptConnectionChannel.connect(socketAddress, null, new CompletionHandler<Void, Object>() {
+                    @Override
+                    public void completed(final Void result, final Object attachment) {
+                        onAttemptSucceeded(attemptConnectionChannel);
+                    }
+
+                    @Override
+                    public void failed(final Throwable exc, final Object attachment) {
+                        onAttemptFailed(attemptConnectionChannel, exc);
+                    }
+                });
+            } catch (Throwable t) {
+                onAttemptFailed(attemptConnectionChannel, t);
+            }
+        }
+
+        private void onAttemptSucceeded(final AsynchronousSocketChannel attemptConnectionChannel) {
+            List<AsynchronousSocketChannel> channelsToClose = withLock(lock, () -> {
+                List<AsynchronousSocketChannel> otherChannels = new ArrayList<>(attemptConnectionChannels);
+                otherChannels.remove(attemptConnectionChannel);
+                if (done) {
+                    otherChannels.clear();
+                    otherChannels.add(attemptConnectionChannel);
+                    return otherChannels;
+                }
+                done = true;
+                cancelScheduledAttempt();
+                return otherChannels;
+            });
+            channelsToClose.forEach(AsynchronousSocketChannelStream::closeQuietly);
+            if (!channelsToClose.contains(attemptConnectionChannel)) {
+                setChannel(new AsynchronousSocketChannelAdapter(attemptConnectionChannel));
+                handler.completed(null);
+            }
+        }
+
+        private void onAttemptFailed(@Nullable final AsynchronousSocketChannel attemptConnectionChannel, final Throwable exc) {
+            if (attemptConnectionChannel != null) {
+                closeQuietly(attemptConnectionChannel);
+            }
+            // true to start the next attempt, false to fail, null to wait for the attempts in progress
+            Boolean startNextAttempt = withLock(lock, () -> {
+                if (attemptConnectionChannel != null) {
+                    attemptsInProgress--;
+                }
+                if (done) {
+                    return null;
+                } else if (!socketAddressQueue.isEmpty()) {
+                    return true;
+                } else if (attemptsInProgress == 0) {
+                    done = true;
+                    return false;
+                }
+                return null;
+            });
+            if (startNextAttempt == null) {
+                return;
+            }
+            if (startNextAttempt) {
+                startNextAttempt();
+            } else if (exc instanceof IOException) {
+                handler.failed(new MongoSocketOpenException("Exception opening socket", getAddress(), exc));
+            } else {
+                handler.failed(exc);
+            }
+        }
+
+        private void cancelScheduledAttempt() {
+            if (scheduledAttempt != null) {
+                scheduledAttempt.cancel(false);
+                scheduledAttempt = null;
+            }
+        }
+    }
+
     private class OpenCompletionHandler implements CompletionHandler<Void, Object>  {
         private final AtomicReference<AsyncCompletionHandler<Void>> handlerReference;
         private final Queue<SocketAddress> socketAddressQueue;
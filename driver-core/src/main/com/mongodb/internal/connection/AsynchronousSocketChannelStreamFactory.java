@@ -23,6 +23,7 @@ import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 
 import java.nio.channels.AsynchronousChannelGroup;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static com.mongodb.assertions.Assertions.assertFalse;
 import static com.mongodb.assertions.Assertions.notNull;
@@ -31,11 +32,13 @@ import static com.mongodb.assertions.Assertions.notNull;
  * Factory to create a Stream that's an AsynchronousSocketChannelStream. Throws an exception if SSL is enabled.
  */
 public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
-    private final PowerOfTwoBufferPool bufferProvider = PowerOfTwoBufferPool.DEFAULT;
+    private final PowerOfTwoBufferPool bufferProvider;
     private final SocketSettings settings;
     private final InetAddressResolver inetAddressResolver;
     @Nullable
     private final AsynchronousChannelGroup group;
+    @Nullable
+    private final ScheduledExecutorService backgroundExecutor;
 
     /**
      * Create a new factory with the default {@code BufferProvider} and {@code AsynchronousChannelGroup}.
@@ -46,22 +49,25 @@ public class AsynchronousSocketChannelStreamFactory implements StreamFactory {
     public AsynchronousSocketChannelStreamFactory(
             final InetAddressResolver inetAddressResolver, final SocketSettings settings,
             final SslSettings sslSettings) {
-        this(inetAddressResolver, settings, sslSettings, null);
+        this(inetAddressResolver, settings, sslSettings, null, PowerOfTwoBufferPool.DEFAULT, null);
     }
 
     AsynchronousSocketChannelStreamFactory(
             final InetAddressResolver inetAddressResolver, final SocketSettings settings,
-            final SslSettings sslSettings, @Nullable final AsynchronousChannelGroup group) {
+            final SslSettings sslSettings, @Nullable final AsynchronousChannelGroup group,
+            final PowerOfTwoBufferPool bufferProvider, @Nullable final ScheduledExecutorService backgroundExecutor) {
         assertFalse(sslSettings.isEnabled());
         this.inetAddressResolver = inetAddressResolver;
         this.settings = notNull("settings", settings);
         this.group = group;
+        this.bufferProvider = notNull("bufferProvider", bufferProvider);
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @Override
     public Stream create(final ServerAddress serverAddress) {
         return new AsynchronousSocketChannelStream(
-                serverAddress, inetAddressResolver, settings, bufferProvider, group);
+                serverAddress, inetAddressResolver, settings, bufferProvider, group, backgroundExecutor);
     }
 
 }
@@ -22,6 +22,7 @@ import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 
 import java.nio.channels.AsynchronousChannelGroup;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * A {@code StreamFactoryFactory} implementation for AsynchronousSocketChannel-based streams.
@@ -32,22 +33,29 @@ public final class AsynchronousSocketChannelStreamFactoryFactory implements Stre
     private final InetAddressResolver inetAddressResolver;
     @Nullable
     private final AsynchronousChannelGroup group;
+    private final PowerOfTwoBufferPool bufferPool;
+    @Nullable
+    private final ScheduledExecutorService backgroundExecutor;
 
     public AsynchronousSocketChannelStreamFactoryFactory(final InetAddressResolver inetAddressResolver) {
-        this(inetAddressResolver, null);
+        this(inetAddressResolver, null, PowerOfTwoBufferPool.DEFAULT, null);
     }
 
     AsynchronousSocketChannelStreamFactoryFactory(
             final InetAddressResolver inetAddressResolver,
-            @Nullable final AsynchronousChannelGroup group) {
+            @Nullable final AsynchronousChannelGroup group,
+            final PowerOfTwoBufferPool bufferPool,
+            @Nullable final ScheduledExecutorService backgroundExecutor) {
         this.inetAddressResolver = inetAddressResolver;
         this.group = group;
+        this.bufferPool = bufferPool;
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @Override
     public StreamFactory create(final SocketSettings socketSettings, final SslSettings sslSettings) {
         return new AsynchronousSocketChannelStreamFactory(
-                inetAddressResolver, socketSettings, sslSettings, group);
+                inetAddressResolver, socketSettings, sslSettings, group, bufferPool, backgroundExecutor);
     }
 
     @Override
@@ -55,5 +63,8 @@ public final class AsynchronousSocketChannelStreamFactoryFactory implements Stre
         if (group != null) {
             group.shutdown();
         }
+        if (bufferPool != PowerOfTwoBufferPool.DEFAULT) {
+            bufferPool.disablePruning();
+        }
     }
 }
@@ -28,6 +28,7 @@ import com.mongodb.connection.ClusterDescription;
 import com.mongodb.connection.ClusterId;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerSelectionMode;
 import com.mongodb.event.ClusterClosedEvent;
 import com.mongodb.event.ClusterDescriptionChangedEvent;
 import com.mongodb.event.ClusterListener;
@@ -44,6 +45,7 @@ import com.mongodb.internal.logging.StructuredLogger;
 import com.mongodb.internal.selector.AtMostTwoRandomServerSelector;
 import com.mongodb.internal.selector.LatencyMinimizingServerSelector;
 import com.mongodb.internal.selector.MinimumOperationCountServerSelector;
+import com.mongodb.internal.selector.MinimumOperationLatencyServerSelector;
 import com.mongodb.internal.time.Timeout;
 import com.mongodb.lang.Nullable;
 import com.mongodb.selector.CompositeServerSelector;
@@ -366,7 +368,9 @@ abstract class BaseCluster implements Cluster {
                 settings.getServerSelector(), // may be null
                 new LatencyMinimizingServerSelector(settings.getLocalThreshold(MILLISECONDS), MILLISECONDS),
                 AtMostTwoRandomServerSelector.instance(),
-                new MinimumOperationCountServerSelector(serversSnapshot)
+                settings.getServerSelectionMode() == ServerSelectionMode.OPERATION_LATENCY
+                        ? new MinimumOperationLatencyServerSelector(serversSnapshot)
+                        : new MinimumOperationCountServerSelector(serversSnapshot)
         ).filter(Objects::nonNull).collect(toList());
         return new CompositeServerSelector(selectors);
     }
@@ -18,6 +18,7 @@ package com.mongodb.internal.connection;
 
 import org.bson.BsonBinary;
 import org.bson.BsonDbPointer;
+import org.bson.BsonName;
 import org.bson.BsonReader;
 import org.bson.BsonRegularExpression;
 import org.bson.BsonTimestamp;
@@ -196,6 +197,11 @@ public class BsonWriterDecorator implements BsonWriter {
         bsonWriter.writeName(name);
     }
 
+    @Override
+    public void writeName(final BsonName name) {
+        bsonWriter.writeName(name);
+    }
+
     @Override
     public void writeNull(final String name) {
         bsonWriter.writeNull(name);
@@ -25,6 +25,7 @@ import org.bson.ByteBuf;
 import org.bson.RawBsonDocument;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.DecoderContext;
+import org.bson.internal.BsonDocumentFieldIndex;
 import org.bson.io.ByteBufferBsonInput;
 import org.bson.json.JsonMode;
 import org.bson.json.JsonWriter;
@@ -53,6 +54,17 @@ final class ByteBufBsonDocument extends BsonDocument {
 
     private final transient ByteBuf byteBuf;
 
+    /**
+     * The field index, built on the second keyed lookup so that documents whose fields are looked up only once do not pay for it.
+     */
+    @Nullable
+    private transient volatile BsonDocumentFieldIndex fieldIndex;
+
+    /**
+     * Whether a keyed lookup has been made. Races only cause the index to be built one lookup earlier or later.
+     */
+    private transient boolean keyLookedUp;
+
     /**
      * Create a list of ByteBufBsonDocument from a buffer positioned at the start of the first document of an OP_MSG Section
      * of type Document Sequence (Kind 1).
@@ -131,6 +143,26 @@ final class ByteBufBsonDocument extends BsonDocument {
         return finder.notFound();
     }
 
+    // Returns null for the first keyed lookup, which scans linearly, and builds the index on the second
+    @Nullable
+    private BsonDocumentFieldIndex getFieldIndexForLookup() {
+        BsonDocumentFieldIndex index = fieldIndex;
+        if (index == null) {
+            if (!keyLookedUp) {
+                keyLookedUp = true;
+                return null;
+            }
+            ByteBuf duplicateByteBuf = byteBuf.duplicate();
+            try (BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf))) {
+                index = BsonDocumentFieldIndex.create(bsonReader);
+            } finally {
+                duplicateByteBuf.release();
+            }
+            fieldIndex = index;
+        }
+        return index;
+    }
+
     BsonDocument toBaseBsonDocument() {
         ByteBuf duplicateByteBuf = byteBuf.duplicate();
         try (BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf))) {
@@ -171,6 +203,10 @@ final class ByteBufBsonDocument extends BsonDocument {
 
     @Override
     public boolean isEmpty() {
+        BsonDocumentFieldIndex index = fieldIndex;
+        if (index != null) {
+            return index.size() == 0;
+        }
         return assertNotNull(findInDocument(new Finder<Boolean>() {
             @Override
             public Boolean find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
@@ -186,6 +222,10 @@ final class ByteBufBsonDocument extends BsonDocument {
 
     @Override
     public int size() {
+        BsonDocumentFieldIndex index = fieldIndex;
+        if (index != null) {
+            return index.size();
+        }
         return assertNotNull(findInDocument(new Finder<Integer>() {
             private int size;
 
@@ -226,6 +266,10 @@ final class ByteBufBsonDocument extends BsonDocument {
             throw new IllegalArgumentException("key can not be null");
         }
 
+        BsonDocumentFieldIndex index = getFieldIndexForLookup();
+        if (index != null) {
+            return index.containsKey(key);
+        }
         Boolean containsKey = findInDocument(new Finder<Boolean>() {
             @Override
             public Boolean find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
@@ -268,6 +312,19 @@ final class ByteBufBsonDocument extends BsonDocument {
     @Override
     public BsonValue get(final Object key) {
         notNull("key", key);
+        BsonDocumentFieldIndex index = getFieldIndexForLookup();
+        if (index != null) {
+            if (!index.containsKey(key)) {
+                return null;
+            }
+            ByteBuf duplicateByteBuf = byteBuf.duplicate();
+            try (BsonBinaryReader bsonReader = new BsonBinaryReader(new ByteBufferBsonInput(duplicateByteBuf))) {
+                index.moveToValue(bsonReader, key);
+                return readBsonValue(duplicateByteBuf, bsonReader);
+            } finally {
+                duplicateByteBuf.release();
+            }
+        }
         return findInDocument(new Finder<BsonValue>() {
             @Override
             public BsonValue find(final ByteBuf byteBuf, final BsonBinaryReader bsonReader) {
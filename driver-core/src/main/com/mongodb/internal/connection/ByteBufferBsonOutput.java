@@ -172,6 +172,40 @@ public class ByteBufferBsonOutput extends OutputBuffer {
         position++;
     }
 
+    /**
+     * Gets the buffer that the next bytes are to be written to, so that a caller can put bytes into it directly instead of copying
+     * them through {@link #writeBytes(byte[], int, int)}.  If the current buffer has fewer than {@code minimumRemaining} bytes
+     * remaining, it is left partially filled and a new buffer with at least that many bytes remaining is started.
+     *
+     * <p>The caller must report the number of bytes it put into the returned buffer via {@link #commitWritableBuffer(int)} before
+     * writing anything else to this output.</p>
+     *
+     * @param minimumRemaining the minimum number of bytes that the returned buffer must have remaining
+     * @return the buffer
+     */
+    public ByteBuf getWritableBuffer(final int minimumRemaining) {
+        ensureOpen();
+        ByteBuf buf = getCurrentByteBuffer();
+        if (buf.remaining() >= minimumRemaining) {
+            return buf;
+        }
+        assertTrue(curBufferIndex == bufferList.size() - 1);
+        currentByteBuffer = bufferProvider.getBuffer(Math.max(minimumRemaining, INITIAL_BUFFER_SIZE));
+        bufferList.add(currentByteBuffer);
+        curBufferIndex++;
+        return currentByteBuffer;
+    }
+
+    /**
+     * Accounts for the bytes put directly into the buffer returned by {@link #getWritableBuffer(int)}.
+     *
+     * @param numBytes the number of bytes that were put into the buffer
+     */
+    public void commitWritableBuffer(final int numBytes) {
+        ensureOpen();
+        position += numBytes;
+    }
+
     private ByteBuf getCurrentByteBuffer() {
         if (currentByteBuffer == null) {
             currentByteBuffer = getByteBufferAtIndex(curBufferIndex);
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.OperationPriority;
 import com.mongodb.ReadConcern;
 import com.mongodb.internal.session.SessionContext;
 import com.mongodb.lang.Nullable;
@@ -136,4 +137,9 @@ public final class ClusterClockAdvancingSessionContext implements SessionContext
     public boolean isSessionMarkedDirty() {
         return wrapped.isSessionMarkedDirty();
     }
+
+    @Override
+    public OperationPriority getOperationPriority() {
+        return wrapped.getOperationPriority();
+    }
 }
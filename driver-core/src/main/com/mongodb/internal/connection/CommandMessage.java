@@ -194,6 +194,25 @@ public final class CommandMessage extends RequestMessage {
         }
     }
 
+    /**
+     * Gets the total size of the binary values of the encoded message whose data is already compressed.
+     *
+     * @see CompressedBinaryPayloads
+     */
+    int getCompressedBinaryPayloadSize(final ByteBufferBsonOutput bsonOutput) {
+        List<ByteBuf> byteBuffers = bsonOutput.getByteBuffers();
+        try {
+            CompositeByteBuf byteBuf = new CompositeByteBuf(byteBuffers);
+            try {
+                return CompressedBinaryPayloads.sizeOfSections(byteBuf, firstDocumentPosition, byteBuf.limit());
+            } finally {
+                byteBuf.release();
+            }
+        } finally {
+            byteBuffers.forEach(ByteBuf::release);
+        }
+    }
+
     /**
      * Get the field name from a buffer positioned at the start of the document sequence identifier of an OP_MSG Section of type
      * `PAYLOAD_TYPE_1_DOCUMENT_SEQUENCE`.
@@ -31,4 +31,12 @@ public interface CommandProtocol<T> {
     void executeAsync(InternalConnection connection, SingleResultCallback<T> callback);
 
     CommandProtocol<T> withSessionContext(SessionContext sessionContext);
+
+    /**
+     * Returns whether the time taken to execute this protocol may be dominated by the server waiting for data to return, as for the
+     * {@code getMore} command of a tailable cursor, rather than by the latency of the server.
+     */
+    default boolean mayAwaitData() {
+        return false;
+    }
 }
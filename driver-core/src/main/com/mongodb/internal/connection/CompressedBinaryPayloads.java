@@ -0,0 +1,174 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import org.bson.BsonBinarySubType;
+import org.bson.BsonType;
+import org.bson.ByteBuf;
+
+/**
+ * Measures how much of an encoded message consists of binary values whose data is already compressed, which compressing the message
+ * again would not shrink. Such data is recognized by the signature at its start: gzip, zstd, zip, xz, bzip2, 7z or LZ4 archives, and
+ * PNG, JPEG or GIF images.
+ *
+ * <p>The encoded documents are scanned in place, without being decoded.</p>
+ */
+final class CompressedBinaryPayloads {
+    private static final byte[][] SIGNATURES = {
+            {(byte) 0x1F, (byte) 0x8B},                                     // gzip
+            {(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD},           // zstd
+            {(byte) 0x50, (byte) 0x4B, (byte) 0x03, (byte) 0x04},           // zip
+            {(byte) 0xFD, (byte) 0x37, (byte) 0x7A, (byte) 0x58, (byte) 0x5A, (byte) 0x00}, // xz
+            {(byte) 0x42, (byte) 0x5A, (byte) 0x68},                        // bzip2
+            {(byte) 0x37, (byte) 0x7A, (byte) 0xBC, (byte) 0xAF, (byte) 0x27, (byte) 0x1C}, // 7z
+            {(byte) 0x04, (byte) 0x22, (byte) 0x4D, (byte) 0x18},           // LZ4 frame
+            {(byte) 0x89, (byte) 0x50, (byte) 0x4E, (byte) 0x47},           // PNG
+            {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF},                        // JPEG
+            {(byte) 0x47, (byte) 0x49, (byte) 0x46, (byte) 0x38}            // GIF
+    };
+
+    /**
+     * Gets the total size of the already-compressed binary values in the sections of a message.
+     *
+     * @param buffer the buffer holding the message
+     * @param start the index of the first document of the message, which is followed by the OP_MSG document sequence sections, if any
+     * @param end the index of the end of the message
+     * @return the total size in bytes of the already-compressed binary values
+     */
+    static int sizeOfSections(final ByteBuf buffer, final int start, final int end) {
+        int size = sizeOfDocument(buffer, start);
+        int position = start + buffer.getInt(start);
+        while (position < end) {
+            // skip the payload type, which is always PAYLOAD_TYPE_1_DOCUMENT_SEQUENCE after the first document
+            int sequenceStart = position + 1;
+            int sequenceEnd = sequenceStart + buffer.getInt(sequenceStart);
+            position = skipCString(buffer, sequenceStart + 4);
+            while (position < sequenceEnd) {
+                size += sizeOfDocument(buffer, position);
+                position += buffer.getInt(position);
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Gets the total size of the already-compressed binary values in a document, including those in its embedded documents and arrays.
+     *
+     * @param buffer the buffer holding the document
+     * @param documentStart the index of the start of the document
+     * @return the total size in bytes of the already-compressed binary values
+     */
+    static int sizeOfDocument(final ByteBuf buffer, final int documentStart) {
+        int documentEnd = documentStart + buffer.getInt(documentStart) - 1;
+        int position = documentStart + 4;
+        int size = 0;
+        while (position < documentEnd) {
+            BsonType type = BsonType.findByValue(buffer.get(position));
+            position = skipCString(buffer, position + 1);
+            if (type == null) {
+                // not valid BSON, so stop scanning rather than guess where the next element starts
+                return size;
+            }
+            switch (type) {
+                case DOCUMENT:
+                case ARRAY:
+                    size += sizeOfDocument(buffer, position);
+                    position += buffer.getInt(position);
+                    break;
+                case BINARY:
+                    int binarySize = buffer.getInt(position);
+                    int dataStart = position + 5;
+                    int dataSize = binarySize;
+                    if (buffer.get(position + 4) == BsonBinarySubType.OLD_BINARY.getValue()) {
+                        // the old binary subtype repeats the size of the data at its start
+                        dataStart += 4;
+                        dataSize -= 4;
+                    }
+                    if (startsWithSignature(buffer, dataStart, dataSize)) {
+                        size += binarySize;
+                    }
+                    position += 5 + binarySize;
+                    break;
+                case STRING:
+                case JAVASCRIPT:
+                case SYMBOL:
+                    position += 4 + buffer.getInt(position);
+                    break;
+                case JAVASCRIPT_WITH_SCOPE:
+                    position += buffer.getInt(position);
+                    break;
+                case DB_POINTER:
+                    position += 4 + buffer.getInt(position) + 12;
+                    break;
+                case REGULAR_EXPRESSION:
+                    position = skipCString(buffer, skipCString(buffer, position));
+                    break;
+                case OBJECT_ID:
+                    position += 12;
+                    break;
+                case DECIMAL128:
+                    position += 16;
+                    break;
+                case DOUBLE:
+                case DATE_TIME:
+                case TIMESTAMP:
+                case INT64:
+                    position += 8;
+                    break;
+                case INT32:
+                    position += 4;
+                    break;
+                case BOOLEAN:
+                    position += 1;
+                    break;
+                default:
+                    // UNDEFINED, NULL, MIN_KEY and MAX_KEY have no value, and END_OF_DOCUMENT does not appear before the end
+                    break;
+            }
+        }
+        return size;
+    }
+
+    private static boolean startsWithSignature(final ByteBuf buffer, final int dataStart, final int dataSize) {
+        for (byte[] signature : SIGNATURES) {
+            if (signature.length <= dataSize && matches(buffer, dataStart, signature)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(final ByteBuf buffer, final int index, final byte[] signature) {
+        for (int i = 0; i < signature.length; i++) {
+            if (buffer.get(index + i) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipCString(final ByteBuf buffer, final int start) {
+        int position = start;
+        while (buffer.get(position) != 0) {
+            position++;
+        }
+        return position + 1;
+    }
+
+    private CompressedBinaryPayloads() {
+    }
+}
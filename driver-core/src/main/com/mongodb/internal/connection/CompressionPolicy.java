@@ -0,0 +1,173 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.CompressionSettings;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.event.CompressionListener;
+import com.mongodb.event.MessageCompressionEvent;
+import com.mongodb.lang.Nullable;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.event.EventListenerHelper.getCompressionListener;
+
+/**
+ * Decides, for each message sent to a server, whether to compress it and with which of the compressors negotiated by the connection.
+ *
+ * <p>Messages smaller than {@link CompressionSettings#getMinMessageSize()} are never compressed, and neither are messages at least half
+ * of which consists of already-compressed binary values, if {@link CompressionSettings#isSkipCompressedBinaryPayloads()}. Otherwise,
+ * unless {@link CompressionSettings#isAdaptive()}, the first negotiated compressor is used. In adaptive mode the ratio and CPU time of
+ * each compressor is tracked per command name, and the compressor saving the most bytes per unit of CPU time is used, provided it
+ * shrinks messages to at most {@value #MAX_PAYING_RATIO_PER_MILLE} per mille of their size. When no compressor pays off, messages are sent
+ * uncompressed, except for every {@value #PROBE_INTERVAL}th message, which is compressed to keep the measurements current.</p>
+ *
+ * <p>A single instance is shared by all the connections to a server, so that the measurements made on one connection benefit the others.
+ * This class is thread-safe.</p>
+ */
+final class CompressionPolicy {
+    static final int WARMUP_SAMPLES = 8;
+    static final int PROBE_INTERVAL = 64;
+    static final long MAX_PAYING_RATIO_PER_MILLE = 900;
+    private static final double SAMPLE_ALPHA = 0.2;
+    // Compressor identifiers are assigned by the wire protocol: 1 for snappy, 2 for zlib and 3 for zstd
+    private static final int MAX_COMPRESSOR_ID = 3;
+
+    private final int minMessageSize;
+    private final boolean skipCompressedBinaryPayloads;
+    private final boolean adaptive;
+    @Nullable
+    private final CompressionListener listener;
+    private final ConcurrentHashMap<String, CommandStatistics> commandStatistics = new ConcurrentHashMap<>();
+
+    CompressionPolicy(final CompressionSettings settings) {
+        notNull("settings", settings);
+        this.minMessageSize = settings.getMinMessageSize();
+        this.skipCompressedBinaryPayloads = settings.isSkipCompressedBinaryPayloads();
+        this.adaptive = settings.isAdaptive();
+        this.listener = getCompressionListener(settings);
+    }
+
+    /**
+     * Selects the compressor for a message.
+     *
+     * @param compressors the compressors negotiated by the connection sending the message, in order of preference, which must not be
+     *                    empty
+     * @param commandName the name of the command
+     * @param messageSize the size of the uncompressed message
+     * @param compressedBinaryPayloadSize supplies the total size of the already-compressed binary values of the message
+     * @return the compressor to use, or null if the message should be sent uncompressed
+     */
+    @Nullable
+    Compressor select(final List<Compressor> compressors, final String commandName, final int messageSize,
+            final IntSupplier compressedBinaryPayloadSize) {
+        if (messageSize < minMessageSize) {
+            return null;
+        }
+        if (skipCompressedBinaryPayloads && compressedBinaryPayloadSize.getAsInt() >= messageSize / 2) {
+            return null;
+        }
+        if (!adaptive) {
+            return compressors.get(0);
+        }
+        CommandStatistics statistics = getCommandStatistics(commandName);
+        long messageCount = statistics.messageCount.getAndIncrement();
+        Compressor best = null;
+        double bestScore = 0;
+        for (Compressor compressor : compressors) {
+            CompressorStatistics compressorStatistics = statistics.compressorStatistics[compressor.getId()];
+            if (compressorStatistics.samples.get() < WARMUP_SAMPLES) {
+                return compressor;
+            }
+            long ratioPerMille = compressorStatistics.ratioPerMille.getAverage();
+            if (ratioPerMille <= MAX_PAYING_RATIO_PER_MILLE) {
+                double score = (1000 - ratioPerMille) / (double) Math.max(1, compressorStatistics.nanosPerKibibyte.getAverage());
+                if (score > bestScore) {
+                    best = compressor;
+                    bestScore = score;
+                }
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+        if (messageCount % PROBE_INTERVAL == 0) {
+            return compressors.get((int) ((messageCount / PROBE_INTERVAL) % compressors.size()));
+        }
+        return null;
+    }
+
+    /**
+     * Records that a message was compressed and sent.
+     */
+    void compressed(final ConnectionId connectionId, final String commandName, final Compressor compressor,
+            final int uncompressedSize, final int compressedSize, final long elapsedTimeNanos) {
+        if (adaptive && uncompressedSize > 0) {
+            CompressorStatistics statistics = getCommandStatistics(commandName).compressorStatistics[compressor.getId()];
+            statistics.ratioPerMille.addSample(compressedSize * 1000L / uncompressedSize);
+            statistics.nanosPerKibibyte.addSample(elapsedTimeNanos * 1024 / uncompressedSize);
+            if (statistics.samples.get() < WARMUP_SAMPLES) {
+                statistics.samples.incrementAndGet();
+            }
+        }
+        if (listener != null) {
+            listener.messageEncoded(new MessageCompressionEvent(connectionId, commandName, compressor.getName(), uncompressedSize,
+                    compressedSize, elapsedTimeNanos));
+        }
+    }
+
+    /**
+     * Records that a message was sent uncompressed.
+     */
+    void uncompressed(final ConnectionId connectionId, final String commandName, final int size) {
+        if (listener != null) {
+            listener.messageEncoded(new MessageCompressionEvent(connectionId, commandName, null, size, size, 0));
+        }
+    }
+
+    private CommandStatistics getCommandStatistics(final String commandName) {
+        CommandStatistics statistics = commandStatistics.get(commandName);
+        if (statistics == null) {
+            statistics = commandStatistics.computeIfAbsent(commandName, k -> new CommandStatistics());
+        }
+        return statistics;
+    }
+
+    private static final class CommandStatistics {
+        private final AtomicLong messageCount = new AtomicLong();
+        // Indexed by compressor identifier
+        private final CompressorStatistics[] compressorStatistics = new CompressorStatistics[MAX_COMPRESSOR_ID + 1];
+
+        CommandStatistics() {
+            for (int i = 0; i < compressorStatistics.length; i++) {
+                compressorStatistics[i] = new CompressorStatistics();
+            }
+        }
+    }
+
+    private static final class CompressorStatistics {
+        private final AtomicInteger samples = new AtomicInteger();
+        private final ExponentiallyWeightedMovingAverage ratioPerMille = new ExponentiallyWeightedMovingAverage(SAMPLE_ALPHA);
+        private final ExponentiallyWeightedMovingAverage nanosPerKibibyte = new ExponentiallyWeightedMovingAverage(SAMPLE_ALPHA);
+    }
+}
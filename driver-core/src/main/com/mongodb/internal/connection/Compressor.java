@@ -18,99 +18,132 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
 import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 import java.util.List;
 
+/**
+ * A compressor for OP_COMPRESSED messages.
+ *
+ * <p>Implementations read from and write to the backing arrays of the buffers directly when they are available, and only copy
+ * through intermediate arrays for buffers that are not backed by an array.</p>
+ */
 abstract class Compressor {
 
-    static final int BUFFER_SIZE = 256;
+    static final int BUFFER_SIZE = 8192;
 
     abstract String getName();
 
     abstract byte getId();
 
-    void compress(final List<ByteBuf> source, final BsonOutput target) {
-        BufferExposingByteArrayOutputStream baos = new BufferExposingByteArrayOutputStream(1024);
-        try (OutputStream outputStream = getOutputStream(baos)) {
-            byte[] scratch = new byte[BUFFER_SIZE];
-            for (ByteBuf cur : source) {
-                while (cur.hasRemaining()) {
-                    int numBytes = Math.min(cur.remaining(), scratch.length);
-                    cur.get(scratch, 0, numBytes);
-                    outputStream.write(scratch, 0, numBytes);
-                }
+    /**
+     * Compresses the remaining bytes of the source buffers into the target, advancing the positions of the source buffers.
+     *
+     * @param source the buffers to compress
+     * @param target the output to write the compressed bytes to
+     */
+    abstract void compress(List<ByteBuf> source, ByteBufferBsonOutput target);
+
+    /**
+     * Uncompresses the remaining bytes of the source buffer into the target, advancing the positions of both buffers.
+     *
+     * @param source the buffer to uncompress
+     * @param target the buffer to write the uncompressed bytes to, which must have enough bytes remaining for all of them
+     */
+    abstract void uncompress(ByteBuf source, ByteBuf target);
+
+    /**
+     * Compresses a contiguous block with a compressor that is unable to stream, writing the compressed bytes directly into the
+     * target when its buffers are backed by an array.
+     */
+    static void compressBlock(final ByteBuffer source, final int maxCompressedLength, final ByteBufferBsonOutput target,
+            final BlockCompressor blockCompressor) {
+        try {
+            ByteBuf buffer = target.getWritableBuffer(maxCompressedLength);
+            if (buffer.isBackedByArray()) {
+                int position = buffer.position();
+                int compressedLength = blockCompressor.compress(source.array(), source.position(), source.remaining(),
+                        buffer.array(), buffer.arrayOffset() + position, buffer.remaining());
+                buffer.position(position + compressedLength);
+                target.commitWritableBuffer(compressedLength);
+            } else {
+                byte[] compressed = new byte[maxCompressedLength];
+                int compressedLength = blockCompressor.compress(source.array(), source.position(), source.remaining(),
+                        compressed, 0, compressed.length);
+                target.writeBytes(compressed, 0, compressedLength);
             }
-
         } catch (IOException e) {
             throw new MongoInternalException("Unexpected IOException", e);
         }
-        // ignore
-        target.writeBytes(baos.getInternalBytes(), 0, baos.size());
     }
 
-    void uncompress(final ByteBuf source, final ByteBuf target) {
-
-        try (InputStream inputStream = getInputStream(new ByteBufInputStream(source))) {
-            byte[] scratch = new byte[BUFFER_SIZE];
-            int numBytes = inputStream.read(scratch);
-            while (numBytes != -1) {
-                target.put(scratch, 0, numBytes);
-                numBytes = inputStream.read(scratch);
+    /**
+     * Uncompresses a contiguous block with a compressor that is unable to stream, writing the uncompressed bytes directly into the
+     * target when it is backed by an array.
+     */
+    static void uncompressBlock(final ByteBuf source, final ByteBuf target, final BlockUncompressor blockUncompressor) {
+        try {
+            ByteBuffer input = getRemainingAsArrayBackedBuffer(source);
+            if (target.isBackedByArray()) {
+                int position = target.position();
+                int uncompressedLength = blockUncompressor.uncompress(input.array(), input.position(), input.remaining(),
+                        target.array(), target.arrayOffset() + position, target.remaining());
+                target.position(position + uncompressedLength);
+            } else {
+                byte[] uncompressed = new byte[target.remaining()];
+                int uncompressedLength = blockUncompressor.uncompress(input.array(), input.position(), input.remaining(),
+                        uncompressed, 0, uncompressed.length);
+                target.put(uncompressed, 0, uncompressedLength);
             }
         } catch (IOException e) {
             throw new MongoInternalException("Unexpected IOException", e);
         }
-        // ignore
     }
 
-    // override this if not overriding the compress method
-    OutputStream getOutputStream(final OutputStream source) throws IOException {
-        throw new UnsupportedEncodingException();
-    }
-
-    // override this if not overriding the uncompress method
-    InputStream getInputStream(final InputStream source) throws IOException {
-        throw new UnsupportedOperationException();
-    }
-
-    private static final class ByteBufInputStream extends InputStream {
-        private final ByteBuf source;
-
-        ByteBufInputStream(final ByteBuf source) {
-            this.source = source;
+    /**
+     * Gets the remaining bytes of the given buffers as a single array-backed buffer, which is a view of the source when it is a single
+     * array-backed buffer, and a copy otherwise.  The positions of the source buffers are advanced past their remaining bytes.
+     */
+    static ByteBuffer getRemainingAsArrayBackedBuffer(final List<ByteBuf> source) {
+        if (source.size() == 1) {
+            return getRemainingAsArrayBackedBuffer(source.get(0));
         }
-
-        @Override
-        public int read(final byte[] bytes, final int offset, final int length) {
-            if (!source.hasRemaining()) {
-                return -1;
-            }
-
-            int bytesToRead = length > source.remaining() ? source.remaining() : length;
-            source.get(bytes, offset, bytesToRead);
-            return bytesToRead;
+        int remaining = 0;
+        for (ByteBuf cur : source) {
+            remaining += cur.remaining();
         }
-
-        @Override
-        public int read() {
-            throw new UnsupportedOperationException();
+        byte[] bytes = new byte[remaining];
+        int offset = 0;
+        for (ByteBuf cur : source) {
+            int curRemaining = cur.remaining();
+            cur.get(bytes, offset, curRemaining);
+            offset += curRemaining;
         }
+        return ByteBuffer.wrap(bytes);
     }
 
-    // Just so we don't have to copy the buffer
-    private static final class BufferExposingByteArrayOutputStream extends ByteArrayOutputStream {
-        BufferExposingByteArrayOutputStream(final int size) {
-            super(size);
+    private static ByteBuffer getRemainingAsArrayBackedBuffer(final ByteBuf source) {
+        int position = source.position();
+        int remaining = source.remaining();
+        if (source.isBackedByArray()) {
+            source.position(position + remaining);
+            return ByteBuffer.wrap(source.array(), source.arrayOffset() + position, remaining);
         }
+        byte[] bytes = new byte[remaining];
+        source.get(bytes);
+        return ByteBuffer.wrap(bytes);
+    }
 
-        byte[] getInternalBytes() {
-            return buf;
-        }
+    @FunctionalInterface
+    interface BlockCompressor {
+        int compress(byte[] source, int sourceOffset, int sourceLength, byte[] target, int targetOffset, int targetLength)
+                throws IOException;
+    }
+
+    @FunctionalInterface
+    interface BlockUncompressor {
+        int uncompress(byte[] source, int sourceOffset, int sourceLength, byte[] target, int targetOffset, int targetLength)
+                throws IOException;
     }
 }
@@ -30,6 +30,7 @@ import java.util.Deque;
 import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -317,9 +318,14 @@ public class ConcurrentPool<T> implements Pool<T> {
         private volatile boolean paused;
         private volatile boolean closed;
         private final int maxPermits;
-        private volatile int permits;
+        private final AtomicInteger permits;
+        /**
+         * The number of threads waiting on {@link #permitAvailableOrClosedOrPausedCondition}, only modified while holding the {@link #lock}.
+         * Allows {@link #releasePermit()} to skip acquiring the {@link #lock} if there is nobody to signal.
+         */
+        private final AtomicInteger waiters;
         @Nullable
-        private Supplier<MongoException> causeSupplier;
+        private volatile Supplier<MongoException> causeSupplier;
 
         StateAndPermits(final int maxPermits, final Supplier<MongoServerUnavailableException> poolClosedExceptionSupplier) {
             this.poolClosedExceptionSupplier = poolClosedExceptionSupplier;
@@ -328,40 +334,42 @@ public class ConcurrentPool<T> implements Pool<T> {
             paused = false;
             closed = false;
             this.maxPermits = maxPermits;
-            permits = maxPermits;
+            permits = new AtomicInteger(maxPermits);
+            waiters = new AtomicInteger();
             causeSupplier = null;
         }
 
         int permits() {
-            return permits;
+            return permits.get();
         }
 
         boolean acquirePermitImmediate() {
-            return withLock(lock, () -> {
-                throwIfClosedOrPaused();
-                if (permits > 0) {
-                    //noinspection NonAtomicOperationOnVolatileField
-                    permits--;
-                    return true;
-                } else {
-                    return false;
-                }
-            });
+            throwIfClosedOrPaused();
+            return tryDecrementPermits();
         }
 
         /**
          * This method also emulates the eager {@link InterruptedException} behavior of
          * {@link java.util.concurrent.Semaphore#tryAcquire(long, TimeUnit)}.
+         * A permit is acquired without locking if one is available and the pool is neither closed nor paused,
+         * the {@link #lock} is only used for waiting.
          *
          * @param timeout See {@link StartTime#timeoutAfterOrInfiniteIfNegative(long, TimeUnit)}.
          */
         boolean acquirePermit(final long timeout, final TimeUnit unit) throws MongoInterruptedException {
+            if (Thread.interrupted()) {
+                throw interruptAndCreateMongoInterruptedException(null, null);
+            }
+            throwIfClosedOrPaused();
+            if (tryDecrementPermits()) {
+                return true;
+            }
             long remainingNanos = unit.toNanos(timeout);
             lockInterruptibly(lock);
+            waiters.incrementAndGet();
             try {
-                while (permits == 0
-                        // the absence of short-circuiting is of importance
-                        & !throwIfClosedOrPaused()) {
+                // closed or paused is checked before trying to take a permit, so that a taken permit is never leaked by throwing
+                while (!throwIfClosedOrPaused() && !tryDecrementPermits()) {
                     try {
                         if (timeout < 0 || remainingNanos == Long.MAX_VALUE) {
                             permitAvailableOrClosedOrPausedCondition.await();
@@ -374,31 +382,44 @@ public class ConcurrentPool<T> implements Pool<T> {
                         throw interruptAndCreateMongoInterruptedException(null, e);
                     }
                 }
-                assertTrue(permits > 0);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits--;
                 return true;
             } finally {
+                waiters.decrementAndGet();
                 lock.unlock();
             }
         }
 
+        /**
+         * A waiter increments {@link #waiters} before checking {@link #permits} for the last time, and this method increments
+         * {@link #permits} before checking {@link #waiters}, so at least one of them observes the modification made by the other.
+         */
         void releasePermit() {
-            withLock(lock, () -> {
-                assertTrue(permits < maxPermits);
-                //noinspection NonAtomicOperationOnVolatileField
-                permits++;
-                permitAvailableOrClosedOrPausedCondition.signal();
-            });
+            int newPermits = permits.incrementAndGet();
+            assertTrue(newPermits <= maxPermits);
+            if (waiters.get() > 0) {
+                withLock(lock, permitAvailableOrClosedOrPausedCondition::signal);
+            }
+        }
+
+        private boolean tryDecrementPermits() {
+            int currentPermits = permits.get();
+            while (currentPermits > 0) {
+                if (permits.compareAndSet(currentPermits, currentPermits - 1)) {
+                    return true;
+                }
+                currentPermits = permits.get();
+            }
+            return false;
         }
 
         void pause(final Supplier<MongoException> causeSupplier) {
             withLock(lock, () -> {
+                // the cause is set before the flag, so that a thread observing the flag without the lock also observes the cause
+                this.causeSupplier = assertNotNull(causeSupplier);
                 if (!paused) {
                     this.paused = true;
                     permitAvailableOrClosedOrPausedCondition.signalAll();
                 }
-                this.causeSupplier = assertNotNull(causeSupplier);
             });
         }
 
@@ -429,11 +450,10 @@ public class ConcurrentPool<T> implements Pool<T> {
         }
 
         /**
-         * This method must be called by a {@link Thread} that holds the {@link #lock}.
+         * This method does not require holding the {@link #lock}.
          *
          * @return {@code false} which means that the method did not throw.
          * The method returns to allow using it conveniently as part of a condition check when waiting on a {@link Condition}.
-         * Short-circuiting operators {@code &&} and {@code ||} must not be used with this method to ensure that it is called.
          * @throws MongoServerUnavailableException If and only if {@linkplain #close() closed}.
          * @throws MongoException If and only if {@linkplain #pause(Supplier) paused}
          * and not {@linkplain #close() closed}. The exception is specified via the {@link #pause(Supplier)} method
@@ -444,7 +464,11 @@ public class ConcurrentPool<T> implements Pool<T> {
                 throw poolClosedExceptionSupplier.get();
             }
             if (paused) {
-                throw assertNotNull(assertNotNull(causeSupplier).get());
+                Supplier<MongoException> localCauseSupplier = causeSupplier;
+                // null if the pool has been concurrently made ready
+                if (localCauseSupplier != null) {
+                    throw assertNotNull(localCauseSupplier.get());
+                }
             }
             return false;
         }
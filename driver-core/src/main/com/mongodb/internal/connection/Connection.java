@@ -53,6 +53,30 @@ public interface Connection extends ReferenceCounted {
             @Nullable ReadPreference readPreference, Decoder<T> commandResultDecoder, OperationContext operationContext,
             boolean responseExpected, MessageSequences sequences);
 
+    /**
+     * Executes a command with the {@code exhaustAllowed} flag set, which allows the server to stream further replies to the command
+     * without waiting for further requests. While {@link #hasMoreToCome()} is {@code true}, the further replies must be read with
+     * {@link #receiveMoreToCome(Decoder, OperationContext)}, and no other command may be executed on the connection.
+     *
+     * @return the first reply
+     */
+    @Nullable
+    <T> T exhaustCommand(String database, BsonDocument command, FieldNameValidator fieldNameValidator, @Nullable ReadPreference readPreference,
+            Decoder<T> commandResultDecoder, OperationContext operationContext);
+
+    /**
+     * Reads the next reply streamed by the server in response to an {@linkplain #exhaustCommand exhaust command}.
+     *
+     * @return the reply
+     */
+    <T> T receiveMoreToCome(Decoder<T> commandResultDecoder, OperationContext operationContext);
+
+    /**
+     * Returns whether the server is going to stream more replies to the last {@linkplain #exhaustCommand exhaust command}.
+     *
+     * @return true if there are more replies to {@linkplain #receiveMoreToCome(Decoder, OperationContext) receive}
+     */
+    boolean hasMoreToCome();
 
     enum PinningMode {
         CURSOR,
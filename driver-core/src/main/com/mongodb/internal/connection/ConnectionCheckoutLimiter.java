@@ -0,0 +1,451 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.OperationPriority;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.internal.VisibleForTesting;
+import com.mongodb.internal.async.SingleResultCallback;
+import com.mongodb.lang.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.assertTrue;
+import static com.mongodb.internal.Locks.lockInterruptibly;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.VisibleForTesting.AccessModifier.PRIVATE;
+import static com.mongodb.internal.connection.ConcurrentPool.INFINITE_SIZE;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Limits the number of connections that are checked out of a {@link DefaultConnectionPool} concurrently, and decides which of the
+ * waiting checkouts gets a connection when one is checked in.
+ *
+ * <p>If the limit is {@linkplain ConnectionPoolSettings#isAdaptiveConcurrencyLimit() adaptive}, each admitted checkout takes a permit
+ * from an {@link AdaptiveConcurrencyLimiter}, which adapts the limit. Otherwise, the limit is the maximum size of the pool.</p>
+ *
+ * <p>If checkouts are {@linkplain ConnectionPoolSettings#isPrioritizedCheckout() prioritized}, each {@link OperationPriority} has its
+ * own lane of waiting checkouts, and a checkout is admitted only if the connections that remain available cover the
+ * {@linkplain ConnectionPoolSettings#getReservedShare(OperationPriority) reservations} of the other lanes that they do not use yet.
+ * The longest waiting admissible checkout of the highest priority is admitted first, unless a lane has been passed over
+ * {@value #MAX_BYPASSES} times in a row, in which case its longest waiting checkout is admitted first if it is admissible.
+ * Otherwise, all checkouts wait in a single lane, in the order in which they started.</p>
+ *
+ * <p>A checkout either {@linkplain #tryAcquire(OperationPriority, long, TimeUnit) waits} on the calling thread, or
+ * {@linkplain #acquireAsync(OperationPriority, long, Supplier, SingleResultCallback) waits} without blocking a thread, in which case
+ * its callback is completed by the thread that admits it, or by the timer that times it out.</p>
+ */
+@ThreadSafe
+final class ConnectionCheckoutLimiter {
+    private static final int MAX_BYPASSES = 8;
+    private static final int LANE_COUNT = OperationPriority.values().length;
+
+    private final int maxLimit;
+    @Nullable
+    private final AdaptiveConcurrencyLimiter adaptiveLimiter;
+    private final boolean prioritized;
+    private final double[] reservedShares = new double[LANE_COUNT];
+    private final Runnable throwIfClosedOrPaused;
+    private final ScheduledExecutorService timer;
+    private final ReentrantLock lock = new ReentrantLock();
+    @SuppressWarnings("unchecked")
+    private final Deque<Waiter>[] waiters = new Deque[LANE_COUNT];
+    private final int[] inUseByLane = new int[LANE_COUNT];
+    private final int[] bypassesByLane = new int[LANE_COUNT];
+    private int inUse;
+    private int waiterCount;
+
+    /**
+     * @param throwIfClosedOrPaused Throws if the pool is closed or paused, which is checked before a checkout is admitted.
+     * @param timer Times out the checkouts that wait {@linkplain #acquireAsync(OperationPriority, long, Supplier, SingleResultCallback)
+     * asynchronously}. The pool shuts it down when it is closed.
+     */
+    ConnectionCheckoutLimiter(final ServerId serverId, final ConnectionPoolSettings settings,
+            final ConnectionPoolListener connectionPoolListener, final Runnable throwIfClosedOrPaused,
+            final ScheduledExecutorService timer, final long nowNanos) {
+        this.maxLimit = settings.getMaxSize() == 0 ? INFINITE_SIZE : settings.getMaxSize();
+        // whether the pool is closed or paused is checked before a permit is taken, not by the adaptive limiter
+        this.adaptiveLimiter = settings.isAdaptiveConcurrencyLimit()
+                ? new AdaptiveConcurrencyLimiter(serverId, maxLimit, connectionPoolListener, () -> { }, nowNanos)
+                : null;
+        this.prioritized = settings.isPrioritizedCheckout();
+        this.throwIfClosedOrPaused = assertNotNull(throwIfClosedOrPaused);
+        this.timer = assertNotNull(timer);
+        for (OperationPriority operationPriority : OperationPriority.values()) {
+            int lane = operationPriority.ordinal();
+            reservedShares[lane] = prioritized ? settings.getReservedShare(operationPriority) : 0;
+            waiters[lane] = new ArrayDeque<>();
+        }
+    }
+
+    int getLimit() {
+        return adaptiveLimiter == null ? maxLimit : adaptiveLimiter.getLimit();
+    }
+
+    int getInUse() {
+        return withLock(lock, () -> inUse);
+    }
+
+    @VisibleForTesting(otherwise = PRIVATE)
+    int getWaiterCount() {
+        return withLock(lock, () -> waiterCount);
+    }
+
+    /**
+     * @param timeout Waits indefinitely if negative.
+     * @return {@code false} if the timeout elapsed before the checkout was admitted.
+     */
+    boolean tryAcquire(final OperationPriority operationPriority, final long timeout, final TimeUnit unit)
+            throws MongoInterruptedException {
+        int lane = lane(operationPriority);
+        long remainingNanos = unit.toNanos(timeout);
+        List<Waiter> admittedWaiters = new ArrayList<>();
+        lockInterruptibly(lock);
+        try {
+            throwIfClosedOrPaused.run();
+            if (mayAdmitImmediately(lane) && tryAdmit(lane)) {
+                return true;
+            }
+            Waiter waiter = new Waiter(lane, lock.newCondition(), null);
+            enqueue(waiter);
+            try {
+                while (!waiter.admitted) {
+                    try {
+                        if (timeout < 0 || remainingNanos == Long.MAX_VALUE) {
+                            assertNotNull(waiter.admittedOrClosedOrPausedCondition).await();
+                        } else if (remainingNanos > 0) {
+                            remainingNanos = assertNotNull(waiter.admittedOrClosedOrPausedCondition).awaitNanos(remainingNanos);
+                        } else {
+                            return false;
+                        }
+                    } catch (InterruptedException e) {
+                        if (waiter.admitted) {
+                            // the checkout was admitted before the interruption was noticed, and nobody is going to release it
+                            releaseLocked(lane, admittedWaiters);
+                        }
+                        throw interruptAndCreateMongoInterruptedException(null, e);
+                    }
+                    if (!waiter.admitted) {
+                        throwIfClosedOrPaused.run();
+                    }
+                }
+                return true;
+            } finally {
+                if (!waiter.admitted) {
+                    dequeue(waiter);
+                    // the waiter may have been the one preventing others from being admitted
+                    admitWaiters(admittedWaiters);
+                }
+            }
+        } finally {
+            lock.unlock();
+            completeAdmitted(admittedWaiters);
+        }
+    }
+
+    /**
+     * Admits the checkout, or queues it without blocking the calling thread. The callback is completed once the checkout is admitted,
+     * the pool is closed or paused, or the timeout elapses, either by the calling thread, by the thread that releases the checkout
+     * that makes room for this one, or by the {@linkplain #ConnectionCheckoutLimiter timer}.
+     *
+     * @param timeoutNanos Waits indefinitely if negative.
+     * @param timeoutExceptionSupplier Supplies the exception to fail the callback with if the timeout elapses.
+     */
+    void acquireAsync(final OperationPriority operationPriority, final long timeoutNanos,
+            final Supplier<RuntimeException> timeoutExceptionSupplier, final SingleResultCallback<Void> callback) {
+        int lane = lane(operationPriority);
+        RuntimeException failure = null;
+        boolean admitted = false;
+        lock.lock();
+        try {
+            throwIfClosedOrPaused.run();
+            if (mayAdmitImmediately(lane) && tryAdmit(lane)) {
+                admitted = true;
+            } else if (timeoutNanos == 0) {
+                failure = timeoutExceptionSupplier.get();
+            } else {
+                Waiter waiter = new Waiter(lane, null, callback);
+                enqueue(waiter);
+                if (timeoutNanos > 0 && timeoutNanos != Long.MAX_VALUE) {
+                    try {
+                        waiter.timeoutHandle = timer.schedule(() -> timeOut(waiter, timeoutExceptionSupplier), timeoutNanos,
+                                NANOSECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // the pool is being closed, and may have already failed the other waiters
+                        dequeue(waiter);
+                        failure = closedOrPausedException(timeoutExceptionSupplier);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            lock.unlock();
+        }
+        if (admitted || failure != null) {
+            callback.onResult(null, failure);
+        }
+    }
+
+    /**
+     * Releases a checkout without adapting the limit, for a checkout that failed or a connection whose latency is not representative.
+     */
+    void release(final OperationPriority operationPriority) {
+        int lane = lane(operationPriority);
+        List<Waiter> admittedWaiters = new ArrayList<>();
+        withLock(lock, () -> releaseLocked(lane, admittedWaiters));
+        completeAdmitted(admittedWaiters);
+    }
+
+    /**
+     * Releases a checkout and, if the limit is adaptive, adapts the limit to the outcome of the operations executed with the connection.
+     *
+     * @param checkedOutNanos When the connection was checked out.
+     * @param failed Whether the connection was closed because of an error.
+     */
+    void release(final OperationPriority operationPriority, final long checkedOutNanos, final long nowNanos, final boolean failed) {
+        if (adaptiveLimiter == null) {
+            release(operationPriority);
+            return;
+        }
+        // the adaptive limiter notifies the listener, which must not be done while holding the lock
+        adaptiveLimiter.release(checkedOutNanos, nowNanos, failed, getWaiterCount() > 0);
+        int lane = lane(operationPriority);
+        List<Waiter> admittedWaiters = new ArrayList<>();
+        withLock(lock, () -> {
+            releaseInUse(lane);
+            admitWaiters(admittedWaiters);
+        });
+        completeAdmitted(admittedWaiters);
+    }
+
+    void signalClosedOrPaused() {
+        List<Waiter> failedWaiters = new ArrayList<>();
+        RuntimeException failure = withLock(lock, () -> {
+            RuntimeException closedOrPausedException = closedOrPausedException(null);
+            for (Deque<Waiter> laneWaiters : waiters) {
+                for (Waiter waiter : laneWaiters) {
+                    if (waiter.callback == null) {
+                        assertNotNull(waiter.admittedOrClosedOrPausedCondition).signal();
+                    } else if (closedOrPausedException != null) {
+                        failedWaiters.add(waiter);
+                    }
+                }
+            }
+            failedWaiters.forEach(this::dequeue);
+            return closedOrPausedException;
+        });
+        for (Waiter waiter : failedWaiters) {
+            waiter.complete(failure);
+        }
+    }
+
+    private void timeOut(final Waiter waiter, final Supplier<RuntimeException> timeoutExceptionSupplier) {
+        List<Waiter> admittedWaiters = new ArrayList<>();
+        boolean timedOut = withLock(lock, () -> {
+            if (waiter.admitted || !waiters[waiter.lane].contains(waiter)) {
+                return false;
+            }
+            dequeue(waiter);
+            // the waiter may have been the one preventing others from being admitted
+            admitWaiters(admittedWaiters);
+            return true;
+        });
+        completeAdmitted(admittedWaiters);
+        if (timedOut) {
+            waiter.complete(timeoutExceptionSupplier.get());
+        }
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}.
+     *
+     * @return The exception thrown by {@link #throwIfClosedOrPaused}, or the one supplied by {@code fallback} if it does not throw.
+     */
+    @Nullable
+    private RuntimeException closedOrPausedException(@Nullable final Supplier<RuntimeException> fallback) {
+        try {
+            throwIfClosedOrPaused.run();
+            return fallback == null ? null : fallback.get();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private int lane(final OperationPriority operationPriority) {
+        return prioritized ? operationPriority.ordinal() : OperationPriority.NORMAL.ordinal();
+    }
+
+    /**
+     * A checkout may overtake the waiting ones only if they are all of lower priorities, and none of them has been passed over too often.
+     */
+    private boolean mayAdmitImmediately(final int lane) {
+        for (int i = 0; i < LANE_COUNT; i++) {
+            if (!waiters[i].isEmpty() && (i <= lane || bypassesByLane[i] >= MAX_BYPASSES)) {
+                return false;
+            }
+        }
+        return isAdmissible(lane);
+    }
+
+    private void enqueue(final Waiter waiter) {
+        waiters[waiter.lane].addLast(waiter);
+        waiterCount++;
+    }
+
+    private void dequeue(final Waiter waiter) {
+        if (waiters[waiter.lane].remove(waiter)) {
+            waiterCount--;
+        }
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}. The callbacks of the admitted waiters must be completed by
+     * {@link #completeAdmitted(List)} after releasing the lock.
+     */
+    private void admitWaiters(final List<Waiter> admittedWaiters) {
+        Waiter waiter = nextAdmissibleWaiter();
+        while (waiter != null && tryAdmit(waiter.lane)) {
+            waiters[waiter.lane].removeFirst();
+            waiterCount--;
+            bypassesByLane[waiter.lane] = 0;
+            waiter.admitted = true;
+            if (waiter.callback == null) {
+                assertNotNull(waiter.admittedOrClosedOrPausedCondition).signal();
+            } else {
+                if (waiter.timeoutHandle != null) {
+                    waiter.timeoutHandle.cancel(false);
+                }
+                admittedWaiters.add(waiter);
+            }
+            waiter = nextAdmissibleWaiter();
+        }
+    }
+
+    private static void completeAdmitted(final List<Waiter> admittedWaiters) {
+        for (Waiter waiter : admittedWaiters) {
+            waiter.complete(null);
+        }
+    }
+
+    @Nullable
+    private Waiter nextAdmissibleWaiter() {
+        if (waiterCount == 0) {
+            return null;
+        }
+        for (int lane = 0; lane < LANE_COUNT; lane++) {
+            if (!waiters[lane].isEmpty() && bypassesByLane[lane] >= MAX_BYPASSES && isAdmissible(lane)) {
+                return waiters[lane].getFirst();
+            }
+        }
+        for (int lane = 0; lane < LANE_COUNT; lane++) {
+            if (!waiters[lane].isEmpty() && isAdmissible(lane)) {
+                return waiters[lane].getFirst();
+            }
+        }
+        return null;
+    }
+
+    private boolean isAdmissible(final int lane) {
+        int currentLimit = getLimit();
+        long required = inUse + 1L;
+        for (int i = 0; i < LANE_COUNT; i++) {
+            if (i != lane) {
+                required += Math.max(0, (long) (reservedShares[i] * currentLimit) - inUseByLane[i]);
+            }
+        }
+        return required <= currentLimit;
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}, and only if the checkout {@linkplain #isAdmissible(int) is admissible}.
+     *
+     * @return {@code false} if the adaptive limiter has no permit available.
+     */
+    private boolean tryAdmit(final int lane) {
+        if (adaptiveLimiter != null && !adaptiveLimiter.tryAcquire()) {
+            return false;
+        }
+        inUse++;
+        inUseByLane[lane]++;
+        for (int i = lane + 1; i < LANE_COUNT; i++) {
+            if (!waiters[i].isEmpty()) {
+                bypassesByLane[i]++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Must be called while holding the {@link #lock}.
+     */
+    private void releaseLocked(final int lane, final List<Waiter> admittedWaiters) {
+        if (adaptiveLimiter != null) {
+            adaptiveLimiter.release();
+        }
+        releaseInUse(lane);
+        admitWaiters(admittedWaiters);
+    }
+
+    private void releaseInUse(final int lane) {
+        assertTrue(inUseByLane[lane] > 0);
+        inUse--;
+        inUseByLane[lane]--;
+    }
+
+    private static final class Waiter {
+        private final int lane;
+        @Nullable
+        private final Condition admittedOrClosedOrPausedCondition;
+        @Nullable
+        private final SingleResultCallback<Void> callback;
+        @Nullable
+        private Future<?> timeoutHandle;
+        private boolean admitted;
+
+        /**
+         * @param admittedOrClosedOrPausedCondition The condition a synchronous checkout waits on, or {@code null} if {@code callback}
+         * is not {@code null}.
+         */
+        Waiter(final int lane, @Nullable final Condition admittedOrClosedOrPausedCondition,
+                @Nullable final SingleResultCallback<Void> callback) {
+            this.lane = lane;
+            this.admittedOrClosedOrPausedCondition = admittedOrClosedOrPausedCondition;
+            this.callback = callback;
+        }
+
+        void complete(@Nullable final RuntimeException failure) {
+            assertNotNull(callback).onResult(null, failure);
+        }
+    }
+}
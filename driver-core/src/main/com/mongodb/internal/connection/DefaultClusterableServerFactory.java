@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.CompressionSettings;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.MongoCredential;
@@ -50,6 +51,7 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
     private final LoggerSettings loggerSettings;
     private final CommandListener commandListener;
     private final List<MongoCompressor> compressorList;
+    private final CompressionSettings compressionSettings;
     @Nullable
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
@@ -61,7 +63,8 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
             final InternalOperationContextFactory heartbeatOperationContextFactory, final StreamFactory heartbeatStreamFactory,
             @Nullable final MongoCredential credential, final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi, final boolean isFunctionAsAServiceEnvironment) {
+            final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings, @Nullable final ServerApi serverApi,
+            final boolean isFunctionAsAServiceEnvironment) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -73,6 +76,7 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.compressorList = compressorList;
+        this.compressionSettings = compressionSettings;
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
     }
@@ -88,11 +92,12 @@ public class DefaultClusterableServerFactory implements ClusterableServerFactory
                 // no credentials, compressor list, or command listener for the server monitor factory
                 new InternalStreamConnectionFactory(clusterMode, true, heartbeatStreamFactory, null, clientMetadata,
                          emptyList(), loggerSettings, null, serverApi),
-                clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, heartbeatOperationContextFactory);
+                clusterMode, serverApi, isFunctionAsAServiceEnvironment, sdamProvider, heartbeatOperationContextFactory,
+                internalConnectionPoolSettings.isVirtualThreads());
 
         ConnectionPool connectionPool = new DefaultConnectionPool(serverId,
                 new InternalStreamConnectionFactory(clusterMode, streamFactory, credential, clientMetadata,
-                         compressorList, loggerSettings, commandListener, serverApi),
+                         compressorList, compressionSettings, loggerSettings, commandListener, serverApi),
                 connectionPoolSettings, internalConnectionPoolSettings, sdamProvider, clusterOperationContextFactory);
         ServerListener serverListener = singleServerListener(serverSettings);
         SdamServerDescriptionManager sdam = new DefaultSdamServerDescriptionManager(cluster, serverId, serverListener, serverMonitor,
@@ -21,6 +21,7 @@ import com.mongodb.MongoException;
 import com.mongodb.MongoInterruptedException;
 import com.mongodb.MongoServerUnavailableException;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.OperationPriority;
 import com.mongodb.annotations.NotThreadSafe;
 import com.mongodb.annotations.ThreadSafe;
 import com.mongodb.connection.ClusterId;
@@ -76,6 +77,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -138,6 +140,10 @@ final class DefaultConnectionPool implements ConnectionPool {
     private final ServiceStateManager serviceStateManager = new ServiceStateManager();
     private final ConnectionGenerationSupplier connectionGenerationSupplier;
     private final OpenConcurrencyLimiter openConcurrencyLimiter;
+    @Nullable
+    private final ConnectionCheckoutLimiter checkoutLimiter;
+    @Nullable
+    private final ScheduledExecutorService checkoutTimer;
     private final StateAndGeneration stateAndGeneration;
     private final OptionalProvider<SdamServerDescriptionManager> sdamProvider;
 
@@ -171,11 +177,19 @@ final class DefaultConnectionPool implements ConnectionPool {
         this.operationContextFactory = assertNotNull(operationContextFactory);
         this.sdamProvider = assertNotNull(sdamProvider);
         this.connectionPoolListener = getConnectionPoolListener(settings);
-        backgroundMaintenance = new BackgroundMaintenanceManager();
+        backgroundMaintenance = new BackgroundMaintenanceManager(internalSettings.isVirtualThreads());
         connectionPoolCreated(connectionPoolListener, serverId, settings);
         openConcurrencyLimiter = new OpenConcurrencyLimiter(settings.getMaxConnecting());
-        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager());
+        asyncWorkManager = new AsyncWorkManager(internalSettings.isPrestartAsyncWorkManager(), internalSettings.isVirtualThreads());
         stateAndGeneration = new StateAndGeneration();
+        if (settings.isAdaptiveConcurrencyLimit() || settings.isPrioritizedCheckout()) {
+            checkoutTimer = newCheckoutTimer(internalSettings.isVirtualThreads());
+            checkoutLimiter = new ConnectionCheckoutLimiter(serverId, settings, connectionPoolListener,
+                    stateAndGeneration::throwIfClosedOrPaused, checkoutTimer, System.nanoTime());
+        } else {
+            checkoutTimer = null;
+            checkoutLimiter = null;
+        }
         connectionGenerationSupplier = new ConnectionGenerationSupplier() {
             @Override
             public int getGeneration() {
@@ -195,9 +209,16 @@ final class DefaultConnectionPool implements ConnectionPool {
         Timeout maxWaitTimeout = operationContext.getTimeoutContext().startMaxWaitTimeout(checkoutStart);
         try {
             stateAndGeneration.throwIfClosedOrPaused();
-            PooledConnection connection = getPooledConnection(maxWaitTimeout, checkoutStart, operationContext.getTimeoutContext());
-            if (!connection.opened()) {
-                connection = openConcurrencyLimiter.openOrGetAvailable(operationContext, connection, maxWaitTimeout, checkoutStart);
+            acquireCheckoutPermit(operationContext, maxWaitTimeout, checkoutStart);
+            PooledConnection connection;
+            try {
+                connection = getPooledConnection(maxWaitTimeout, checkoutStart, operationContext.getTimeoutContext());
+                if (!connection.opened()) {
+                    connection = openConcurrencyLimiter.openOrGetAvailable(operationContext, connection, maxWaitTimeout, checkoutStart);
+                }
+            } catch (Exception e) {
+                releaseCheckoutPermit(operationContext);
+                throw e;
             }
             connection.checkedOutForOperation(operationContext);
             connectionCheckedOut(operationContext, connection, checkoutStart);
@@ -227,25 +248,43 @@ final class DefaultConnectionPool implements ConnectionPool {
             eventSendingCallback.onResult(null, e);
             return;
         }
-        asyncWorkManager.enqueue(new Task(maxWaitTimeout, checkoutStart, operationContext.getTimeoutContext(), t -> {
+        SingleResultCallback<PooledConnection> permitReleasingCallback = (connection, failure) -> {
+            if (failure != null) {
+                releaseCheckoutPermit(operationContext);
+            }
+            eventSendingCallback.onResult(connection, failure);
+        };
+        Consumer<RuntimeException> checkout = t -> {
             if (t != null) {
-                eventSendingCallback.onResult(null, t);
+                permitReleasingCallback.onResult(null, t);
             } else {
                 PooledConnection connection;
                 try {
                     connection = getPooledConnection(maxWaitTimeout, checkoutStart, operationContext.getTimeoutContext());
                 } catch (Exception e) {
-                    eventSendingCallback.onResult(null, e);
+                    permitReleasingCallback.onResult(null, e);
                     return;
                 }
                 if (connection.opened()) {
-                    eventSendingCallback.onResult(connection, null);
+                    permitReleasingCallback.onResult(connection, null);
                 } else {
                     openConcurrencyLimiter.openWithConcurrencyLimitAsync(
-                            operationContext, connection, maxWaitTimeout, checkoutStart, eventSendingCallback);
+                            operationContext, connection, maxWaitTimeout, checkoutStart, permitReleasingCallback);
                 }
             }
-        }));
+        };
+        if (checkoutLimiter == null) {
+            asyncWorkManager.enqueue(new Task(maxWaitTimeout, checkoutStart, operationContext.getTimeoutContext(), checkout));
+        } else {
+            // waiting for the permit must not block the thread that serves the checkouts of all the other callers
+            acquireCheckoutPermitAsync(checkoutLimiter, operationContext, maxWaitTimeout, checkoutStart, (result, t) -> {
+                if (t != null) {
+                    eventSendingCallback.onResult(null, t);
+                } else {
+                    asyncWorkManager.enqueue(new Task(maxWaitTimeout, checkoutStart, operationContext.getTimeoutContext(), checkout));
+                }
+            });
+        }
     }
 
     /**
@@ -279,8 +318,8 @@ final class DefaultConnectionPool implements ConnectionPool {
             entries.add(new LogMessage.Entry(DURATION_MS, checkoutDuration.toMillis()));
             logMessage("Connection checkout failed", clusterId, message, entries);
         }
-        connectionPoolListener.connectionCheckOutFailed(
-                new ConnectionCheckOutFailedEvent(serverId, operationContext.getId(), reason, checkoutDuration.toNanos()));
+        connectionPoolListener.connectionCheckOutFailed(new ConnectionCheckOutFailedEvent(serverId, operationContext.getId(), reason,
+                checkoutDuration.toNanos(), operationContext.getSessionContext().getOperationPriority()));
         return result;
     }
 
@@ -289,6 +328,9 @@ final class DefaultConnectionPool implements ConnectionPool {
         assertFalse(isLoadBalanced());
         if (stateAndGeneration.pauseAndIncrementGeneration(cause)) {
             openConcurrencyLimiter.signalClosedOrPaused();
+            if (checkoutLimiter != null) {
+                checkoutLimiter.signalClosedOrPaused();
+            }
         }
     }
 
@@ -321,6 +363,12 @@ final class DefaultConnectionPool implements ConnectionPool {
             backgroundMaintenance.close();
             asyncWorkManager.close();
             openConcurrencyLimiter.signalClosedOrPaused();
+            if (checkoutLimiter != null) {
+                checkoutLimiter.signalClosedOrPaused();
+            }
+            if (checkoutTimer != null) {
+                checkoutTimer.shutdownNow();
+            }
             logEventMessage("Connection pool closed", "Connection pool closed for {}:{}");
 
             connectionPoolListener.connectionPoolClosed(new ConnectionPoolClosedEvent(serverId));
@@ -353,6 +401,57 @@ final class DefaultConnectionPool implements ConnectionPool {
         }
     }
 
+    /**
+     * Waits until the {@link ConnectionCheckoutLimiter} admits the checkout, if checkouts are limited adaptively or prioritized.
+     */
+    private void acquireCheckoutPermit(final OperationContext operationContext, final Timeout maxWaitTimeout,
+            final StartTime startTime) throws MongoTimeoutException {
+        if (checkoutLimiter == null) {
+            return;
+        }
+        ConnectionCheckoutLimiter limiter = checkoutLimiter;
+        OperationPriority operationPriority = operationContext.getSessionContext().getOperationPriority();
+        boolean acquired = maxWaitTimeout.call(NANOSECONDS,
+                () -> limiter.tryAcquire(operationPriority, -1L, NANOSECONDS),
+                (ns) -> limiter.tryAcquire(operationPriority, ns, NANOSECONDS),
+                () -> limiter.tryAcquire(operationPriority, 0L, NANOSECONDS));
+        if (!acquired) {
+            throw createCheckoutPermitTimeoutException(limiter, operationContext, startTime);
+        }
+    }
+
+    /**
+     * Like {@link #acquireCheckoutPermit(OperationContext, Timeout, StartTime)}, but without blocking the calling thread while waiting.
+     */
+    private void acquireCheckoutPermitAsync(final ConnectionCheckoutLimiter limiter, final OperationContext operationContext,
+            final Timeout maxWaitTimeout, final StartTime startTime, final SingleResultCallback<Void> callback) {
+        long timeoutNanos;
+        try {
+            timeoutNanos = maxWaitTimeout.call(NANOSECONDS, () -> -1L, (ns) -> ns, () -> 0L);
+        } catch (Exception e) {
+            callback.onResult(null, e);
+            return;
+        }
+        limiter.acquireAsync(operationContext.getSessionContext().getOperationPriority(), timeoutNanos,
+                () -> createCheckoutPermitTimeoutException(limiter, operationContext, startTime), callback);
+    }
+
+    private MongoTimeoutException createCheckoutPermitTimeoutException(final ConnectionCheckoutLimiter limiter,
+            final OperationContext operationContext, final StartTime startTime) {
+        String errorMessage = format("Timed out after %d ms while waiting for a connection to server %s. Details: "
+                        + "concurrency limit: %s, connections in use: %d, operation priority: %s",
+                startTime.elapsed().toMillis(), serverId.getAddress(), sizeToString(limiter.getLimit()), limiter.getInUse(),
+                operationContext.getSessionContext().getOperationPriority());
+        return operationContext.getTimeoutContext().hasTimeoutMS() ? createMongoTimeoutException(errorMessage)
+                : new MongoTimeoutException(errorMessage);
+    }
+
+    private void releaseCheckoutPermit(final OperationContext operationContext) {
+        if (checkoutLimiter != null) {
+            checkoutLimiter.release(operationContext.getSessionContext().getOperationPriority());
+        }
+    }
+
     @Nullable
     private PooledConnection getPooledConnectionImmediate() {
         UsageTrackingInternalConnection internalConnection = pool.getImmediate();
@@ -466,6 +565,13 @@ final class DefaultConnectionPool implements ConnectionPool {
         return fromPreviousGeneration(connection) || pastMaxLifeTime(connection) || pastMaxIdleTime(connection);
     }
 
+    /**
+     * A connection on which the server is still streaming replies to an exhaust command cannot be used for other commands.
+     */
+    private static boolean isStreaming(final UsageTrackingInternalConnection connection) {
+        return !connection.isClosed() && connection.hasMoreToCome();
+    }
+
     private boolean pastMaxIdleTime(final UsageTrackingInternalConnection connection) {
         return expired(connection.getLastUsedAt(), System.currentTimeMillis(), settings.getMaxConnectionIdleTime(MILLISECONDS));
     }
@@ -572,8 +678,8 @@ final class DefaultConnectionPool implements ConnectionPool {
                     "Connection checked out: address={}:{}, driver-generated ID={}, duration={} ms", entries);
         }
 
-        connectionPoolListener.connectionCheckedOut(
-                new ConnectionCheckedOutEvent(connectionId, operationContext.getId(), checkoutDuration.toNanos()));
+        connectionPoolListener.connectionCheckedOut(new ConnectionCheckedOutEvent(connectionId, operationContext.getId(),
+                checkoutDuration.toNanos(), operationContext.getSessionContext().getOperationPriority()));
     }
 
     /**
@@ -610,11 +716,25 @@ final class DefaultConnectionPool implements ConnectionPool {
         return settings.getMaxSize() == 0 ? INFINITE_SIZE : settings.getMaxSize();
     }
 
+    /**
+     * Creates the timer that times out the checkouts waiting asynchronously in the {@link ConnectionCheckoutLimiter}. Its thread is
+     * stopped while no checkout waits.
+     */
+    private static ScheduledExecutorService newCheckoutTimer(final boolean virtualThreads) {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory("CheckoutTimer", virtualThreads));
+        timer.setKeepAliveTime(1, TimeUnit.MINUTES);
+        timer.allowCoreThreadTimeOut(true);
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
     private class PooledConnection implements InternalConnection {
         private final UsageTrackingInternalConnection wrapped;
         private final AtomicBoolean isClosed = new AtomicBoolean();
         private Connection.PinningMode pinningMode;
         private long operationId;
+        private long checkedOutNanos;
+        private OperationPriority operationPriority = OperationPriority.NORMAL;
 
         PooledConnection(final UsageTrackingInternalConnection wrapped) {
             this.wrapped = notNull("wrapped", wrapped);
@@ -630,6 +750,8 @@ final class DefaultConnectionPool implements ConnectionPool {
          */
         public void checkedOutForOperation(final OperationContext operationContext) {
             this.operationId = operationContext.getId();
+            this.checkedOutNanos = System.nanoTime();
+            this.operationPriority = operationContext.getSessionContext().getOperationPriority();
         }
 
         @Override
@@ -665,13 +787,24 @@ final class DefaultConnectionPool implements ConnectionPool {
         public void close() {
             // All but the first call is a no-op
             if (!isClosed.getAndSet(true)) {
+                boolean pinned = pinningMode != null;
+                boolean failed = wrapped.isClosed();
+                boolean streaming = isStreaming(wrapped);
                 unmarkAsPinned();
                 connectionCheckedIn();
-                if (wrapped.isClosed() || shouldPrune(wrapped)) {
+                if (failed || streaming || shouldPrune(wrapped)) {
                     pool.release(wrapped, true);
                 } else {
                     openConcurrencyLimiter.tryHandOverOrRelease(wrapped);
                 }
+                if (checkoutLimiter != null) {
+                    // the latency of a pinned or streaming connection is not the latency of an operation
+                    if (pinned || streaming) {
+                        checkoutLimiter.release(operationPriority);
+                    } else {
+                        checkoutLimiter.release(operationPriority, checkedOutNanos, System.nanoTime(), failed);
+                    }
+                }
             }
         }
 
@@ -874,7 +1007,7 @@ final class DefaultConnectionPool implements ConnectionPool {
 
         private ConnectionClosedEvent.Reason getReasonForClosing(final UsageTrackingInternalConnection connection) {
             ConnectionClosedEvent.Reason reason;
-            if (connection.isClosed()) {
+            if (connection.isClosed() || isStreaming(connection)) {
                 reason = ConnectionClosedEvent.Reason.ERROR;
             } else if (fromPreviousGeneration(connection)) {
                 reason = ConnectionClosedEvent.Reason.STALE;
@@ -903,6 +1036,12 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final int maxPermits;
         private int permits;
         private final Deque<MutableReference<PooledConnection>> desiredConnectionSlots;
+        /**
+         * The size of {@link #desiredConnectionSlots}, only modified while holding the {@link #lock}.
+         * Allows {@link #tryHandOverOrRelease(UsageTrackingInternalConnection)} to skip acquiring the {@link #lock}
+         * if there is nobody to hand over to.
+         */
+        private volatile int desiredConnectionSlotsCount;
 
         OpenConcurrencyLimiter(final int maxConnecting) {
             lock = new ReentrantLock(false);
@@ -1111,6 +1250,8 @@ final class DefaultConnectionPool implements ConnectionPool {
 
         private void expressDesireToGetAvailableConnection() {
             desiredConnectionSlots.addLast(new MutableReference<>());
+            //noinspection NonAtomicOperationOnVolatileField
+            desiredConnectionSlotsCount++;
         }
 
         @Nullable
@@ -1119,13 +1260,23 @@ final class DefaultConnectionPool implements ConnectionPool {
             PooledConnection result = desiredConnectionSlots.peekFirst().reference;
             if (result != null) {
                 desiredConnectionSlots.removeFirst();
+                //noinspection NonAtomicOperationOnVolatileField
+                desiredConnectionSlotsCount--;
                 assertTrue(result.opened());
+                return result;
+            }
+            // `tryHandOverOrRelease` may have released a connection to the pool without acquiring the lock
+            result = getPooledConnectionImmediate();
+            if (result != null) {
+                giveUpOnTryingToGetAvailableConnection();
             }
             return result;
         }
 
         private void giveUpOnTryingToGetAvailableConnection() {
             assertFalse(desiredConnectionSlots.isEmpty());
+            //noinspection NonAtomicOperationOnVolatileField
+            desiredConnectionSlotsCount--;
             PooledConnection connection = desiredConnectionSlots.removeLast().reference;
             if (connection != null) {
                 connection.release();
@@ -1135,8 +1286,20 @@ final class DefaultConnectionPool implements ConnectionPool {
         /**
          * The hand-over mechanism is needed to prevent other threads doing checkout from stealing newly released connections
          * from threads that are waiting for a permit to open a connection.
+         * <p>
+         * If no thread desires to get an available connection, the connection is released to the pool without acquiring the {@link #lock}.
+         * A thread expressing its desire concurrently increments {@link #desiredConnectionSlotsCount} before trying to get a connection
+         * from the pool, while this method releases the connection to the pool before re-reading {@link #desiredConnectionSlotsCount},
+         * so either that thread gets the connection from the pool, or this method observes the desire and wakes the waiting threads.</p>
          */
         void tryHandOverOrRelease(final UsageTrackingInternalConnection openConnection) {
+            if (desiredConnectionSlotsCount == 0) {
+                pool.release(openConnection);
+                if (desiredConnectionSlotsCount != 0) {
+                    withLock(lock, permitAvailableOrHandedOverOrClosedOrPausedCondition::signalAll);
+                }
+                return;
+            }
             boolean handedOver = withLock(lock, () -> {
                 for (//iterate from first (head) to last (tail)
                         MutableReference<PooledConnection> desiredConnectionSlot : desiredConnectionSlots) {
@@ -1289,8 +1452,10 @@ final class DefaultConnectionPool implements ConnectionPool {
         private final Lock lock;
         @Nullable
         private ExecutorService worker;
+        private final boolean virtualThreads;
 
-        AsyncWorkManager(final boolean prestart) {
+        AsyncWorkManager(final boolean prestart, final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
             state = State.NEW;
             tasks = new LinkedBlockingQueue<>();
             lock = new StampedLock().asWriteLock();
@@ -1320,7 +1485,7 @@ final class DefaultConnectionPool implements ConnectionPool {
         private boolean initUnlessClosed() {
             boolean result = true;
             if (state == State.NEW) {
-                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter"));
+                worker = Executors.newSingleThreadExecutor(new DaemonThreadFactory("AsyncGetter", virtualThreads));
                 worker.execute(() -> runAndLogUncaught(this::workerRun));
                 state = State.INITIALIZED;
             } else if (state == State.CLOSED) {
@@ -1454,9 +1619,9 @@ final class DefaultConnectionPool implements ConnectionPool {
         private Future<?> cancellationHandle;
         private boolean initialStart;
 
-        private BackgroundMaintenanceManager() {
+        private BackgroundMaintenanceManager(final boolean virtualThreads) {
             maintainer = settings.getMaintenanceInitialDelay(NANOSECONDS) < Long.MAX_VALUE
-                    ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer"))
+                    ? Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("MaintenanceTimer", virtualThreads))
                     : null;
             cancellationHandle = null;
             initialStart = true;
@@ -45,9 +45,11 @@ import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.VisibleForTesting.AccessModifier.PRIVATE;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 import static com.mongodb.internal.connection.ServerDescriptionHelper.unknownConnectingServerDescription;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 class DefaultServer implements ClusterableServer {
     private static final Logger LOGGER = Loggers.getLogger("connection");
+    private static final long OPERATION_LATENCY_DECAY_TIME_NANOS = SECONDS.toNanos(10);
     private final ServerId serverId;
     private final ConnectionPool connectionPool;
     private final ClusterConnectionMode clusterConnectionMode;
@@ -59,6 +61,8 @@ class DefaultServer implements ClusterableServer {
     private final ClusterClock clusterClock;
     @Nullable
     private final AtomicInteger operationCount;
+    @Nullable
+    private final PeakExponentiallyWeightedMovingAverage operationLatency;
     private volatile boolean isClosed;
 
     DefaultServer(final ServerId serverId, final ClusterConnectionMode clusterConnectionMode, final ConnectionPool connectionPool,
@@ -79,6 +83,7 @@ class DefaultServer implements ClusterableServer {
 
         this.serverMonitor = serverMonitor;
         operationCount = trackOperationCount ? new AtomicInteger() : null;
+        operationLatency = trackOperationCount ? new PeakExponentiallyWeightedMovingAverage(OPERATION_LATENCY_DECAY_TIME_NANOS) : null;
     }
 
     @Override
@@ -136,6 +141,11 @@ class DefaultServer implements ClusterableServer {
         return operationCount == null ? -1 : operationCount.get();
     }
 
+    @Override
+    public long operationLatencyNanos() {
+        return operationLatency == null ? -1 : operationLatency.getAverage(System.nanoTime());
+    }
+
     private void operationBegin() {
         if (operationCount != null) {
             operationCount.incrementAndGet();
@@ -148,6 +158,13 @@ class DefaultServer implements ClusterableServer {
         }
     }
 
+    private void addOperationLatencySample(final CommandProtocol<?> protocol, final long startNanos) {
+        if (operationLatency != null && !protocol.mayAwaitData()) {
+            long nowNanos = System.nanoTime();
+            operationLatency.addSample(nowNanos - startNanos, nowNanos);
+        }
+    }
+
     @Override
     public void resetToConnecting(final MongoException cause) {
         sdam.updateToUnknown(unknownConnectingServerDescription(serverId, cause));
@@ -201,11 +218,15 @@ class DefaultServer implements ClusterableServer {
         @Override
         public <T> T execute(final CommandProtocol<T> protocol, final InternalConnection connection,
                              final SessionContext sessionContext) {
+            long startNanos = System.nanoTime();
             try {
-                return protocol
+                T result = protocol
                         .withSessionContext(new ClusterClockAdvancingSessionContext(sessionContext, clusterClock))
                         .execute(connection);
+                addOperationLatencySample(protocol, startNanos);
+                return result;
             } catch (MongoException e) {
+                addOperationLatencySample(protocol, startNanos);
                 try {
                     sdam.handleExceptionAfterHandshake(SdamIssue.of(e, sdam.context(connection)));
                 } catch (Exception suppressed) {
@@ -226,8 +247,10 @@ class DefaultServer implements ClusterableServer {
         @Override
         public <T> void executeAsync(final CommandProtocol<T> protocol, final InternalConnection connection,
                                      final SessionContext sessionContext, final SingleResultCallback<T> callback) {
+            long startNanos = System.nanoTime();
             protocol.withSessionContext(new ClusterClockAdvancingSessionContext(sessionContext, clusterClock))
                     .executeAsync(connection, errorHandlingCallback((result, t) -> {
+                addOperationLatencySample(protocol, startNanos);
                 if (t != null) {
                     try {
                         sdam.handleExceptionAfterHandshake(SdamIssue.of(t, sdam.context(connection)));
@@ -306,6 +329,23 @@ class DefaultServer implements ClusterableServer {
                     responseExpected, sequences);
         }
 
+        @Override
+        public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+                @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder,
+                final OperationContext operationContext) {
+            return wrapped.exhaustCommand(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext);
+        }
+
+        @Override
+        public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+            return wrapped.receiveMoreToCome(commandResultDecoder, operationContext);
+        }
+
+        @Override
+        public boolean hasMoreToCome() {
+            return wrapped.hasMoreToCome();
+        }
+
         @Override
         public void markAsPinned(final PinningMode pinningMode) {
             wrapped.markAsPinned(pinningMode);
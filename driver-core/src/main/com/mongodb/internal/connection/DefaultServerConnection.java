@@ -29,6 +29,7 @@ import org.bson.BsonDocument;
 import org.bson.FieldNameValidator;
 import org.bson.codecs.Decoder;
 
+import static com.mongodb.assertions.Assertions.assertNotNull;
 import static com.mongodb.internal.async.ErrorHandlingResultCallback.errorHandlingCallback;
 
 /**
@@ -85,6 +86,27 @@ public class DefaultServerConnection extends AbstractReferenceCounted implements
                 operationContext.getSessionContext());
     }
 
+    @Nullable
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return executeProtocol(
+                new CommandProtocolImpl<>(database, command, fieldNameValidator, readPreference, commandResultDecoder, true, true,
+                        EmptyMessageSequences.INSTANCE, clusterConnectionMode, operationContext),
+                operationContext.getSessionContext());
+    }
+
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return assertNotNull(executeProtocol(new ReceiveMoreToComeProtocol<>(commandResultDecoder, operationContext),
+                operationContext.getSessionContext()));
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return wrapped.hasMoreToCome();
+    }
+
     @Override
     public <T> void commandAsync(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
             @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext,
@@ -36,6 +36,7 @@ import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.inject.Provider;
 import com.mongodb.internal.logging.LogMessage;
 import com.mongodb.internal.logging.StructuredLogger;
+import com.mongodb.internal.thread.DaemonThreadFactory;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonBoolean;
@@ -96,6 +97,7 @@ class DefaultServerMonitor implements ServerMonitor {
     private final ServerApi serverApi;
     private final boolean isFunctionAsAServiceEnvironment;
     private final ServerSettings serverSettings;
+    private final boolean virtualThreads;
     private final ServerMonitor monitor;
     /**
      * Must be guarded by {@link #lock}.
@@ -113,7 +115,8 @@ class DefaultServerMonitor implements ServerMonitor {
             @Nullable final ServerApi serverApi,
             final boolean isFunctionAsAServiceEnvironment,
             final Provider<SdamServerDescriptionManager> sdamProvider,
-            final InternalOperationContextFactory operationContextFactory) {
+            final InternalOperationContextFactory operationContextFactory,
+            final boolean virtualThreads) {
         this.serverSettings = notNull("serverSettings", serverSettings);
         this.serverId = notNull("serverId", serverId);
         this.serverMonitorListener = singleServerMonitorListener(serverSettings);
@@ -123,6 +126,7 @@ class DefaultServerMonitor implements ServerMonitor {
         this.serverApi = serverApi;
         this.isFunctionAsAServiceEnvironment = isFunctionAsAServiceEnvironment;
         this.sdamProvider = sdamProvider;
+        this.virtualThreads = virtualThreads;
         monitor = new ServerMonitor();
         roundTripTimeMonitor = null;
         isClosed = false;
@@ -174,20 +178,34 @@ class DefaultServerMonitor implements ServerMonitor {
         return monitor;
     }
 
-    class ServerMonitor extends Thread implements AutoCloseable {
+    /**
+     * Runs on its own thread, which is a virtual thread if requested and supported.  When streaming, each check blocks on the network
+     * for up to the heartbeat frequency, so checks are not run on a shared scheduler.
+     */
+    class ServerMonitor implements Runnable, AutoCloseable {
+        private final Thread thread;
         private volatile InternalConnection connection = null;
         private volatile boolean alreadyLoggedHeartBeatStarted = false;
         private volatile boolean currentCheckCancelled;
         private volatile long lookupStartTimeNanos;
 
         ServerMonitor() {
-            super("cluster-" + serverId.getClusterId().getValue() + "-" + serverId.getAddress());
-            setDaemon(true);
+            thread = DaemonThreadFactory.newNamedThread("cluster-" + serverId.getClusterId().getValue() + "-" + serverId.getAddress(),
+                    virtualThreads, this);
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        @VisibleForTesting(otherwise = PRIVATE)
+        Thread getThread() {
+            return thread;
         }
 
         @Override
         public void close() {
-            interrupt();
+            thread.interrupt();
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -230,7 +248,7 @@ class DefaultServerMonitor implements ServerMonitor {
             } catch (InterruptedException | MongoInterruptedException closed) {
                 // stop the monitor
             } catch (Throwable t) {
-                LOGGER.error(format("%s for %s stopped working. You may want to recreate the MongoClient", this, serverId), t);
+                LOGGER.error(format("%s for %s stopped working. You may want to recreate the MongoClient", thread, serverId), t);
                 throw t;
             } finally {
                 if (connection != null) {
@@ -504,17 +522,22 @@ class DefaultServerMonitor implements ServerMonitor {
     }
 
 
-    private class RoundTripTimeMonitor extends Thread implements AutoCloseable {
+    private class RoundTripTimeMonitor implements Runnable, AutoCloseable {
+        private final Thread thread;
         private volatile InternalConnection connection = null;
 
         RoundTripTimeMonitor() {
-            super("cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress());
-            setDaemon(true);
+            thread = DaemonThreadFactory.newNamedThread("cluster-rtt-" + serverId.getClusterId() + "-" + serverId.getAddress(),
+                    virtualThreads, this);
+        }
+
+        void start() {
+            thread.start();
         }
 
         @Override
         public void close() {
-            interrupt();
+            thread.interrupt();
             InternalConnection connection = this.connection;
             if (connection != null) {
                 connection.close();
@@ -542,7 +565,7 @@ class DefaultServerMonitor implements ServerMonitor {
             } catch (InterruptedException closed) {
                 // stop the monitor
             } catch (Throwable t) {
-                LOGGER.error(format("%s for %s stopped working. You may want to recreate the MongoClient", this, serverId), t);
+                LOGGER.error(format("%s for %s stopped working. You may want to recreate the MongoClient", thread, serverId), t);
                 throw t;
             } finally {
                 if (connection != null) {
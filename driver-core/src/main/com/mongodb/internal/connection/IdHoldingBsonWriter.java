@@ -31,6 +31,7 @@ import org.bson.BsonJavaScript;
 import org.bson.BsonJavaScriptWithScope;
 import org.bson.BsonMaxKey;
 import org.bson.BsonMinKey;
+import org.bson.BsonName;
 import org.bson.BsonNull;
 import org.bson.BsonObjectId;
 import org.bson.BsonReader;
@@ -314,6 +315,15 @@ public class IdHoldingBsonWriter extends LevelCountingBsonWriter {
         super.writeName(name);
     }
 
+    @Override
+    public void writeName(final BsonName name) {
+        setCurrentFieldName(name.getValue());
+        if (getIdBsonWriterCurrentLevel() > DEFAULT_INITIAL_LEVEL) {
+            getIdBsonWriter().writeName(name);
+        }
+        super.writeName(name);
+    }
+
     @Override
     public void writeNull(final String name) {
         setCurrentFieldName(name);
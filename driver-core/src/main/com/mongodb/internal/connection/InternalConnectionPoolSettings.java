@@ -26,9 +26,11 @@ import java.util.Objects;
 @Immutable
 public final class InternalConnectionPoolSettings {
     private final boolean prestartAsyncWorkManager;
+    private final boolean virtualThreads;
 
     private InternalConnectionPoolSettings(final Builder builder) {
         prestartAsyncWorkManager = builder.prestartAsyncWorkManager;
+        virtualThreads = builder.virtualThreads;
     }
 
     public static Builder builder() {
@@ -47,6 +49,19 @@ public final class InternalConnectionPoolSettings {
         return prestartAsyncWorkManager;
     }
 
+    /**
+     * Specifies whether the background threads of the pool, and the threads monitoring its server, are virtual threads, if supported
+     * by the runtime.
+     * <p>
+     * Default is {@code false}.
+     *
+     * @return {@code true} iff the pool's background threads and server monitor threads must be virtual threads.
+     * @see Builder#virtualThreads(boolean)
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -56,24 +71,27 @@ public final class InternalConnectionPoolSettings {
             return false;
         }
         InternalConnectionPoolSettings that = (InternalConnectionPoolSettings) o;
-        return prestartAsyncWorkManager == that.prestartAsyncWorkManager;
+        return prestartAsyncWorkManager == that.prestartAsyncWorkManager
+                && virtualThreads == that.virtualThreads;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(prestartAsyncWorkManager);
+        return Objects.hash(prestartAsyncWorkManager, virtualThreads);
     }
 
     @Override
     public String toString() {
         return "InternalConnectionPoolSettings{"
                 + "prestartAsyncWorkManager=" + prestartAsyncWorkManager
+                + ", virtualThreads=" + virtualThreads
                 + '}';
     }
 
     @NotThreadSafe
     public static final class Builder {
         private boolean prestartAsyncWorkManager = false;
+        private boolean virtualThreads = false;
 
         private Builder() {
         }
@@ -90,6 +108,18 @@ public final class InternalConnectionPoolSettings {
             return this;
         }
 
+        /**
+         * Allows the background threads of the pool, and the threads monitoring its server, to be virtual threads.
+         *
+         * @param virtualThreads {@code true} iff the pool's background threads and server monitor threads must be virtual threads.
+         * @return {@code this}.
+         * @see InternalConnectionPoolSettings#isVirtualThreads()
+         */
+        public Builder virtualThreads(final boolean virtualThreads) {
+            this.virtualThreads = virtualThreads;
+            return this;
+        }
+
         public InternalConnectionPoolSettings build() {
             return new InternalConnectionPoolSettings(this);
         }
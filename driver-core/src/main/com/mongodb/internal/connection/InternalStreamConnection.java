@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.CompressionSettings;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoClientException;
 import com.mongodb.MongoCommandException;
@@ -62,9 +63,11 @@ import org.bson.ByteBuf;
 import org.bson.codecs.BsonDocumentCodec;
 import org.bson.codecs.Decoder;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -156,10 +159,13 @@ public class InternalStreamConnection implements InternalConnection {
     private final List<MongoCompressor> compressorList;
     private final LoggerSettings loggerSettings;
     private final CommandListener commandListener;
-    @Nullable private volatile Compressor sendCompressor;
+    private final CompressionPolicy compressionPolicy;
+    private volatile List<Compressor> negotiatedCompressors = Collections.emptyList();
     private final Map<Byte, Compressor> compressorMap;
     private volatile boolean hasMoreToCome;
     private volatile int responseTo;
+    // Shared by the responses to the operations that use this connection, whose batches of documents typically repeat the same names
+    private final FieldNameCache fieldNameCache = new FieldNameCache();
     private int generation = NOT_INITIALIZED_GENERATION;
 
     // Package-level access provided to avoid duplicating the list in test code
@@ -189,6 +195,20 @@ public class InternalStreamConnection implements InternalConnection {
             final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings,
             final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
+        this(clusterConnectionMode, authenticator, isMonitoringConnection, serverId, connectionGenerationSupplier, streamFactory,
+                compressorList, new CompressionPolicy(CompressionSettings.builder().build()), loggerSettings, commandListener,
+                connectionInitializer);
+    }
+
+    public InternalStreamConnection(final ClusterConnectionMode clusterConnectionMode,
+            @Nullable final Authenticator authenticator,
+            final boolean isMonitoringConnection,
+            final ServerId serverId,
+            final ConnectionGenerationSupplier connectionGenerationSupplier,
+            final StreamFactory streamFactory, final List<MongoCompressor> compressorList,
+            final CompressionPolicy compressionPolicy,
+            final LoggerSettings loggerSettings,
+            final CommandListener commandListener, final InternalConnectionInitializer connectionInitializer) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.authenticator = authenticator;
         this.isMonitoringConnection = isMonitoringConnection;
@@ -197,6 +217,7 @@ public class InternalStreamConnection implements InternalConnection {
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.compressorList = notNull("compressorList", compressorList);
         this.compressorMap = createCompressorMap(compressorList);
+        this.compressionPolicy = notNull("compressionPolicy", compressionPolicy);
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.connectionInitializer = notNull("connectionInitializer", connectionInitializer);
@@ -318,7 +339,7 @@ public class InternalStreamConnection implements InternalConnection {
         initialServerDescription = initializationDescription.getServerDescription();
         opened.set(true);
         authenticated.set(true);
-        sendCompressor = findSendCompressor(description);
+        negotiatedCompressors = findNegotiatedCompressors(description);
     }
 
     private Map<Byte, Compressor> createCompressorMap(final List<MongoCompressor> compressorList) {
@@ -331,21 +352,22 @@ public class InternalStreamConnection implements InternalConnection {
         return compressorMap;
     }
 
-    @Nullable
-    private Compressor findSendCompressor(final ConnectionDescription description) {
-        if (description.getCompressors().isEmpty()) {
-            return null;
+    private List<Compressor> findNegotiatedCompressors(final ConnectionDescription description) {
+        List<Compressor> negotiatedCompressors = new ArrayList<>(description.getCompressors().size());
+        for (String compressorName : description.getCompressors()) {
+            negotiatedCompressors.add(findCompressor(compressorName));
         }
+        return negotiatedCompressors;
+    }
 
-        String firstCompressorName = description.getCompressors().get(0);
-
+    private Compressor findCompressor(final String compressorName) {
         for (Compressor compressor : compressorMap.values()) {
-            if (compressor.getName().equals(firstCompressorName)) {
+            if (compressor.getName().equals(compressorName)) {
                 return compressor;
             }
         }
 
-        throw new MongoInternalException("Unexpected compressor negotiated: " + firstCompressorName);
+        throw new MongoInternalException("Unexpected compressor negotiated: " + compressorName);
     }
 
     private Compressor createCompressor(final MongoCompressor mongoCompressor) {
@@ -529,22 +551,35 @@ public class InternalStreamConnection implements InternalConnection {
     private void sendCommandMessage(final CommandMessage message, final ByteBufferBsonOutput bsonOutput,
             final OperationContext operationContext) {
 
-        Compressor localSendCompressor = sendCompressor;
-        if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
+        List<Compressor> localNegotiatedCompressors = negotiatedCompressors;
+        String commandName = getCompressibleCommandName(localNegotiatedCompressors, message, bsonOutput);
+        Compressor localSendCompressor = selectSendCompressor(localNegotiatedCompressors, commandName, message, bsonOutput);
+        int uncompressedSize = bsonOutput.getSize();
+        if (localSendCompressor == null) {
             trySendMessage(message, bsonOutput, operationContext);
+            if (commandName != null) {
+                compressionPolicy.uncompressed(getDescription().getConnectionId(), commandName, uncompressedSize);
+            }
         } else {
-            ByteBufferBsonOutput compressedBsonOutput;
+            ByteBufferBsonOutput compressedBsonOutput = new ByteBufferBsonOutput(this);
             List<ByteBuf> byteBuffers = bsonOutput.getByteBuffers();
+            long startTimeNanos = System.nanoTime();
             try {
                 CompressedMessage compressedMessage = new CompressedMessage(message.getOpCode(), byteBuffers, localSendCompressor,
                         getMessageSettings(description, initialServerDescription));
-                compressedBsonOutput = new ByteBufferBsonOutput(this);
                 compressedMessage.encode(compressedBsonOutput, operationContext);
+            } catch (Throwable t) {
+                compressedBsonOutput.close();
+                throw t;
             } finally {
                 ResourceUtil.release(byteBuffers);
                 bsonOutput.close();
             }
+            long elapsedTimeNanos = System.nanoTime() - startTimeNanos;
+            int compressedSize = compressedBsonOutput.getSize();
             trySendMessage(message, compressedBsonOutput, operationContext);
+            compressionPolicy.compressed(getDescription().getConnectionId(), assertNotNull(commandName), localSendCompressor,
+                    uncompressedSize, compressedSize, elapsedTimeNanos);
         }
         responseTo = message.getId();
     }
@@ -563,6 +598,30 @@ public class InternalStreamConnection implements InternalConnection {
         }
     }
 
+    /**
+     * Gets the name of the command of a message that may be compressed, or null if compression was not negotiated or the command is
+     * security-sensitive.
+     */
+    @Nullable
+    private static String getCompressibleCommandName(final List<Compressor> negotiatedCompressors, final CommandMessage message,
+            final ByteBufferBsonOutput bsonOutput) {
+        if (negotiatedCompressors.isEmpty()) {
+            return null;
+        }
+        String commandName = message.getCommandDocument(bsonOutput).getFirstKey();
+        return SECURITY_SENSITIVE_COMMANDS.contains(commandName) ? null : commandName;
+    }
+
+    @Nullable
+    private Compressor selectSendCompressor(final List<Compressor> negotiatedCompressors, @Nullable final String commandName,
+            final CommandMessage message, final ByteBufferBsonOutput bsonOutput) {
+        if (commandName == null) {
+            return null;
+        }
+        return compressionPolicy.select(negotiatedCompressors, commandName, bsonOutput.getSize(),
+                () -> message.getCompressedBinaryPayloadSize(bsonOutput));
+    }
+
     private <T> T receiveCommandMessageResponse(final Decoder<T> decoder, final CommandEventSender commandEventSender,
             final OperationContext operationContext, @Nullable final Span tracingSpan) {
         try {
@@ -749,12 +808,19 @@ public class InternalStreamConnection implements InternalConnection {
             };
 
             commandEventSender.sendStartedEvent();
-            Compressor localSendCompressor = sendCompressor;
-            if (localSendCompressor == null || SECURITY_SENSITIVE_COMMANDS.contains(message.getCommandDocument(bsonOutput).getFirstKey())) {
+            List<Compressor> localNegotiatedCompressors = negotiatedCompressors;
+            String commandName = getCompressibleCommandName(localNegotiatedCompressors, message, bsonOutput);
+            Compressor localSendCompressor = selectSendCompressor(localNegotiatedCompressors, commandName, message, bsonOutput);
+            int uncompressedSize = bsonOutput.getSize();
+            if (localSendCompressor == null) {
                 sendCommandMessageAsync(message.getId(), decoder, operationContext, tracingCallback, bsonOutput, commandEventSender,
                         message.isResponseExpected());
+                if (commandName != null) {
+                    compressionPolicy.uncompressed(getDescription().getConnectionId(), commandName, uncompressedSize);
+                }
             } else {
                 List<ByteBuf> byteBuffers = bsonOutput.getByteBuffers();
+                long startTimeNanos = System.nanoTime();
                 try {
                     CompressedMessage compressedMessage = new CompressedMessage(message.getOpCode(), byteBuffers, localSendCompressor,
                             getMessageSettings(description, initialServerDescription));
@@ -763,8 +829,12 @@ public class InternalStreamConnection implements InternalConnection {
                     ResourceUtil.release(byteBuffers);
                     bsonOutput.close();
                 }
+                long elapsedTimeNanos = System.nanoTime() - startTimeNanos;
+                int compressedSize = compressedBsonOutput.getSize();
                 sendCommandMessageAsync(message.getId(), decoder, operationContext, tracingCallback, compressedBsonOutput, commandEventSender,
                         message.isResponseExpected());
+                compressionPolicy.compressed(getDescription().getConnectionId(), assertNotNull(commandName), localSendCompressor,
+                        uncompressedSize, compressedSize, elapsedTimeNanos);
             }
         } catch (Throwable t) {
             bsonOutput.close();
@@ -864,7 +934,7 @@ public class InternalStreamConnection implements InternalConnection {
                                    final ResponseBuffers responseBuffers,
                                    final int messageId,
                                    final TimeoutContext timeoutContext) {
-        T result = new ReplyMessage<>(responseBuffers, decoder, messageId).getDocument();
+        T result = new ReplyMessage<>(responseBuffers, decoder, messageId, fieldNameCache).getDocument();
         MongoException writeConcernBasedError = createSpecialWriteConcernException(responseBuffers,
                 description.getServerAddress(),
                 timeoutContext);
@@ -17,6 +17,7 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.AuthenticationMechanism;
+import com.mongodb.CompressionSettings;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.ServerApi;
@@ -35,6 +36,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
     private final StreamFactory streamFactory;
     private final ClientMetadata clientMetadata;
     private final List<MongoCompressor> compressorList;
+    private final CompressionPolicy compressionPolicy;
     private final LoggerSettings loggerSettings;
     private final CommandListener commandListener;
     @Nullable
@@ -48,7 +50,19 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                                     final List<MongoCompressor> compressorList,
                                     final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener,
                                     @Nullable final ServerApi serverApi) {
-        this(clusterConnectionMode, false, streamFactory, credential, clientMetadata, compressorList,
+        this(clusterConnectionMode, streamFactory, credential, clientMetadata, compressorList, CompressionSettings.builder().build(),
+                loggerSettings, commandListener, serverApi);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+                                    final List<MongoCompressor> compressorList,
+                                    final CompressionSettings compressionSettings,
+                                    final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener,
+                                    @Nullable final ServerApi serverApi) {
+        this(clusterConnectionMode, false, streamFactory, credential, clientMetadata, compressorList, compressionSettings,
                 loggerSettings, commandListener, serverApi);
     }
 
@@ -58,10 +72,22 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
                                     final ClientMetadata clientMetadata,
             final List<MongoCompressor> compressorList,
             final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
+        this(clusterConnectionMode, isMonitoringConnection, streamFactory, credential, clientMetadata, compressorList,
+                CompressionSettings.builder().build(), loggerSettings, commandListener, serverApi);
+    }
+
+    InternalStreamConnectionFactory(final ClusterConnectionMode clusterConnectionMode, final boolean isMonitoringConnection,
+                                    final StreamFactory streamFactory,
+                                    @Nullable final MongoCredentialWithCache credential,
+                                    final ClientMetadata clientMetadata,
+            final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings,
+            final LoggerSettings loggerSettings, @Nullable final CommandListener commandListener, @Nullable final ServerApi serverApi) {
         this.clusterConnectionMode = clusterConnectionMode;
         this.isMonitoringConnection = isMonitoringConnection;
         this.streamFactory = notNull("streamFactory", streamFactory);
         this.compressorList = notNull("compressorList", compressorList);
+        // Created once per server, as a factory is, so that all the connections to the server share its measurements
+        this.compressionPolicy = new CompressionPolicy(compressionSettings);
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.serverApi = serverApi;
@@ -77,7 +103,7 @@ class InternalStreamConnectionFactory implements InternalConnectionFactory {
         return new InternalStreamConnection(
                 clusterConnectionMode, authenticator,
                 isMonitoringConnection, serverId, connectionGenerationSupplier,
-                streamFactory, compressorList, loggerSettings, commandListener,
+                streamFactory, compressorList, compressionPolicy, loggerSettings, commandListener,
                 connectionInitializer);
     }
 
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.CompressionSettings;
 import com.mongodb.LoggerSettings;
 import com.mongodb.MongoCompressor;
 import com.mongodb.MongoCredential;
@@ -47,6 +48,7 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     private final LoggerSettings loggerSettings;
     private final CommandListener commandListener;
     private final List<MongoCompressor> compressorList;
+    private final CompressionSettings compressionSettings;
     private final ServerApi serverApi;
     private final InternalOperationContextFactory operationContextFactory;
 
@@ -56,8 +58,8 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
             final StreamFactory streamFactory, @Nullable final MongoCredential credential,
             final LoggerSettings loggerSettings,
             @Nullable final CommandListener commandListener,
-            final List<MongoCompressor> compressorList, @Nullable final ServerApi serverApi,
-            final InternalOperationContextFactory operationContextFactory) {
+            final List<MongoCompressor> compressorList, final CompressionSettings compressionSettings,
+            @Nullable final ServerApi serverApi, final InternalOperationContextFactory operationContextFactory) {
         this.serverSettings = serverSettings;
         this.connectionPoolSettings = connectionPoolSettings;
         this.internalConnectionPoolSettings = internalConnectionPoolSettings;
@@ -66,6 +68,7 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
         this.loggerSettings = loggerSettings;
         this.commandListener = commandListener;
         this.compressorList = compressorList;
+        this.compressionSettings = compressionSettings;
         this.serverApi = serverApi;
         this.operationContextFactory = operationContextFactory;
     }
@@ -74,7 +77,7 @@ public class LoadBalancedClusterableServerFactory implements ClusterableServerFa
     public ClusterableServer create(final Cluster cluster, final ServerAddress serverAddress) {
         ConnectionPool connectionPool = new DefaultConnectionPool(new ServerId(cluster.getClusterId(), serverAddress),
                 new InternalStreamConnectionFactory(ClusterConnectionMode.LOAD_BALANCED, streamFactory, credential, cluster.getClientMetadata(),
-                        compressorList, loggerSettings, commandListener, serverApi),
+                        compressorList, compressionSettings, loggerSettings, commandListener, serverApi),
                 connectionPoolSettings, internalConnectionPoolSettings, EmptyProvider.instance(), operationContextFactory);
         connectionPool.ready();
 
@@ -149,6 +149,11 @@ public class LoadBalancedServer implements ClusterableServer {
         return -1;
     }
 
+    @Override
+    public long operationLatencyNanos() {
+        return -1;
+    }
+
     @VisibleForTesting(otherwise = PRIVATE)
     ConnectionPool getConnectionPool() {
         return connectionPool;
@@ -37,6 +37,7 @@ import com.mongodb.selector.ServerSelector;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -59,6 +60,8 @@ public class OperationContext {
     private final String operationName;
     @Nullable
     private Span tracingSpan;
+    @Nullable
+    private final Executor backgroundExecutor;
 
     public OperationContext(final RequestContext requestContext, final SessionContext sessionContext, final TimeoutContext timeoutContext,
             @Nullable final ServerApi serverApi) {
@@ -69,11 +72,23 @@ public class OperationContext {
             final TracingManager tracingManager,
             @Nullable final ServerApi serverApi,
             @Nullable final String operationName) {
+        this(requestContext, sessionContext, timeoutContext, tracingManager, serverApi, operationName, null);
+    }
+
+    /**
+     * @param backgroundExecutor the executor owned by the client for the work that it runs in the background on behalf of the operation
+     */
+    public OperationContext(final RequestContext requestContext, final SessionContext sessionContext, final TimeoutContext timeoutContext,
+            final TracingManager tracingManager,
+            @Nullable final ServerApi serverApi,
+            @Nullable final String operationName,
+            @Nullable final Executor backgroundExecutor) {
         this(NEXT_ID.incrementAndGet(), requestContext, sessionContext, timeoutContext, new ServerDeprioritization(),
                 tracingManager,
                 serverApi,
                 operationName,
-                null);
+                null,
+                backgroundExecutor);
     }
 
     public static OperationContext simpleOperationContext(
@@ -100,17 +115,17 @@ public class OperationContext {
 
     public OperationContext withSessionContext(final SessionContext sessionContext) {
         return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
-                operationName, tracingSpan);
+                operationName, tracingSpan, backgroundExecutor);
     }
 
     public OperationContext withTimeoutContext(final TimeoutContext timeoutContext) {
         return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
-                operationName, tracingSpan);
+                operationName, tracingSpan, backgroundExecutor);
     }
 
     public OperationContext withOperationName(final String operationName) {
         return new OperationContext(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi,
-                operationName, tracingSpan);
+                operationName, tracingSpan, backgroundExecutor);
     }
 
     public long getId() {
@@ -143,6 +158,15 @@ public class OperationContext {
         return operationName;
     }
 
+    /**
+     * @return the executor owned by the client for the work that it runs in the background on behalf of the operation, or {@code null}
+     * if there is none, in which case the work must not be run in the background
+     */
+    @Nullable
+    public Executor getBackgroundExecutor() {
+        return backgroundExecutor;
+    }
+
     @Nullable
     public Span getTracingSpan() {
         return tracingSpan;
@@ -162,6 +186,20 @@ public class OperationContext {
             @Nullable final ServerApi serverApi,
             @Nullable final String operationName,
             @Nullable final Span tracingSpan) {
+        this(id, requestContext, sessionContext, timeoutContext, serverDeprioritization, tracingManager, serverApi, operationName,
+                tracingSpan, null);
+    }
+
+    private OperationContext(final long id,
+            final RequestContext requestContext,
+            final SessionContext sessionContext,
+            final TimeoutContext timeoutContext,
+            final ServerDeprioritization serverDeprioritization,
+            final TracingManager tracingManager,
+            @Nullable final ServerApi serverApi,
+            @Nullable final String operationName,
+            @Nullable final Span tracingSpan,
+            @Nullable final Executor backgroundExecutor) {
 
         this.id = id;
         this.serverDeprioritization = serverDeprioritization;
@@ -172,6 +210,7 @@ public class OperationContext {
         this.serverApi = serverApi;
         this.operationName = operationName;
         this.tracingSpan = tracingSpan;
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
@@ -191,6 +230,7 @@ public class OperationContext {
         this.serverApi = serverApi;
         this.operationName = operationName;
         this.tracingSpan = null;
+        this.backgroundExecutor = null;
     }
 
 
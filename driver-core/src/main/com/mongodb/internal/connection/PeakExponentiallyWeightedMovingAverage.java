@@ -0,0 +1,74 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.annotations.ThreadSafe;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
+import static com.mongodb.internal.Locks.withLock;
+
+/**
+ * A moving average that rises to a sample above the average as soon as it is added, and otherwise decays exponentially with the time
+ * elapsed since the previous sample, rather than with the number of samples. It therefore reacts to a latency peak immediately, forgets
+ * it gradually, and gives the same weight to a burst of samples as to a single sample taken at the same time.
+ */
+@ThreadSafe
+final class PeakExponentiallyWeightedMovingAverage {
+    private static final long EMPTY = -1;
+
+    private final double decayTimeNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long average = EMPTY;
+    private long lastSampleTimeNanos;
+
+    /**
+     * @param decayTimeNanos the time after which the weight of a sample has decayed to 1/e
+     */
+    PeakExponentiallyWeightedMovingAverage(final long decayTimeNanos) {
+        isTrueArgument("decayTimeNanos > 0", decayTimeNanos > 0);
+        this.decayTimeNanos = decayTimeNanos;
+    }
+
+    void addSample(final long sample, final long nowNanos) {
+        withLock(lock, () -> {
+            if (average == EMPTY || sample > average) {
+                average = sample;
+            } else {
+                double weight = Math.exp(-Math.max(nowNanos - lastSampleTimeNanos, 0) / decayTimeNanos);
+                average = (long) (weight * average + (1 - weight) * sample);
+            }
+            lastSampleTimeNanos = nowNanos;
+        });
+    }
+
+    /**
+     * Gets the average, decayed towards zero by the time elapsed since the last sample, so that a server that is no longer sampled
+     * because of a past peak is eventually sampled again.
+     *
+     * @return the average, or a negative value if no sample has been added
+     */
+    long getAverage(final long nowNanos) {
+        return withLock(lock, () -> {
+            if (average == EMPTY) {
+                return EMPTY;
+            }
+            return (long) (average * Math.exp(-Math.max(nowNanos - lastSampleTimeNanos, 0) / decayTimeNanos));
+        });
+    }
+}
@@ -19,24 +19,46 @@ package com.mongodb.internal.connection;
 import com.mongodb.internal.diagnostics.logging.Logger;
 import com.mongodb.internal.diagnostics.logging.Loggers;
 import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
 import org.bson.ByteBuf;
 import org.bson.ByteBufNIO;
 
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 
 /**
+ * A buffer pool with one size class per power of two.
+ *
+ * <p>Each size class of up to 64 KiB is fronted by a set of small, fixed-size magazines, striped by thread, so that most
+ * {@code getBuffer}/{@code release} pairs touch only a few slots that are unlikely to be shared with other cores, and do not
+ * allocate. Buffers that do not fit in a magazine overflow to a shared deque, which is the only store of idle buffers of the
+ * larger size classes. A thread only allocates a buffer once it has found neither the shared deque nor the magazines of the
+ * other stripes to hold an idle one, so, as with a single deque, the idle buffers of a size class are bounded by the peak number
+ * of buffers of that class in use.</p>
+ *
+ * <p>A pool created with {@link #direct(long)} allocates direct buffers, so that they can be handed to a channel without the
+ * JDK copying them into a temporary direct buffer. The total capacity of the direct buffers allocated by such a pool, whether
+ * in use or idle, is bounded by its direct memory budget; once the budget is exhausted the pool falls back to heap buffers,
+ * which are not pooled.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class PowerOfTwoBufferPool implements BufferProvider {
     private static final Logger LOGGER = Loggers.getLogger("connection");
+    private static final int MAX_STRIPES = 64;
+    private static final int MAGAZINE_SIZE = 4;
+    private static final int MAX_MAGAZINE_BUFFER_SIZE = 1 << 16;
 
     /**
      * The global default pool.  Pruning is enabled on this pool. Idle buffers are pruned after one minute.
@@ -61,10 +83,25 @@ public class PowerOfTwoBufferPool implements BufferProvider {
         }
     }
 
-    private final Map<Integer, BufferPool> powerOfTwoToPoolMap = new HashMap<>();
+    private final BufferPool[] powerOfTwoToPool;
+    private final int stripeMask;
     private final long maxIdleTimeNanos;
+    private final long maxDirectMemory;
+    private final AtomicLong directMemoryInUse = new AtomicLong();
     private final ScheduledExecutorService pruner;
 
+    /**
+     * Create a pool of direct buffers.  Pruning is enabled on this pool, and must be disabled once the pool is no longer used.
+     *
+     * @param maxDirectMemory the maximum total capacity, in bytes, of the direct buffers allocated by the pool
+     * @return the pool
+     */
+    static PowerOfTwoBufferPool direct(final long maxDirectMemory) {
+        isTrueArgument("maxDirectMemory > 0", maxDirectMemory > 0);
+        return new PowerOfTwoBufferPool(24, 1, TimeUnit.MINUTES, Runtime.getRuntime().availableProcessors(), maxDirectMemory)
+                .enablePruning();
+    }
+
     /**
      * Construct an instance with a highest power of two of 24.
      */
@@ -89,13 +126,31 @@ public class PowerOfTwoBufferPool implements BufferProvider {
      * @param timeUnit time unit of maxIdleTime
      */
     PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit) {
+        this(highestPowerOfTwo, maxIdleTime, timeUnit, Runtime.getRuntime().availableProcessors(), 0);
+    }
+
+    /**
+     * Construct an instance.
+     *
+     * @param highestPowerOfTwo the highest power of two buffer size that will be pooled
+     * @param maxIdleTime max idle time when pruning is enabled
+     * @param timeUnit time unit of maxIdleTime
+     * @param concurrencyLevel the expected number of threads concurrently using the pool, used to size the magazine stripes
+     * @param maxDirectMemory the maximum total capacity of direct buffers allocated by the pool, or 0 to allocate heap buffers
+     */
+    PowerOfTwoBufferPool(final int highestPowerOfTwo, final long maxIdleTime, final TimeUnit timeUnit, final int concurrencyLevel,
+            final long maxDirectMemory) {
+        int stripes = Math.min(MAX_STRIPES, roundUpToNextHighestPowerOfTwo(Math.max(1, concurrencyLevel)));
+        stripeMask = stripes - 1;
+        powerOfTwoToPool = new BufferPool[highestPowerOfTwo + 1];
         int powerOfTwo = 1;
         for (int i = 0; i <= highestPowerOfTwo; i++) {
             int size = powerOfTwo;
-            powerOfTwoToPoolMap.put(i, new BufferPool(size));
+            powerOfTwoToPool[i] = new BufferPool(size, size <= MAX_MAGAZINE_BUFFER_SIZE ? stripes : 0);
             powerOfTwo = powerOfTwo << 1;
         }
         maxIdleTimeNanos = timeUnit.toNanos(maxIdleTime);
+        this.maxDirectMemory = maxDirectMemory;
         pruner = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("BufferPoolPruner"));
     }
 
@@ -117,8 +172,8 @@ public class PowerOfTwoBufferPool implements BufferProvider {
     }
 
     public ByteBuffer getByteBuffer(final int size) {
-        BufferPool pool = powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(size)));
-        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get().getBuffer();
+        BufferPool pool = getPool(size);
+        ByteBuffer byteBuffer = (pool == null) ? createNew(size) : pool.get();
 
         ((Buffer) byteBuffer).clear();
         ((Buffer) byteBuffer).limit(size);
@@ -126,22 +181,71 @@ public class PowerOfTwoBufferPool implements BufferProvider {
     }
 
     private ByteBuffer createNew(final int size) {
-        ByteBuffer buf = ByteBuffer.allocate(size);
+        ByteBuffer buf = reserveDirectMemory(size) ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
         buf.order(ByteOrder.LITTLE_ENDIAN);
         return buf;
     }
 
     public void release(final ByteBuffer buffer) {
-        BufferPool pool =
-                powerOfTwoToPoolMap.get(log2(roundUpToNextHighestPowerOfTwo(buffer.capacity())));
-        if (pool != null) {
-            pool.release(new IdleTrackingByteBuffer(buffer));
+        BufferPool pool = getPool(buffer.capacity());
+        if (pool != null && buffer.isDirect() == isDirect()) {
+            pool.release(buffer);
+        } else if (buffer.isDirect()) {
+            releaseDirectMemory(buffer.capacity());
+        }
+    }
+
+    /**
+     * @return true if this pool allocates direct buffers
+     */
+    boolean isDirect() {
+        return maxDirectMemory > 0;
+    }
+
+    /**
+     * @return the total capacity of the direct buffers allocated by this pool that are either in use or idle in the pool
+     */
+    long getDirectMemoryInUse() {
+        return directMemoryInUse.get();
+    }
+
+    private boolean reserveDirectMemory(final int size) {
+        if (!isDirect()) {
+            return false;
+        }
+        while (true) {
+            long current = directMemoryInUse.get();
+            if (current + size > maxDirectMemory) {
+                return false;
+            }
+            if (directMemoryInUse.compareAndSet(current, current + size)) {
+                return true;
+            }
+        }
+    }
+
+    private void releaseDirectMemory(final long size) {
+        if (size > 0) {
+            directMemoryInUse.addAndGet(-size);
         }
     }
 
+    @Nullable
+    private BufferPool getPool(final int size) {
+        int index = log2(roundUpToNextHighestPowerOfTwo(size));
+        return index >= 0 && index < powerOfTwoToPool.length ? powerOfTwoToPool[index] : null;
+    }
+
+    private int stripeIndex() {
+        long threadId = Thread.currentThread().getId();
+        return (int) (threadId ^ (threadId >>> 32)) & stripeMask;
+    }
+
     private void prune() {
         try {
-            powerOfTwoToPoolMap.values().forEach(BufferPool::prune);
+            for (BufferPool pool : powerOfTwoToPool) {
+                pool.prune();
+            }
         } catch (Throwable t) {
             LOGGER.error(this + " stopped pruning idle buffer pools. You may want to recreate the MongoClient", t);
             throw t;
@@ -180,29 +284,107 @@ public class PowerOfTwoBufferPool implements BufferProvider {
         }
     }
 
+    /**
+     * A fixed number of buffer slots that is used by the subset of threads mapped to the same stripe.
+     */
+    private final class Magazine {
+        private final AtomicReferenceArray<ByteBuffer> buffers = new AtomicReferenceArray<>(MAGAZINE_SIZE);
+        private final AtomicLongArray lastUsedNanos = new AtomicLongArray(MAGAZINE_SIZE);
+
+        @Nullable
+        ByteBuffer poll() {
+            for (int i = 0; i < MAGAZINE_SIZE; i++) {
+                ByteBuffer buffer = buffers.get(i);
+                if (buffer != null && buffers.compareAndSet(i, buffer, null)) {
+                    return buffer;
+                }
+            }
+            return null;
+        }
+
+        boolean offer(final ByteBuffer buffer) {
+            for (int i = 0; i < MAGAZINE_SIZE; i++) {
+                if (buffers.get(i) == null) {
+                    lastUsedNanos.set(i, System.nanoTime());
+                    if (buffers.compareAndSet(i, null, buffer)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        int prune(final long now) {
+            int pruned = 0;
+            for (int i = 0; i < MAGAZINE_SIZE; i++) {
+                ByteBuffer buffer = buffers.get(i);
+                if (buffer != null && now - lastUsedNanos.get(i) >= maxIdleTimeNanos && buffers.compareAndSet(i, buffer, null)) {
+                    pruned++;
+                }
+            }
+            return pruned;
+        }
+    }
+
     private final class BufferPool {
         private final int bufferSize;
+        private final Magazine[] magazines;
         private final ConcurrentLinkedDeque<IdleTrackingByteBuffer> available = new ConcurrentLinkedDeque<>();
 
-        BufferPool(final int bufferSize) {
+        /**
+         * @param stripes the number of magazines, or 0 if buffers are only pooled in the shared deque
+         */
+        BufferPool(final int bufferSize, final int stripes) {
             this.bufferSize = bufferSize;
+            this.magazines = new Magazine[stripes];
+            for (int i = 0; i < stripes; i++) {
+                magazines[i] = new Magazine();
+            }
         }
 
-        IdleTrackingByteBuffer get() {
-            IdleTrackingByteBuffer buffer = available.pollLast();
-            if (buffer != null) {
-                return buffer;
+        ByteBuffer get() {
+            int stripe = magazines.length == 0 ? -1 : stripeIndex();
+            if (stripe >= 0) {
+                ByteBuffer buffer = magazines[stripe].poll();
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+            IdleTrackingByteBuffer idleTrackingBuffer = available.pollLast();
+            if (idleTrackingBuffer != null) {
+                return idleTrackingBuffer.getBuffer();
             }
-            return new IdleTrackingByteBuffer(createNew(bufferSize));
+            // steal from the other stripes rather than allocate while they hold idle buffers
+            for (int i = 1; i < magazines.length; i++) {
+                ByteBuffer buffer = magazines[(stripe + i) & stripeMask].poll();
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+            return createNew(bufferSize);
         }
 
-        void release(final IdleTrackingByteBuffer t) {
-            available.addLast(t);
+        void release(final ByteBuffer buffer) {
+            if (magazines.length == 0 || !magazines[stripeIndex()].offer(buffer)) {
+                available.addLast(new IdleTrackingByteBuffer(buffer));
+            }
         }
 
         void prune() {
             long now = System.nanoTime();
-            available.removeIf(cur -> now - cur.getLastUsedNanos() >= maxIdleTimeNanos);
+            int pruned = 0;
+            for (Magazine magazine : magazines) {
+                pruned += magazine.prune(now);
+            }
+            for (Iterator<IdleTrackingByteBuffer> iter = available.iterator(); iter.hasNext();) {
+                if (now - iter.next().getLastUsedNanos() >= maxIdleTimeNanos) {
+                    iter.remove();
+                    pruned++;
+                }
+            }
+            if (isDirect()) {
+                releaseDirectMemory((long) pruned * bufferSize);
+            }
         }
     }
 }
@@ -17,11 +17,13 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
+import com.mongodb.lang.Nullable;
 import org.bson.BsonBinaryReader;
 import org.bson.codecs.Decoder;
 import org.bson.codecs.DecoderContext;
 import org.bson.io.BsonInput;
 import org.bson.io.ByteBufferBsonInput;
+import org.bson.io.FieldNameCache;
 
 import static java.lang.String.format;
 
@@ -44,13 +46,21 @@ public class ReplyMessage<T> {
     }
 
     public ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId) {
+        this(responseBuffers, decoder, requestId, null);
+    }
+
+    /**
+     * @param fieldNameCache the cache through which the names of the fields of the response are read, which may be null
+     */
+    public ReplyMessage(final ResponseBuffers responseBuffers, final Decoder<T> decoder, final long requestId,
+            @Nullable final FieldNameCache fieldNameCache) {
         if (requestId != responseBuffers.getReplyHeader().getResponseTo()) {
             throw new MongoInternalException(
                     responseToMismatchMessage(responseBuffers.getReplyHeader().getResponseTo(), requestId));
         }
 
         try (BsonInput bsonInput = new ByteBufferBsonInput(responseBuffers.getBodyByteBuffer().duplicate())) {
-            try (BsonBinaryReader reader = new BsonBinaryReader(bsonInput)) {
+            try (BsonBinaryReader reader = new BsonBinaryReader(bsonInput, fieldNameCache)) {
                 document = decoder.decode(reader, DecoderContext.builder().build());
             }
         } finally {
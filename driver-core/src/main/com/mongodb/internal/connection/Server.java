@@ -59,4 +59,12 @@ public interface Server {
      * @return A negative value iff the server does not track its operation count.
      */
     int operationCount();
+
+    /**
+     * A moving average of the latencies of the operations that this server has recently executed, which rises to a latency peak as
+     * soon as it is observed, and decays exponentially over time otherwise.
+     *
+     * @return A negative value iff the server does not track its operation latency, or has not yet completed an operation.
+     */
+    long operationLatencyNanos();
 }
@@ -25,8 +25,11 @@ import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 import com.mongodb.spi.dns.InetAddressResolverProvider;
 
+import java.net.Inet6Address;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.stream.Collectors;
@@ -76,6 +79,41 @@ public final class ServerAddressHelper {
         }
     }
 
+    /**
+     * Orders the addresses so that their address families alternate, starting with the family of the first address, as recommended by
+     * RFC 8305 for making concurrent connection attempts. The relative order of the addresses of each family is preserved.
+     *
+     * @param socketAddresses the resolved addresses
+     * @return the interleaved addresses
+     */
+    public static List<InetSocketAddress> interleaveAddressFamilies(final List<InetSocketAddress> socketAddresses) {
+        if (socketAddresses.size() < 2) {
+            return socketAddresses;
+        }
+        boolean firstIsIpv6 = socketAddresses.get(0).getAddress() instanceof Inet6Address;
+        List<InetSocketAddress> firstFamily = new ArrayList<>();
+        List<InetSocketAddress> otherFamily = new ArrayList<>();
+        for (InetSocketAddress socketAddress : socketAddresses) {
+            if ((socketAddress.getAddress() instanceof Inet6Address) == firstIsIpv6) {
+                firstFamily.add(socketAddress);
+            } else {
+                otherFamily.add(socketAddress);
+            }
+        }
+        List<InetSocketAddress> interleaved = new ArrayList<>(socketAddresses.size());
+        Iterator<InetSocketAddress> firstFamilyIterator = firstFamily.iterator();
+        Iterator<InetSocketAddress> otherFamilyIterator = otherFamily.iterator();
+        while (firstFamilyIterator.hasNext() || otherFamilyIterator.hasNext()) {
+            if (firstFamilyIterator.hasNext()) {
+                interleaved.add(firstFamilyIterator.next());
+            }
+            if (otherFamilyIterator.hasNext()) {
+                interleaved.add(otherFamilyIterator.next());
+            }
+        }
+        return interleaved;
+    }
+
     private ServerAddressHelper() {
     }
 }
@@ -18,12 +18,9 @@ package com.mongodb.internal.connection;
 
 import com.mongodb.MongoInternalException;
 import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 import org.xerial.snappy.Snappy;
-import org.xerial.snappy.SnappyInputStream;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 class SnappyCompressor extends Compressor {
@@ -38,42 +35,22 @@ class SnappyCompressor extends Compressor {
     }
 
     // the server does not support the framing format so SnappyFramedOutputStream can't be used.  The entire source message must first
-    // be copied into a single byte array.  For that reason the compress method defined in the base class can't be used.
+    // be in a single byte array, which requires a copy unless the message is in a single array-backed buffer.
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
-        int uncompressedSize = getUncompressedSize(source);
-
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
-
-        try {
-            byte[] out = new byte[Snappy.maxCompressedLength(uncompressedSize)];
-            int compressedSize = Snappy.compress(singleByteArraySource, 0, singleByteArraySource.length, out, 0);
-            target.writeBytes(out, 0, compressedSize);
-        } catch (IOException e) {
-            throw new MongoInternalException("Unexpected IOException", e);
-        }
-    }
-
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
-        for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
-        }
-        return uncompressedSize;
-    }
-
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
-        for (ByteBuf cur : source) {
-            int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
-            offset += remaining;
-        }
+    public void compress(final List<ByteBuf> source, final ByteBufferBsonOutput target) {
+        ByteBuffer input = getRemainingAsArrayBackedBuffer(source);
+        compressBlock(input, Snappy.maxCompressedLength(input.remaining()), target,
+                (sourceBytes, sourceOffset, sourceLength, targetBytes, targetOffset, targetLength) ->
+                        Snappy.compress(sourceBytes, sourceOffset, sourceLength, targetBytes, targetOffset));
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new SnappyInputStream(source);
+    public void uncompress(final ByteBuf source, final ByteBuf target) {
+        uncompressBlock(source, target, (sourceBytes, sourceOffset, sourceLength, targetBytes, targetOffset, targetLength) -> {
+            if (Snappy.uncompressedLength(sourceBytes, sourceOffset, sourceLength) > targetLength) {
+                throw new MongoInternalException("Uncompressed message is larger than its declared size");
+            }
+            return Snappy.uncompress(sourceBytes, sourceOffset, sourceLength, targetBytes, targetOffset);
+        });
     }
 }
@@ -24,6 +24,7 @@ import com.mongodb.connection.AsyncCompletionHandler;
 import com.mongodb.connection.ProxySettings;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.SslSettings;
+import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 import org.bson.ByteBuf;
 
@@ -32,20 +33,33 @@ import javax.net.ssl.SSLSocket;
 import javax.net.ssl.SSLSocketFactory;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static com.mongodb.assertions.Assertions.assertTrue;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
 import static com.mongodb.internal.TimeoutContext.throwMongoTimeoutException;
 import static com.mongodb.internal.connection.ServerAddressHelper.getSocketAddresses;
+import static com.mongodb.internal.connection.ServerAddressHelper.interleaveAddressFamilies;
 import static com.mongodb.internal.connection.SocketStreamHelper.configureSocket;
 import static com.mongodb.internal.connection.SslHelper.configureSslSocket;
 import static com.mongodb.internal.thread.InterruptionUtil.translateInterruptedException;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -57,6 +71,8 @@ public class SocketStream implements Stream {
     private final SslSettings sslSettings;
     private final SocketFactory socketFactory;
     private final BufferProvider bufferProvider;
+    @Nullable
+    private final ScheduledExecutorService backgroundExecutor;
     private volatile Socket socket;
     private volatile OutputStream outputStream;
     private volatile InputStream inputStream;
@@ -65,12 +81,24 @@ public class SocketStream implements Stream {
     public SocketStream(final ServerAddress address, final InetAddressResolver inetAddressResolver,
             final SocketSettings settings, final SslSettings sslSettings,
             final SocketFactory socketFactory, final BufferProvider bufferProvider) {
+        this(address, inetAddressResolver, settings, sslSettings, socketFactory, bufferProvider, null);
+    }
+
+    /**
+     * @param backgroundExecutor the executor of the client to make concurrent connection attempts on, or null to make the connection
+     * attempts one at a time
+     */
+    public SocketStream(final ServerAddress address, final InetAddressResolver inetAddressResolver,
+            final SocketSettings settings, final SslSettings sslSettings,
+            final SocketFactory socketFactory, final BufferProvider bufferProvider,
+            @Nullable final ScheduledExecutorService backgroundExecutor) {
         this.address = notNull("address", address);
         this.settings = notNull("settings", settings);
         this.sslSettings = notNull("sslSettings", sslSettings);
         this.socketFactory = notNull("socketFactory", socketFactory);
         this.bufferProvider = notNull("bufferProvider", bufferProvider);
         this.inetAddressResolver = inetAddressResolver;
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @Override
@@ -97,7 +125,11 @@ public class SocketStream implements Stream {
             return initializeSocketOverSocksProxy(operationContext);
         }
 
-        Iterator<InetSocketAddress> inetSocketAddresses = getSocketAddresses(address, inetAddressResolver).iterator();
+        List<InetSocketAddress> socketAddresses = getSocketAddresses(address, inetAddressResolver);
+        if (backgroundExecutor != null && settings.getConnectionAttemptDelay(MILLISECONDS) > 0 && socketAddresses.size() > 1) {
+            return initializeSocketConcurrently(operationContext, interleaveAddressFamilies(socketAddresses), backgroundExecutor);
+        }
+        Iterator<InetSocketAddress> inetSocketAddresses = socketAddresses.iterator();
         while (inetSocketAddresses.hasNext()) {
             Socket socket = socketFactory.createSocket();
             try {
@@ -113,6 +145,24 @@ public class SocketStream implements Stream {
         throw new MongoSocketException("Exception opening socket", getAddress());
     }
 
+    /**
+     * Connects to the addresses with staggered concurrent connection attempts, as described by RFC 8305. The attempt to the next address
+     * is started as soon as the previous attempt fails, or once the connection attempt delay has elapsed. The first socket to connect is
+     * returned, and the sockets of the other attempts are closed.
+     */
+    private Socket initializeSocketConcurrently(final OperationContext operationContext, final List<InetSocketAddress> socketAddresses,
+            final ScheduledExecutorService backgroundExecutor) throws IOException {
+        return new ConcurrentConnectionAttempts(operationContext, socketAddresses, backgroundExecutor).connect();
+    }
+
+    private static void closeQuietly(final Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
     private SSLSocket initializeSslSocketOverSocksProxy(final OperationContext operationContext,
             final SSLSocketFactory sslSocketFactory) throws IOException {
         final String serverHost = address.getHost();
@@ -245,4 +295,172 @@ public class SocketStream implements Stream {
     public boolean isClosed() {
         return isClosed;
     }
+
+    /**
+     * The application's thread makes the first attempt itself, and whenever its attempt fails it makes the attempt to the next address
+     * that no attempt has been started for. An attempt started because the connection attempt delay has elapsed runs on the client's
+     * background executor, and makes the following attempts in the same way. The application's thread therefore only ever waits for the
+     * attempts that are running, never for an attempt queued on the executor: if the executor does not start the attempt in time, the
+     * application's thread makes it once its own attempt has completed.
+     */
+    private final class ConcurrentConnectionAttempts {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition completed = lock.newCondition();
+        private final OperationContext operationContext;
+        private final Queue<InetSocketAddress> socketAddressQueue;
+        private final ScheduledExecutorService backgroundExecutor;
+        private final List<Socket> attemptSockets = new ArrayList<>();
+        private int attemptsInProgress;
+        private boolean done;
+        @Nullable
+        private ScheduledFuture<?> scheduledAttempt;
+        @Nullable
+        private Socket connectedSocket;
+        @Nullable
+        private Throwable lastFailure;
+
+        ConcurrentConnectionAttempts(final OperationContext operationContext, final List<InetSocketAddress> socketAddresses,
+                final ScheduledExecutorService backgroundExecutor) {
+            this.operationContext = operationContext;
+            this.socketAddressQueue = new LinkedList<>(socketAddresses);
+            this.backgroundExecutor = backgroundExecutor;
+        }
+
+        Socket connect() throws IOException {
+            makeAttempts();
+            Throwable failure;
+            lock.lock();
+            try {
+                while (!done) {
+                    completed.await();
+                }
+                if (connectedSocket != null) {
+                    return connectedSocket;
+                }
+                failure = lastFailure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new InterruptedIOException("Interrupted while connecting");
+            } finally {
+                lock.unlock();
+            }
+            closeAll();
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new MongoSocketException("Exception opening socket", getAddress());
+        }
+
+        /**
+         * Makes attempts one after the other until an attempt succeeds, there is no address left to attempt, or the thread is
+         * interrupted.
+         */
+        private void makeAttempts() {
+            InetSocketAddress socketAddress = startAttempt();
+            while (socketAddress != null) {
+                Socket attemptSocket = null;
+                try {
+                    attemptSocket = socketFactory.createSocket();
+                    if (!addAttemptSocket(attemptSocket)) {
+                        closeQuietly(attemptSocket);
+                        onAttemptFailed(null);
+                        return;
+                    }
+                    SocketStreamHelper.initialize(operationContext, attemptSocket, socketAddress, settings, sslSettings);
+                    onAttemptSucceeded(attemptSocket);
+                    return;
+                } catch (Throwable t) {
+                    if (attemptSocket != null) {
+                        closeQuietly(attemptSocket);
+                    }
+                    onAttemptFailed(t);
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                socketAddress = startAttempt();
+            }
+        }
+
+        @Nullable
+        private InetSocketAddress startAttempt() {
+            return withLock(lock, () -> {
+                cancelScheduledAttempt();
+                InetSocketAddress socketAddress = done ? null : socketAddressQueue.poll();
+                if (socketAddress == null) {
+                    return null;
+                }
+                attemptsInProgress++;
+                if (!socketAddressQueue.isEmpty()) {
+                    try {
+                        scheduledAttempt = backgroundExecutor.schedule(this::makeAttempts,
+                                settings.getConnectionAttemptDelay(MILLISECONDS), MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        // the client is being closed, so the next attempt is only made once this one has failed
+                    }
+                }
+                return socketAddress;
+            });
+        }
+
+        private boolean addAttemptSocket(final Socket attemptSocket) {
+            return withLock(lock, () -> !done && attemptSockets.add(attemptSocket));
+        }
+
+        private void onAttemptSucceeded(final Socket attemptSocket) {
+            List<Socket> socketsToClose = withLock(lock, () -> {
+                attemptsInProgress--;
+                List<Socket> otherSockets = new ArrayList<>(attemptSockets);
+                otherSockets.remove(attemptSocket);
+                if (done) {
+                    return singletonList(attemptSocket);
+                }
+                connectedSocket = attemptSocket;
+                complete();
+                return otherSockets;
+            });
+            // closing the sockets of the other attempts makes them fail, so no attempt keeps running
+            socketsToClose.forEach(SocketStream::closeQuietly);
+        }
+
+        private void onAttemptFailed(@Nullable final Throwable failure) {
+            withLock(lock, () -> {
+                attemptsInProgress--;
+                if (failure != null && !done) {
+                    lastFailure = failure;
+                }
+                if (!done && attemptsInProgress == 0 && socketAddressQueue.isEmpty()) {
+                    complete();
+                }
+            });
+        }
+
+        private void closeAll() {
+            List<Socket> socketsToClose = withLock(lock, () -> {
+                if (!done) {
+                    complete();
+                }
+                connectedSocket = null;
+                return new ArrayList<>(attemptSockets);
+            });
+            socketsToClose.forEach(SocketStream::closeQuietly);
+        }
+
+        private void complete() {
+            done = true;
+            cancelScheduledAttempt();
+            completed.signalAll();
+        }
+
+        private void cancelScheduledAttempt() {
+            if (scheduledAttempt != null) {
+                scheduledAttempt.cancel(false);
+                scheduledAttempt = null;
+            }
+        }
+    }
 }
@@ -21,11 +21,13 @@ import com.mongodb.ServerAddress;
 import com.mongodb.UnixServerAddress;
 import com.mongodb.connection.SocketSettings;
 import com.mongodb.connection.SslSettings;
+import com.mongodb.lang.Nullable;
 import com.mongodb.spi.dns.InetAddressResolver;
 
 import javax.net.SocketFactory;
 import javax.net.ssl.SSLContext;
 import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ScheduledExecutorService;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static java.util.Optional.ofNullable;
@@ -38,6 +40,8 @@ public class SocketStreamFactory implements StreamFactory {
     private final SocketSettings settings;
     private final SslSettings sslSettings;
     private final BufferProvider bufferProvider = PowerOfTwoBufferPool.DEFAULT;
+    @Nullable
+    private final ScheduledExecutorService backgroundExecutor;
 
     /**
      * Creates a new factory with the given settings for connecting to servers and the given SSL settings
@@ -48,9 +52,24 @@ public class SocketStreamFactory implements StreamFactory {
      */
     public SocketStreamFactory(final InetAddressResolver inetAddressResolver, final SocketSettings settings,
             final SslSettings sslSettings) {
+        this(inetAddressResolver, settings, sslSettings, null);
+    }
+
+    /**
+     * Creates a new factory with the given settings for connecting to servers and the given SSL settings
+     *
+     * @param inetAddressResolver resolver
+     * @param settings            the SocketSettings for connecting to a MongoDB server
+     * @param sslSettings         whether SSL is enabled.
+     * @param backgroundExecutor  the executor of the client to make concurrent connection attempts on, or null to make the connection
+     *                            attempts one at a time
+     */
+    public SocketStreamFactory(final InetAddressResolver inetAddressResolver, final SocketSettings settings,
+            final SslSettings sslSettings, @Nullable final ScheduledExecutorService backgroundExecutor) {
         this.inetAddressResolver = inetAddressResolver;
         this.settings = notNull("settings", settings);
         this.sslSettings = notNull("sslSettings", sslSettings);
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @Override
@@ -64,10 +83,10 @@ public class SocketStreamFactory implements StreamFactory {
         } else {
             if (sslSettings.isEnabled()) {
                 stream = new SocketStream(serverAddress, inetAddressResolver, settings, sslSettings, getSslContext().getSocketFactory(),
-                        bufferProvider);
+                        bufferProvider, backgroundExecutor);
             } else {
                 stream = new SocketStream(serverAddress, inetAddressResolver, settings, sslSettings, SocketFactory.getDefault(),
-                        bufferProvider);
+                        bufferProvider, backgroundExecutor);
             }
         }
         return stream;
@@ -30,6 +30,7 @@ import com.mongodb.spi.dns.InetAddressResolver;
 import java.io.IOException;
 import java.nio.channels.AsynchronousChannelGroup;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 
 /**
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
@@ -38,13 +39,14 @@ public final class StreamFactoryHelper {
 
     public static StreamFactoryFactory getSyncStreamFactoryFactory(
             @Nullable final TransportSettings transportSettings,
-            final InetAddressResolver inetAddressResolver) {
+            final InetAddressResolver inetAddressResolver,
+            @Nullable final ScheduledExecutorService backgroundExecutor) {
 
         if (transportSettings == null) {
             return new StreamFactoryFactory() {
                 @Override
                 public StreamFactory create(final SocketSettings socketSettings, final SslSettings sslSettings) {
-                    return new SocketStreamFactory(inetAddressResolver, socketSettings, sslSettings);
+                    return new SocketStreamFactory(inetAddressResolver, socketSettings, sslSettings, backgroundExecutor);
                 }
 
                 @Override
@@ -62,14 +64,20 @@ public final class StreamFactoryHelper {
     }
 
     public static StreamFactoryFactory getAsyncStreamFactoryFactory(final MongoClientSettings settings,
-            final InetAddressResolver inetAddressResolver) {
+            final InetAddressResolver inetAddressResolver, @Nullable final ScheduledExecutorService backgroundExecutor) {
         TransportSettings transportSettings = settings.getTransportSettings();
         if (transportSettings == null || transportSettings instanceof AsyncTransportSettings) {
             ExecutorService executorService = transportSettings == null
                     ? null
                     : ((AsyncTransportSettings) transportSettings).getExecutorService();
+            long maxDirectBufferMemory = transportSettings == null
+                    ? 0
+                    : ((AsyncTransportSettings) transportSettings).getMaxDirectBufferMemory();
+            PowerOfTwoBufferPool bufferPool = maxDirectBufferMemory == 0
+                    ? PowerOfTwoBufferPool.DEFAULT
+                    : PowerOfTwoBufferPool.direct(maxDirectBufferMemory);
             if (settings.getSslSettings().isEnabled()) {
-                return new TlsChannelStreamFactoryFactory(inetAddressResolver, executorService);
+                return new TlsChannelStreamFactoryFactory(inetAddressResolver, executorService, bufferPool);
             }
             AsynchronousChannelGroup group = null;
             if (executorService != null) {
@@ -79,7 +87,7 @@ public final class StreamFactoryHelper {
                     throw new MongoClientException("Unable to create an asynchronous channel group", e);
                 }
             }
-            return new AsynchronousSocketChannelStreamFactoryFactory(inetAddressResolver, group);
+            return new AsynchronousSocketChannelStreamFactoryFactory(inetAddressResolver, group, bufferPool, backgroundExecutor);
         } else  if (transportSettings instanceof NettyTransportSettings) {
             return getNettyStreamFactoryFactory(inetAddressResolver, (NettyTransportSettings) transportSettings);
         } else {
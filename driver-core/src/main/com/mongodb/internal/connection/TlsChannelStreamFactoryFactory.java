@@ -68,22 +68,23 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
 
     private final SelectorMonitor selectorMonitor;
     private final AsynchronousTlsChannelGroup group;
-    private final PowerOfTwoBufferPool bufferPool = PowerOfTwoBufferPool.DEFAULT;
+    private final PowerOfTwoBufferPool bufferPool;
     private final InetAddressResolver inetAddressResolver;
 
     /**
      * Construct a new instance
      */
     TlsChannelStreamFactoryFactory(final InetAddressResolver inetAddressResolver,
-            @Nullable final ExecutorService executorService) {
+            @Nullable final ExecutorService executorService, final PowerOfTwoBufferPool bufferPool) {
         this.inetAddressResolver = inetAddressResolver;
+        this.bufferPool = bufferPool;
         this.group = new AsynchronousTlsChannelGroup(executorService);
         selectorMonitor = new SelectorMonitor();
         selectorMonitor.start();
     }
 
     public TlsChannelStreamFactoryFactory(final InetAddressResolver inetAddressResolver) {
-        this(inetAddressResolver, null);
+        this(inetAddressResolver, null, PowerOfTwoBufferPool.DEFAULT);
     }
 
     @Override
@@ -97,6 +98,9 @@ public class TlsChannelStreamFactoryFactory implements StreamFactoryFactory {
     public void close() {
         selectorMonitor.close();
         group.shutdown();
+        if (bufferPool != PowerOfTwoBufferPool.DEFAULT) {
+            bufferPool.disablePruning();
+        }
     }
 
     /**
@@ -17,13 +17,13 @@
 package com.mongodb.internal.connection;
 
 import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import org.bson.ByteBuf;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.zip.Inflater;
 
 class ZlibCompressor extends Compressor {
     private final int level;
@@ -43,21 +43,106 @@ class ZlibCompressor extends Compressor {
     }
 
     @Override
-    InputStream getInputStream(final InputStream source) {
-        return new InflaterInputStream(source);
+    public void compress(final List<ByteBuf> source, final ByteBufferBsonOutput target) {
+        Deflater deflater = new Deflater(level);
+        try {
+            byte[] scratch = null;
+            for (ByteBuf cur : source) {
+                while (cur.hasRemaining()) {
+                    int position = cur.position();
+                    int remaining = cur.remaining();
+                    if (cur.isBackedByArray()) {
+                        deflater.setInput(cur.array(), cur.arrayOffset() + position, remaining);
+                        cur.position(position + remaining);
+                    } else {
+                        if (scratch == null) {
+                            scratch = new byte[BUFFER_SIZE];
+                        }
+                        int numBytes = Math.min(remaining, scratch.length);
+                        cur.get(scratch, 0, numBytes);
+                        deflater.setInput(scratch, 0, numBytes);
+                    }
+                    while (!deflater.needsInput()) {
+                        deflate(deflater, target);
+                    }
+                }
+            }
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate(deflater, target);
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void deflate(final Deflater deflater, final ByteBufferBsonOutput target) {
+        ByteBuf buffer = target.getWritableBuffer(1);
+        if (buffer.isBackedByArray()) {
+            int position = buffer.position();
+            int numBytes = deflater.deflate(buffer.array(), buffer.arrayOffset() + position, buffer.remaining());
+            buffer.position(position + numBytes);
+            target.commitWritableBuffer(numBytes);
+        } else {
+            byte[] compressed = new byte[Math.min(buffer.remaining(), BUFFER_SIZE)];
+            int numBytes = deflater.deflate(compressed);
+            target.writeBytes(compressed, 0, numBytes);
+        }
     }
 
     @Override
-    OutputStream getOutputStream(final OutputStream source) {
-        return new DeflaterOutputStream(source, new Deflater(level)) {
-            @Override
-            public void close() throws IOException {
-                try {
-                    super.close();
-                } finally {
-                    def.end();
+    public void uncompress(final ByteBuf source, final ByteBuf target) {
+        Inflater inflater = new Inflater();
+        try {
+            byte[] scratch = null;
+            while (!inflater.finished()) {
+                if (inflater.needsInput()) {
+                    if (!source.hasRemaining()) {
+                        throw new MongoInternalException("Compressed message ended before the end of the zlib stream");
+                    }
+                    int position = source.position();
+                    int remaining = source.remaining();
+                    if (source.isBackedByArray()) {
+                        inflater.setInput(source.array(), source.arrayOffset() + position, remaining);
+                        source.position(position + remaining);
+                    } else {
+                        if (scratch == null) {
+                            scratch = new byte[BUFFER_SIZE];
+                        }
+                        int numBytes = Math.min(remaining, scratch.length);
+                        source.get(scratch, 0, numBytes);
+                        inflater.setInput(scratch, 0, numBytes);
+                    }
                 }
+                if (inflate(inflater, target) == 0 && inflater.needsDictionary()) {
+                    throw new MongoInternalException("Unexpected zlib preset dictionary");
+                }
+            }
+        } catch (DataFormatException e) {
+            throw new MongoInternalException("Unexpected DataFormatException", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int inflate(final Inflater inflater, final ByteBuf target) throws DataFormatException {
+        int remaining = target.remaining();
+        int numBytes;
+        if (remaining == 0) {
+            // only the end of the stream may remain, so anything else that it inflates is more than the header promised
+            numBytes = inflater.inflate(new byte[1]);
+            if (numBytes > 0) {
+                throw new MongoInternalException("Uncompressed message is larger than its declared size");
             }
-        };
+        } else if (target.isBackedByArray()) {
+            int position = target.position();
+            numBytes = inflater.inflate(target.array(), target.arrayOffset() + position, remaining);
+            target.position(position + numBytes);
+        } else {
+            byte[] uncompressed = new byte[Math.min(remaining, BUFFER_SIZE)];
+            numBytes = inflater.inflate(uncompressed);
+            target.put(uncompressed, 0, numBytes);
+        }
+        return numBytes;
     }
 }
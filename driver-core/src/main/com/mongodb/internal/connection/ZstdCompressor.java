@@ -17,13 +17,11 @@
 package com.mongodb.internal.connection;
 
 import com.github.luben.zstd.Zstd;
-import com.github.luben.zstd.ZstdInputStreamNoFinalizer;
+import com.github.luben.zstd.ZstdException;
 import com.mongodb.MongoInternalException;
 import org.bson.ByteBuf;
-import org.bson.io.BsonOutput;
 
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 class ZstdCompressor extends Compressor {
@@ -38,40 +36,41 @@ class ZstdCompressor extends Compressor {
     }
 
     @Override
-    public void compress(final List<ByteBuf> source, final BsonOutput target) {
-        int uncompressedSize = getUncompressedSize(source);
-
-        byte[] singleByteArraySource = new byte[uncompressedSize];
-        copy(source, singleByteArraySource);
-
+    public void compress(final List<ByteBuf> source, final ByteBufferBsonOutput target) {
         try {
-            byte[] out = new byte[(int) Zstd.compressBound(uncompressedSize)];
-            int compressedSize = (int) Zstd.compress(out, singleByteArraySource, Zstd.defaultCompressionLevel());
-            target.writeBytes(out, 0, compressedSize);
+            ByteBuffer input = getRemainingAsArrayBackedBuffer(source);
+            compressBlock(input, (int) Zstd.compressBound(input.remaining()), target,
+                    (sourceBytes, sourceOffset, sourceLength, targetBytes, targetOffset, targetLength) ->
+                            checkResult(Zstd.compressByteArray(targetBytes, targetOffset, targetLength, sourceBytes, sourceOffset,
+                                    sourceLength, Zstd.defaultCompressionLevel())));
+        } catch (MongoInternalException e) {
+            throw e;
+        } catch (ZstdException e) {
+            throw new MongoInternalException("Zstd error: " + e.getMessage(), e);
         } catch (Exception e) {
             throw new MongoInternalException("Unexpected exception", e);
         }
     }
 
-    private int getUncompressedSize(final List<ByteBuf> source) {
-        int uncompressedSize = 0;
-        for (ByteBuf cur : source) {
-            uncompressedSize += cur.remaining();
+    @Override
+    public void uncompress(final ByteBuf source, final ByteBuf target) {
+        try {
+            uncompressBlock(source, target, (sourceBytes, sourceOffset, sourceLength, targetBytes, targetOffset, targetLength) ->
+                    checkResult(Zstd.decompressByteArray(targetBytes, targetOffset, targetLength, sourceBytes, sourceOffset, sourceLength)));
+        } catch (MongoInternalException e) {
+            throw e;
+        } catch (ZstdException e) {
+            throw new MongoInternalException("Zstd error: " + e.getMessage(), e);
+        } catch (Exception e) {
+            throw new MongoInternalException("Unexpected exception", e);
         }
-        return uncompressedSize;
     }
 
-    private void copy(final List<ByteBuf> source, final byte[] in) {
-        int offset = 0;
-        for (ByteBuf cur : source) {
-            int remaining = cur.remaining();
-            cur.get(in, offset, remaining);
-            offset += remaining;
+    // Depending on the version of zstd-jni, errors are either thrown as a ZstdException or returned as an error code
+    private static int checkResult(final long result) {
+        if (Zstd.isError(result)) {
+            throw new MongoInternalException("Zstd error: " + Zstd.getErrorName(result));
         }
-    }
-
-    @Override
-    InputStream getInputStream(final InputStream source) throws IOException {
-        return new ZstdInputStreamNoFinalizer(source);
+        return (int) result;
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.event;
+
+import com.mongodb.event.CompressionListener;
+import com.mongodb.event.MessageCompressionEvent;
+import com.mongodb.internal.diagnostics.logging.Logger;
+import com.mongodb.internal.diagnostics.logging.Loggers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mongodb.assertions.Assertions.isTrue;
+import static java.lang.String.format;
+
+
+final class CompressionListenerMulticaster implements CompressionListener {
+
+    private static final Logger LOGGER = Loggers.getLogger("protocol.event");
+
+    private final List<CompressionListener> compressionListeners;
+
+    CompressionListenerMulticaster(final List<CompressionListener> compressionListeners) {
+        isTrue("All CompressionListener instances are non-null", !compressionListeners.contains(null));
+        this.compressionListeners = new ArrayList<>(compressionListeners);
+    }
+
+    @Override
+    public void messageEncoded(final MessageCompressionEvent event) {
+        for (CompressionListener cur : compressionListeners) {
+            try {
+                cur.messageEncoded(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising message encoded event to listener %s", cur), e);
+                }
+            }
+        }
+    }
+}
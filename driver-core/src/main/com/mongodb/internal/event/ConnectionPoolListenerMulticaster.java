@@ -24,6 +24,7 @@ import com.mongodb.event.ConnectionClosedEvent;
 import com.mongodb.event.ConnectionCreatedEvent;
 import com.mongodb.event.ConnectionPoolClearedEvent;
 import com.mongodb.event.ConnectionPoolClosedEvent;
+import com.mongodb.event.ConnectionPoolConcurrencyLimitChangedEvent;
 import com.mongodb.event.ConnectionPoolCreatedEvent;
 import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.event.ConnectionPoolReadyEvent;
@@ -86,6 +87,20 @@ final class ConnectionPoolListenerMulticaster implements ConnectionPoolListener
         }
     }
 
+    @Override
+    public void connectionPoolConcurrencyLimitChanged(final ConnectionPoolConcurrencyLimitChangedEvent event) {
+        for (ConnectionPoolListener cur : connectionPoolListeners) {
+            try {
+                cur.connectionPoolConcurrencyLimitChanged(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising connection pool concurrency limit changed event to listener %s", cur),
+                            e);
+                }
+            }
+        }
+    }
+
     @Override
     public void connectionPoolClosed(final ConnectionPoolClosedEvent event) {
         for (ConnectionPoolListener cur : connectionPoolListeners) {
@@ -16,11 +16,13 @@
 
 package com.mongodb.internal.event;
 
+import com.mongodb.CompressionSettings;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.connection.ServerSettings;
 import com.mongodb.event.ClusterListener;
 import com.mongodb.event.CommandListener;
+import com.mongodb.event.CompressionListener;
 import com.mongodb.event.ConnectionPoolListener;
 import com.mongodb.event.ServerListener;
 import com.mongodb.event.ServerMonitorListener;
@@ -92,6 +94,17 @@ public final class EventListenerHelper {
         }
     }
 
+    /**
+     * Returns a listener that raises events to all the configured listeners, logging rather than propagating the exceptions they
+     * throw, or null if none is configured.
+     */
+    @Nullable
+    public static CompressionListener getCompressionListener(final CompressionSettings compressionSettings) {
+        return compressionSettings.getCompressionListeners().isEmpty()
+                ? null
+                : new CompressionListenerMulticaster(compressionSettings.getCompressionListeners());
+    }
+
     public static ConnectionPoolListener getConnectionPoolListener(final ConnectionPoolSettings connectionPoolSettings) {
         switch (connectionPoolSettings.getConnectionPoolListeners().size()) {
             case 0:
@@ -76,6 +76,24 @@ public class AggregateOperation<T> implements ReadOperationExplainable<T> {
         return this;
     }
 
+    public int getPrefetchBatches() {
+        return wrapped.getPrefetchBatches();
+    }
+
+    public AggregateOperation<T> prefetchBatches(final int prefetchBatches) {
+        wrapped.prefetchBatches(prefetchBatches);
+        return this;
+    }
+
+    public boolean isExhaust() {
+        return wrapped.isExhaust();
+    }
+
+    public AggregateOperation<T> exhaust(final boolean exhaust) {
+        wrapped.exhaust(exhaust);
+        return this;
+    }
+
     public Collation getCollation() {
         return wrapped.getCollation();
     }
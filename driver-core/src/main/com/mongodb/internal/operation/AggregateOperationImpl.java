@@ -67,6 +67,8 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
     private boolean retryReads;
     private Boolean allowDiskUse;
     private Integer batchSize;
+    private int prefetchBatches;
+    private boolean exhaust;
     private Collation collation;
     private BsonValue comment;
     private BsonValue hint;
@@ -118,6 +120,24 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
         return this;
     }
 
+    int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    AggregateOperationImpl<T> prefetchBatches(final int prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    boolean isExhaust() {
+        return exhaust;
+    }
+
+    AggregateOperationImpl<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
     Collation getCollation() {
         return collation;
     }
@@ -243,10 +263,11 @@ class AggregateOperationImpl<T> implements ReadOperationCursor<T> {
 
     private CommandReadTransformer<BsonDocument, CommandBatchCursor<T>> transformer() {
         return (result, source, connection, operationContext) ->
-                new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()), operationContext, new CommandCursor<>(
-                        result, batchSize != null ? batchSize : 0,
-                        decoder, comment, source, connection
-                ));
+                new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext.getTimeoutContext()), operationContext,
+                        PrefetchingCursor.prefetchIfEnabled(new CommandCursor<>(
+                                result, batchSize != null ? batchSize : 0,
+                                decoder, comment, source, connection, exhaust
+                        ), prefetchBatches, getTimeoutMode(), operationContext));
     }
 
     private CommandReadTransformerAsync<BsonDocument, AsyncBatchCursor<T>> asyncTransformer() {
@@ -64,6 +64,7 @@ class CommandCursor<T> implements Cursor<T> {
     private final BsonValue comment;
     private final int maxWireVersion;
     private final boolean firstBatchEmpty;
+    private final boolean exhaust;
     private final ResourceManager resourceManager;
 
     private int batchSize;
@@ -78,6 +79,21 @@ class CommandCursor<T> implements Cursor<T> {
             @Nullable final BsonValue comment,
             final ConnectionSource connectionSource,
             final Connection connection) {
+        this(commandCursorDocument, batchSize, decoder, comment, connectionSource, connection, false);
+    }
+
+    /**
+     * @param exhaust whether to request the batches after the first one with {@code getMore} commands that allow the server to stream
+     * all the remaining batches back-to-back, which requires pinning the cursor to {@code connection}
+     */
+    CommandCursor(
+            final BsonDocument commandCursorDocument,
+            final int batchSize,
+            final Decoder<T> decoder,
+            @Nullable final BsonValue comment,
+            final ConnectionSource connectionSource,
+            final Connection connection,
+            final boolean exhaust) {
         ConnectionDescription connectionDescription = connection.getDescription();
         this.commandCursorResult = toCommandCursorResult(connectionDescription.getServerAddress(), FIRST_BATCH, commandCursorDocument);
         this.namespace = commandCursorResult.getNamespace();
@@ -86,8 +102,10 @@ class CommandCursor<T> implements Cursor<T> {
         this.comment = comment;
         this.maxWireVersion = connectionDescription.getMaxWireVersion();
         this.firstBatchEmpty = commandCursorResult.getResults().isEmpty();
+        this.exhaust = exhaust;
 
-        Connection connectionToPin = connectionSource.getServerDescription().getType() == ServerType.LOAD_BALANCER ? connection : null;
+        Connection connectionToPin = exhaust || connectionSource.getServerDescription().getType() == ServerType.LOAD_BALANCER
+                ? connection : null;
         resourceManager = new ResourceManager(namespace, connectionSource, connectionToPin, commandCursorResult.getServerCursor());
     }
 
@@ -225,14 +243,7 @@ class CommandCursor<T> implements Cursor<T> {
             ServerCursor nextServerCursor;
             try {
                 this.commandCursorResult = toCommandCursorResult(connection.getDescription().getServerAddress(), NEXT_BATCH,
-                        assertNotNull(
-                                connection.command(namespace.getDatabaseName(),
-                                        getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
-                                                comment),
-                                        NoOpFieldNameValidator.INSTANCE,
-                                        ReadPreference.primary(),
-                                        CommandResultDocumentCodec.create(decoder, NEXT_BATCH),
-                                        operationContext)));
+                        assertNotNull(executeGetMore(connection, serverCursor, operationContext)));
                 nextServerCursor = commandCursorResult.getServerCursor();
             } catch (MongoCommandException e) {
                 throw translateCommandException(e, serverCursor);
@@ -241,6 +252,22 @@ class CommandCursor<T> implements Cursor<T> {
         }, operationContext);
     }
 
+    @Nullable
+    private BsonDocument executeGetMore(final Connection connection, final ServerCursor serverCursor,
+            final OperationContext operationContext) {
+        if (exhaust && connection.hasMoreToCome()) {
+            return connection.receiveMoreToCome(CommandResultDocumentCodec.create(decoder, NEXT_BATCH), operationContext);
+        }
+        BsonDocument getMoreCommand = getMoreCommandDocument(serverCursor.getId(), connection.getDescription(), namespace, batchSize,
+                comment);
+        if (exhaust) {
+            return connection.exhaustCommand(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                    ReadPreference.primary(), CommandResultDocumentCodec.create(decoder, NEXT_BATCH), operationContext);
+        }
+        return connection.command(namespace.getDatabaseName(), getMoreCommand, NoOpFieldNameValidator.INSTANCE,
+                ReadPreference.primary(), CommandResultDocumentCodec.create(decoder, NEXT_BATCH), operationContext);
+    }
+
     private CommandCursorResult<T> toCommandCursorResult(final ServerAddress serverAddress, final String fieldNameContainingBatch,
                                                          final BsonDocument commandCursorDocument) {
         CommandCursorResult<T> commandCursorResult = new CommandCursorResult<>(serverAddress, fieldNameContainingBatch,
@@ -289,7 +316,8 @@ class CommandCursor<T> implements Cursor<T> {
 
         private void releaseResources(final OperationContext operationContext) {
             try {
-                if (isSkipReleasingServerResourcesOnClose()) {
+                if (isSkipReleasingServerResourcesOnClose() || isPinnedConnectionStreaming()) {
+                    // the server kills the cursor when the connection that it streams the batches to is closed on release
                     unsetServerCursor();
                 }
                 if (super.getServerCursor() != null) {
@@ -309,6 +337,11 @@ class CommandCursor<T> implements Cursor<T> {
             }
         }
 
+        private boolean isPinnedConnectionStreaming() {
+            Connection pinnedConnection = getPinnedConnection();
+            return pinnedConnection != null && pinnedConnection.hasMoreToCome();
+        }
+
         void executeWithConnection(final Consumer<Connection> action, final OperationContext operationContext) {
             Connection connection = getConnection(operationContext);
             try {
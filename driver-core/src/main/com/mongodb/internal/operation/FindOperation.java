@@ -76,6 +76,8 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
     private boolean retryReads;
     private BsonDocument filter;
     private int batchSize;
+    private int prefetchBatches;
+    private boolean exhaust;
     private int limit;
     private BsonDocument projection;
     private int skip;
@@ -126,6 +128,38 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
         return this;
     }
 
+    public int getPrefetchBatches() {
+        return prefetchBatches;
+    }
+
+    /**
+     * Sets the maximum number of batches that a synchronous cursor requests in the background ahead of the application.
+     * Ignored for tailable cursors.
+     *
+     * @param prefetchBatches the maximum number of batches, or 0 to not prefetch
+     * @return this
+     */
+    public FindOperation<T> prefetchBatches(final int prefetchBatches) {
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    public boolean isExhaust() {
+        return exhaust;
+    }
+
+    /**
+     * Sets whether a synchronous cursor lets the server stream the batches after the first one back-to-back on a connection pinned
+     * to the cursor, instead of requesting each of them with a {@code getMore} command. Ignored for tailable cursors.
+     *
+     * @param exhaust whether to use an exhaust cursor
+     * @return this
+     */
+    public FindOperation<T> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
     public int getLimit() {
         return limit;
     }
@@ -469,9 +503,9 @@ public class FindOperation<T> implements ReadOperationExplainable<T> {
     private CommandReadTransformer<BsonDocument, CommandBatchCursor<T>> transformer() {
         return (result, source, connection, operationContext) ->
                 new CommandBatchCursor<>(getTimeoutMode(), getMaxTimeForCursor(operationContext), operationContext,
-                        new CommandCursor<>(
-                                result, batchSize, decoder, comment, source, connection
-                ));
+                        PrefetchingCursor.prefetchIfEnabled(new CommandCursor<>(
+                                result, batchSize, decoder, comment, source, connection, exhaust && !isTailableCursor()
+                        ), isTailableCursor() ? 0 : prefetchBatches, getTimeoutMode(), operationContext));
     }
 
     private CommandReadTransformerAsync<BsonDocument, AsyncBatchCursor<T>> asyncTransformer() {
@@ -284,7 +284,9 @@ public final class Operations<T> {
                 .returnKey(options.isReturnKey())
                 .showRecordId(options.isShowRecordId())
                 .allowDiskUse(options.isAllowDiskUse())
-                .timeoutMode(options.getTimeoutMode());
+                .timeoutMode(options.getTimeoutMode())
+                .prefetchBatches(options.getPrefetchBatches())
+                .exhaust(options.isExhaust());
 
         if (options.getHint() != null) {
             operation.hint(toBsonDocument(options.getHint()));
@@ -312,7 +314,7 @@ public final class Operations<T> {
     }
 
     public <R> ReadOperationExplainable<R> aggregate(final List<? extends Bson> pipeline, final Class<R> resultClass,
-            @Nullable final TimeoutMode timeoutMode, @Nullable final Integer batchSize,
+            @Nullable final TimeoutMode timeoutMode, @Nullable final Integer batchSize, final int prefetchBatches, final boolean exhaust,
             final Collation collation, @Nullable final Bson hint, @Nullable final String hintString,
             final BsonValue comment, final Bson variables, final Boolean allowDiskUse, final AggregationLevel aggregationLevel) {
         return new AggregateOperation<>(assertNotNull(namespace),
@@ -320,6 +322,8 @@ public final class Operations<T> {
                 .retryReads(retryReads)
                 .allowDiskUse(allowDiskUse)
                 .batchSize(batchSize)
+                .prefetchBatches(prefetchBatches)
+                .exhaust(exhaust)
                 .collation(collation)
                 .hint(hint != null ? toBsonDocument(hint) : (hintString != null ? new BsonString(hintString) : null))
                 .comment(comment)
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.annotations.ThreadSafe;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.internal.session.SessionContext;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.TimeoutContext.throwMongoTimeoutException;
+
+/**
+ * A {@link Cursor} that requests up to {@code prefetchBatches} batches ahead of the application on a background thread, so that
+ * the round trip of each {@code getMore} overlaps with the processing of the previous batch.
+ * <p>
+ * At most one operation runs on the wrapped cursor at a time: either a prefetch on a background thread, or, when nothing is being
+ * prefetched, a call on the application's thread. Batches are handed over under {@link #lock}, which also orders the operations.
+ * A prefetch runs with the {@link OperationContext} of the call that started it, so it is bounded by the same timeout as a
+ * {@code getMore} issued by that call, except that with {@link TimeoutMode#ITERATION} each {@code getMore} gets a newly started timeout,
+ * as it would if the application requested it. Waiting for a prefetch in progress is bounded by the timeout of the waiting call.
+ * Closing the cursor while a prefetch is in progress defers {@code killCursors} to the end of the prefetch, as for any close of a
+ * {@link CommandCursor} that is concurrent with an operation.
+ * <p>
+ * Prefetches run on the {@linkplain OperationContext#getBackgroundExecutor() background executor} of the client. Cursors that use an
+ * explicit session are not prefetched, because the application may use the session concurrently with the cursor.
+ */
+@ThreadSafe
+final class PrefetchingCursor<T> implements Cursor<T> {
+    private final Cursor<T> wrapped;
+    private final Executor executor;
+    private final int prefetchBatches;
+    private final boolean newTimeoutPerGetMore;
+    private final Lock lock = new ReentrantLock();
+    private final Condition prefetchProgressed = lock.newCondition();
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private final Deque<List<T>> batches = new ArrayDeque<>();
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private boolean prefetching;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    private boolean exhausted;
+    /**
+     * Must be guarded by {@link #lock}.
+     */
+    @Nullable
+    private RuntimeException prefetchFailure;
+    private volatile boolean closed;
+
+    /**
+     * @param cursor the cursor
+     * @param prefetchBatches the maximum number of batches to request ahead of the application, or 0 to not prefetch
+     * @param timeoutMode the timeout mode of the cursor
+     * @param operationContext the operation context of the operation that created the cursor
+     * @return the cursor, wrapped in a {@link PrefetchingCursor} if {@code prefetchBatches} is positive, the operation context has a
+     * background executor, and the cursor does not use an explicit session
+     */
+    static <T> Cursor<T> prefetchIfEnabled(final Cursor<T> cursor, final int prefetchBatches, final TimeoutMode timeoutMode,
+            final OperationContext operationContext) {
+        Executor executor = operationContext.getBackgroundExecutor();
+        SessionContext sessionContext = operationContext.getSessionContext();
+        boolean explicitSession = sessionContext.hasSession() && !sessionContext.isImplicitSession();
+        if (prefetchBatches <= 0 || executor == null || explicitSession || sessionContext.hasActiveTransaction()) {
+            return cursor;
+        }
+        return new PrefetchingCursor<>(cursor, executor, prefetchBatches, timeoutMode == TimeoutMode.ITERATION);
+    }
+
+    private PrefetchingCursor(final Cursor<T> wrapped, final Executor executor, final int prefetchBatches,
+            final boolean newTimeoutPerGetMore) {
+        this.wrapped = wrapped;
+        this.executor = executor;
+        this.prefetchBatches = prefetchBatches;
+        this.newTimeoutPerGetMore = newTimeoutPerGetMore;
+    }
+
+    @Override
+    public boolean hasNext(final OperationContext operationContext) {
+        return nextBatch(operationContext, false, false) != null;
+    }
+
+    @Override
+    public List<T> next(final OperationContext operationContext) {
+        List<T> batch = nextBatch(operationContext, false, true);
+        if (batch == null) {
+            throw new NoSuchElementException();
+        }
+        return batch;
+    }
+
+    @Nullable
+    @Override
+    public List<T> tryNext(final OperationContext operationContext) {
+        return nextBatch(operationContext, true, true);
+    }
+
+    @Override
+    public int available() {
+        return withLock(lock, () -> batches.isEmpty() ? 0 : batches.getFirst().size());
+    }
+
+    @Override
+    public void close(final OperationContext operationContext) {
+        closed = true;
+        withLock(lock, batches::clear);
+        wrapped.close(operationContext);
+    }
+
+    @Override
+    public void setBatchSize(final int batchSize) {
+        wrapped.setBatchSize(batchSize);
+    }
+
+    @Override
+    public int getBatchSize() {
+        return wrapped.getBatchSize();
+    }
+
+    @Nullable
+    @Override
+    public ServerCursor getServerCursor() {
+        return wrapped.getServerCursor();
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Nullable
+    @Override
+    public BsonDocument getPostBatchResumeToken() {
+        return wrapped.getPostBatchResumeToken();
+    }
+
+    @Nullable
+    @Override
+    public BsonTimestamp getOperationTime() {
+        return wrapped.getOperationTime();
+    }
+
+    @Override
+    public boolean isFirstBatchEmpty() {
+        return wrapped.isFirstBatchEmpty();
+    }
+
+    @Override
+    public int getMaxWireVersion() {
+        return wrapped.getMaxWireVersion();
+    }
+
+    /**
+     * Returns the next batch, waiting for a prefetch in progress if no batch has been prefetched yet, or requesting the batch on this
+     * thread if nothing is being prefetched.
+     */
+    @Nullable
+    private List<T> nextBatch(final OperationContext operationContext, final boolean tryNext, final boolean remove) {
+        Timeout timeout = Timeout.nullAsInfinite(operationContext.getTimeoutContext().getTimeout());
+        lock.lock();
+        try {
+            while (batches.isEmpty() && prefetching) {
+                timeout.onExpired(() -> throwMongoTimeoutException("Timed out while waiting for the next batch to be prefetched"));
+                timeout.awaitOn(prefetchProgressed, () -> "waiting for the next batch");
+            }
+            if (!closed) {
+                if (batches.isEmpty() && prefetchFailure != null) {
+                    RuntimeException failure = prefetchFailure;
+                    prefetchFailure = null;
+                    throw failure;
+                }
+                if (!batches.isEmpty()) {
+                    List<T> batch = remove ? batches.removeFirst() : batches.getFirst();
+                    startPrefetchIfNeeded(operationContext);
+                    return batch;
+                }
+                if (exhausted) {
+                    return null;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Nothing is prefetched or being prefetched, so the wrapped cursor may be used on this thread. If the cursor is closed, the
+        // wrapped cursor reports it
+        List<T> batch;
+        if (tryNext) {
+            batch = wrapped.tryNext(operationContext);
+        } else {
+            batch = wrapped.hasNext(operationContext) ? wrapped.next(operationContext) : null;
+        }
+        lock.lock();
+        try {
+            if (batch == null) {
+                exhausted = !tryNext || wrapped.getServerCursor() == null;
+            } else if (!remove) {
+                batches.addFirst(batch);
+            }
+            startPrefetchIfNeeded(operationContext);
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Must be called while holding {@link #lock}.
+     */
+    private void startPrefetchIfNeeded(final OperationContext operationContext) {
+        if (!prefetching && !exhausted && !closed && batches.size() < prefetchBatches && wrapped.getServerCursor() != null) {
+            prefetching = true;
+            try {
+                executor.execute(() -> prefetch(operationContext));
+            } catch (RejectedExecutionException e) {
+                // the client is being closed, so the next batch is requested on the application's thread
+                prefetching = false;
+            }
+        }
+    }
+
+    private void prefetch(final OperationContext operationContext) {
+        RuntimeException failure = null;
+        try {
+            boolean done = false;
+            while (!done && !closed) {
+                OperationContext getMoreOperationContext = newTimeoutPerGetMore
+                        ? operationContext.withNewlyStartedTimeout()
+                        : operationContext;
+                List<T> batch = wrapped.hasNext(getMoreOperationContext) ? wrapped.next(getMoreOperationContext) : null;
+                done = withLock(lock, () -> {
+                    if (batch == null) {
+                        exhausted = true;
+                        return true;
+                    }
+                    batches.addLast(batch);
+                    prefetchProgressed.signalAll();
+                    return batches.size() >= prefetchBatches;
+                });
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            RuntimeException localFailure = closed ? null : failure;
+            withLock(lock, () -> {
+                prefetching = false;
+                prefetchFailure = localFailure;
+                prefetchProgressed.signalAll();
+            });
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.session;
 
+import com.mongodb.OperationPriority;
 import com.mongodb.lang.Nullable;
 import com.mongodb.session.ClientSession;
 import org.bson.BsonDocument;
@@ -119,4 +120,9 @@ public abstract class ClientSessionContext implements SessionContext {
     public boolean isSessionMarkedDirty() {
         return clientSession.getServerSession().isMarkedDirty();
     }
+
+    @Override
+    public OperationPriority getOperationPriority() {
+        return clientSession.getOptions().getOperationPriority();
+    }
 }
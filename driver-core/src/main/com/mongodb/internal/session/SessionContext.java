@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.session;
 
+import com.mongodb.OperationPriority;
 import com.mongodb.ReadConcern;
 import com.mongodb.lang.Nullable;
 import org.bson.BsonDocument;
@@ -114,4 +115,11 @@ public interface SessionContext {
     void markSessionDirty();
 
     boolean isSessionMarkedDirty();
+
+    /**
+     * Gets the priority of the operations executed in this context, which orders their connection checkouts.
+     */
+    default OperationPriority getOperationPriority() {
+        return OperationPriority.NORMAL;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.thread;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BackgroundExecutors {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    /**
+     * Creates the executor that a client owns for the work it runs in the background on behalf of application threads, and that the
+     * client shuts down when it is closed.
+     * <p>
+     * The number of threads is bounded, so a task must never wait for another task submitted to the same executor: that task may be
+     * queued behind the waiting one. Idle threads are stopped after a minute.
+     *
+     * @param virtualThreads whether to run the tasks on virtual threads if they are {@linkplain DaemonThreadFactory#isVirtualThreadSupported()
+     * supported}
+     * @return the executor
+     */
+    public static ScheduledExecutorService newClientBackgroundExecutor(final boolean virtualThreads) {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(getMaxThreads(),
+                new DaemonThreadFactory("MongoClientBackground", virtualThreads));
+        executor.setKeepAliveTime(KEEP_ALIVE_SECONDS, SECONDS);
+        executor.allowCoreThreadTimeOut(true);
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static int getMaxThreads() {
+        return Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    private BackgroundExecutors() {
+    }
+}
@@ -16,6 +16,8 @@
 
 package com.mongodb.internal.thread;
 
+import com.mongodb.lang.Nullable;
+
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -23,21 +25,86 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Custom thread factory for scheduled executor service that creates daemon threads.  Otherwise,
  * applications that neglect to close the client will not exit.
  *
+ * <p>If virtual threads are requested and supported by the runtime (Java 21 or later), virtual threads, which are always daemon
+ * threads, are created instead of platform threads.</p>
+ *
  * <p>This class is not part of the public API and may be removed or changed at any time</p>
  */
 public class DaemonThreadFactory implements ThreadFactory {
     private static final AtomicInteger POOL_NUMBER = new AtomicInteger(1);
+    @Nullable
+    private static final ThreadFactory UNNAMED_VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory("virtual-");
+    private static final boolean VIRTUAL_THREADS_SUPPORTED = UNNAMED_VIRTUAL_THREAD_FACTORY != null;
     private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final String namePrefix;
+    @Nullable
+    private final ThreadFactory virtualThreadFactory;
 
     public DaemonThreadFactory(final String prefix) {
+        this(prefix, false);
+    }
+
+    /**
+     * @param prefix the prefix of the names of the created threads
+     * @param virtual whether to create virtual threads if they are {@linkplain #isVirtualThreadSupported() supported}
+     */
+    public DaemonThreadFactory(final String prefix, final boolean virtual) {
         namePrefix = prefix + "-" + POOL_NUMBER.getAndIncrement() + "-thread-";
+        virtualThreadFactory = virtual && VIRTUAL_THREADS_SUPPORTED ? createVirtualThreadFactory(namePrefix) : null;
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREADS_SUPPORTED;
+    }
+
+    /**
+     * Creates an unstarted daemon thread with the given name, which is a virtual thread if requested and
+     * {@linkplain #isVirtualThreadSupported() supported}.
+     *
+     * @param name the name of the thread
+     * @param virtual whether to create a virtual thread if virtual threads are supported
+     * @param runnable the runnable to run on the thread
+     * @return the unstarted thread
+     */
+    public static Thread newNamedThread(final String name, final boolean virtual, final Runnable runnable) {
+        Thread thread;
+        if (virtual && UNNAMED_VIRTUAL_THREAD_FACTORY != null) {
+            thread = UNNAMED_VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            thread.setName(name);
+        } else {
+            thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+        }
+        return thread;
     }
 
     @Override
     public Thread newThread(final Runnable runnable) {
+        if (virtualThreadFactory != null) {
+            return virtualThreadFactory.newThread(runnable);
+        }
         Thread t = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
         t.setDaemon(true);
         return t;
     }
+
+    /**
+     * Reflectively calls {@code Thread.ofVirtual().name(namePrefix, 1).factory()}, as the driver is compiled for Java 8.
+     *
+     * @return the factory, or {@code null} if virtual threads are not supported
+     */
+    @Nullable
+    private static ThreadFactory createVirtualThreadFactory(final String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = Class.forName("java.lang.Thread$Builder$OfVirtual").getMethod("name", String.class, long.class)
+                    .invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
 }
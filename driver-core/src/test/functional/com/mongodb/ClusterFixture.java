@@ -450,7 +450,8 @@ public final class ClusterFixture {
                 ServerSettings.builder().build(),
                 ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                 TIMEOUT_SETTINGS.connectionOnly(), streamFactory, TIMEOUT_SETTINGS.connectionOnly(), streamFactory, credential,
-                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), getServerApi(), null);
+                LoggerSettings.builder().build(), null, null, null, Collections.emptyList(), CompressionSettings.builder().build(), getServerApi(),
+                null);
     }
 
     private static Cluster createCluster(final ConnectionString connectionString, final StreamFactory streamFactory) {
@@ -464,7 +465,7 @@ public final class ClusterFixture {
                         getSslSettings(connectionString)),
                 connectionString.getCredential(),
                 LoggerSettings.builder().build(), null, null, null,
-                connectionString.getCompressorList(), getServerApi(), null);
+                connectionString.getCompressorList(), mongoClientSettings.getCompressionSettings(), getServerApi(), null);
     }
 
     public static StreamFactory getStreamFactory() {
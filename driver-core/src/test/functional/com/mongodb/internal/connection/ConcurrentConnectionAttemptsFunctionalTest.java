@@ -0,0 +1,143 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoSocketOpenException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.connection.SslSettings;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.spi.dns.InetAddressResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.net.SocketFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.internal.connection.OperationContext.simpleOperationContext;
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrentConnectionAttemptsFunctionalTest {
+    private static final String UNREACHABLE_PRIVATE_IP_ADDRESS = "10.255.255.1";
+    private static final String OTHER_UNREACHABLE_PRIVATE_IP_ADDRESS = "10.255.255.2";
+    private static final String REFUSING_LOOPBACK_IP_ADDRESS = "127.0.0.2";
+    private static final int CONNECT_TIMEOUT_MS = 10_000;
+    private static final int CONNECTION_ATTEMPT_DELAY_MS = 100;
+    private static final SocketSettings SOCKET_SETTINGS = SocketSettings.builder()
+            .connectTimeout(CONNECT_TIMEOUT_MS, MILLISECONDS)
+            .connectionAttemptDelay(CONNECTION_ATTEMPT_DELAY_MS, MILLISECONDS)
+            .build();
+    private final ScheduledExecutorService backgroundExecutor = newClientBackgroundExecutor(false);
+
+    @AfterEach
+    void tearDown() {
+        backgroundExecutor.shutdownNow();
+    }
+
+    @Test
+    void socketStreamShouldConnectToReachableAddressWithoutWaitingForUnreachableAddress() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            SocketStream stream = new SocketStream(new ServerAddress("localhost", serverSocket.getLocalPort()),
+                    resolver(UNREACHABLE_PRIVATE_IP_ADDRESS, serverSocket.getInetAddress().getHostAddress()), SOCKET_SETTINGS,
+                    SslSettings.builder().build(), SocketFactory.getDefault(), PowerOfTwoBufferPool.DEFAULT, backgroundExecutor);
+            try {
+                long startNanos = System.nanoTime();
+                stream.open(createOperationContext(CONNECT_TIMEOUT_MS));
+                assertConnectedWithoutWaitingForConnectTimeout(startNanos);
+            } finally {
+                stream.close();
+            }
+        }
+    }
+
+    @Test
+    void socketStreamShouldMakeTheNextAttemptItselfWhenTheExecutorDoesNotStartIt() throws Exception {
+        backgroundExecutor.shutdownNow();
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            SocketStream stream = new SocketStream(new ServerAddress("localhost", serverSocket.getLocalPort()),
+                    resolver(REFUSING_LOOPBACK_IP_ADDRESS, serverSocket.getInetAddress().getHostAddress()), SOCKET_SETTINGS,
+                    SslSettings.builder().build(), SocketFactory.getDefault(), PowerOfTwoBufferPool.DEFAULT, backgroundExecutor);
+            try {
+                long startNanos = System.nanoTime();
+                stream.open(createOperationContext(CONNECT_TIMEOUT_MS));
+                assertConnectedWithoutWaitingForConnectTimeout(startNanos);
+            } finally {
+                stream.close();
+            }
+        }
+    }
+
+    @Test
+    void asynchronousSocketChannelStreamShouldConnectToReachableAddressWithoutWaitingForUnreachableAddress() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            AsynchronousSocketChannelStream stream = new AsynchronousSocketChannelStream(
+                    new ServerAddress("localhost", serverSocket.getLocalPort()),
+                    resolver(UNREACHABLE_PRIVATE_IP_ADDRESS, serverSocket.getInetAddress().getHostAddress()), SOCKET_SETTINGS,
+                    PowerOfTwoBufferPool.DEFAULT, null, backgroundExecutor);
+            try {
+                long startNanos = System.nanoTime();
+                FutureAsyncCompletionHandler<Void> handler = new FutureAsyncCompletionHandler<>();
+                stream.openAsync(createOperationContext(CONNECT_TIMEOUT_MS), handler);
+                handler.getOpen();
+                assertConnectedWithoutWaitingForConnectTimeout(startNanos);
+            } finally {
+                stream.close();
+            }
+        }
+    }
+
+    @Test
+    void socketStreamShouldThrowWhenAllAttemptsFail() {
+        int connectTimeoutMs = 500;
+        SocketStream stream = new SocketStream(new ServerAddress("localhost", 65333),
+                resolver(UNREACHABLE_PRIVATE_IP_ADDRESS, OTHER_UNREACHABLE_PRIVATE_IP_ADDRESS),
+                SocketSettings.builder(SOCKET_SETTINGS).connectTimeout(connectTimeoutMs, MILLISECONDS).build(),
+                SslSettings.builder().build(), SocketFactory.getDefault(), PowerOfTwoBufferPool.DEFAULT, backgroundExecutor);
+        assertThrows(MongoSocketOpenException.class, () -> stream.open(createOperationContext(connectTimeoutMs)));
+        assertTrue(stream.isClosed());
+    }
+
+    private static void assertConnectedWithoutWaitingForConnectTimeout(final long startNanos) {
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        assertTrue(elapsedMs < CONNECT_TIMEOUT_MS / 2,
+                format("Connecting took %d ms, which suggests that the attempts were not concurrent", elapsedMs));
+    }
+
+    private static InetAddressResolver resolver(final String... hostAddresses) {
+        return host -> {
+            InetAddress[] inetAddresses = new InetAddress[hostAddresses.length];
+            for (int i = 0; i < hostAddresses.length; i++) {
+                inetAddresses[i] = InetAddress.getByName(hostAddresses[i]);
+            }
+            return Arrays.asList(inetAddresses);
+        };
+    }
+
+    private static OperationContext createOperationContext(final int connectTimeoutMs) {
+        return simpleOperationContext(new TimeoutContext(TimeoutSettings.DEFAULT.withConnectTimeoutMS(connectTimeoutMs)));
+    }
+}
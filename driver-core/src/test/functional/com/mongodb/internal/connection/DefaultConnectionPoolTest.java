@@ -31,6 +31,7 @@ import com.mongodb.internal.async.SingleResultCallback;
 import com.mongodb.internal.inject.EmptyProvider;
 import com.mongodb.internal.inject.OptionalProvider;
 import com.mongodb.internal.inject.SameObjectProvider;
+import com.mongodb.internal.thread.DaemonThreadFactory;
 import com.mongodb.internal.time.TimePointTest;
 import com.mongodb.internal.time.Timeout;
 import org.junit.jupiter.api.AfterEach;
@@ -48,13 +49,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -77,6 +81,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -361,6 +366,46 @@ public class DefaultConnectionPoolTest {
                 cachedExecutor, SECONDS.toNanos(10), TIMEOUT_SETTINGS.withMaxWaitTimeMS(TEST_WAIT_TIMEOUT_MILLIS));
     }
 
+    /**
+     * Waiting for a connection must unmount a virtual thread instead of pinning its carrier thread. If it pinned, the waiting threads,
+     * which vastly outnumber the carrier threads, would occupy all carriers, and the threads holding connections could never run
+     * to check them in.
+     */
+    @Test
+    @Tag("Slow")
+    public void virtualThreadsShouldNotPinCarrierThreadsWhileWaitingForConnection() throws InterruptedException {
+        assumeTrue(DaemonThreadFactory.isVirtualThreadSupported());
+        int maxSize = 10;
+        int virtualThreadCount = 100_000;
+        provider = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                ConnectionPoolSettings.builder()
+                        .maxSize(maxSize)
+                        .build(),
+                InternalConnectionPoolSettings.builder().virtualThreads(true).build(),
+                mockSdamProvider(), OPERATION_CONTEXT_FACTORY);
+        provider.ready();
+        OperationContext operationContext = createOperationContext(TIMEOUT_SETTINGS.withMaxWaitTimeMS(MINUTES.toMillis(1)));
+        ThreadFactory virtualThreadFactory = new DaemonThreadFactory("virtual-thread-checkout", true);
+        AtomicInteger checkedInCount = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(virtualThreadCount);
+        for (int i = 0; i < virtualThreadCount; i++) {
+            virtualThreadFactory.newThread(() -> {
+                try {
+                    InternalConnection connection = provider.get(operationContext);
+                    Thread.yield();
+                    connection.close();
+                    checkedInCount.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        assertTrue(done.await(1, MINUTES));
+        assertEquals(virtualThreadCount, checkedInCount.get());
+        assertTrue(connectionFactory.getNumCreatedConnections() <= maxSize);
+    }
+
     private static Stream<Arguments> concurrentUsageArguments() {
         return Stream.of(// variants marked with (*) have proved their usefulness by detecting bugs
                 Arguments.of(0, 1, true, 8, true, false, 0.02f, 0, 0),
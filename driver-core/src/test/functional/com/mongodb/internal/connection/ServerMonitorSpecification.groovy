@@ -234,7 +234,7 @@ class ServerMonitorSpecification extends OperationFunctionalSpecification {
                         getCredentialWithCache(), CLIENT_METADATA, [], LoggerSettings.builder().build(), null,
                         getServerApi()),
                 getClusterConnectionMode(), getServerApi(), false, SameObjectProvider.initialized(sdam),
-                OPERATION_CONTEXT_FACTORY)
+                OPERATION_CONTEXT_FACTORY, false)
         serverMonitor.start()
         serverMonitor
     }
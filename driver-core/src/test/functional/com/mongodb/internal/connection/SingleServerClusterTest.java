@@ -16,6 +16,7 @@
 
 package com.mongodb.internal.connection;
 
+import com.mongodb.CompressionSettings;
 import com.mongodb.LoggerSettings;
 import com.mongodb.ReadPreference;
 import com.mongodb.ServerAddress;
@@ -69,7 +70,7 @@ public class SingleServerClusterTest {
                         ConnectionPoolSettings.builder().maxSize(1).build(), InternalConnectionPoolSettings.builder().build(),
                         OPERATION_CONTEXT_FACTORY, streamFactory, OPERATION_CONTEXT_FACTORY, streamFactory, getCredential(),
                         LoggerSettings.builder().build(), null,
-                        Collections.emptyList(), getServerApi(), false), CLIENT_METADATA);
+                        Collections.emptyList(), CompressionSettings.builder().build(), getServerApi(), false), CLIENT_METADATA);
     }
 
     @After
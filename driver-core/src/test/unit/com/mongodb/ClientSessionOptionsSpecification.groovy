@@ -29,6 +29,7 @@ class ClientSessionOptionsSpecification extends Specification {
         then:
         options.isCausallyConsistent() == null
         options.defaultTransactionOptions == TransactionOptions.builder().build()
+        options.operationPriority == OperationPriority.NORMAL
     }
 
     def 'should apply options set in builder'() {
@@ -76,6 +77,9 @@ class ClientSessionOptionsSpecification extends Specification {
                                 .writeConcern(WriteConcern.MAJORITY)
                                 .readConcern(ReadConcern
                                 .MAJORITY).build())
+                                .build(),
+                        ClientSessionOptions.builder()
+                                .operationPriority(OperationPriority.LOW)
                                 .build()]
     }
 }
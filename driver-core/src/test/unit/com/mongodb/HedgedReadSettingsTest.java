@@ -0,0 +1,76 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb;
+
+import com.mongodb.event.HedgedReadListener;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HedgedReadSettingsTest {
+
+    @Test
+    void shouldHaveCorrectDefaults() {
+        HedgedReadSettings settings = HedgedReadSettings.builder().build();
+
+        assertEquals(100, settings.getDelay(MILLISECONDS));
+        assertFalse(settings.isAdaptive());
+        assertEquals(emptyList(), settings.getHedgedReadListeners());
+    }
+
+    @Test
+    void shouldApplyBuilderSettings() {
+        HedgedReadListener listener = new HedgedReadListener() { };
+        HedgedReadSettings settings = HedgedReadSettings.builder()
+                .delay(2, SECONDS)
+                .adaptive(true)
+                .addHedgedReadListener(listener)
+                .build();
+
+        assertEquals(2000, settings.getDelay(MILLISECONDS));
+        assertTrue(settings.isAdaptive());
+        assertEquals(singletonList(listener), settings.getHedgedReadListeners());
+        assertEquals(settings, HedgedReadSettings.builder(settings).build());
+        assertEquals(settings.hashCode(), HedgedReadSettings.builder(settings).build().hashCode());
+        assertNotEquals(settings, HedgedReadSettings.builder(settings).adaptive(false).build());
+        assertEquals(emptyList(), HedgedReadSettings.builder(settings).hedgedReadListenerList(emptyList()).build()
+                .getHedgedReadListeners());
+    }
+
+    @Test
+    void shouldRejectNegativeDelay() {
+        assertThrows(IllegalArgumentException.class, () -> HedgedReadSettings.builder().delay(-1, MILLISECONDS));
+    }
+
+    @Test
+    void shouldBeIncludedInMongoClientSettings() {
+        HedgedReadSettings hedgedReadSettings = HedgedReadSettings.builder().adaptive(true).build();
+        MongoClientSettings settings = MongoClientSettings.builder().hedgedReadSettings(hedgedReadSettings).build();
+
+        assertEquals(hedgedReadSettings, settings.getHedgedReadSettings());
+        assertEquals(settings, MongoClientSettings.builder(settings).build());
+        assertNotEquals(settings, MongoClientSettings.builder().build());
+    }
+}
@@ -551,13 +551,14 @@ class MongoClientSettingsSpecification extends Specification {
         // A regression test so that if anymore fields are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredFields.grep {  !it.synthetic } *.name.sort()
         def expected = ['applicationName', 'autoEncryptionSettings', 'clusterSettingsBuilder', 'codecRegistry', 'commandListeners',
-                        'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential', 'dnsClient',
-                        'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'loggerSettingsBuilder',
+                        'compressionSettingsBuilder', 'compressorList', 'connectionPoolSettingsBuilder', 'contextProvider', 'credential', 'dnsClient',
+                        'heartbeatConnectTimeoutMS', 'heartbeatSocketTimeoutMS', 'hedgedReadSettings', 'inetAddressResolver',
+                        'loggerSettingsBuilder',
                         'observabilitySettings',
                         'readConcern', 'readPreference', 'retryReads',
                         'retryWrites', 'serverApi', 'serverSettingsBuilder', 'socketSettingsBuilder', 'sslSettingsBuilder',
                         'timeoutMS', 'transportSettings', 'uuidRepresentation',
-                        'writeConcern']
+                        'virtualThreads', 'writeConcern']
 
         then:
         actual == expected
@@ -568,15 +569,16 @@ class MongoClientSettingsSpecification extends Specification {
         // A regression test so that if anymore methods are added then the builder(final MongoClientSettings settings) should be updated
         def actual = MongoClientSettings.Builder.declaredMethods.grep {  !it.synthetic } *.name.sort()
         def expected = ['addCommandListener', 'applicationName', 'applyConnectionString', 'applyToClusterSettings',
-                        'applyToConnectionPoolSettings', 'applyToLoggerSettings', 'applyToServerSettings', 'applyToSocketSettings',
+                        'applyToCompressionSettings', 'applyToConnectionPoolSettings', 'applyToLoggerSettings', 'applyToServerSettings', 'applyToSocketSettings',
                         'applyToSslSettings', 'autoEncryptionSettings', 'build', 'codecRegistry', 'commandListenerList',
                         'compressorList', 'contextProvider', 'credential', 'dnsClient',
                         'heartbeatConnectTimeoutMS',
-                        'heartbeatSocketTimeoutMS', 'inetAddressResolver', 'observabilitySettings', 'readConcern',
+                        'heartbeatSocketTimeoutMS', 'hedgedReadSettings', 'inetAddressResolver', 'observabilitySettings',
+                        'readConcern',
                         'readPreference',
                         'retryReads', 'retryWrites',
                         'serverApi', 'timeout', 'transportSettings',
-                        'uuidRepresentation', 'writeConcern']
+                        'uuidRepresentation', 'virtualThreads', 'writeConcern']
 
         then:
         actual == expected
@@ -43,6 +43,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.clusterListeners == []
         settings.srvMaxHosts == null
         settings.srvServiceName == 'mongodb'
+        settings.serverSelectionMode == ServerSelectionMode.OPERATION_COUNT
     }
 
     def 'should set all properties'() {
@@ -58,6 +59,7 @@ class ClusterSettingsSpecification extends Specification {
                                       .localThreshold(1, TimeUnit.SECONDS)
                                       .serverSelector(serverSelector)
                                       .serverSelectionTimeout(1, TimeUnit.SECONDS)
+                                      .serverSelectionMode(ServerSelectionMode.OPERATION_LATENCY)
                                       .addClusterListener(listenerOne)
                                       .addClusterListener(listenerTwo)
                                       .build()
@@ -69,6 +71,7 @@ class ClusterSettingsSpecification extends Specification {
         settings.requiredReplicaSetName == 'foo'
         settings.serverSelector == serverSelector
         settings.getServerSelectionTimeout(TimeUnit.MILLISECONDS) == 1000
+        settings.serverSelectionMode == ServerSelectionMode.OPERATION_LATENCY
         settings.clusterListeners == [listenerOne, listenerTwo]
 
         when:
@@ -18,6 +18,7 @@
 package com.mongodb.connection
 
 import com.mongodb.ConnectionString
+import com.mongodb.OperationPriority
 import com.mongodb.event.ConnectionPoolListener
 import spock.lang.Specification
 import spock.lang.Unroll
@@ -183,9 +184,16 @@ class ConnectionPoolSettingsSpecification extends Specification {
                 .maintenanceInitialDelay(5, SECONDS)
                 .maintenanceFrequency(1000, SECONDS)
                 .maxConnecting(1)
+                .adaptiveConcurrencyLimit(true)
+                .prioritizedCheckout(true)
+                .reservedShare(OperationPriority.HIGH, 0.2)
                 .build()
 
         expect:
+        customSettings.isAdaptiveConcurrencyLimit()
+        customSettings.isPrioritizedCheckout()
+        customSettings.getReservedShare(OperationPriority.HIGH) == 0.2d
+        customSettings.getReservedShare(OperationPriority.LOW) == 0d
         ConnectionPoolSettings.builder().applySettings(customSettings).build() == customSettings
         ConnectionPoolSettings.builder(customSettings).applySettings(defaultSettings).build() == defaultSettings
 
@@ -196,6 +204,20 @@ class ConnectionPoolSettingsSpecification extends Specification {
         customSettings.connectionPoolListeners == [connectionPoolListener]
     }
 
+    def 'should throw if the reserved shares exceed the maximum size'() {
+        when:
+        ConnectionPoolSettings.builder().reservedShare(OperationPriority.HIGH, 0.6).reservedShare(OperationPriority.LOW, 0.6).build()
+
+        then:
+        thrown(IllegalStateException)
+
+        when:
+        ConnectionPoolSettings.builder().reservedShare(OperationPriority.HIGH, 1.1)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
     def 'toString should be overridden'() {
         when:
         def settings = ConnectionPoolSettings.builder().maxSize(1).build()
@@ -220,6 +242,7 @@ class ConnectionPoolSettingsSpecification extends Specification {
     def 'different settings should not be equal'() {
         expect:
         ConnectionPoolSettings.builder().maxWaitTime(5, SECONDS).build() != ConnectionPoolSettings.builder().maxWaitTime(2, SECONDS).build()
+        ConnectionPoolSettings.builder().adaptiveConcurrencyLimit(true).build() != ConnectionPoolSettings.builder().build()
     }
 
     def 'identical settings should have same hash code'() {
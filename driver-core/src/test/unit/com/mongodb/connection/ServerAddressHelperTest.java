@@ -21,6 +21,12 @@ import com.mongodb.internal.connection.ServerAddressHelper;
 import com.mongodb.spi.dns.InetAddressResolver;
 import org.junit.jupiter.api.Test;
 
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -40,4 +46,30 @@ final class ServerAddressHelperTest {
                 }
         );
     }
+
+    @Test
+    void interleaveAddressFamilies() throws UnknownHostException {
+        InetSocketAddress ipv6First = socketAddress("::1");
+        InetSocketAddress ipv6Second = socketAddress("fe80::1");
+        InetSocketAddress ipv6Third = socketAddress("fe80::2");
+        InetSocketAddress ipv4First = socketAddress("127.0.0.1");
+        InetSocketAddress ipv4Second = socketAddress("127.0.0.2");
+        assertAll(
+                () -> assertEquals(
+                        Arrays.asList(ipv6First, ipv4First, ipv6Second, ipv4Second, ipv6Third),
+                        ServerAddressHelper.interleaveAddressFamilies(
+                                Arrays.asList(ipv6First, ipv6Second, ipv6Third, ipv4First, ipv4Second))),
+                () -> assertEquals(
+                        Arrays.asList(ipv4First, ipv6First, ipv4Second, ipv6Second),
+                        ServerAddressHelper.interleaveAddressFamilies(Arrays.asList(ipv4First, ipv4Second, ipv6First, ipv6Second))),
+                () -> {
+                    List<InetSocketAddress> singleFamily = Arrays.asList(ipv4First, ipv4Second);
+                    assertEquals(singleFamily, ServerAddressHelper.interleaveAddressFamilies(singleFamily));
+                }
+        );
+    }
+
+    private static InetSocketAddress socketAddress(final String hostAddress) throws UnknownHostException {
+        return new InetSocketAddress(InetAddress.getByName(hostAddress), 27017);
+    }
 }
@@ -19,6 +19,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.TimeUnit;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -34,4 +37,22 @@ final class SocketSettingsTest {
     void readTimeoutThrowsIfArgumentIsTooLarge() {
         assertThrows(IllegalArgumentException.class, () -> SocketSettings.builder().readTimeout(Integer.MAX_VALUE / 2, TimeUnit.SECONDS));
     }
+
+    @Test
+    void connectionAttemptDelay() {
+        assertEquals(250, SocketSettings.builder().build().getConnectionAttemptDelay(MILLISECONDS));
+        SocketSettings settings = SocketSettings.builder().connectionAttemptDelay(100, MILLISECONDS).build();
+        assertEquals(100, settings.getConnectionAttemptDelay(MILLISECONDS));
+        assertEquals(settings, SocketSettings.builder(settings).build());
+        assertEquals(settings.hashCode(), SocketSettings.builder(settings).build().hashCode());
+        assertNotEquals(settings, SocketSettings.builder().build());
+        assertEquals(0, SocketSettings.builder().connectionAttemptDelay(0, MILLISECONDS).build().getConnectionAttemptDelay(MILLISECONDS));
+    }
+
+    @Test
+    void connectionAttemptDelayThrowsIfArgumentIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> SocketSettings.builder().connectionAttemptDelay(-1, MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> SocketSettings.builder().connectionAttemptDelay(Integer.MAX_VALUE / 2,
+                TimeUnit.SECONDS));
+    }
 }
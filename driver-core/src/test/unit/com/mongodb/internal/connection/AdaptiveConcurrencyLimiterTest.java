@@ -0,0 +1,214 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoServerUnavailableException;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionPoolConcurrencyLimitChangedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final ServerId SERVER_ID = new ServerId(new ClusterId(), new ServerAddress());
+    private static final long LATENCY_NANOS = MILLISECONDS.toNanos(1);
+
+    private final List<ConnectionPoolConcurrencyLimitChangedEvent> events = new CopyOnWriteArrayList<>();
+    private final ConnectionPoolListener listener = new ConnectionPoolListener() {
+        @Override
+        public void connectionPoolConcurrencyLimitChanged(final ConnectionPoolConcurrencyLimitChangedEvent event) {
+            events.add(event);
+        }
+    };
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private long nowNanos;
+
+    @Test
+    void shouldNotAcquireMoreThanTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(2);
+
+        assertTrue(limiter.tryAcquire(0, MILLISECONDS));
+        assertTrue(limiter.tryAcquire(0, MILLISECONDS));
+        assertFalse(limiter.tryAcquire(0, MILLISECONDS));
+        assertFalse(limiter.tryAcquire(10, MILLISECONDS));
+
+        limiter.release();
+        assertTrue(limiter.tryAcquire(0, MILLISECONDS));
+        assertEquals(2, limiter.getInUse());
+    }
+
+    @Test
+    void shouldDecreaseTheLimitOnFailure() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        long checkedOutNanos = nowNanos;
+        acquire(limiter, 20);
+
+        release(limiter, checkedOutNanos, true);
+
+        assertEquals(18, limiter.getLimit());
+        assertEquals(1, events.size());
+        assertEquals(SERVER_ID, events.get(0).getServerId());
+        assertEquals(100, events.get(0).getPreviousLimit());
+        assertEquals(18, events.get(0).getLimit());
+    }
+
+    @Test
+    void shouldDecreaseTheLimitOnceForOperationsStartedBeforeTheDecrease() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        long checkedOutNanos = nowNanos;
+        acquire(limiter, 20);
+
+        release(limiter, checkedOutNanos, true);
+        release(limiter, checkedOutNanos, true);
+        release(limiter, checkedOutNanos, true);
+        assertEquals(18, limiter.getLimit());
+
+        long laterCheckedOutNanos = nowNanos;
+        acquire(limiter, 1);
+        release(limiter, laterCheckedOutNanos, true);
+        assertEquals(16, limiter.getLimit());
+    }
+
+    @Test
+    void shouldDecreaseTheLimitWhenTheLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(10);
+        for (int i = 0; i < 100; i++) {
+            useOnce(limiter, LATENCY_NANOS);
+        }
+        assertEquals(10, limiter.getLimit());
+
+        acquire(limiter, 9);
+        for (int i = 0; i < 20 && limiter.getLimit() == 10; i++) {
+            useOnce(limiter, 10 * LATENCY_NANOS);
+        }
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void shouldIncreaseTheLimitAdditivelyWhileTheLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        long checkedOutNanos = nowNanos;
+        acquire(limiter, 10);
+        release(limiter, checkedOutNanos, true);
+        assertEquals(9, limiter.getLimit());
+        for (int i = 0; i < 9; i++) {
+            limiter.release();
+        }
+        events.clear();
+
+        // the limit is not reached
+        useOnce(limiter, LATENCY_NANOS);
+        assertEquals(9, limiter.getLimit());
+
+        // the limit is reached, and increases by one after about as many operations as the limit
+        acquire(limiter, 9);
+        for (int i = 0; i < 10; i++) {
+            release(limiter, nowNanos - LATENCY_NANOS, false);
+            acquire(limiter, 1);
+        }
+        assertEquals(10, limiter.getLimit());
+        assertEquals(1, events.size());
+        assertEquals(9, events.get(0).getPreviousLimit());
+        assertEquals(10, events.get(0).getLimit());
+    }
+
+    @Test
+    void shouldNotIncreaseTheLimitBeyondTheMaximum() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(2);
+        acquire(limiter, 2);
+        for (int i = 0; i < 10; i++) {
+            release(limiter, nowNanos - LATENCY_NANOS, false);
+            acquire(limiter, 1);
+        }
+        assertEquals(2, limiter.getLimit());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void shouldNotDecreaseTheLimitBelowOne() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(100);
+        for (int i = 0; i < 50; i++) {
+            long checkedOutNanos = nowNanos;
+            acquire(limiter, 1);
+            release(limiter, checkedOutNanos, true);
+        }
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void shouldWakeUpWaitersWhenAPermitIsReleasedOrThePoolIsClosed() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(1);
+        acquire(limiter, 1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<Boolean> waiter = executor.submit(() -> limiter.tryAcquire(-1, MILLISECONDS));
+            Thread.sleep(50);
+            assertFalse(waiter.isDone());
+            limiter.release();
+            assertTrue(waiter.get(10, SECONDS));
+
+            Future<Boolean> closedWaiter = executor.submit(() -> limiter.tryAcquire(-1, MILLISECONDS));
+            Thread.sleep(50);
+            closed.set(true);
+            limiter.signalClosedOrPaused();
+            Exception e = assertThrows(Exception.class, () -> closedWaiter.get(10, SECONDS));
+            assertTrue(e.getCause() instanceof MongoServerUnavailableException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter createLimiter(final int maxLimit) {
+        return new AdaptiveConcurrencyLimiter(SERVER_ID, maxLimit, listener, () -> {
+            if (closed.get()) {
+                throw new MongoServerUnavailableException("closed");
+            }
+        }, nowNanos);
+    }
+
+    private static void acquire(final AdaptiveConcurrencyLimiter limiter, final int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(limiter.tryAcquire(0, MILLISECONDS));
+        }
+    }
+
+    private void release(final AdaptiveConcurrencyLimiter limiter, final long checkedOutNanos, final boolean failed) {
+        nowNanos += LATENCY_NANOS;
+        limiter.release(checkedOutNanos, nowNanos, failed);
+    }
+
+    private void useOnce(final AdaptiveConcurrencyLimiter limiter, final long latencyNanos) {
+        acquire(limiter, 1);
+        nowNanos += latencyNanos;
+        limiter.release(nowNanos - latencyNanos, nowNanos, false);
+    }
+}
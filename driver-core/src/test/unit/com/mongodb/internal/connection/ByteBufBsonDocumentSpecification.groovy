@@ -66,6 +66,17 @@ class ByteBufBsonDocumentSpecification extends Specification {
         byteBufDocument.get('b') == new BsonInt32(2)
     }
 
+    def 'repeated lookups should return the same values'() {
+        expect:
+        (1..3).every {
+            document.keySet().every { byteBufDocument.containsKey(it) && byteBufDocument.get(it) == document.get(it) } &&
+                    !byteBufDocument.containsKey('z') && byteBufDocument.get('z') == null &&
+                    byteBufDocument.size() == document.size() && !byteBufDocument.isEmpty()
+        }
+        (1..3).every { emptyByteBufDocument.get('a') == null && emptyByteBufDocument.isEmpty() }
+        documentByteBuf.referenceCount == 1
+    }
+
     def 'get should throw if the key is null'() {
         when:
         byteBufDocument.get(null)
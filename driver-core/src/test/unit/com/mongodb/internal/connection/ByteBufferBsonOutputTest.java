@@ -300,6 +300,26 @@ final class ByteBufferBsonOutputTest {
         }
     }
 
+    @DisplayName("should write bytes put directly into the writable buffer")
+    @ParameterizedTest(name = "should write bytes put directly into the writable buffer. Parameters: bufferProvider={0}")
+    @MethodSource("bufferProviders")
+    void shouldWriteBytesPutDirectlyIntoWritableBuffer(final BufferProvider bufferProvider) {
+        try (ByteBufferBsonOutput out = new ByteBufferBsonOutput(bufferProvider)) {
+            out.writeBytes(new byte[] {1, 2, 3});
+            ByteBuf buffer = out.getWritableBuffer(INITIAL_BUFFER_SIZE);
+            assertEquals(INITIAL_BUFFER_SIZE, buffer.remaining());
+            buffer.put((byte) 4).put((byte) 5);
+            out.commitWritableBuffer(2);
+            out.writeInt32(6);
+
+            assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6, 0, 0, 0}, out.toByteArray());
+            assertEquals(9, out.getPosition());
+            assertEquals(9, out.size());
+            out.truncateToPosition(4);
+            assertArrayEquals(new byte[] {1, 2, 3, 4}, out.toByteArray());
+        }
+    }
+
     @DisplayName("should write a little endian Int32")
     @ParameterizedTest(name = "should write a little endian Int32. Parameters: useBranch={0}, bufferProvider={1}")
     @MethodSource("bufferProvidersWithBranches")
@@ -27,6 +27,8 @@ import com.mongodb.connection.ServerType;
 import com.mongodb.internal.IgnorableRequestContext;
 import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.bulk.InsertRequest;
+import com.mongodb.internal.bulk.WriteRequestWithIndex;
 import com.mongodb.internal.client.model.bulk.ConcreteClientBulkWriteOptions;
 import com.mongodb.internal.connection.MessageSequences.EmptyMessageSequences;
 import com.mongodb.internal.operation.ClientBulkWriteOperation;
@@ -34,6 +36,7 @@ import com.mongodb.internal.operation.ClientBulkWriteOperation.ClientBulkWriteCo
 import com.mongodb.internal.session.SessionContext;
 import com.mongodb.internal.validator.NoOpFieldNameValidator;
 import org.bson.BsonArray;
+import org.bson.BsonBinary;
 import org.bson.BsonBoolean;
 import org.bson.BsonDocument;
 import org.bson.BsonInt32;
@@ -168,4 +171,35 @@ class CommandMessageTest {
             assertEquals(expectedCommandDocument, actualCommandDocument);
         }
     }
+
+    @Test
+    void getCompressedBinaryPayloadSizeShouldCountOnlyAlreadyCompressedBinaryValues() {
+        byte[] gzip = new byte[100];
+        gzip[0] = (byte) 0x1F;
+        gzip[1] = (byte) 0x8B;
+        byte[] png = new byte[50];
+        png[0] = (byte) 0x89;
+        png[1] = 'P';
+        png[2] = 'N';
+        png[3] = 'G';
+        List<WriteRequestWithIndex> inserts = asList(
+                new WriteRequestWithIndex(new InsertRequest(new BsonDocument("_id", new BsonInt32(0))
+                        .append("archive", new BsonBinary(gzip))
+                        .append("text", new BsonBinary(new byte[70]))), 0),
+                new WriteRequestWithIndex(new InsertRequest(new BsonDocument("_id", new BsonInt32(1))
+                        .append("nested", new BsonDocument("images", new BsonArray(singletonList(new BsonBinary(png)))))
+                        .append("name", new BsonString("image"))), 1));
+        BsonDocument command = new BsonDocument("insert", new BsonString(NAMESPACE.getCollectionName()))
+                .append("comment", new BsonBinary(gzip));
+        CommandMessage commandMessage = new CommandMessage(NAMESPACE.getDatabaseName(), command, NoOpFieldNameValidator.INSTANCE,
+                ReadPreference.primary(), MessageSettings.builder().maxWireVersion(LATEST_WIRE_VERSION).build(), true,
+                new SplittablePayload(SplittablePayload.Type.INSERT, inserts, true, NoOpFieldNameValidator.INSTANCE),
+                ClusterConnectionMode.MULTIPLE, null);
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(new SimpleBufferProvider())) {
+            commandMessage.encode(output, new OperationContext(IgnorableRequestContext.INSTANCE, NoOpSessionContext.INSTANCE,
+                    new TimeoutContext(TimeoutSettings.DEFAULT), null));
+
+            assertEquals(gzip.length + gzip.length + png.length, commandMessage.getCompressedBinaryPayloadSize(output));
+        }
+    }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.CompressionSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionId;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CompressionListener;
+import com.mongodb.event.MessageCompressionEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class CompressionPolicyTest {
+    private static final ConnectionId CONNECTION_ID = new ConnectionId(new ServerId(new ClusterId(), new ServerAddress()));
+    private static final IntSupplier NO_COMPRESSED_PAYLOADS = () -> 0;
+    private static final CompressionSettings ADAPTIVE = CompressionSettings.builder().adaptive(true).build();
+
+    private final Compressor zlib = new ZlibCompressor(MongoCompressor.createZlibCompressor());
+    private final Compressor snappy = new SnappyCompressor();
+
+    @Test
+    void shouldUseFirstCompressorWhenNotAdaptive() {
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder().build());
+
+        for (int i = 0; i < 100; i++) {
+            assertSame(zlib, policy.select(asList(zlib, snappy), "insert", 1024, NO_COMPRESSED_PAYLOADS));
+            policy.compressed(CONNECTION_ID, "insert", zlib, 1024, 1020, 1000);
+        }
+    }
+
+    @Test
+    void shouldNotCompressMessagesBelowMinimumSize() {
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder().minMessageSize(512).build());
+
+        assertNull(policy.select(singletonList(zlib), "find", 511, NO_COMPRESSED_PAYLOADS));
+        assertSame(zlib, policy.select(singletonList(zlib), "find", 512, NO_COMPRESSED_PAYLOADS));
+    }
+
+    @Test
+    void shouldNotCompressMessagesOfCompressedBinaryPayloadsWhenSkipping() {
+        CompressionPolicy skippingPolicy = new CompressionPolicy(CompressionSettings.builder().skipCompressedBinaryPayloads(true).build());
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder().build());
+
+        assertNull(skippingPolicy.select(singletonList(zlib), "insert", 1000, () -> 500));
+        assertSame(zlib, skippingPolicy.select(singletonList(zlib), "insert", 1000, () -> 499));
+        assertSame(zlib, policy.select(singletonList(zlib), "insert", 1000, () -> fail("should not scan the message")));
+    }
+
+    @Test
+    void shouldStopCompressingCommandsThatDoNotPayOff() {
+        CompressionPolicy policy = new CompressionPolicy(ADAPTIVE);
+        List<Compressor> compressors = singletonList(zlib);
+
+        for (int i = 0; i < CompressionPolicy.WARMUP_SAMPLES; i++) {
+            assertSame(zlib, policy.select(compressors, "insert", 1000, NO_COMPRESSED_PAYLOADS));
+            policy.compressed(CONNECTION_ID, "insert", zlib, 1000, 990, 1000);
+            assertSame(zlib, policy.select(compressors, "find", 1000, NO_COMPRESSED_PAYLOADS));
+            policy.compressed(CONNECTION_ID, "find", zlib, 1000, 200, 1000);
+        }
+
+        int compressedCount = 0;
+        for (int i = 0; i < CompressionPolicy.PROBE_INTERVAL * 4; i++) {
+            if (policy.select(compressors, "insert", 1000, NO_COMPRESSED_PAYLOADS) != null) {
+                compressedCount++;
+            }
+            assertSame(zlib, policy.select(compressors, "find", 1000, NO_COMPRESSED_PAYLOADS));
+        }
+        assertEquals(4, compressedCount);
+    }
+
+    @Test
+    void shouldPreferCompressorSavingMostBytesPerCpuTime() {
+        CompressionPolicy policy = new CompressionPolicy(ADAPTIVE);
+        List<Compressor> compressors = asList(zlib, snappy);
+
+        for (int i = 0; i < CompressionPolicy.WARMUP_SAMPLES * 2; i++) {
+            Compressor compressor = policy.select(compressors, "insert", 1000, NO_COMPRESSED_PAYLOADS);
+            if (compressor == zlib) {
+                policy.compressed(CONNECTION_ID, "insert", zlib, 1000, 300, 50_000);
+            } else {
+                assertSame(snappy, compressor);
+                policy.compressed(CONNECTION_ID, "insert", snappy, 1000, 500, 5_000);
+            }
+        }
+
+        assertSame(snappy, policy.select(compressors, "insert", 1000, NO_COMPRESSED_PAYLOADS));
+    }
+
+    @Test
+    void shouldShareMeasurementsBetweenConnectionsThatNegotiatedDifferentCompressors() {
+        CompressionPolicy policy = new CompressionPolicy(ADAPTIVE);
+
+        for (int i = 0; i < CompressionPolicy.WARMUP_SAMPLES; i++) {
+            assertSame(zlib, policy.select(singletonList(zlib), "insert", 1000, NO_COMPRESSED_PAYLOADS));
+            policy.compressed(CONNECTION_ID, "insert", zlib, 1000, 300, 5_000);
+            assertSame(snappy, policy.select(singletonList(snappy), "insert", 1000, NO_COMPRESSED_PAYLOADS));
+            policy.compressed(CONNECTION_ID, "insert", snappy, 1000, 990, 5_000);
+        }
+
+        assertSame(zlib, policy.select(asList(snappy, zlib), "insert", 1000, NO_COMPRESSED_PAYLOADS));
+    }
+
+    @Test
+    void shouldNotifyListeners() {
+        List<MessageCompressionEvent> events = new ArrayList<>();
+        CompressionPolicy policy = new CompressionPolicy(CompressionSettings.builder()
+                .addCompressionListener(new CompressionListener() {
+                    @Override
+                    public void messageEncoded(final MessageCompressionEvent event) {
+                        throw new RuntimeException("listener failure");
+                    }
+                })
+                .addCompressionListener(new CompressionListener() {
+                    @Override
+                    public void messageEncoded(final MessageCompressionEvent event) {
+                        events.add(event);
+                    }
+                })
+                .build());
+
+        policy.compressed(CONNECTION_ID, "insert", zlib, 1000, 400, 2000);
+        policy.uncompressed(CONNECTION_ID, "find", 100);
+
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).isCompressed());
+        assertEquals("zlib", events.get(0).getCompressorName());
+        assertEquals(1000, events.get(0).getUncompressedSize());
+        assertEquals(400, events.get(0).getCompressedSize());
+        assertEquals(2, events.get(0).getElapsedTime(TimeUnit.MICROSECONDS));
+        assertFalse(events.get(1).isCompressed());
+        assertEquals("find", events.get(1).getCommandName());
+        assertEquals(100, events.get(1).getCompressedSize());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoCompressor;
+import com.mongodb.MongoInternalException;
+import org.bson.ByteBuf;
+import org.bson.ByteBufNIO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class CompressorTest {
+
+    static Stream<Arguments> compressorsAndBufferKinds() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (Compressor compressor : new Compressor[] {new ZlibCompressor(MongoCompressor.createZlibCompressor()), new SnappyCompressor(),
+                new ZstdCompressor()}) {
+            for (int size : new int[] {0, 1, 1000, 100_000}) {
+                arguments.add(Arguments.of(compressor, size, false));
+                arguments.add(Arguments.of(compressor, size, true));
+            }
+        }
+        return arguments.stream();
+    }
+
+    static Stream<Compressor> compressors() {
+        return Stream.of(new ZlibCompressor(MongoCompressor.createZlibCompressor()), new SnappyCompressor(), new ZstdCompressor());
+    }
+
+    @ParameterizedTest(name = "{0} {1} bytes, direct={2}")
+    @MethodSource("compressorsAndBufferKinds")
+    void shouldRoundTripThroughMultipleBuffers(final Compressor compressor, final int size, final boolean direct) {
+        byte[] uncompressed = createCompressibleBytes(size);
+        BufferProvider bufferProvider = direct ? new DirectBufferProvider() : new SimpleBufferProvider();
+
+        List<ByteBuf> source = split(uncompressed, 3, direct);
+        ByteBuf compressed;
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(bufferProvider)) {
+            output.writeInt32(42);
+            compressor.compress(source, output);
+            List<ByteBuf> outputBuffers = output.getByteBuffers();
+            assertEquals(output.getPosition(), getRemaining(outputBuffers));
+            compressed = concatenate(outputBuffers, direct);
+        }
+        source.forEach(cur -> assertEquals(0, cur.remaining()));
+
+        assertEquals(42, compressed.getInt());
+        ByteBuf target = bufferProvider.getBuffer(size);
+        compressor.uncompress(compressed, target);
+
+        assertEquals(size, target.position());
+        byte[] actual = new byte[size];
+        target.flip().get(actual);
+        assertArrayEquals(uncompressed, actual);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("compressors")
+    void shouldRejectUncompressedMessageLargerThanDeclared(final Compressor compressor) {
+        byte[] uncompressed = createCompressibleBytes(1000);
+        ByteBuf compressed;
+        try (ByteBufferBsonOutput output = new ByteBufferBsonOutput(new SimpleBufferProvider())) {
+            compressor.compress(split(uncompressed, 1, false), output);
+            compressed = concatenate(output.getByteBuffers(), false);
+        }
+
+        assertThrows(MongoInternalException.class, () -> compressor.uncompress(compressed, new ByteBufNIO(ByteBuffer.allocate(999))));
+    }
+
+    @Test
+    void shouldReportZstdErrors() {
+        ByteBuf corrupted = new ByteBufNIO(ByteBuffer.wrap(createCompressibleBytes(100)));
+
+        MongoInternalException e = assertThrows(MongoInternalException.class,
+                () -> new ZstdCompressor().uncompress(corrupted, new ByteBufNIO(ByteBuffer.allocate(1000))));
+        assertTrue(e.getMessage().startsWith("Zstd error: "), e.getMessage());
+    }
+
+    private static byte[] createCompressibleBytes(final int size) {
+        Random random = new Random(size);
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i % 7 == 0 ? random.nextInt() : i % 64);
+        }
+        return bytes;
+    }
+
+    private static List<ByteBuf> split(final byte[] bytes, final int numBuffers, final boolean direct) {
+        List<ByteBuf> buffers = new ArrayList<>();
+        int chunkSize = bytes.length / numBuffers;
+        for (int i = 0; i < numBuffers; i++) {
+            int offset = i * chunkSize;
+            int length = i == numBuffers - 1 ? bytes.length - offset : chunkSize;
+            ByteBuffer buffer = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+            buffer.put(bytes, offset, length).flip();
+            buffers.add(new ByteBufNIO(buffer));
+        }
+        return buffers;
+    }
+
+    private static ByteBuf concatenate(final List<ByteBuf> buffers, final boolean direct) {
+        int size = getRemaining(buffers);
+        ByteBuffer result = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        for (ByteBuf cur : buffers) {
+            result.put(cur.asNIO());
+            cur.release();
+        }
+        result.flip();
+        return new ByteBufNIO(result.order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    private static int getRemaining(final List<ByteBuf> buffers) {
+        int remaining = 0;
+        for (ByteBuf cur : buffers) {
+            remaining += cur.remaining();
+        }
+        return remaining;
+    }
+
+    private static final class DirectBufferProvider implements BufferProvider {
+        @Override
+        public ByteBuf getBuffer(final int size) {
+            return new ByteBufNIO(ByteBuffer.allocateDirect(size));
+        }
+    }
+}
@@ -21,12 +21,18 @@ import com.mongodb.MongoTimeoutException;
 import org.junit.Test;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -220,6 +226,62 @@ public class ConcurrentPoolTest {
         assertFalse(t4.isClosed());
     }
 
+    @Test
+    public void testConcurrentGetAndReleaseWhenExhausted() throws InterruptedException {
+        int maxSize = 4;
+        pool = new ConcurrentPool<>(maxSize, new TestItemFactory());
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            threads.add(new Thread(() -> {
+                try {
+                    for (int j = 0; j < 1000; j++) {
+                        TestCloseable closeable = pool.get(10, SECONDS);
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        inUse.decrementAndGet();
+                        pool.release(closeable);
+                    }
+                } catch (Throwable t) {
+                    failure.set(t);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertTrue(maxInUse.get() <= maxSize);
+        assertEquals(0, pool.getInUseCount());
+        assertTrue(pool.getAvailableCount() <= maxSize);
+    }
+
+    @Test
+    public void testPauseWakesUpWaitingGet() throws InterruptedException {
+        pool = new ConcurrentPool<>(1, new TestItemFactory());
+        pool.get();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread waiter = new Thread(() -> {
+            try {
+                pool.get(10, SECONDS);
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+        waiter.start();
+        while (waiter.getState() != Thread.State.WAITING && waiter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.yield();
+        }
+
+        pool.pause(() -> new MongoException("paused"));
+        waiter.join();
+
+        assertEquals("paused", failure.get().getMessage());
+    }
+
     class TestItemFactory implements ConcurrentPool.ItemFactory<TestCloseable> {
         private final boolean shouldThrowOnCreate;
 
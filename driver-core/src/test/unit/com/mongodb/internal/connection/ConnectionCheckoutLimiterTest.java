@@ -0,0 +1,451 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.MongoServerUnavailableException;
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.OperationPriority;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.ConnectionPoolConcurrencyLimitChangedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import com.mongodb.internal.async.SingleResultCallback;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mongodb.OperationPriority.HIGH;
+import static com.mongodb.OperationPriority.LOW;
+import static com.mongodb.OperationPriority.NORMAL;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionCheckoutLimiterTest {
+    private static final ServerId SERVER_ID = new ServerId(new ClusterId(), new ServerAddress());
+    private static final long LATENCY_NANOS = MILLISECONDS.toNanos(1);
+
+    private final List<ConnectionPoolConcurrencyLimitChangedEvent> events = new CopyOnWriteArrayList<>();
+    private final ConnectionPoolListener listener = new ConnectionPoolListener() {
+        @Override
+        public void connectionPoolConcurrencyLimitChanged(final ConnectionPoolConcurrencyLimitChangedEvent event) {
+            events.add(event);
+        }
+    };
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private long nowNanos;
+
+    @AfterEach
+    void tearDown() {
+        timer.shutdownNow();
+    }
+
+    @Test
+    void shouldNotAcquireMoreThanTheLimit() {
+        ConnectionCheckoutLimiter limiter = createLimiter(2);
+
+        assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertFalse(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertFalse(limiter.tryAcquire(NORMAL, 10, MILLISECONDS));
+
+        limiter.release(NORMAL);
+        assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertEquals(2, limiter.getInUse());
+    }
+
+    @Test
+    void shouldDecreaseTheLimitOnFailure() {
+        ConnectionCheckoutLimiter limiter = createLimiter(100);
+        long checkedOutNanos = nowNanos;
+        acquire(limiter, 20);
+
+        release(limiter, checkedOutNanos, true);
+
+        assertEquals(18, limiter.getLimit());
+        assertEquals(1, events.size());
+        assertEquals(SERVER_ID, events.get(0).getServerId());
+        assertEquals(100, events.get(0).getPreviousLimit());
+        assertEquals(18, events.get(0).getLimit());
+    }
+
+    @Test
+    void shouldDecreaseTheLimitOnceForOperationsStartedBeforeTheDecrease() {
+        ConnectionCheckoutLimiter limiter = createLimiter(100);
+        long checkedOutNanos = nowNanos;
+        acquire(limiter, 20);
+
+        release(limiter, checkedOutNanos, true);
+        release(limiter, checkedOutNanos, true);
+        release(limiter, checkedOutNanos, true);
+        assertEquals(18, limiter.getLimit());
+
+        long laterCheckedOutNanos = nowNanos;
+        acquire(limiter, 1);
+        release(limiter, laterCheckedOutNanos, true);
+        assertEquals(16, limiter.getLimit());
+    }
+
+    @Test
+    void shouldDecreaseTheLimitWhenTheLatencyRises() {
+        ConnectionCheckoutLimiter limiter = createLimiter(10);
+        for (int i = 0; i < 100; i++) {
+            useOnce(limiter, LATENCY_NANOS);
+        }
+        assertEquals(10, limiter.getLimit());
+
+        acquire(limiter, 9);
+        for (int i = 0; i < 20 && limiter.getLimit() == 10; i++) {
+            useOnce(limiter, 10 * LATENCY_NANOS);
+        }
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void shouldIncreaseTheLimitAdditivelyWhileTheLimitIsReached() {
+        ConnectionCheckoutLimiter limiter = createLimiter(100);
+        long checkedOutNanos = nowNanos;
+        acquire(limiter, 10);
+        release(limiter, checkedOutNanos, true);
+        assertEquals(9, limiter.getLimit());
+        for (int i = 0; i < 9; i++) {
+            limiter.release(NORMAL);
+        }
+        events.clear();
+
+        // the limit is not reached
+        useOnce(limiter, LATENCY_NANOS);
+        assertEquals(9, limiter.getLimit());
+
+        // the limit is reached, and increases by one after about as many operations as the limit
+        acquire(limiter, 9);
+        for (int i = 0; i < 10; i++) {
+            release(limiter, nowNanos - LATENCY_NANOS, false);
+            acquire(limiter, 1);
+        }
+        assertEquals(10, limiter.getLimit());
+        assertEquals(1, events.size());
+        assertEquals(9, events.get(0).getPreviousLimit());
+        assertEquals(10, events.get(0).getLimit());
+    }
+
+    @Test
+    void shouldNotIncreaseTheLimitBeyondTheMaximum() {
+        ConnectionCheckoutLimiter limiter = createLimiter(2);
+        acquire(limiter, 2);
+        for (int i = 0; i < 10; i++) {
+            release(limiter, nowNanos - LATENCY_NANOS, false);
+            acquire(limiter, 1);
+        }
+        assertEquals(2, limiter.getLimit());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void shouldNotDecreaseTheLimitBelowOne() {
+        ConnectionCheckoutLimiter limiter = createLimiter(100);
+        for (int i = 0; i < 50; i++) {
+            long checkedOutNanos = nowNanos;
+            acquire(limiter, 1);
+            release(limiter, checkedOutNanos, true);
+        }
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void shouldWakeUpWaitersWhenAPermitIsReleasedOrThePoolIsClosed() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(1);
+        acquire(limiter, 1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<Boolean> waiter = executor.submit(() -> limiter.tryAcquire(NORMAL, -1, MILLISECONDS));
+            Thread.sleep(50);
+            assertFalse(waiter.isDone());
+            limiter.release(NORMAL);
+            assertTrue(waiter.get(10, SECONDS));
+
+            Future<Boolean> closedWaiter = executor.submit(() -> limiter.tryAcquire(NORMAL, -1, MILLISECONDS));
+            Thread.sleep(50);
+            closed.set(true);
+            limiter.signalClosedOrPaused();
+            Exception e = assertThrows(Exception.class, () -> closedWaiter.get(10, SECONDS));
+            assertTrue(e.getCause() instanceof MongoServerUnavailableException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldAdmitWaitingCheckoutsByPriority() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(ConnectionPoolSettings.builder().maxSize(1).prioritizedCheckout(true).build());
+        assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<Boolean> low = executor.submit(() -> limiter.tryAcquire(LOW, -1, MILLISECONDS));
+            awaitWaiterCount(limiter, 1);
+            Future<Boolean> high = executor.submit(() -> limiter.tryAcquire(HIGH, -1, MILLISECONDS));
+            awaitWaiterCount(limiter, 2);
+            assertFalse(limiter.tryAcquire(HIGH, 0, MILLISECONDS));
+
+            limiter.release(NORMAL);
+            assertTrue(high.get(10, SECONDS));
+            assertFalse(low.isDone());
+
+            limiter.release(HIGH);
+            assertTrue(low.get(10, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldAdmitWaitingCheckoutsInOrderIfNotPrioritized() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(ConnectionPoolSettings.builder().maxSize(1).adaptiveConcurrencyLimit(true)
+                .reservedShare(HIGH, 0.5).build());
+        assertTrue(limiter.tryAcquire(LOW, 0, MILLISECONDS));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<Boolean> low = executor.submit(() -> limiter.tryAcquire(LOW, -1, MILLISECONDS));
+            awaitWaiterCount(limiter, 1);
+            Future<Boolean> high = executor.submit(() -> limiter.tryAcquire(HIGH, -1, MILLISECONDS));
+            awaitWaiterCount(limiter, 2);
+
+            limiter.release(LOW);
+            assertTrue(low.get(10, SECONDS));
+            assertFalse(high.isDone());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReserveConnectionsForPriorities() {
+        ConnectionCheckoutLimiter limiter = createLimiter(ConnectionPoolSettings.builder().maxSize(10).prioritizedCheckout(true)
+                .reservedShare(HIGH, 0.2).reservedShare(LOW, 0.1).build());
+        for (int i = 0; i < 7; i++) {
+            assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        }
+        assertFalse(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertTrue(limiter.tryAcquire(LOW, 0, MILLISECONDS));
+        assertFalse(limiter.tryAcquire(LOW, 0, MILLISECONDS));
+        assertTrue(limiter.tryAcquire(HIGH, 0, MILLISECONDS));
+        assertTrue(limiter.tryAcquire(HIGH, 0, MILLISECONDS));
+        assertFalse(limiter.tryAcquire(HIGH, 0, MILLISECONDS));
+
+        // a connection checked in is reserved again if fewer connections than reserved are checked out by its priority
+        limiter.release(HIGH);
+        assertFalse(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertTrue(limiter.tryAcquire(HIGH, 0, MILLISECONDS));
+        limiter.release(NORMAL);
+        assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        assertEquals(10, limiter.getInUse());
+    }
+
+    @Test
+    void shouldNotStarveLowPriorityCheckouts() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(ConnectionPoolSettings.builder().maxSize(1).prioritizedCheckout(true).build());
+        assertTrue(limiter.tryAcquire(HIGH, 0, MILLISECONDS));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Future<Boolean> low = executor.submit(() -> limiter.tryAcquire(LOW, -1, MILLISECONDS));
+            awaitWaiterCount(limiter, 1);
+            for (int i = 0; i < 8; i++) {
+                Future<Boolean> high = executor.submit(() -> limiter.tryAcquire(HIGH, -1, MILLISECONDS));
+                awaitWaiterCount(limiter, 2);
+                limiter.release(HIGH);
+                assertTrue(high.get(10, SECONDS));
+                assertFalse(low.isDone());
+            }
+            Future<Boolean> high = executor.submit(() -> limiter.tryAcquire(HIGH, -1, MILLISECONDS));
+            awaitWaiterCount(limiter, 2);
+            limiter.release(HIGH);
+            assertTrue(low.get(10, SECONDS));
+            assertFalse(high.isDone());
+
+            limiter.release(LOW);
+            assertTrue(high.get(10, SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotKeepTheCheckoutIfInterruptedWhileBeingAdmitted() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(1);
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            for (int i = 0; i < 100; i++) {
+                acquire(limiter, 1);
+                CompletableFuture<Thread> waiterThread = new CompletableFuture<>();
+                Future<Boolean> acquired = executor.submit(() -> {
+                    waiterThread.complete(Thread.currentThread());
+                    try {
+                        return limiter.tryAcquire(NORMAL, -1, MILLISECONDS);
+                    } catch (MongoInterruptedException e) {
+                        return false;
+                    } finally {
+                        Thread.interrupted();
+                    }
+                });
+                awaitWaiterCount(limiter, 1);
+
+                // the interruption races with the admission, and a waiter that reports the interruption must not keep the checkout
+                waiterThread.get(10, SECONDS).interrupt();
+                limiter.release(NORMAL);
+                if (acquired.get(10, SECONDS)) {
+                    assertEquals(1, limiter.getInUse());
+                    limiter.release(NORMAL);
+                }
+                assertEquals(0, limiter.getInUse());
+                assertEquals(0, limiter.getWaiterCount());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldAdmitAsynchronousCheckoutWhenACheckoutIsReleased() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(1);
+        CompletableFuture<Void> admittedImmediately = acquireAsync(limiter, NORMAL, -1);
+        assertNull(admittedImmediately.get(10, SECONDS));
+
+        CompletableFuture<Void> admitted = acquireAsync(limiter, NORMAL, -1);
+        assertFalse(admitted.isDone());
+        assertEquals(1, limiter.getWaiterCount());
+
+        limiter.release(NORMAL);
+        assertNull(admitted.get(10, SECONDS));
+        assertEquals(1, limiter.getInUse());
+        assertEquals(0, limiter.getWaiterCount());
+    }
+
+    @Test
+    void shouldAdmitAsynchronousCheckoutsByPriority() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(ConnectionPoolSettings.builder().maxSize(1).prioritizedCheckout(true).build());
+        assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        CompletableFuture<Void> low = acquireAsync(limiter, LOW, -1);
+        CompletableFuture<Void> high = acquireAsync(limiter, HIGH, -1);
+
+        limiter.release(NORMAL);
+        assertNull(high.get(10, SECONDS));
+        assertFalse(low.isDone());
+
+        limiter.release(HIGH);
+        assertNull(low.get(10, SECONDS));
+    }
+
+    @Test
+    void shouldTimeOutAsynchronousCheckout() throws Exception {
+        ConnectionCheckoutLimiter limiter = createLimiter(1);
+        acquire(limiter, 1);
+
+        CompletableFuture<Void> notWaiting = acquireAsync(limiter, NORMAL, 0);
+        Exception e = assertThrows(Exception.class, () -> notWaiting.get(10, SECONDS));
+        assertTrue(e.getCause() instanceof MongoTimeoutException);
+
+        CompletableFuture<Void> timedOut = acquireAsync(limiter, NORMAL, MILLISECONDS.toNanos(50));
+        e = assertThrows(Exception.class, () -> timedOut.get(10, SECONDS));
+        assertTrue(e.getCause() instanceof MongoTimeoutException);
+        assertEquals(0, limiter.getWaiterCount());
+        assertEquals(1, limiter.getInUse());
+    }
+
+    @Test
+    void shouldFailAsynchronousCheckoutWhenThePoolIsClosed() {
+        ConnectionCheckoutLimiter limiter = createLimiter(1);
+        acquire(limiter, 1);
+        CompletableFuture<Void> waiting = acquireAsync(limiter, NORMAL, SECONDS.toNanos(10));
+
+        closed.set(true);
+        limiter.signalClosedOrPaused();
+        Exception e = assertThrows(Exception.class, () -> waiting.get(10, SECONDS));
+        assertTrue(e.getCause() instanceof MongoServerUnavailableException);
+        assertEquals(0, limiter.getWaiterCount());
+
+        CompletableFuture<Void> afterClose = acquireAsync(limiter, NORMAL, -1);
+        e = assertThrows(Exception.class, () -> afterClose.get(10, SECONDS));
+        assertTrue(e.getCause() instanceof MongoServerUnavailableException);
+    }
+
+    private ConnectionCheckoutLimiter createLimiter(final int maxLimit) {
+        return createLimiter(ConnectionPoolSettings.builder().maxSize(maxLimit).adaptiveConcurrencyLimit(true).build());
+    }
+
+    private ConnectionCheckoutLimiter createLimiter(final ConnectionPoolSettings settings) {
+        return new ConnectionCheckoutLimiter(SERVER_ID, settings, listener, () -> {
+            if (closed.get()) {
+                throw new MongoServerUnavailableException("closed");
+            }
+        }, timer, nowNanos);
+    }
+
+    private static CompletableFuture<Void> acquireAsync(final ConnectionCheckoutLimiter limiter,
+            final OperationPriority operationPriority, final long timeoutNanos) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        SingleResultCallback<Void> callback = (result, t) -> {
+            if (t == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(t);
+            }
+        };
+        limiter.acquireAsync(operationPriority, timeoutNanos, () -> new MongoTimeoutException("timed out"), callback);
+        return future;
+    }
+
+    private static void awaitWaiterCount(final ConnectionCheckoutLimiter limiter, final int waiterCount) throws InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(10);
+        while (limiter.getWaiterCount() != waiterCount) {
+            assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void acquire(final ConnectionCheckoutLimiter limiter, final int count) {
+        for (int i = 0; i < count; i++) {
+            assertTrue(limiter.tryAcquire(NORMAL, 0, MILLISECONDS));
+        }
+    }
+
+    private void release(final ConnectionCheckoutLimiter limiter, final long checkedOutNanos, final boolean failed) {
+        nowNanos += LATENCY_NANOS;
+        limiter.release(NORMAL, checkedOutNanos, nowNanos, failed);
+    }
+
+    private void useOnce(final ConnectionCheckoutLimiter limiter, final long latencyNanos) {
+        acquire(limiter, 1);
+        nowNanos += latencyNanos;
+        limiter.release(NORMAL, nowNanos - latencyNanos, nowNanos, false);
+    }
+}
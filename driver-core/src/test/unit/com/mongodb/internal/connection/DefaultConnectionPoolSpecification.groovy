@@ -26,6 +26,7 @@ import com.mongodb.connection.ConnectionDescription
 import com.mongodb.connection.ConnectionId
 import com.mongodb.connection.ServerId
 import com.mongodb.event.ConnectionCheckOutFailedEvent
+import com.mongodb.event.ConnectionClosedEvent
 import com.mongodb.event.ConnectionPoolListener
 import com.mongodb.internal.inject.EmptyProvider
 import com.mongodb.internal.inject.SameObjectProvider
@@ -108,6 +109,25 @@ class DefaultConnectionPoolSpecification extends Specification {
         !connectionFactory.getCreatedConnections().get(0).isClosed()
     }
 
+    def 'should close a connection on which the server is still streaming replies instead of releasing it back into the pool'() {
+        given:
+        def listener = Mock(ConnectionPoolListener)
+        def connection = Mock(InternalConnection)
+        connection.getDescription() >> new ConnectionDescription(SERVER_ID)
+        connection.hasMoreToCome() >> true
+        connectionFactory.create(SERVER_ID, _) >> connection
+        pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
+                builder().maxSize(1).addConnectionPoolListener(listener).build(), mockSdamProvider(), OPERATION_CONTEXT_FACTORY)
+        pool.ready()
+
+        when:
+        pool.get(OPERATION_CONTEXT).close()
+
+        then:
+        1 * connection.close()
+        1 * listener.connectionClosed { it.reason == ConnectionClosedEvent.Reason.ERROR }
+    }
+
     def 'should throw if pool is exhausted'() throws InterruptedException {
         given:
         pool = new DefaultConnectionPool(SERVER_ID, connectionFactory,
@@ -31,6 +31,7 @@ import com.mongodb.event.ServerHeartbeatSucceededEvent;
 import com.mongodb.event.ServerMonitorListener;
 import com.mongodb.event.TestServerMonitorListener;
 import com.mongodb.internal.inject.SameObjectProvider;
+import com.mongodb.internal.thread.DaemonThreadFactory;
 import org.bson.BsonDocument;
 import org.bson.ByteBufNIO;
 import org.junit.jupiter.api.AfterEach;
@@ -54,6 +55,7 @@ import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
@@ -69,7 +71,7 @@ public class DefaultServerMonitorTest {
     void tearDown() throws InterruptedException {
         if (monitor != null) {
             monitor.close();
-            monitor.getServerMonitor().join();
+            monitor.getServerMonitor().getThread().join();
         }
     }
 
@@ -129,7 +131,8 @@ public class DefaultServerMonitorTest {
                 null,
                 false,
                 SameObjectProvider.initialized(sdamManager),
-                OPERATION_CONTEXT_FACTORY);
+                OPERATION_CONTEXT_FACTORY,
+                false);
 
         // When
         monitor.start();
@@ -254,6 +257,27 @@ public class DefaultServerMonitorTest {
         assertEquals(expectedEvents, events);
     }
 
+    @Test
+    void shouldMonitorOnVirtualThreadWhenRequested() throws Exception {
+        assumeTrue(DaemonThreadFactory.isVirtualThreadSupported());
+
+        // Given
+        InternalConnection mockConnection = mock(InternalConnection.class);
+        when(mockConnection.getDescription()).thenReturn(createDefaultConnectionDescription());
+        when(mockConnection.getInitialServerDescription()).thenReturn(createDefaultServerDescription());
+        when(mockConnection.getBuffer(anyInt())).thenReturn(new ByteBufNIO(ByteBuffer.allocate(1024)));
+        when(mockConnection.receive(any(), any())).thenReturn(BsonDocument.parse("{" + LEGACY_HELLO_LOWER + ": true, ok : 1}"));
+
+        // When
+        TestServerMonitorListener listener = createTestServerMonitorListener();
+        monitor = createAndStartMonitor(createConnectionFactory(mockConnection), listener, true);
+        listener.waitForEvents(ServerHeartbeatSucceededEvent.class, event -> true, 1, Duration.ofSeconds(30));
+
+        // Then
+        Thread thread = monitor.getServerMonitor().getThread();
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        assertTrue(thread.getName().startsWith("cluster-"));
+    }
 
     private InternalConnectionFactory createConnectionFactory(final InternalConnection connection) {
         InternalConnectionFactory factory = mock(InternalConnectionFactory.class);
@@ -275,6 +299,11 @@ public class DefaultServerMonitorTest {
     }
 
     private DefaultServerMonitor createAndStartMonitor(final InternalConnectionFactory factory, final ServerMonitorListener listener) {
+        return createAndStartMonitor(factory, listener, false);
+    }
+
+    private DefaultServerMonitor createAndStartMonitor(final InternalConnectionFactory factory, final ServerMonitorListener listener,
+            final boolean virtualThreads) {
         DefaultServerMonitor monitor = new DefaultServerMonitor(
                 new ServerId(new ClusterId(), new ServerAddress()),
                 ServerSettings.builder()
@@ -286,7 +315,8 @@ public class DefaultServerMonitorTest {
                 null,
                 false,
                 SameObjectProvider.initialized(mock(SdamServerDescriptionManager.class)),
-                OPERATION_CONTEXT_FACTORY);
+                OPERATION_CONTEXT_FACTORY,
+                virtualThreads);
         monitor.start();
         return monitor;
     }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.connection;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PeakExponentiallyWeightedMovingAverageTest {
+    private static final long DECAY_TIME_NANOS = 1000;
+
+    @Test
+    void constructorShouldThrowIfDecayTimeIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new PeakExponentiallyWeightedMovingAverage(0));
+    }
+
+    @Test
+    void averageShouldBeNegativeUntilASampleIsAdded() {
+        PeakExponentiallyWeightedMovingAverage average = new PeakExponentiallyWeightedMovingAverage(DECAY_TIME_NANOS);
+
+        assertEquals(-1, average.getAverage(0));
+    }
+
+    @Test
+    void averageShouldRiseToAPeakImmediately() {
+        PeakExponentiallyWeightedMovingAverage average = new PeakExponentiallyWeightedMovingAverage(DECAY_TIME_NANOS);
+        average.addSample(100, 0);
+        average.addSample(5000, 0);
+
+        assertEquals(5000, average.getAverage(0));
+    }
+
+    @Test
+    void averageShouldMoveTowardsLowerSamplesWithTheElapsedTime() {
+        PeakExponentiallyWeightedMovingAverage average = new PeakExponentiallyWeightedMovingAverage(DECAY_TIME_NANOS);
+        average.addSample(1000, 0);
+        average.addSample(0, 0);
+
+        // no time has elapsed, so the lower sample has no weight
+        assertEquals(1000, average.getAverage(0));
+
+        average.addSample(0, DECAY_TIME_NANOS);
+        assertEquals(367, average.getAverage(DECAY_TIME_NANOS));
+    }
+
+    @Test
+    void averageShouldDecayWithTheTimeElapsedSinceTheLastSample() {
+        PeakExponentiallyWeightedMovingAverage average = new PeakExponentiallyWeightedMovingAverage(DECAY_TIME_NANOS);
+        average.addSample(1000, 0);
+
+        assertEquals(367, average.getAverage(DECAY_TIME_NANOS));
+        assertEquals(0, average.getAverage(DECAY_TIME_NANOS * 100));
+    }
+}
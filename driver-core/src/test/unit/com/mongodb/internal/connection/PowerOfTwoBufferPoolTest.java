@@ -21,11 +21,21 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class PowerOfTwoBufferPoolTest {
     private PowerOfTwoBufferPool pool;
@@ -75,6 +85,119 @@ public class PowerOfTwoBufferPoolTest {
         assertNotSame(buf, pool.getBuffer((int) Math.pow(2, 10) + 1));
     }
 
+    @Test
+    public void testReuseBeyondMagazineCapacity() {
+        List<ByteBuf> bufs = new ArrayList<>();
+        Set<ByteBuffer> released = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 32; i++) {
+            bufs.add(pool.getBuffer(512));
+        }
+        for (ByteBuf buf : bufs) {
+            released.add(buf.asNIO());
+            buf.release();
+        }
+
+        for (int i = 0; i < 32; i++) {
+            assertTrue(released.remove(pool.getBuffer(512).asNIO()));
+        }
+    }
+
+    @Test
+    public void testReuseAcrossStripes() throws InterruptedException {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(20, 1, TimeUnit.MINUTES, 4, 0);
+        // a size class that is pooled in the magazines, and one that is only pooled in the shared deque
+        for (int size : new int[] {512, 1 << 20}) {
+            AtomicReference<ByteBuffer> released = new AtomicReference<>();
+            Thread releasingThread = newThreadOnOtherStripe(() -> {
+                ByteBuf buf = pool.getBuffer(size);
+                released.set(buf.asNIO());
+                buf.release();
+            });
+            releasingThread.start();
+            releasingThread.join();
+
+            assertSame(released.get(), pool.getBuffer(size).asNIO());
+        }
+    }
+
+    @Test
+    public void testConcurrentGetAndRelease() throws InterruptedException {
+        int threadCount = 8;
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 0; i < threadCount; i++) {
+            new Thread(() -> {
+                try {
+                    for (int j = 0; j < 10_000; j++) {
+                        int size = 1 << (j % 10);
+                        ByteBuf buf = pool.getBuffer(size);
+                        assertEquals(size, buf.limit());
+                        buf.release();
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        assertTrue(done.await(1, TimeUnit.MINUTES));
+        assertNull(failure.get());
+    }
+
+    @Test
+    public void testDirectBuffersWithinBudget() {
+        PowerOfTwoBufferPool pool = PowerOfTwoBufferPool.direct(4096);
+        try {
+            ByteBuf first = pool.getBuffer(2048);
+            ByteBuf second = pool.getBuffer(2048);
+            assertTrue(first.asNIO().isDirect());
+            assertTrue(second.asNIO().isDirect());
+            assertEquals(4096, pool.getDirectMemoryInUse());
+
+            ByteBuf overBudget = pool.getBuffer(2048);
+            assertFalse(overBudget.asNIO().isDirect());
+            overBudget.release();
+            assertEquals(4096, pool.getDirectMemoryInUse());
+
+            ByteBuffer firstByteBuffer = first.asNIO();
+            first.release();
+            assertSame(firstByteBuffer, pool.getBuffer(2048).asNIO());
+            assertEquals(4096, pool.getDirectMemoryInUse());
+        } finally {
+            pool.disablePruning();
+        }
+    }
+
+    @Test
+    public void testDirectBufferLargerThanHighestPowerOfTwoIsNotPooled() {
+        PowerOfTwoBufferPool pool = PowerOfTwoBufferPool.direct(1 << 26);
+        try {
+            ByteBuf buf = pool.getBuffer((1 << 24) + 1);
+            assertTrue(buf.asNIO().isDirect());
+            assertEquals((1 << 24) + 1, pool.getDirectMemoryInUse());
+            buf.release();
+            assertEquals(0, pool.getDirectMemoryInUse());
+        } finally {
+            pool.disablePruning();
+        }
+    }
+
+    // Racy test
+    @Test
+    public void testPruningReleasesDirectMemory() throws InterruptedException {
+        PowerOfTwoBufferPool pool = new PowerOfTwoBufferPool(10, 5, TimeUnit.MILLISECONDS, 1, 4096)
+                .enablePruning();
+        try {
+            pool.getBuffer(256).release();
+            assertEquals(256, pool.getDirectMemoryInUse());
+            Thread.sleep(50);
+            assertEquals(0, pool.getDirectMemoryInUse());
+        } finally {
+            pool.disablePruning();
+        }
+    }
+
     // Racy test
     @Test
     public void testPruning() throws InterruptedException {
@@ -91,4 +214,16 @@ public class PowerOfTwoBufferPoolTest {
             pool.disablePruning();
         }
     }
+
+    /**
+     * Creates a thread that is mapped to a different stripe than the current thread by a pool with four stripes.
+     */
+    private static Thread newThreadOnOtherStripe(final Runnable runnable) {
+        while (true) {
+            Thread thread = new Thread(runnable);
+            if ((thread.getId() & 3) != (Thread.currentThread().getId() & 3)) {
+                return thread;
+            }
+        }
+    }
 }
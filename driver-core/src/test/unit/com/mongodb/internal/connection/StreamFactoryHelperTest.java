@@ -45,6 +45,6 @@ class StreamFactoryHelperTest {
 
         assertEquals(NettyStreamFactoryFactory.builder().applySettings(nettyTransportSettings)
                 .inetAddressResolver(inetAddressResolver).build(),
-                StreamFactoryHelper.getAsyncStreamFactoryFactory(settings, inetAddressResolver));
+                StreamFactoryHelper.getAsyncStreamFactoryFactory(settings, inetAddressResolver, null));
     }
 }
@@ -102,4 +102,9 @@ public class TestServer implements ClusterableServer {
     public int operationCount() {
         return -1;
     }
+
+    @Override
+    public long operationLatencyNanos() {
+        return -1;
+    }
 }
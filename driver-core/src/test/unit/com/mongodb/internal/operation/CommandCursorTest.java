@@ -44,9 +44,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.List;
 
 import static com.mongodb.internal.operation.OperationUnitSpecification.getMaxWireVersionForServerVersion;
+import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
@@ -165,6 +169,50 @@ class CommandCursorTest {
                 argThat(bsonDocument -> bsonDocument.containsKey("killCursors")), any(), any(), any(), any());
     }
 
+    @Test
+    void shouldReceiveStreamedBatchesWhenExhaust() {
+        //given
+        when(serverDescription.getType()).thenReturn(ServerType.STANDALONE);
+        when(mockConnection.hasMoreToCome()).thenReturn(false, true, false);
+        when(mockConnection.exhaustCommand(eq(NAMESPACE.getDatabaseName()), any(), any(), any(), any(), any()))
+                .thenReturn(createGetMoreReply(CURSOR_ID.getValue(), new Document("_id", 1)));
+        when(mockConnection.receiveMoreToCome(any(), any())).thenReturn(createGetMoreReply(0, new Document("_id", 2)));
+
+        Cursor<Document> cursor = createExhaustCoreCursor();
+
+        //when
+        List<Document> firstBatch = cursor.next(operationContext);
+        List<Document> secondBatch = cursor.next(operationContext);
+
+        //then
+        assertEquals(singletonList(new Document("_id", 1)), firstBatch);
+        assertEquals(singletonList(new Document("_id", 2)), secondBatch);
+        assertFalse(cursor.hasNext(operationContext));
+        verify(mockConnection).markAsPinned(Connection.PinningMode.CURSOR);
+        verify(mockConnection, times(1)).exhaustCommand(eq(NAMESPACE.getDatabaseName()),
+                argThat(bsonDocument -> bsonDocument.containsKey("getMore")), any(), any(), any(), any());
+        verify(mockConnection, times(1)).receiveMoreToCome(any(), any());
+        verify(mockConnection, never()).command(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldSkipKillCursorsCommandWhenClosedWhileServerIsStreaming() {
+        //given
+        when(serverDescription.getType()).thenReturn(ServerType.STANDALONE);
+        when(mockConnection.hasMoreToCome()).thenReturn(false, true);
+        when(mockConnection.exhaustCommand(eq(NAMESPACE.getDatabaseName()), any(), any(), any(), any(), any()))
+                .thenReturn(createGetMoreReply(CURSOR_ID.getValue(), new Document("_id", 1)));
+
+        Cursor<Document> cursor = createExhaustCoreCursor();
+
+        //when
+        cursor.next(operationContext);
+        cursor.close(operationContext);
+
+        //then
+        verify(mockConnection, never()).command(any(), any(), any(), any(), any(), any());
+    }
+
     private Cursor<Document> createCoreCursor() {
         return new CommandCursor<>(
                 COMMAND_CURSOR_DOCUMENT,
@@ -174,4 +222,23 @@ class CommandCursorTest {
                 connectionSource,
                 mockConnection);
     }
+
+    private Cursor<Document> createExhaustCoreCursor() {
+        return new CommandCursor<>(
+                COMMAND_CURSOR_DOCUMENT,
+                0,
+                DOCUMENT_CODEC,
+                null,
+                connectionSource,
+                mockConnection,
+                true);
+    }
+
+    private static BsonDocument createGetMoreReply(final long cursorId, final Document document) {
+        return new BsonDocument("ok", new BsonInt32(1))
+                .append("cursor",
+                        new BsonDocument("ns", new BsonString(NAMESPACE.getFullName()))
+                                .append("id", new BsonInt64(cursorId))
+                                .append("nextBatch", new BsonArrayWrapper<>(singletonList(document))));
+    }
 }
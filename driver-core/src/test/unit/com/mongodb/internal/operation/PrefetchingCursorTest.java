@@ -0,0 +1,397 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.mongodb.internal.operation;
+
+import com.mongodb.MongoException;
+import com.mongodb.MongoOperationTimeoutException;
+import com.mongodb.ReadConcern;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.cursor.TimeoutMode;
+import com.mongodb.internal.IgnorableRequestContext;
+import com.mongodb.internal.TimeoutContext;
+import com.mongodb.internal.TimeoutSettings;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.internal.connection.ReadConcernAwareNoOpSessionContext;
+import com.mongodb.internal.observability.micrometer.TracingManager;
+import com.mongodb.internal.session.SessionContext;
+import com.mongodb.internal.time.Timeout;
+import com.mongodb.lang.Nullable;
+import org.bson.BsonDocument;
+import org.bson.BsonTimestamp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PrefetchingCursorTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private ScheduledExecutorService backgroundExecutor;
+    private OperationContext operationContext;
+
+    @BeforeEach
+    void setUp() {
+        backgroundExecutor = newClientBackgroundExecutor(false);
+        operationContext = createOperationContext(TimeoutSettings.DEFAULT, new ReadConcernAwareNoOpSessionContext(ReadConcern.DEFAULT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        backgroundExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldNotWrapWhenPrefetchingIsDisabled() {
+        TestCursor wrapped = new TestCursor(3);
+        assertSame(wrapped, prefetchIfEnabled(wrapped, 0));
+    }
+
+    @Test
+    void shouldNotWrapWithoutBackgroundExecutor() {
+        TestCursor wrapped = new TestCursor(3);
+        OperationContext operationContextWithoutExecutor = new OperationContext(IgnorableRequestContext.INSTANCE,
+                new ReadConcernAwareNoOpSessionContext(ReadConcern.DEFAULT), new TimeoutContext(TimeoutSettings.DEFAULT), null);
+        assertSame(wrapped, PrefetchingCursor.prefetchIfEnabled(wrapped, 2, TimeoutMode.CURSOR_LIFETIME,
+                operationContextWithoutExecutor));
+    }
+
+    @Test
+    void shouldNotWrapWithExplicitSessionOrTransaction() {
+        TestCursor wrapped = new TestCursor(3);
+        SessionContext explicitSession = mock(SessionContext.class);
+        when(explicitSession.hasSession()).thenReturn(true);
+        when(explicitSession.isImplicitSession()).thenReturn(false);
+        SessionContext implicitSessionInTransaction = mock(SessionContext.class);
+        when(implicitSessionInTransaction.hasSession()).thenReturn(true);
+        when(implicitSessionInTransaction.isImplicitSession()).thenReturn(true);
+        when(implicitSessionInTransaction.hasActiveTransaction()).thenReturn(true);
+        SessionContext implicitSession = mock(SessionContext.class);
+        when(implicitSession.hasSession()).thenReturn(true);
+        when(implicitSession.isImplicitSession()).thenReturn(true);
+
+        assertSame(wrapped, PrefetchingCursor.prefetchIfEnabled(wrapped, 2, TimeoutMode.CURSOR_LIFETIME,
+                createOperationContext(TimeoutSettings.DEFAULT, explicitSession)));
+        assertSame(wrapped, PrefetchingCursor.prefetchIfEnabled(wrapped, 2, TimeoutMode.CURSOR_LIFETIME,
+                createOperationContext(TimeoutSettings.DEFAULT, implicitSessionInTransaction)));
+        assertNotSame(wrapped, PrefetchingCursor.prefetchIfEnabled(wrapped, 2, TimeoutMode.CURSOR_LIFETIME,
+                createOperationContext(TimeoutSettings.DEFAULT, implicitSession)));
+    }
+
+    @Test
+    void shouldTimeOutWaitingForPrefetchInProgress() throws InterruptedException {
+        TestCursor wrapped = new TestCursor(5);
+        Semaphore getMorePermits = wrapped.blockGetMores();
+        Cursor<Integer> cursor = prefetchIfEnabled(wrapped, 2);
+
+        getMorePermits.release();
+        assertEquals(singletonList(0), cursor.next(operationContext));
+        wrapped.awaitGetMoreBlocked();
+
+        OperationContext operationContextWithTimeout = createOperationContext(TimeoutSettings.DEFAULT.withTimeout(100L, MILLISECONDS),
+                new ReadConcernAwareNoOpSessionContext(ReadConcern.DEFAULT));
+        assertThrows(MongoOperationTimeoutException.class, () -> cursor.next(operationContextWithTimeout));
+
+        getMorePermits.release(Integer.MAX_VALUE / 2);
+        assertEquals(singletonList(1), cursor.next(operationContext));
+        cursor.close(operationContext);
+    }
+
+    @Test
+    void shouldStartNewTimeoutForEachPrefetchedGetMoreInIterationMode() throws InterruptedException {
+        OperationContext operationContextWithTimeout = createOperationContext(
+                TimeoutSettings.DEFAULT.withTimeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS), MILLISECONDS),
+                new ReadConcernAwareNoOpSessionContext(ReadConcern.DEFAULT));
+        Timeout timeout = operationContextWithTimeout.getTimeoutContext().getTimeout();
+
+        TestCursor iterationWrapped = new TestCursor(4);
+        Cursor<Integer> iterationCursor = PrefetchingCursor.prefetchIfEnabled(iterationWrapped, 2, TimeoutMode.ITERATION,
+                operationContextWithTimeout);
+        assertEquals(singletonList(0), iterationCursor.next(operationContextWithTimeout));
+        iterationWrapped.awaitBatchesReturned(3);
+        List<Timeout> iterationTimeouts = iterationWrapped.timeouts();
+        assertSame(timeout, iterationTimeouts.get(0));
+        assertNotSame(timeout, iterationTimeouts.get(1));
+        assertNotSame(iterationTimeouts.get(1), iterationTimeouts.get(2));
+        iterationCursor.close(operationContextWithTimeout);
+
+        TestCursor cursorLifetimeWrapped = new TestCursor(4);
+        Cursor<Integer> cursorLifetimeCursor = PrefetchingCursor.prefetchIfEnabled(cursorLifetimeWrapped, 2,
+                TimeoutMode.CURSOR_LIFETIME, operationContextWithTimeout);
+        assertEquals(singletonList(0), cursorLifetimeCursor.next(operationContextWithTimeout));
+        cursorLifetimeWrapped.awaitBatchesReturned(3);
+        for (Timeout getMoreTimeout : cursorLifetimeWrapped.timeouts()) {
+            assertSame(timeout, getMoreTimeout);
+        }
+        cursorLifetimeCursor.close(operationContextWithTimeout);
+    }
+
+    @Test
+    void shouldReturnBatchesInOrder() {
+        Cursor<Integer> cursor = prefetchIfEnabled(new TestCursor(5), 2);
+
+        List<List<Integer>> batches = new ArrayList<>();
+        while (cursor.hasNext(operationContext)) {
+            batches.add(cursor.next(operationContext));
+        }
+
+        assertEquals(asList(singletonList(0), singletonList(1), singletonList(2), singletonList(3), singletonList(4)), batches);
+        assertFalse(cursor.hasNext(operationContext));
+        assertThrows(NoSuchElementException.class, () -> cursor.next(operationContext));
+        cursor.close(operationContext);
+    }
+
+    @Test
+    void shouldPrefetchAtMostTheConfiguredNumberOfBatches() throws InterruptedException {
+        TestCursor wrapped = new TestCursor(10);
+        Cursor<Integer> cursor = prefetchIfEnabled(wrapped, 3);
+
+        assertEquals(singletonList(0), cursor.next(operationContext));
+        wrapped.awaitBatchesReturned(4);
+        Thread.sleep(100);
+        assertEquals(4, wrapped.batchesReturned());
+        assertEquals(1, cursor.available());
+
+        assertEquals(singletonList(1), cursor.next(operationContext));
+        wrapped.awaitBatchesReturned(5);
+        cursor.close(operationContext);
+    }
+
+    @Test
+    void shouldThrowPrefetchFailureAfterPrefetchedBatches() {
+        TestCursor wrapped = new TestCursor(5);
+        wrapped.failOnBatch(3, new MongoException("getMore failed"));
+        Cursor<Integer> cursor = prefetchIfEnabled(wrapped, 4);
+
+        assertEquals(singletonList(0), cursor.next(operationContext));
+        assertEquals(singletonList(1), cursor.next(operationContext));
+        assertEquals(singletonList(2), cursor.next(operationContext));
+        MongoException e = assertThrows(MongoException.class, () -> cursor.next(operationContext));
+        assertEquals("getMore failed", e.getMessage());
+        cursor.close(operationContext);
+    }
+
+    @Test
+    void shouldCloseWrappedCursorWhilePrefetching() throws InterruptedException {
+        TestCursor wrapped = new TestCursor(5);
+        Semaphore getMorePermits = wrapped.blockGetMores();
+        Cursor<Integer> cursor = prefetchIfEnabled(wrapped, 2);
+
+        getMorePermits.release();
+        assertEquals(singletonList(0), cursor.next(operationContext));
+        wrapped.awaitGetMoreBlocked();
+
+        cursor.close(operationContext);
+        assertTrue(wrapped.isClosed());
+        assertEquals(0, cursor.available());
+        getMorePermits.release(Integer.MAX_VALUE / 2);
+        assertThrows(IllegalStateException.class, () -> cursor.hasNext(operationContext));
+    }
+
+    @Test
+    void shouldSupportTryNext() {
+        Cursor<Integer> cursor = prefetchIfEnabled(new TestCursor(3), 2);
+
+        assertEquals(singletonList(0), cursor.tryNext(operationContext));
+        assertEquals(singletonList(1), cursor.tryNext(operationContext));
+        assertEquals(singletonList(2), cursor.tryNext(operationContext));
+        assertNull(cursor.tryNext(operationContext));
+        assertFalse(cursor.hasNext(operationContext));
+        cursor.close(operationContext);
+    }
+
+    private Cursor<Integer> prefetchIfEnabled(final Cursor<Integer> cursor, final int prefetchBatches) {
+        return PrefetchingCursor.prefetchIfEnabled(cursor, prefetchBatches, TimeoutMode.CURSOR_LIFETIME, operationContext);
+    }
+
+    private OperationContext createOperationContext(final TimeoutSettings timeoutSettings, final SessionContext sessionContext) {
+        return new OperationContext(IgnorableRequestContext.INSTANCE, sessionContext, new TimeoutContext(timeoutSettings),
+                TracingManager.NO_OP, null, null, backgroundExecutor);
+    }
+
+    /**
+     * A cursor with one single-element batch per {@code getMore}, which has a server cursor until its last batch is returned.
+     */
+    private static final class TestCursor implements Cursor<Integer> {
+        private final Deque<List<Integer>> batches = new ArrayDeque<>();
+        private final CountDownLatch getMoreBlocked = new CountDownLatch(1);
+        private final List<Timeout> timeouts = new ArrayList<>();
+        private int batchesReturned;
+        private int failingBatch = -1;
+        @Nullable
+        private RuntimeException failure;
+        @Nullable
+        private volatile Semaphore getMorePermits;
+        private volatile boolean closed;
+
+        TestCursor(final int numberOfBatches) {
+            for (int i = 0; i < numberOfBatches; i++) {
+                batches.addLast(singletonList(i));
+            }
+        }
+
+        synchronized void failOnBatch(final int batch, final RuntimeException failure) {
+            this.failingBatch = batch;
+            this.failure = failure;
+        }
+
+        Semaphore blockGetMores() {
+            Semaphore permits = new Semaphore(0);
+            getMorePermits = permits;
+            return permits;
+        }
+
+        void awaitGetMoreBlocked() throws InterruptedException {
+            assertTrue(getMoreBlocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+
+        synchronized void awaitBatchesReturned(final int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            while (batchesReturned < expected) {
+                long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                assertTrue(remainingMillis > 0, "Timed out waiting for " + expected + " batches");
+                wait(remainingMillis);
+            }
+        }
+
+        synchronized int batchesReturned() {
+            return batchesReturned;
+        }
+
+        synchronized List<Timeout> timeouts() {
+            return new ArrayList<>(timeouts);
+        }
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public void close(final OperationContext operationContext) {
+            closed = true;
+        }
+
+        @Override
+        public synchronized boolean hasNext(final OperationContext operationContext) {
+            checkNotClosed();
+            return !batches.isEmpty();
+        }
+
+        @Override
+        public List<Integer> next(final OperationContext operationContext) {
+            Semaphore permits = getMorePermits;
+            if (permits != null && !permits.tryAcquire()) {
+                getMoreBlocked.countDown();
+                permits.acquireUninterruptibly();
+            }
+            synchronized (this) {
+                checkNotClosed();
+                if (batchesReturned == failingBatch && failure != null) {
+                    throw failure;
+                }
+                List<Integer> batch = batches.removeFirst();
+                timeouts.add(operationContext.getTimeoutContext().getTimeout());
+                batchesReturned++;
+                notifyAll();
+                return batch;
+            }
+        }
+
+        @Nullable
+        @Override
+        public List<Integer> tryNext(final OperationContext operationContext) {
+            return hasNext(operationContext) ? next(operationContext) : null;
+        }
+
+        @Override
+        public synchronized int available() {
+            return 0;
+        }
+
+        @Override
+        public void setBatchSize(final int batchSize) {
+        }
+
+        @Override
+        public int getBatchSize() {
+            return 1;
+        }
+
+        @Nullable
+        @Override
+        public synchronized ServerCursor getServerCursor() {
+            return batches.isEmpty() ? null : new ServerCursor(1, getServerAddress());
+        }
+
+        @Override
+        public ServerAddress getServerAddress() {
+            return new ServerAddress();
+        }
+
+        @Nullable
+        @Override
+        public BsonDocument getPostBatchResumeToken() {
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public BsonTimestamp getOperationTime() {
+            return null;
+        }
+
+        @Override
+        public boolean isFirstBatchEmpty() {
+            return false;
+        }
+
+        @Override
+        public int getMaxWireVersion() {
+            return 0;
+        }
+
+        private void checkNotClosed() {
+            if (closed) {
+                throw new IllegalStateException("Cursor has been closed");
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.selector;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterConnectionMode;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ClusterType;
+import com.mongodb.connection.ServerConnectionState;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.Server;
+import com.mongodb.internal.mockito.MongoMockito;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+final class MinimumOperationLatencyServerSelectorTest {
+
+    @Test
+    void shouldSelectNothingFromAnEmptyCluster() {
+        assertEquals(emptyList(), select());
+    }
+
+    @Test
+    void shouldSelectTheServerWithTheSmallestLatency() {
+        assertEquals(singletonList("b"), select(
+                new TestServer("a", 5_000, 0, 100),
+                new TestServer("b", 1_000, 0, 100),
+                new TestServer("c", 3_000, 0, 100)));
+    }
+
+    @Test
+    void shouldWeighTheLatencyByTheOperationCount() {
+        assertEquals(singletonList("a"), select(
+                new TestServer("a", 3_000, 1, 100),
+                new TestServer("b", 1_000, 9, 100)));
+    }
+
+    @Test
+    void shouldSelectByOperationCountWhenTheLatenciesAreEqual() {
+        assertEquals(singletonList("b"), select(
+                new TestServer("a", 0, 2, 0),
+                new TestServer("b", 0, 1, 0)));
+    }
+
+    @Test
+    void shouldUseTheRoundTripTimeUntilAnOperationHasCompleted() {
+        assertEquals(singletonList("a"), select(
+                new TestServer("a", -1, 0, 500),
+                new TestServer("b", 1_000, 0, 100)));
+        assertEquals(singletonList("b"), select(
+                new TestServer("a", -1, 0, 5_000),
+                new TestServer("b", 1_000, 0, 100)));
+    }
+
+    private static List<String> select(final TestServer... servers) {
+        List<ServerDescription> serverDescriptions = Arrays.stream(servers)
+                .map(server -> ServerDescription.builder()
+                        .state(ServerConnectionState.CONNECTED)
+                        .ok(true)
+                        .address(new ServerAddress(server.host))
+                        .roundTripTime(server.roundTripTimeNanos, NANOSECONDS)
+                        .build())
+                .collect(toList());
+        ClusterDescription clusterDescription = new ClusterDescription(
+                ClusterConnectionMode.MULTIPLE, ClusterType.REPLICA_SET, serverDescriptions);
+        Cluster.ServersSnapshot serversSnapshot = serverAddress -> {
+            TestServer testServer = Arrays.stream(servers)
+                    .filter(server -> new ServerAddress(server.host).equals(serverAddress))
+                    .findFirst()
+                    .orElseThrow(AssertionError::new);
+            return MongoMockito.mock(Server.class, server -> {
+                when(server.operationLatencyNanos()).thenReturn(testServer.operationLatencyNanos);
+                when(server.operationCount()).thenReturn(testServer.operationCount);
+            });
+        };
+        return new MinimumOperationLatencyServerSelector(serversSnapshot)
+                .select(clusterDescription)
+                .stream()
+                .map(serverDescription -> serverDescription.getAddress().getHost())
+                .collect(toList());
+    }
+
+    private static final class TestServer {
+        private final String host;
+        private final long operationLatencyNanos;
+        private final int operationCount;
+        private final long roundTripTimeNanos;
+
+        TestServer(final String host, final long operationLatencyNanos, final int operationCount, final long roundTripTimeNanos) {
+            this.host = host;
+            this.operationLatencyNanos = operationLatencyNanos;
+            this.operationCount = operationCount;
+            this.roundTripTimeNanos = roundTripTimeNanos;
+        }
+    }
+}
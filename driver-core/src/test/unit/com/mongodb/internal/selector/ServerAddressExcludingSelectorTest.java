@@ -0,0 +1,66 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.internal.selector;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerType;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE;
+import static com.mongodb.connection.ClusterType.REPLICA_SET;
+import static com.mongodb.connection.ServerConnectionState.CONNECTED;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ServerAddressExcludingSelectorTest {
+    @Test
+    public void testAll() {
+        ServerAddressExcludingSelector selector = new ServerAddressExcludingSelector(new ServerAddress("localhost:27018"));
+
+        assertTrue(selector.toString().startsWith("ServerAddressExcludingSelector"));
+
+        assertEquals(new ServerAddress("localhost:27018"), selector.getServerAddress());
+
+        ServerDescription primary = ServerDescription.builder()
+                                                     .state(CONNECTED)
+                                                     .address(new ServerAddress())
+                                                     .ok(true)
+                                                     .type(ServerType.REPLICA_SET_PRIMARY)
+                                                     .build();
+        ServerDescription firstSecondary = ServerDescription.builder()
+                                                            .state(CONNECTED)
+                                                            .address(new ServerAddress("localhost:27018"))
+                                                            .ok(true)
+                                                            .type(ServerType.REPLICA_SET_SECONDARY)
+                                                            .build();
+        ServerDescription secondSecondary = ServerDescription.builder()
+                                                             .state(CONNECTED)
+                                                             .address(new ServerAddress("localhost:27019"))
+                                                             .ok(true)
+                                                             .type(ServerType.REPLICA_SET_SECONDARY)
+                                                             .build();
+        assertEquals(Arrays.asList(primary, secondSecondary), selector.select(new ClusterDescription(MULTIPLE, REPLICA_SET,
+                Arrays.asList(primary, firstSecondary, secondSecondary))));
+        assertEquals(emptyList(), selector.select(new ClusterDescription(MULTIPLE, REPLICA_SET, singletonList(firstSecondary))));
+    }
+}
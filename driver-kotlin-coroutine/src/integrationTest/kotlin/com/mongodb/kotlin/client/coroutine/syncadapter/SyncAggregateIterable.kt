@@ -63,6 +63,10 @@ data class SyncAggregateIterable<T : Any>(val wrapped: AggregateFlow<T>) :
         wrapped.timeoutMode(timeoutMode)
     }
 
+    override fun prefetchBatches(prefetchBatches: Int): SyncAggregateIterable<T> = throw UnsupportedOperationException()
+
+    override fun exhaust(exhaust: Boolean): SyncAggregateIterable<T> = throw UnsupportedOperationException()
+
     override fun explain(): Document = runBlocking { wrapped.explain() }
 
     override fun explain(verbosity: ExplainVerbosity): Document = runBlocking { wrapped.explain(verbosity) }
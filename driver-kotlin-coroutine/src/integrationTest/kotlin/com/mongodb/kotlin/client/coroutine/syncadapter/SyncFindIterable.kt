@@ -79,6 +79,10 @@ data class SyncFindIterable<T : Any>(val wrapped: FindFlow<T>) : JFindIterable<T
     override fun showRecordId(showRecordId: Boolean): SyncFindIterable<T> = apply { wrapped.showRecordId(showRecordId) }
     override fun timeoutMode(timeoutMode: TimeoutMode): SyncFindIterable<T> = apply { wrapped.timeoutMode(timeoutMode) }
 
+    override fun prefetchBatches(prefetchBatches: Int): SyncFindIterable<T> = throw UnsupportedOperationException()
+
+    override fun exhaust(exhaust: Boolean): SyncFindIterable<T> = throw UnsupportedOperationException()
+
     override fun explain(): Document = runBlocking { wrapped.explain() }
 
     override fun explain(verbosity: ExplainVerbosity): Document = runBlocking { wrapped.explain(verbosity) }
@@ -32,6 +32,12 @@ internal class SyncAggregateIterable<T : Any>(val wrapped: AggregateIterable<T>)
         wrapped.timeoutMode(timeoutMode)
     }
 
+    override fun prefetchBatches(prefetchBatches: Int): SyncAggregateIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+
+    override fun exhaust(exhaust: Boolean): SyncAggregateIterable<T> = apply { wrapped.exhaust(exhaust) }
+
     override fun toCollection() = wrapped.toCollection()
 
     override fun allowDiskUse(allowDiskUse: Boolean?): SyncAggregateIterable<T> = apply {
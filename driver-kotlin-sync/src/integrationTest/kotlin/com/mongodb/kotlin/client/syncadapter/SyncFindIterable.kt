@@ -30,6 +30,12 @@ internal class SyncFindIterable<T : Any>(val wrapped: FindIterable<T>) :
     JFindIterable<T>, SyncMongoIterable<T>(wrapped) {
     override fun batchSize(batchSize: Int): SyncFindIterable<T> = apply { wrapped.batchSize(batchSize) }
     override fun timeoutMode(timeoutMode: TimeoutMode): SyncFindIterable<T> = apply { wrapped.timeoutMode(timeoutMode) }
+    override fun prefetchBatches(prefetchBatches: Int): SyncFindIterable<T> = apply {
+        wrapped.prefetchBatches(prefetchBatches)
+    }
+
+    override fun exhaust(exhaust: Boolean): SyncFindIterable<T> = apply { wrapped.exhaust(exhaust) }
+
     override fun filter(filter: Bson?): SyncFindIterable<T> = apply { wrapped.filter(filter) }
 
     override fun limit(limit: Int): SyncFindIterable<T> = apply { wrapped.limit(limit) }
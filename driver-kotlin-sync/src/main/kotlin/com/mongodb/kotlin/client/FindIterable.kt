@@ -61,6 +61,40 @@ public class FindIterable<T : Any>(private val wrapped: JFindIterable<T>) : Mong
         return this
     }
 
+    /**
+     * Sets the maximum number of batches that the cursor requests from the server in the background, ahead of the
+     * application.
+     *
+     * By default the cursor requests the next batch only when the application has consumed the current one. With
+     * prefetching, the next batches are requested while the application processes the current one. At most
+     * `prefetchBatches` batches are held in memory in addition to the current one. The option is ignored for tailable cursors.
+     *
+     * @param prefetchBatches the maximum number of batches to prefetch, or 0, the default, to not prefetch
+     * @return this
+     * @since 5.11
+     */
+    public fun prefetchBatches(prefetchBatches: Int): FindIterable<T> {
+        wrapped.prefetchBatches(prefetchBatches)
+        return this
+    }
+
+    /**
+     * Sets whether the server may stream all the batches after the first one back-to-back, instead of sending each of them in
+     * reply to a separate request.
+     *
+     * An exhaust cursor removes one round trip per batch. The cursor holds on to its connection until it is exhausted or
+     * closed, and a connection on which the server is still streaming batches is closed instead of being returned to the
+     * pool, so the cursor should be iterated to the end. The option is ignored for tailable cursors.
+     *
+     * @param exhaust whether to use an exhaust cursor, which is false by default
+     * @return this
+     * @since 5.11
+     */
+    public fun exhaust(exhaust: Boolean): FindIterable<T> {
+        wrapped.exhaust(exhaust)
+        return this
+    }
+
     /**
      * Sets the query filter to apply to the query.
      *
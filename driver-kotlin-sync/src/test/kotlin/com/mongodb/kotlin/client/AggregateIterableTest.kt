@@ -82,6 +82,8 @@ class AggregateIterableTest {
         iterable.maxTime(1)
         iterable.maxTime(1, TimeUnit.SECONDS)
         iterable.timeoutMode(TimeoutMode.ITERATION)
+        iterable.prefetchBatches(2)
+        iterable.exhaust(true)
 
         verify(wrapped).allowDiskUse(true)
         verify(wrapped).batchSize(batchSize)
@@ -100,6 +102,8 @@ class AggregateIterableTest {
         verify(wrapped).maxTime(1, TimeUnit.SECONDS)
         verify(wrapped).let(bson)
         verify(wrapped).timeoutMode(TimeoutMode.ITERATION)
+        verify(wrapped).prefetchBatches(2)
+        verify(wrapped).exhaust(true)
 
         iterable.toCollection()
         verify(wrapped).toCollection()
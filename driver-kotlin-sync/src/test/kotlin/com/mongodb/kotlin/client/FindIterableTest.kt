@@ -88,6 +88,8 @@ class FindIterableTest {
         iterable.skip(1)
         iterable.sort(bson)
         iterable.timeoutMode(TimeoutMode.ITERATION)
+        iterable.prefetchBatches(2)
+        iterable.exhaust(true)
 
         verify(wrapped).allowDiskUse(true)
         verify(wrapped).batchSize(batchSize)
@@ -117,6 +119,8 @@ class FindIterableTest {
         verify(wrapped).skip(1)
         verify(wrapped).sort(bson)
         verify(wrapped).timeoutMode(TimeoutMode.ITERATION)
+        verify(wrapped).prefetchBatches(2)
+        verify(wrapped).exhaust(true)
 
         verifyNoMoreInteractions(wrapped)
     }
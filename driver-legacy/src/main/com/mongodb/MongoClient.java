@@ -69,6 +69,7 @@ import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.connection.ServerAddressHelper.createServerAddress;
 import static com.mongodb.internal.connection.ServerAddressHelper.getInetAddressResolver;
 import static com.mongodb.internal.connection.StreamFactoryHelper.getSyncStreamFactoryFactory;
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
 import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.concurrent.TimeUnit.SECONDS;
@@ -252,16 +253,18 @@ public class MongoClient implements Closeable {
 
         MongoDriverInformation wrappedMongoDriverInformation = wrapMongoDriverInformation(mongoDriverInformation);
 
+        ScheduledExecutorService backgroundExecutor = newClientBackgroundExecutor(settings.isVirtualThreads());
         StreamFactoryFactory syncStreamFactoryFactory = getSyncStreamFactoryFactory(
                 settings.getTransportSettings(),
-                getInetAddressResolver(settings));
+                getInetAddressResolver(settings),
+                backgroundExecutor);
 
         Cluster cluster = Clusters.createCluster(
                 settings,
                 wrappedMongoDriverInformation,
                 syncStreamFactoryFactory);
 
-        delegate = new MongoClientImpl(cluster, settings, wrappedMongoDriverInformation, syncStreamFactoryFactory);
+        delegate = new MongoClientImpl(cluster, settings, wrappedMongoDriverInformation, backgroundExecutor, syncStreamFactoryFactory);
         this.options = options != null ? options : MongoClientOptions.builder(settings).build();
         cursorCleaningService = this.options.isCursorFinalizerEnabled() ? createCursorCleaningService() : null;
         this.closed = new AtomicBoolean();
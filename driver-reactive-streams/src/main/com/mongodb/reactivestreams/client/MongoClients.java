@@ -32,10 +32,13 @@ import com.mongodb.reactivestreams.client.internal.MongoClientImpl;
 import com.mongodb.spi.dns.InetAddressResolver;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.connection.ServerAddressHelper.getInetAddressResolver;
 import static com.mongodb.internal.connection.StreamFactoryHelper.getAsyncStreamFactoryFactory;
 import static com.mongodb.internal.event.EventListenerHelper.getCommandListener;
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
 
 
 /**
@@ -114,12 +117,19 @@ public final class MongoClients {
             throw new MongoClientException("Proxy is not supported for reactive clients");
         }
         InetAddressResolver inetAddressResolver = getInetAddressResolver(settings);
-        StreamFactoryFactory streamFactoryFactory = getAsyncStreamFactoryFactory(settings, inetAddressResolver);
+        ScheduledExecutorService backgroundExecutor = newClientBackgroundExecutor(settings.isVirtualThreads());
+        StreamFactoryFactory streamFactoryFactory = getAsyncStreamFactoryFactory(settings, inetAddressResolver, backgroundExecutor);
         StreamFactory streamFactory = getStreamFactory(streamFactoryFactory, settings, false);
         StreamFactory heartbeatStreamFactory = getStreamFactory(streamFactoryFactory, settings, true);
         MongoDriverInformation wrappedMongoDriverInformation = wrapMongoDriverInformation(mongoDriverInformation);
         Cluster cluster = createCluster(settings, wrappedMongoDriverInformation, streamFactory, heartbeatStreamFactory);
-        return new MongoClientImpl(settings, wrappedMongoDriverInformation, cluster, streamFactoryFactory);
+        return new MongoClientImpl(settings, wrappedMongoDriverInformation, cluster, () -> {
+            try {
+                streamFactoryFactory.close();
+            } finally {
+                backgroundExecutor.shutdownNow();
+            }
+        });
     }
 
     /**
@@ -138,11 +148,12 @@ public final class MongoClients {
                                          final StreamFactory streamFactory, final StreamFactory heartbeatStreamFactory) {
         notNull("settings", settings);
         return new DefaultClusterFactory().createCluster(settings.getClusterSettings(), settings.getServerSettings(),
-                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder().prestartAsyncWorkManager(true).build(),
+                settings.getConnectionPoolSettings(),
+                InternalConnectionPoolSettings.builder().prestartAsyncWorkManager(true).virtualThreads(settings.isVirtualThreads()).build(),
                 TimeoutSettings.create(settings), streamFactory, TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getCompressionSettings(),
+                settings.getServerApi(), settings.getDnsClient());
     }
 
     private static MongoDriverInformation wrapMongoDriverInformation(@Nullable final MongoDriverInformation mongoDriverInformation) {
@@ -204,7 +204,7 @@ final class AggregatePublisherImpl<T> extends BatchCursorPublisher<T> implements
     private ReadOperationExplainable<T> asAggregateOperation(final int initialBatchSize) {
         return getOperations()
                 .aggregate(pipeline, getDocumentClass(), getTimeoutMode(),
-                           initialBatchSize, collation, hint, hintString, comment, variables, allowDiskUse, aggregationLevel);
+                           initialBatchSize, 0, false, collation, hint, hintString, comment, variables, allowDiskUse, aggregationLevel);
     }
 
     private ReadOperationSimple<Void> getAggregateToCollectionOperation() {
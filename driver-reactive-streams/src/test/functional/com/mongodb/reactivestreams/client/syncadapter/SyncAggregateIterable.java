@@ -118,6 +118,16 @@ class SyncAggregateIterable<T> extends SyncMongoIterable<T> implements Aggregate
         return this;
     }
 
+    @Override
+    public AggregateIterable<T> prefetchBatches(final int prefetchBatches) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public AggregateIterable<T> exhaust(final boolean exhaust) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Document explain() {
         return requireNonNull(Mono.from(wrapped.explain()).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
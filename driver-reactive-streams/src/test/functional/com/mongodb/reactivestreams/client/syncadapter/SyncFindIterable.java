@@ -181,6 +181,16 @@ class SyncFindIterable<T> extends SyncMongoIterable<T> implements FindIterable<T
         return this;
     }
 
+    @Override
+    public FindIterable<T> prefetchBatches(final int prefetchBatches) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public FindIterable<T> exhaust(final boolean exhaust) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Document explain() {
         return requireNonNull(Mono.from(wrapped.explain()).contextWrite(CONTEXT).block(TIMEOUT_DURATION));
@@ -50,6 +50,11 @@ public class SyncGridFSDownloadStream extends GridFSDownloadStream {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public GridFSDownloadStream parallelism(final int parallelism) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public int read() {
         checkClosed();
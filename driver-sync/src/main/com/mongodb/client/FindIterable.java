@@ -286,6 +286,39 @@ public interface FindIterable<TResult> extends MongoIterable<TResult> {
     @Alpha(Reason.CLIENT)
     FindIterable<TResult> timeoutMode(TimeoutMode timeoutMode);
 
+    /**
+     * Sets the maximum number of batches that the cursor requests from the server in the background, ahead of the application.
+     *
+     * <p>By default the cursor requests the next batch only when the application has consumed the current one, so every batch
+     * costs the application a round trip. With prefetching, the next batches are requested while the application processes the
+     * current one. At most {@code prefetchBatches} batches are held in memory in addition to the current one, and closing the cursor
+     * kills it on the server even while a batch is being prefetched.</p>
+     *
+     * <p>The option is ignored for tailable cursors, and when the cursor is created with an explicit {@link ClientSession}, as the
+     * application may use the session concurrently with the cursor.</p>
+     *
+     * @param prefetchBatches the maximum number of batches to prefetch, or 0, the default, to not prefetch
+     * @return this
+     * @since 5.11
+     */
+    FindIterable<TResult> prefetchBatches(int prefetchBatches);
+
+    /**
+     * Sets whether the server may stream all the batches after the first one back-to-back, instead of sending each of them in reply
+     * to a separate request.
+     *
+     * <p>An exhaust cursor removes one round trip per batch, which speeds up reading large result sets such as in bulk exports.
+     * The cursor holds on to its connection until it is exhausted or closed, and a connection on which the server is still
+     * streaming batches is closed instead of being returned to the pool, so the cursor should be iterated to the end.
+     * The server may still reply to each request separately. The option is ignored for tailable cursors, and has no effect when
+     * automatic encryption is enabled.</p>
+     *
+     * @param exhaust whether to use an exhaust cursor, which is false by default
+     * @return this
+     * @since 5.11
+     */
+    FindIterable<TResult> exhaust(boolean exhaust);
+
     /**
      * Explain the execution plan for this operation with the server's default verbosity level
      *
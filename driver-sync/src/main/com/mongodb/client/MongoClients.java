@@ -25,9 +25,12 @@ import com.mongodb.internal.connection.Cluster;
 import com.mongodb.internal.connection.StreamFactoryFactory;
 import com.mongodb.lang.Nullable;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.internal.connection.ServerAddressHelper.getInetAddressResolver;
 import static com.mongodb.internal.connection.StreamFactoryHelper.getSyncStreamFactoryFactory;
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
 
 
 /**
@@ -117,16 +120,18 @@ public final class MongoClients {
 
         MongoDriverInformation driverInfo = builder.driverName("sync").build();
 
+        ScheduledExecutorService backgroundExecutor = newClientBackgroundExecutor(settings.isVirtualThreads());
         StreamFactoryFactory syncStreamFactoryFactory = getSyncStreamFactoryFactory(
                 settings.getTransportSettings(),
-                getInetAddressResolver(settings));
+                getInetAddressResolver(settings),
+                backgroundExecutor);
 
         Cluster cluster = Clusters.createCluster(
                 settings,
                 driverInfo,
                 syncStreamFactoryFactory);
 
-        return new MongoClientImpl(cluster, settings, driverInfo, syncStreamFactoryFactory);
+        return new MongoClientImpl(cluster, settings, driverInfo, backgroundExecutor, syncStreamFactoryFactory);
     }
 
     private MongoClients() {
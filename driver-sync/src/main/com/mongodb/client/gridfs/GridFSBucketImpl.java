@@ -202,9 +202,12 @@ final class GridFSBucketImpl implements GridFSBucket {
         Integer chunkSizeBytes = options.getChunkSizeBytes();
         int chunkSize = chunkSizeBytes == null ? this.chunkSizeBytes : chunkSizeBytes;
         checkCreateIndex(clientSession, operationTimeout);
+        Integer chunksPerBatch = options.getChunksPerBatch();
+        Integer parallelism = options.getParallelism();
         return new GridFSUploadStreamImpl(clientSession, filesCollection,
                 chunksCollection, id, filename, chunkSize,
-                options.getMetadata(), operationTimeout);
+                options.getMetadata(), operationTimeout,
+                chunksPerBatch == null ? 1 : chunksPerBatch, parallelism == null ? 1 : parallelism);
     }
 
     @Override
@@ -53,6 +53,26 @@ public abstract class GridFSDownloadStream extends InputStream {
      */
     public abstract GridFSDownloadStream batchSize(int batchSize);
 
+    /**
+     * Sets the number of chunk ranges to fetch concurrently.
+     *
+     * <p>When greater than 1, the chunks are fetched in ranges of {@code batchSize} chunks (or 4 chunks, if the batch size is 0),
+     * with up to {@code parallelism} ranges being fetched at the same time over separate connections. The fetched chunks are buffered
+     * and returned in order, so at most {@code parallelism + 1} ranges of chunks are held in memory: the range being read, and up to
+     * {@code parallelism} ranges fetched ahead of it. Defaults to 1, which fetches the chunks sequentially from a single cursor.</p>
+     *
+     * <p>The ranges are fetched on threads owned by the {@link com.mongodb.client.MongoClient}, whose number is bounded. A range that
+     * no thread has started fetching by the time it is read is fetched on the reading thread.</p>
+     *
+     * <p>Chunks are always fetched sequentially if the stream was opened with a {@link com.mongodb.client.ClientSession}, as a
+     * session must not be used concurrently.</p>
+     *
+     * @param parallelism the number of chunk ranges to fetch concurrently, which must be greater than 0
+     * @return this
+     * @since 5.11
+     */
+    public abstract GridFSDownloadStream parallelism(int parallelism);
+
     @Override
     public abstract int read();
 
@@ -31,19 +31,32 @@ import org.bson.BsonDocument;
 import org.bson.BsonInt32;
 import org.bson.BsonValue;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.client.internal.BackgroundExecutorHelper.getBackgroundExecutor;
 import static com.mongodb.internal.Locks.withInterruptibleLock;
 import static com.mongodb.internal.TimeoutContext.createMongoTimeoutException;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
 import static java.lang.String.format;
 
 class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     private static final String TIMEOUT_MESSAGE = "The GridFS download stream exceeded the timeout limit.";
+    private static final int DEFAULT_CHUNKS_PER_RANGE = 4;
     private final ClientSession clientSession;
     private final GridFSFile fileInfo;
     private final MongoCollection<BsonDocument> chunksCollection;
+    @Nullable
+    private final Executor backgroundExecutor;
     private final BsonValue fileId;
     /**
      * The length, in bytes of the file to download.
@@ -53,6 +66,14 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     private final int numberOfChunks;
     private MongoCursor<BsonDocument> cursor;
     private int batchSize;
+    private int parallelism = 1;
+    /**
+     * The chunk ranges being fetched concurrently, in chunk index order. Only used when fetching in parallel.
+     */
+    private final Deque<ChunkRange> pendingRanges = new ArrayDeque<>();
+    private int nextRangeStartIndex;
+    @Nullable
+    private ChunkRange currentRange;
     private int chunkIndex;
     private int bufferOffset;
     /**
@@ -69,9 +90,19 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
 
     GridFSDownloadStreamImpl(@Nullable final ClientSession clientSession, final GridFSFile fileInfo,
                              final MongoCollection<BsonDocument> chunksCollection, @Nullable final Timeout timeout) {
+        this(clientSession, fileInfo, chunksCollection, timeout, getBackgroundExecutor(chunksCollection));
+    }
+
+    /**
+     * @param backgroundExecutor the executor to fetch chunk ranges in parallel on, or null to always fetch the chunks sequentially
+     */
+    GridFSDownloadStreamImpl(@Nullable final ClientSession clientSession, final GridFSFile fileInfo,
+                             final MongoCollection<BsonDocument> chunksCollection, @Nullable final Timeout timeout,
+                             @Nullable final Executor backgroundExecutor) {
         this.clientSession = clientSession;
         this.fileInfo = notNull("file information", fileInfo);
         this.chunksCollection = notNull("chunks collection",  chunksCollection);
+        this.backgroundExecutor = backgroundExecutor;
 
         fileId = fileInfo.getId();
         length = fileInfo.getLength();
@@ -90,6 +121,16 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         isTrueArgument("batchSize cannot be negative", batchSize >= 0);
         this.batchSize = batchSize;
         discardCursor();
+        discardRanges();
+        return this;
+    }
+
+    @Override
+    public GridFSDownloadStream parallelism(final int parallelism) {
+        isTrueArgument("parallelism must be greater than 0", parallelism > 0);
+        this.parallelism = parallelism;
+        discardCursor();
+        discardRanges();
         return this;
     }
 
@@ -210,6 +251,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
                 closed = true;
             }
             discardCursor();
+            discardRanges();
         });
     }
 
@@ -235,6 +277,16 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         });
     }
 
+    private void discardRanges() {
+        withInterruptibleLock(cursorLock, () -> {
+            for (ChunkRange range : pendingRanges) {
+                range.task.cancel(false);
+            }
+            pendingRanges.clear();
+            currentRange = null;
+        });
+    }
+
     @Nullable
     private BsonDocument getChunk(final int startChunkIndex) {
         if (cursor == null) {
@@ -256,8 +308,17 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     }
 
     private MongoCursor<BsonDocument> getCursor(final int startChunkIndex) {
+        return getCursor(startChunkIndex, null, batchSize);
+    }
+
+    private MongoCursor<BsonDocument> getCursor(final int startChunkIndex, @Nullable final Integer endChunkIndex,
+                                                final int cursorBatchSize) {
         FindIterable<BsonDocument> findIterable;
-        BsonDocument filter = new BsonDocument("files_id", fileId).append("n", new BsonDocument("$gte", new BsonInt32(startChunkIndex)));
+        BsonDocument chunkIndexFilter = new BsonDocument("$gte", new BsonInt32(startChunkIndex));
+        if (endChunkIndex != null) {
+            chunkIndexFilter.append("$lt", new BsonInt32(endChunkIndex));
+        }
+        BsonDocument filter = new BsonDocument("files_id", fileId).append("n", chunkIndexFilter);
         if (clientSession != null) {
             findIterable = withNullableTimeout(chunksCollection, timeout).find(clientSession, filter);
         } else {
@@ -266,7 +327,7 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
         if (timeout != null){
              findIterable.timeoutMode(TimeoutMode.CURSOR_LIFETIME);
         }
-        return findIterable.batchSize(batchSize)
+        return findIterable.batchSize(cursorBatchSize)
                 .sort(new BsonDocument("n", new BsonInt32(1))).iterator();
     }
 
@@ -304,11 +365,97 @@ class GridFSDownloadStreamImpl extends GridFSDownloadStream {
     }
 
     private byte[] getBuffer(final int chunkIndexToFetch) {
+        if (parallelism > 1 && clientSession == null && backgroundExecutor != null) {
+            return getBufferFromRanges(chunkIndexToFetch, backgroundExecutor);
+        }
         return getBufferFromChunk(getChunk(chunkIndexToFetch), chunkIndexToFetch);
     }
 
+    private byte[] getBufferFromRanges(final int chunkIndexToFetch, final Executor executor) {
+        return withInterruptibleLock(cursorLock, () -> {
+            if (currentRange == null || !currentRange.contains(chunkIndexToFetch)) {
+                while (!pendingRanges.isEmpty() && pendingRanges.peekFirst().endIndex <= chunkIndexToFetch) {
+                    pendingRanges.pollFirst().task.cancel(false);
+                }
+                if (pendingRanges.isEmpty() || !pendingRanges.peekFirst().contains(chunkIndexToFetch)) {
+                    // The chunk is outside the window being fetched, e.g. after a skip or reset, so restart the window at the chunk
+                    discardRanges();
+                    nextRangeStartIndex = chunkIndexToFetch;
+                    scheduleRanges(executor);
+                }
+                currentRange = pendingRanges.pollFirst();
+                scheduleRanges(executor);
+            }
+            return currentRange.getChunkData(chunkIndexToFetch);
+        });
+    }
+
+    private void scheduleRanges(final Executor executor) {
+        int chunksPerRange = batchSize > 0 ? batchSize : DEFAULT_CHUNKS_PER_RANGE;
+        while (pendingRanges.size() < parallelism && nextRangeStartIndex < numberOfChunks) {
+            int startIndex = nextRangeStartIndex;
+            int endIndex = (int) Math.min((long) startIndex + chunksPerRange, numberOfChunks);
+            FutureTask<List<byte[]>> task = new FutureTask<>(() -> fetchChunkRange(startIndex, endIndex));
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // the client is being closed, so the range is fetched on the application's thread when it is needed
+            }
+            pendingRanges.addLast(new ChunkRange(startIndex, endIndex, task));
+            nextRangeStartIndex = endIndex;
+        }
+    }
+
+    private List<byte[]> fetchChunkRange(final int startIndex, final int endIndex) {
+        List<byte[]> chunksData = new ArrayList<>(endIndex - startIndex);
+        try (MongoCursor<BsonDocument> rangeCursor = getCursor(startIndex, endIndex, endIndex - startIndex)) {
+            for (int expectedChunkIndex = startIndex; expectedChunkIndex < endIndex; expectedChunkIndex++) {
+                chunksData.add(getBufferFromChunk(rangeCursor.hasNext() ? rangeCursor.next() : null, expectedChunkIndex));
+            }
+        }
+        return chunksData;
+    }
+
     private <T> MongoCollection<T> withNullableTimeout(final MongoCollection<T> chunksCollection,
                                                        @Nullable final Timeout timeout) {
         return TimeoutHelper.collectionWithTimeout(chunksCollection, TIMEOUT_MESSAGE, timeout);
     }
+
+    /**
+     * A range of chunks that is fetched in the background. If the fetch has not started when its chunks are needed, for example because
+     * all the threads of the executor are busy, it is run on the application's thread instead of waiting for a thread.
+     */
+    private static final class ChunkRange {
+        private final int startIndex;
+        private final int endIndex;
+        private final FutureTask<List<byte[]>> task;
+
+        ChunkRange(final int startIndex, final int endIndex, final FutureTask<List<byte[]>> task) {
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.task = task;
+        }
+
+        boolean contains(final int chunkIndex) {
+            return chunkIndex >= startIndex && chunkIndex < endIndex;
+        }
+
+        byte[] getChunkData(final int chunkIndex) {
+            // does nothing if the fetch has already started
+            task.run();
+            try {
+                return task.get().get(chunkIndex - startIndex);
+            } catch (InterruptedException e) {
+                throw interruptAndCreateMongoInterruptedException("Interrupted waiting for GridFS chunks", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new MongoGridFSException("Failed to fetch GridFS chunks", cause);
+            }
+        }
+    }
 }
@@ -31,11 +31,25 @@ import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 
+import static com.mongodb.assertions.Assertions.assertNotNull;
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.client.internal.BackgroundExecutorHelper.getBackgroundExecutor;
 import static com.mongodb.internal.Locks.withInterruptibleLock;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
 
 final class GridFSUploadStreamImpl extends GridFSUploadStream {
     public static final String TIMEOUT_MESSAGE = "The GridFS upload stream exceeded the timeout limit.";
@@ -50,6 +64,23 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     private long lengthInBytes;
     private int bufferOffset;
     private int chunkIndex;
+    private final int chunksPerBatch;
+    private final int parallelism;
+    @Nullable
+    private final Executor backgroundExecutor;
+    /**
+     * The filled chunks waiting to be inserted. Only used when inserting chunks in batches.
+     */
+    private final List<BsonDocument> batch = new ArrayList<>();
+    /**
+     * The batches being inserted in the background. A batch that no thread has started inserting by the time it is awaited is inserted
+     * on the application's thread.
+     */
+    private final Deque<FutureTask<Void>> batchesInFlight = new ArrayDeque<>();
+    /**
+     * The chunk buffers of inserted batches, available for reuse.
+     */
+    private final Queue<byte[]> bufferPool = new ConcurrentLinkedQueue<>();
     @Nullable
     private final Timeout timeout;
     private final ReentrantLock closeLock = new ReentrantLock();
@@ -58,6 +89,26 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
     GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
                            final MongoCollection<BsonDocument> chunksCollection, final BsonValue fileId, final String filename,
                            final int chunkSizeBytes, @Nullable final Document metadata, @Nullable final Timeout timeout) {
+        this(clientSession, filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, metadata, timeout, 1, 1);
+    }
+
+    GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
+                           final MongoCollection<BsonDocument> chunksCollection, final BsonValue fileId, final String filename,
+                           final int chunkSizeBytes, @Nullable final Document metadata, @Nullable final Timeout timeout,
+                           final int chunksPerBatch, final int parallelism) {
+        this(clientSession, filesCollection, chunksCollection, fileId, filename, chunkSizeBytes, metadata, timeout, chunksPerBatch,
+                parallelism, getBackgroundExecutor(chunksCollection));
+    }
+
+    /**
+     * @param backgroundExecutor the executor to insert batches in parallel on, or null to always insert the batches one at a time
+     */
+    GridFSUploadStreamImpl(@Nullable final ClientSession clientSession, final MongoCollection<GridFSFile> filesCollection,
+                           final MongoCollection<BsonDocument> chunksCollection, final BsonValue fileId, final String filename,
+                           final int chunkSizeBytes, @Nullable final Document metadata, @Nullable final Timeout timeout,
+                           final int chunksPerBatch, final int parallelism, @Nullable final Executor backgroundExecutor) {
+        isTrueArgument("chunksPerBatch > 0", chunksPerBatch > 0);
+        isTrueArgument("parallelism > 0", parallelism > 0);
         this.clientSession = clientSession;
         this.filesCollection = notNull("files collection", filesCollection);
         this.chunksCollection = notNull("chunks collection", chunksCollection);
@@ -69,6 +120,10 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         bufferOffset = 0;
         buffer = new byte[chunkSizeBytes];
         this.timeout = timeout;
+        this.chunksPerBatch = chunksPerBatch;
+        // a session must not be used concurrently, so batches are inserted one at a time
+        this.parallelism = clientSession == null && backgroundExecutor != null ? parallelism : 1;
+        this.backgroundExecutor = backgroundExecutor;
     }
 
     @Override
@@ -91,13 +146,13 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
             closed = true;
         });
 
-        if (clientSession != null) {
-            withNullableTimeout(chunksCollection, timeout)
-                    .deleteMany(clientSession, new Document("files_id", fileId));
-        } else {
-            withNullableTimeout(chunksCollection, timeout)
-                    .deleteMany(new Document("files_id", fileId));
+        batch.clear();
+        try {
+            awaitBatchesInFlight();
+        } catch (RuntimeException e) {
+            // ignore, as the chunks of all the batches are deleted below
         }
+        deleteChunks();
     }
 
     @Override
@@ -161,7 +216,17 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         if (alreadyClosed) {
             return;
         }
-        writeChunk();
+        try {
+            writeChunk();
+            if (isBatched()) {
+                insertBatch();
+                awaitBatchesInFlight();
+            }
+        } catch (RuntimeException e) {
+            // the stream is closed, so it can no longer be aborted: delete the chunks that were inserted, as abort would
+            deleteChunksAfterFailure(e);
+            throw e;
+        }
         GridFSFile gridFSFile = new GridFSFile(fileId, filename, lengthInBytes, chunkSizeBytes, new Date(),
                 metadata);
         if (clientSession != null) {
@@ -172,8 +237,43 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         buffer = null;
     }
 
+    private void deleteChunksAfterFailure(final RuntimeException failure) {
+        batch.clear();
+        try {
+            awaitBatchesInFlight();
+        } catch (RuntimeException e) {
+            // ignore, as the chunks of all the batches are deleted below
+        }
+        try {
+            deleteChunks();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    private void deleteChunks() {
+        if (clientSession != null) {
+            withNullableTimeout(chunksCollection, timeout)
+                    .deleteMany(clientSession, new Document("files_id", fileId));
+        } else {
+            withNullableTimeout(chunksCollection, timeout)
+                    .deleteMany(new Document("files_id", fileId));
+        }
+    }
+
     private void writeChunk() {
-        if (bufferOffset > 0) {
+        if (bufferOffset > 0 && isBatched()) {
+            batch.add(new BsonDocument("files_id", fileId)
+                    .append("n", new BsonInt32(chunkIndex))
+                    .append("data", getData()));
+            // the filled buffer is now owned by the batch until the batch has been inserted
+            buffer = takeBuffer();
+            chunkIndex++;
+            bufferOffset = 0;
+            if (batch.size() == chunksPerBatch) {
+                insertBatch();
+            }
+        } else if (bufferOffset > 0) {
             if (clientSession != null) {
                 withNullableTimeout(chunksCollection, timeout)
                         .insertOne(clientSession, new BsonDocument("files_id", fileId)
@@ -190,6 +290,101 @@ final class GridFSUploadStreamImpl extends GridFSUploadStream {
         }
     }
 
+    private boolean isBatched() {
+        return chunksPerBatch > 1 || parallelism > 1;
+    }
+
+    private void insertBatch() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BsonDocument> chunks = new ArrayList<>(batch);
+        batch.clear();
+        if (parallelism == 1) {
+            insertChunks(chunks);
+            return;
+        }
+        if (batchesInFlight.size() == parallelism) {
+            FutureTask<Void> oldestBatch = batchesInFlight.removeFirst();
+            try {
+                awaitBatch(oldestBatch);
+            } catch (RuntimeException e) {
+                // make sure that no chunk is inserted after the failure is reported, so that abort deletes them all
+                try {
+                    awaitBatchesInFlight();
+                } catch (RuntimeException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+        }
+        FutureTask<Void> batchInFlight = new FutureTask<>(() -> insertChunks(chunks), null);
+        try {
+            assertNotNull(backgroundExecutor).execute(batchInFlight);
+        } catch (RejectedExecutionException e) {
+            // the client is being closed, so the batch is inserted on the application's thread when it is awaited
+        }
+        batchesInFlight.addLast(batchInFlight);
+    }
+
+    private void insertChunks(final List<BsonDocument> chunks) {
+        try {
+            if (clientSession != null) {
+                withNullableTimeout(chunksCollection, timeout).insertMany(clientSession, chunks);
+            } else {
+                withNullableTimeout(chunksCollection, timeout).insertMany(chunks);
+            }
+        } finally {
+            for (BsonDocument chunk : chunks) {
+                byte[] data = chunk.getBinary("data").getData();
+                if (data.length == chunkSizeBytes) {
+                    bufferPool.offer(data);
+                }
+            }
+        }
+    }
+
+    private void awaitBatchesInFlight() {
+        RuntimeException failure = null;
+        while (!batchesInFlight.isEmpty()) {
+            try {
+                awaitBatch(batchesInFlight.removeFirst());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void awaitBatch(final FutureTask<Void> batchInFlight) {
+        // does nothing if the insert has already started
+        batchInFlight.run();
+        try {
+            batchInFlight.get();
+        } catch (InterruptedException e) {
+            throw interruptAndCreateMongoInterruptedException("Interrupted waiting for GridFS chunks to be inserted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MongoGridFSException("Failed to insert GridFS chunks", cause);
+        }
+    }
+
+    private byte[] takeBuffer() {
+        byte[] pooledBuffer = bufferPool.poll();
+        return pooledBuffer != null ? pooledBuffer : new byte[chunkSizeBytes];
+    }
+
     private BsonBinary getData() {
         if (bufferOffset < chunkSizeBytes) {
             byte[] sizedBuffer = new byte[bufferOffset];
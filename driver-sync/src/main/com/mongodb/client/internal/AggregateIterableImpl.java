@@ -42,6 +42,7 @@ import org.bson.conversions.Bson;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> implements AggregateIterable<TResult> {
@@ -62,6 +63,8 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
     private Bson hint;
     private String hintString;
     private Bson variables;
+    private int prefetchBatches;
+    private boolean exhaust;
 
     @SuppressWarnings("checkstyle:ParameterNumber")
     AggregateIterableImpl(@Nullable final ClientSession clientSession, final String databaseName, final Class<TDocument> documentClass,
@@ -121,6 +124,19 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
         return this;
     }
 
+    @Override
+    public AggregateIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        this.prefetchBatches = prefetchBatches;
+        return this;
+    }
+
+    @Override
+    public AggregateIterable<TResult> exhaust(final boolean exhaust) {
+        this.exhaust = exhaust;
+        return this;
+    }
+
     @Override
     public AggregateIterable<TResult> maxTime(final long maxTime, final TimeUnit timeUnit) {
         notNull("timeUnit", timeUnit);
@@ -213,7 +229,7 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
                             bypassDocumentValidation, collation, hint, hintString, comment, variables, aggregationLevel),
                     getReadPreference(), getReadConcern(), getClientSession());
 
-            FindOptions findOptions = new FindOptions().collation(collation);
+            FindOptions findOptions = new FindOptions().collation(collation).prefetchBatches(prefetchBatches).exhaust(exhaust);
             Integer batchSize = getBatchSize();
             if (batchSize != null) {
                 findOptions.batchSize(batchSize);
@@ -229,8 +245,8 @@ class AggregateIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResul
     }
 
     private ReadOperationExplainable<TResult> asAggregateOperation() {
-        return operations.aggregate(pipeline, resultClass, getTimeoutMode(), getBatchSize(), collation, hint, hintString, comment,
-                variables, allowDiskUse, aggregationLevel);
+        return operations.aggregate(pipeline, resultClass, getTimeoutMode(), getBatchSize(), prefetchBatches, exhaust, collation, hint,
+                hintString, comment, variables, allowDiskUse, aggregationLevel);
     }
 
     @Nullable
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.lang.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+public final class BackgroundExecutorHelper {
+
+    private BackgroundExecutorHelper() {
+        //NOP
+    }
+
+    /**
+     * @param collection the collection
+     * @return the executor that the client of the collection owns for the work that it runs in the background, or null if there is
+     * none, in which case the work must not be run in the background
+     */
+    @Nullable
+    public static Executor getBackgroundExecutor(final MongoCollection<?> collection) {
+        return collection instanceof MongoCollectionImpl ? ((MongoCollectionImpl<?>) collection).getBackgroundExecutor() : null;
+    }
+}
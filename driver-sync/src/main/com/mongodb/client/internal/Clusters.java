@@ -45,12 +45,13 @@ public final class Clusters {
         StreamFactory heartbeatStreamFactory = getStreamFactory(streamFactoryFactory, settings, true);
 
         return new DefaultClusterFactory().createCluster(settings.getClusterSettings(), settings.getServerSettings(),
-                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder().build(),
+                settings.getConnectionPoolSettings(),
+                InternalConnectionPoolSettings.builder().virtualThreads(settings.isVirtualThreads()).build(),
                 TimeoutSettings.create(settings), streamFactory,
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getCompressionSettings(),
+                settings.getServerApi(), settings.getDnsClient());
     }
 
     private static StreamFactory getStreamFactory(
@@ -16,6 +16,7 @@
 
 package com.mongodb.client.internal;
 
+import com.mongodb.MongoClientException;
 import com.mongodb.ReadPreference;
 import com.mongodb.connection.ConnectionDescription;
 import com.mongodb.internal.connection.Connection;
@@ -139,6 +140,30 @@ public final class CryptConnection implements Connection {
         return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext, true, EmptyMessageSequences.INSTANCE);
     }
 
+    /**
+     * Replies streamed by the server could not be decrypted, so the command is executed without the {@code exhaustAllowed} flag.
+     */
+    @Nullable
+    @Override
+    public <T> T exhaustCommand(final String database, final BsonDocument command, final FieldNameValidator fieldNameValidator,
+            @Nullable final ReadPreference readPreference, final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        return command(database, command, fieldNameValidator, readPreference, commandResultDecoder, operationContext);
+    }
+
+    /**
+     * As {@link #exhaustCommand} never sets the {@code exhaustAllowed} flag, the server never streams replies that are left to receive.
+     */
+    @Override
+    public <T> T receiveMoreToCome(final Decoder<T> commandResultDecoder, final OperationContext operationContext) {
+        throw new MongoClientException("Exhaust cursors are not supported with automatic encryption, "
+                + "so there is no streamed reply to receive");
+    }
+
+    @Override
+    public boolean hasMoreToCome() {
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     private Codec<BsonDocument> getEncoder(final BsonDocument command) {
         return (Codec<BsonDocument>) REGISTRY.get(command.getClass());
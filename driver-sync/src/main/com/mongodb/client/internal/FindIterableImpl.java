@@ -38,6 +38,7 @@ import org.bson.conversions.Bson;
 
 import java.util.concurrent.TimeUnit;
 
+import static com.mongodb.assertions.Assertions.isTrueArgument;
 import static com.mongodb.assertions.Assertions.notNull;
 
 class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> implements FindIterable<TResult> {
@@ -108,6 +109,19 @@ class FindIterableImpl<TDocument, TResult> extends MongoIterableImpl<TResult> im
         return this;
     }
 
+    @Override
+    public FindIterable<TResult> prefetchBatches(final int prefetchBatches) {
+        isTrueArgument("prefetchBatches >= 0", prefetchBatches >= 0);
+        findOptions.prefetchBatches(prefetchBatches);
+        return this;
+    }
+
+    @Override
+    public FindIterable<TResult> exhaust(final boolean exhaust) {
+        findOptions.exhaust(exhaust);
+        return this;
+    }
+
     @Override
     public FindIterable<TResult> collation(@Nullable final Collation collation) {
         findOptions.collation(collation);
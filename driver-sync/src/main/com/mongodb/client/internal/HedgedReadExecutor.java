@@ -0,0 +1,419 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.HedgedReadSettings;
+import com.mongodb.MongoInternalException;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.event.HedgedReadCompletedEvent;
+import com.mongodb.event.HedgedReadListener;
+import com.mongodb.event.HedgedReadStartedEvent;
+import com.mongodb.internal.VisibleForTesting;
+import com.mongodb.internal.binding.ConnectionSource;
+import com.mongodb.internal.binding.ReadBinding;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.connection.OperationContext;
+import com.mongodb.internal.diagnostics.logging.Logger;
+import com.mongodb.internal.diagnostics.logging.Loggers;
+import com.mongodb.internal.operation.AggregateOperation;
+import com.mongodb.internal.operation.CountDocumentsOperation;
+import com.mongodb.internal.operation.CountOperation;
+import com.mongodb.internal.operation.DistinctOperation;
+import com.mongodb.internal.operation.EstimatedDocumentCountOperation;
+import com.mongodb.internal.operation.FindOperation;
+import com.mongodb.internal.operation.ReadOperation;
+import com.mongodb.internal.selector.ReadPreferenceServerSelector;
+import com.mongodb.internal.selector.ServerAddressExcludingSelector;
+import com.mongodb.internal.thread.DaemonThreadFactory;
+import com.mongodb.lang.Nullable;
+import com.mongodb.selector.CompositeServerSelector;
+import com.mongodb.selector.ServerSelector;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static com.mongodb.assertions.Assertions.notNull;
+import static com.mongodb.internal.Locks.withLock;
+import static com.mongodb.internal.thread.InterruptionUtil.interruptAndCreateMongoInterruptedException;
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Executes reads that have not completed within the hedging delay a second time on another server that is eligible under the read
+ * preference, and returns the result that arrives first.
+ *
+ * <p>This class is not part of the public API and may be removed or changed at any time</p>
+ */
+final class HedgedReadExecutor {
+    private static final Logger LOGGER = Loggers.getLogger("client");
+    private static final Set<Class<?>> HEDGEABLE_OPERATIONS = new HashSet<>(asList(FindOperation.class, AggregateOperation.class,
+            DistinctOperation.class, CountOperation.class, CountDocumentsOperation.class, EstimatedDocumentCountOperation.class));
+
+    private final Cluster cluster;
+    private final ScheduledExecutorService backgroundExecutor;
+    private final ExecutorService attemptExecutor;
+    private final long delayNanos;
+    private final List<HedgedReadListener> listeners;
+    @Nullable
+    private final LatencyPercentile latencyPercentile;
+
+    /**
+     * A single attempt to execute a read.
+     *
+     * @param <T> the result type of the read
+     */
+    interface ReadAttempt<T> {
+        /**
+         * @param additionalReadServerSelector a selector applied to the servers that satisfy the read preference, or null
+         * @param selectedServerAddress        the reference in which to record the address of the server the read is sent to
+         * @return the result of the read
+         */
+        T execute(@Nullable ServerSelector additionalReadServerSelector, AtomicReference<ServerAddress> selectedServerAddress);
+    }
+
+    /**
+     * @param backgroundExecutor the client's background executor, on which the hedges are scheduled
+     * @param virtualThreads     whether to execute the attempts on virtual threads if they are supported
+     */
+    HedgedReadExecutor(final Cluster cluster, final HedgedReadSettings settings, final ScheduledExecutorService backgroundExecutor,
+            final boolean virtualThreads) {
+        this.cluster = notNull("cluster", cluster);
+        this.backgroundExecutor = notNull("backgroundExecutor", backgroundExecutor);
+        // a thread per attempt in progress, as attempts block for the duration of a read, and every application thread that waits
+        // for a hedged read has at most two attempts in progress
+        this.attemptExecutor = Executors.newCachedThreadPool(new DaemonThreadFactory("MongoHedgedRead", virtualThreads));
+        this.delayNanos = settings.getDelay(NANOSECONDS);
+        this.listeners = settings.getHedgedReadListeners();
+        this.latencyPercentile = settings.isAdaptive() ? new LatencyPercentile(0.95) : null;
+    }
+
+    /**
+     * Returns whether the operation may be hedged, which is the case for idempotent reads that do not write their results to a
+     * collection, and that may be sent to a server other than the primary.
+     */
+    boolean isHedgeable(final ReadOperation<?, ?> operation, final ReadPreference readPreference) {
+        return readPreference.isSecondaryOk() && HEDGEABLE_OPERATIONS.contains(operation.getClass());
+    }
+
+    /**
+     * Executes the read on a thread of the attempt executor, and schedules its hedge on the client's background executor, which
+     * only starts the hedge on a thread of the attempt executor if the read has not completed within the hedging delay. The attempts
+     * must share the timeout of the read. The calling thread waits for the first attempt to succeed, and the result of the losing
+     * attempt is closed once it completes.
+     */
+    <T> T execute(final String commandName, final ReadPreference readPreference, final ReadAttempt<T> attempt) {
+        long startNanos = System.nanoTime();
+        AtomicReference<ServerAddress> serverAddressReference = new AtomicReference<>();
+        CompletableFuture<T> original = new CompletableFuture<>();
+        CompletableFuture<T> hedge = new CompletableFuture<>();
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        // set by the first of the original read completing and the hedge starting
+        AtomicBoolean settled = new AtomicBoolean();
+        long delayNanos = getDelayNanos();
+        ScheduledFuture<?> scheduledHedge = scheduleHedge(() -> {
+            ServerAddress serverAddress = serverAddressReference.get();
+            if (serverAddress == null || !hasOtherEligibleServer(readPreference, serverAddress) || !settled.compareAndSet(false, true)) {
+                return;
+            }
+            notifyStarted(new HedgedReadStartedEvent(commandName, serverAddress, delayNanos));
+            Race<T> race = new Race<>(commandName, serverAddress, startNanos, winner);
+            race.add(hedge, true);
+            race.add(original, false);
+            if (!submit(() -> run(() -> attempt.execute(new ServerAddressExcludingSelector(serverAddress), new AtomicReference<>()),
+                    hedge))) {
+                hedge.completeExceptionally(new RejectedExecutionException("The client is being closed"));
+            }
+        }, delayNanos);
+
+        original.whenComplete((result, t) -> {
+            if (scheduledHedge != null) {
+                scheduledHedge.cancel(false);
+            }
+            if (settled.compareAndSet(false, true)) {
+                // the read completed before it was hedged
+                if (t == null) {
+                    winner.complete(result);
+                } else {
+                    winner.completeExceptionally(t);
+                }
+            }
+        });
+        Runnable originalTask = () -> run(() -> {
+            T result = attempt.execute(null, serverAddressReference);
+            if (latencyPercentile != null) {
+                latencyPercentile.add(System.nanoTime() - startNanos);
+            }
+            return result;
+        }, original);
+        if (!submit(originalTask)) {
+            // the client is being closed, so the read is executed on the calling thread
+            originalTask.run();
+        }
+        return await(winner);
+    }
+
+    /**
+     * Closes the attempt executor. Attempts that are in progress are not interrupted.
+     */
+    void close() {
+        attemptExecutor.shutdown();
+    }
+
+    private boolean submit(final Runnable task) {
+        try {
+            attemptExecutor.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static <T> void run(final Supplier<T> attempt, final CompletableFuture<T> future) {
+        try {
+            future.complete(attempt.get());
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+        }
+    }
+
+    @Nullable
+    private ScheduledFuture<?> scheduleHedge(final Runnable hedge, final long delayNanos) {
+        try {
+            return backgroundExecutor.schedule(hedge, delayNanos, NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the client is being closed, so the read is not hedged
+            return null;
+        }
+    }
+
+    @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
+    long getDelayNanos() {
+        return latencyPercentile == null ? delayNanos : latencyPercentile.get(delayNanos);
+    }
+
+    private boolean hasOtherEligibleServer(final ReadPreference readPreference, final ServerAddress serverAddress) {
+        return !new CompositeServerSelector(asList(new ReadPreferenceServerSelector(readPreference),
+                new ServerAddressExcludingSelector(serverAddress))).select(cluster.getCurrentDescription()).isEmpty();
+    }
+
+    private static <T> T await(final CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            abandon(future);
+            throw interruptAndCreateMongoInterruptedException("Interrupted waiting for the result of a hedged read", e);
+        }
+    }
+
+    private static RuntimeException unwrap(final ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new MongoInternalException("Unexpected exception executing a read", cause);
+    }
+
+    /**
+     * Kills the cursor of a read whose result is no longer awaited, once the read completes.
+     */
+    private static void abandon(final CompletableFuture<?> future) {
+        future.thenAccept(HedgedReadExecutor::closeQuietly);
+    }
+
+    private static void closeQuietly(@Nullable final Object result) {
+        if (result instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) result).close();
+            } catch (Exception e) {
+                // ignore
+            }
+        }
+    }
+
+    private void notifyStarted(final HedgedReadStartedEvent event) {
+        for (HedgedReadListener listener : listeners) {
+            try {
+                listener.hedgedReadStarted(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising hedged read started event to listener %s", listener), e);
+                }
+            }
+        }
+    }
+
+    private void notifyCompleted(final HedgedReadCompletedEvent event) {
+        for (HedgedReadListener listener : listeners) {
+            try {
+                listener.hedgedReadCompleted(event);
+            } catch (Exception e) {
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.warn(format("Exception thrown raising hedged read completed event to listener %s", listener), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * A race between a read and its hedge, which is won by the first of the two to succeed, or lost by the last of the two to fail.
+     * The listeners are notified of the outcome before it is returned.
+     */
+    private final class Race<T> {
+        private final CompletableFuture<T> winner;
+        private final AtomicBoolean decided = new AtomicBoolean();
+        private final AtomicInteger remainingAttempts = new AtomicInteger(2);
+        private final String commandName;
+        private final ServerAddress serverAddress;
+        private final long startNanos;
+
+        Race(final String commandName, final ServerAddress serverAddress, final long startNanos, final CompletableFuture<T> winner) {
+            this.commandName = commandName;
+            this.winner = winner;
+            this.serverAddress = serverAddress;
+            this.startNanos = startNanos;
+        }
+
+        void add(final CompletableFuture<T> attempt, final boolean isHedge) {
+            attempt.whenComplete((result, t) -> {
+                if (t == null) {
+                    if (decided.compareAndSet(false, true)) {
+                        notifyCompleted(new HedgedReadCompletedEvent(commandName, serverAddress, true, isHedge,
+                                System.nanoTime() - startNanos));
+                        winner.complete(result);
+                    } else {
+                        // the other attempt won, so kill the cursor of this one
+                        closeQuietly(result);
+                    }
+                } else if (remainingAttempts.decrementAndGet() == 0 && decided.compareAndSet(false, true)) {
+                    notifyCompleted(new HedgedReadCompletedEvent(commandName, serverAddress, false, false,
+                            System.nanoTime() - startNanos));
+                    winner.completeExceptionally(t);
+                }
+            });
+        }
+    }
+
+    /**
+     * A read binding that records the address of the server that each read is sent to.
+     */
+    static final class ServerAddressRecordingReadBinding implements ReadBinding {
+        private final ReadBinding wrapped;
+        private final AtomicReference<ServerAddress> serverAddressReference;
+
+        ServerAddressRecordingReadBinding(final ReadBinding wrapped, final AtomicReference<ServerAddress> serverAddressReference) {
+            this.wrapped = wrapped;
+            this.serverAddressReference = serverAddressReference;
+        }
+
+        @Override
+        public ReadPreference getReadPreference() {
+            return wrapped.getReadPreference();
+        }
+
+        @Override
+        public ConnectionSource getReadConnectionSource(final OperationContext operationContext) {
+            return record(wrapped.getReadConnectionSource(operationContext));
+        }
+
+        @Override
+        public ConnectionSource getReadConnectionSource(final int minWireVersion, final ReadPreference fallbackReadPreference,
+                final OperationContext operationContext) {
+            return record(wrapped.getReadConnectionSource(minWireVersion, fallbackReadPreference, operationContext));
+        }
+
+        private ConnectionSource record(final ConnectionSource connectionSource) {
+            serverAddressReference.set(connectionSource.getServerDescription().getAddress());
+            return connectionSource;
+        }
+
+        @Override
+        public int getCount() {
+            return wrapped.getCount();
+        }
+
+        @Override
+        public ReadBinding retain() {
+            wrapped.retain();
+            return this;
+        }
+
+        @Override
+        public int release() {
+            return wrapped.release();
+        }
+    }
+
+    /**
+     * Tracks a percentile of the latencies of the most recent reads, which is recomputed periodically rather than on every read.
+     */
+    @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
+    static final class LatencyPercentile {
+        private static final int WINDOW_SIZE = 256;
+        private static final int MIN_SAMPLES = 32;
+        private static final int RECOMPUTE_INTERVAL = 16;
+
+        private final double percentile;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] samples = new long[WINDOW_SIZE];
+        private long sampleCount;
+        private volatile long percentileNanos = -1;
+
+        LatencyPercentile(final double percentile) {
+            this.percentile = percentile;
+        }
+
+        void add(final long latencyNanos) {
+            withLock(lock, () -> {
+                samples[(int) (sampleCount % WINDOW_SIZE)] = latencyNanos;
+                sampleCount++;
+                if (sampleCount >= MIN_SAMPLES && sampleCount % RECOMPUTE_INTERVAL == 0) {
+                    long[] sorted = Arrays.copyOf(samples, (int) Math.min(sampleCount, WINDOW_SIZE));
+                    Arrays.sort(sorted);
+                    percentileNanos = sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+                }
+            });
+        }
+
+        /**
+         * @param defaultNanos the value to return until enough latencies have been recorded
+         */
+        long get(final long defaultNanos) {
+            long currentPercentileNanos = percentileNanos;
+            return currentPercentileNanos < 0 ? defaultNanos : currentPercentileNanos;
+        }
+    }
+}
@@ -19,6 +19,7 @@ package com.mongodb.client.internal;
 import com.mongodb.AutoEncryptionSettings;
 import com.mongodb.ClientBulkWriteException;
 import com.mongodb.ClientSessionOptions;
+import com.mongodb.HedgedReadSettings;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoDriverInformation;
 import com.mongodb.ReadConcern;
@@ -56,12 +57,14 @@ import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.conversions.Bson;
 
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.mongodb.assertions.Assertions.notNull;
 import static com.mongodb.client.internal.Crypts.createCrypt;
 import static com.mongodb.internal.event.EventListenerHelper.getCommandListener;
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
 import static java.lang.String.format;
 import static org.bson.codecs.configuration.CodecRegistries.withUuidRepresentation;
 
@@ -76,12 +79,27 @@ public final class MongoClientImpl implements MongoClient {
     private final MongoClusterImpl delegate;
     private final AtomicBoolean closed;
     private final AutoCloseable externalResourceCloser;
+    private final ScheduledExecutorService backgroundExecutor;
+    @Nullable
+    private final HedgedReadExecutor hedgedReadExecutor;
+
+    public MongoClientImpl(final Cluster cluster,
+                           final MongoClientSettings settings,
+                           final MongoDriverInformation mongoDriverInformation,
+                           @Nullable final AutoCloseable externalResourceCloser) {
+        this(cluster, settings, mongoDriverInformation, newClientBackgroundExecutor(settings.isVirtualThreads()), externalResourceCloser);
+    }
 
+    /**
+     * @param backgroundExecutor the executor for the work that the client runs in the background, which the client shuts down when it
+     * is closed
+     */
     public MongoClientImpl(final Cluster cluster,
                            final MongoClientSettings settings,
                            final MongoDriverInformation mongoDriverInformation,
+                           final ScheduledExecutorService backgroundExecutor,
                            @Nullable final AutoCloseable externalResourceCloser) {
-        this(cluster, mongoDriverInformation, settings, externalResourceCloser, null);
+        this(cluster, mongoDriverInformation, settings, externalResourceCloser, null, backgroundExecutor);
     }
 
     @VisibleForTesting(otherwise = VisibleForTesting.AccessModifier.PRIVATE)
@@ -90,21 +108,38 @@ public final class MongoClientImpl implements MongoClient {
                             final MongoClientSettings settings,
                             @Nullable final AutoCloseable externalResourceCloser,
                             @Nullable final OperationExecutor operationExecutor) {
+        this(cluster, mongoDriverInformation, settings, externalResourceCloser, operationExecutor,
+                newClientBackgroundExecutor(settings.isVirtualThreads()));
+    }
+
+    private MongoClientImpl(final Cluster cluster,
+                            final MongoDriverInformation mongoDriverInformation,
+                            final MongoClientSettings settings,
+                            @Nullable final AutoCloseable externalResourceCloser,
+                            @Nullable final OperationExecutor operationExecutor,
+                            final ScheduledExecutorService backgroundExecutor) {
 
         this.externalResourceCloser = externalResourceCloser;
+        this.backgroundExecutor = notNull("backgroundExecutor", backgroundExecutor);
         this.settings = notNull("settings", settings);
         this.mongoDriverInformation = mongoDriverInformation;
         AutoEncryptionSettings autoEncryptionSettings = settings.getAutoEncryptionSettings();
+        HedgedReadSettings hedgedReadSettings = settings.getHedgedReadSettings();
         if (settings.getContextProvider() != null && !(settings.getContextProvider() instanceof SynchronousContextProvider)) {
             throw new IllegalArgumentException("The contextProvider must be an instance of "
                     + SynchronousContextProvider.class.getName() + " when using the synchronous driver");
         }
+        this.hedgedReadExecutor = hedgedReadSettings == null ? null
+                : new HedgedReadExecutor(cluster, hedgedReadSettings, backgroundExecutor, settings.isVirtualThreads());
 
         this.delegate = new MongoClusterImpl(autoEncryptionSettings, cluster,
                                              withUuidRepresentation(settings.getCodecRegistry(), settings.getUuidRepresentation()),
                                              (SynchronousContextProvider) settings.getContextProvider(),
                                              autoEncryptionSettings == null ? null : createCrypt(settings, autoEncryptionSettings), this,
-                                             operationExecutor, settings.getReadConcern(), settings.getReadPreference(), settings.getRetryReads(),
+                                             operationExecutor,
+                                             hedgedReadExecutor,
+                                             backgroundExecutor,
+                                             settings.getReadConcern(), settings.getReadPreference(), settings.getRetryReads(),
                                              settings.getRetryWrites(), settings.getServerApi(),
                                              new ServerSessionPool(cluster, TimeoutSettings.create(settings), settings.getServerApi()),
                                              TimeoutSettings.create(settings), settings.getUuidRepresentation(),
@@ -124,6 +159,10 @@ public final class MongoClientImpl implements MongoClient {
             }
             delegate.getServerSessionPool().close();
             delegate.getCluster().close();
+            backgroundExecutor.shutdownNow();
+            if (hedgedReadExecutor != null) {
+                hedgedReadExecutor.close();
+            }
             if (externalResourceCloser != null) {
                 try {
                     externalResourceCloser.close();
@@ -316,12 +355,13 @@ public final class MongoClientImpl implements MongoClient {
                                          final StreamFactory streamFactory, final StreamFactory heartbeatStreamFactory) {
         notNull("settings", settings);
         return new DefaultClusterFactory().createCluster(settings.getClusterSettings(), settings.getServerSettings(),
-                settings.getConnectionPoolSettings(), InternalConnectionPoolSettings.builder().build(),
+                settings.getConnectionPoolSettings(),
+                InternalConnectionPoolSettings.builder().virtualThreads(settings.isVirtualThreads()).build(),
                 TimeoutSettings.create(settings), streamFactory,
                 TimeoutSettings.createHeartbeatSettings(settings), heartbeatStreamFactory,
                 settings.getCredential(), settings.getLoggerSettings(), getCommandListener(settings.getCommandListeners()),
-                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getServerApi(),
-                settings.getDnsClient());
+                settings.getApplicationName(), mongoDriverInformation, settings.getCompressorList(), settings.getCompressionSettings(),
+                settings.getServerApi(), settings.getDnsClient());
     }
 
     private static StreamFactory getStreamFactory(
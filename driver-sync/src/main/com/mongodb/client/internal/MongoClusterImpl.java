@@ -28,6 +28,7 @@ import com.mongodb.MongoTimeoutException;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.RequestContext;
+import com.mongodb.ServerAddress;
 import com.mongodb.ServerApi;
 import com.mongodb.TransactionOptions;
 import com.mongodb.WriteConcern;
@@ -42,6 +43,7 @@ import com.mongodb.client.model.bulk.ClientBulkWriteOptions;
 import com.mongodb.client.model.bulk.ClientBulkWriteResult;
 import com.mongodb.client.model.bulk.ClientNamespacedWriteModel;
 import com.mongodb.internal.IgnorableRequestContext;
+import com.mongodb.internal.TimeoutContext;
 import com.mongodb.internal.TimeoutSettings;
 import com.mongodb.internal.binding.ClusterAwareReadWriteBinding;
 import com.mongodb.internal.binding.ClusterBinding;
@@ -60,6 +62,7 @@ import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.internal.session.ServerSessionPool;
 import com.mongodb.lang.Nullable;
+import com.mongodb.selector.ServerSelector;
 import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.UuidRepresentation;
@@ -69,7 +72,9 @@ import org.bson.conversions.Bson;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.mongodb.MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL;
 import static com.mongodb.MongoException.UNKNOWN_TRANSACTION_COMMIT_RESULT_LABEL;
@@ -91,6 +96,10 @@ final class MongoClusterImpl implements MongoCluster {
     private final Crypt crypt;
     private final Object originator;
     private final OperationExecutor operationExecutor;
+    @Nullable
+    private final HedgedReadExecutor hedgedReadExecutor;
+    @Nullable
+    private final Executor backgroundExecutor;
     private final ReadConcern readConcern;
     private final ReadPreference readPreference;
     private final boolean retryReads;
@@ -107,7 +116,9 @@ final class MongoClusterImpl implements MongoCluster {
     MongoClusterImpl(
             @Nullable final AutoEncryptionSettings autoEncryptionSettings, final Cluster cluster, final CodecRegistry codecRegistry,
             @Nullable final SynchronousContextProvider contextProvider, @Nullable final Crypt crypt, final Object originator,
-            @Nullable final OperationExecutor operationExecutor, final ReadConcern readConcern, final ReadPreference readPreference,
+            @Nullable final OperationExecutor operationExecutor, @Nullable final HedgedReadExecutor hedgedReadExecutor,
+            @Nullable final Executor backgroundExecutor,
+            final ReadConcern readConcern, final ReadPreference readPreference,
             final boolean retryReads, final boolean retryWrites, @Nullable final ServerApi serverApi,
             final ServerSessionPool serverSessionPool, final TimeoutSettings timeoutSettings, final UuidRepresentation uuidRepresentation,
             final WriteConcern writeConcern,
@@ -119,6 +130,8 @@ final class MongoClusterImpl implements MongoCluster {
         this.crypt = crypt;
         this.originator = originator;
         this.operationExecutor = operationExecutor != null ? operationExecutor : new OperationExecutorImpl(timeoutSettings);
+        this.hedgedReadExecutor = hedgedReadExecutor;
+        this.backgroundExecutor = backgroundExecutor;
         this.readConcern = readConcern;
         this.readPreference = readPreference;
         this.retryReads = retryReads;
@@ -171,36 +184,36 @@ final class MongoClusterImpl implements MongoCluster {
 
     @Override
     public MongoCluster withCodecRegistry(final CodecRegistry codecRegistry) {
-        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
-                operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
+        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor,
+                hedgedReadExecutor, backgroundExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
                 uuidRepresentation, writeConcern, tracingManager);
     }
 
     @Override
     public MongoCluster withReadPreference(final ReadPreference readPreference) {
-        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
-                operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
+        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor,
+                hedgedReadExecutor, backgroundExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
                 uuidRepresentation, writeConcern, tracingManager);
     }
 
     @Override
     public MongoCluster withWriteConcern(final WriteConcern writeConcern) {
-        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
-                operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
+        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor,
+                hedgedReadExecutor, backgroundExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
                 uuidRepresentation, writeConcern, tracingManager);
     }
 
     @Override
     public MongoCluster withReadConcern(final ReadConcern readConcern) {
-        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
-                operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
+        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor,
+                hedgedReadExecutor, backgroundExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool, timeoutSettings,
                 uuidRepresentation, writeConcern, tracingManager);
     }
 
     @Override
     public MongoCluster withTimeout(final long timeout, final TimeUnit timeUnit) {
-        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator,
-                operationExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool,
+        return new MongoClusterImpl(autoEncryptionSettings, cluster, codecRegistry, contextProvider, crypt, originator, operationExecutor,
+                hedgedReadExecutor, backgroundExecutor, readConcern, readPreference, retryReads, retryWrites, serverApi, serverSessionPool,
                 timeoutSettings.withTimeout(timeout, timeUnit), uuidRepresentation, writeConcern, tracingManager);
     }
 
@@ -422,11 +435,30 @@ final class MongoClusterImpl implements MongoCluster {
                 session.notifyOperationInitiated(operation);
             }
 
+            RequestContext requestContext = getRequestContext();
+            if (session == null && hedgedReadExecutor != null && hedgedReadExecutor.isHedgeable(operation, readPreference)) {
+                // the read and its hedge are attempts of the same operation, so they share its timeout
+                TimeoutContext timeoutContext = new TimeoutContext(executorTimeoutSettings);
+                return hedgedReadExecutor.execute(operation.getCommandName(), readPreference,
+                        (additionalReadServerSelector, selectedServerAddress) -> executeRead(operation, readPreference, readConcern, null,
+                                requestContext, timeoutContext, additionalReadServerSelector, selectedServerAddress));
+            }
+            return executeRead(operation, readPreference, readConcern, session, requestContext, null, null, null);
+        }
+
+        private <T> T executeRead(final ReadOperation<T, ?> operation, final ReadPreference readPreference, final ReadConcern readConcern,
+                @Nullable final ClientSession session, final RequestContext requestContext,
+                @Nullable final TimeoutContext timeoutContext, @Nullable final ServerSelector additionalReadServerSelector,
+                @Nullable final AtomicReference<ServerAddress> selectedServerAddress) {
             ClientSession actualClientSession = getClientSession(session);
             boolean implicitSession = isImplicitSession(session);
-            OperationContext operationContext = getOperationContext(actualClientSession, readConcern, operation.getCommandName())
+            OperationContext operationContext = getOperationContext(actualClientSession, readConcern, operation.getCommandName(),
+                    requestContext, timeoutContext)
                     .withSessionContext(new ClientSessionBinding.SyncClientSessionContext(actualClientSession, readConcern, implicitSession));
-            ReadBinding binding = getReadBinding(readPreference, actualClientSession, implicitSession);
+            ReadBinding binding = getReadBinding(readPreference, actualClientSession, implicitSession, additionalReadServerSelector);
+            if (selectedServerAddress != null) {
+                binding = new HedgedReadExecutor.ServerAddressRecordingReadBinding(binding, selectedServerAddress);
+            }
             Span span = operationContext.getTracingManager().createOperationSpan(
                     actualClientSession.getTransactionSpan(), operationContext, operation.getCommandName(), operation.getNamespace());
             try {
@@ -502,18 +534,30 @@ final class MongoClusterImpl implements MongoCluster {
             return executorTimeoutSettings;
         }
 
+        @Override
+        @Nullable
+        public Executor getBackgroundExecutor() {
+            return backgroundExecutor;
+        }
+
         WriteBinding getWriteBinding(final ClientSession session, final boolean ownsSession) {
             return getReadWriteBinding(primary(), session, ownsSession);
         }
 
-        ReadBinding getReadBinding(final ReadPreference readPreference, final ClientSession session, final boolean ownsSession) {
-            return getReadWriteBinding(readPreference, session, ownsSession);
+        ReadBinding getReadBinding(final ReadPreference readPreference, final ClientSession session, final boolean ownsSession,
+                @Nullable final ServerSelector additionalReadServerSelector) {
+            return getReadWriteBinding(readPreference, session, ownsSession, additionalReadServerSelector);
         }
 
         ReadWriteBinding getReadWriteBinding(final ReadPreference readPreference, final ClientSession session, final boolean ownsSession) {
+            return getReadWriteBinding(readPreference, session, ownsSession, null);
+        }
+
+        ReadWriteBinding getReadWriteBinding(final ReadPreference readPreference, final ClientSession session, final boolean ownsSession,
+                @Nullable final ServerSelector additionalReadServerSelector) {
 
             ClusterAwareReadWriteBinding readWriteBinding = new ClusterBinding(cluster,
-                    getReadPreferenceForBinding(readPreference, session));
+                    getReadPreferenceForBinding(readPreference, session), additionalReadServerSelector);
 
             if (crypt != null) {
                 readWriteBinding = new CryptBinding(readWriteBinding, crypt);
@@ -523,13 +567,19 @@ final class MongoClusterImpl implements MongoCluster {
         }
 
         private OperationContext getOperationContext(final ClientSession session, final ReadConcern readConcern, final String commandName) {
+            return getOperationContext(session, readConcern, commandName, getRequestContext(), null);
+        }
+
+        private OperationContext getOperationContext(final ClientSession session, final ReadConcern readConcern, final String commandName,
+                final RequestContext requestContext, @Nullable final TimeoutContext timeoutContext) {
             return new OperationContext(
-                    getRequestContext(),
+                    requestContext,
                     new ReadConcernAwareNoOpSessionContext(readConcern),
-                    createTimeoutContext(session, executorTimeoutSettings),
+                    timeoutContext != null ? timeoutContext : createTimeoutContext(session, executorTimeoutSettings),
                     tracingManager,
                     serverApi,
-                    commandName);
+                    commandName,
+                    backgroundExecutor);
         }
 
         private RequestContext getRequestContext() {
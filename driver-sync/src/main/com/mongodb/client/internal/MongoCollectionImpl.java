@@ -77,6 +77,7 @@ import org.bson.conversions.Bson;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.assertions.Assertions.notNull;
@@ -1171,6 +1172,11 @@ class MongoCollectionImpl<TDocument> implements MongoCollection<TDocument> {
         }
     }
 
+    @Nullable
+    Executor getBackgroundExecutor() {
+        return executor.getBackgroundExecutor();
+    }
+
     private OperationExecutor getExecutor(final TimeoutSettings timeoutSettings) {
         return executor.withTimeoutSettings(timeoutSettings);
     }
@@ -24,6 +24,8 @@ import com.mongodb.internal.operation.ReadOperation;
 import com.mongodb.internal.operation.WriteOperation;
 import com.mongodb.lang.Nullable;
 
+import java.util.concurrent.Executor;
+
 /**
  * An interface describing the execution of a read or a write operation.
  *
@@ -91,4 +93,13 @@ public interface OperationExecutor {
      * @since 5.2
      */
     TimeoutSettings getTimeoutSettings();
+
+    /**
+     * Returns the executor that the client owns for the work that it runs in the background.
+     *
+     * @return the executor, or null if there is none, in which case the work must not be run in the background
+     * @since 5.11
+     */
+    @Nullable
+    Executor getBackgroundExecutor();
 }
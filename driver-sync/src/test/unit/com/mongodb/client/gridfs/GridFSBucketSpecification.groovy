@@ -193,7 +193,7 @@ class GridFSBucketSpecification extends Specification {
 
         then:
         expect stream, isTheSameAs(new GridFSUploadStreamImpl(clientSession, filesCollection, chunksCollection, stream.getId(), 'filename',
-                255, null, null), ['closeLock'])
+                255, null, null), ['closeLock', 'batchesInFlight', 'bufferPool'])
 
         where:
         clientSession << [null, Stub(ClientSession)]
@@ -30,8 +30,15 @@ import org.bson.Document
 import org.bson.types.ObjectId
 import spock.lang.Specification
 
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor
+
 class GridFSDownloadStreamSpecification extends Specification {
     def fileInfo = new GridFSFile(new BsonObjectId(new ObjectId()), 'filename', 3L, 2, new Date(), new Document())
+    def backgroundExecutor = newClientBackgroundExecutor(false)
+
+    def cleanup() {
+        backgroundExecutor.shutdownNow()
+    }
 
     def 'should return the file info'() {
         when:
@@ -573,6 +580,102 @@ class GridFSDownloadStreamSpecification extends Specification {
         clientSession << [null, Stub(ClientSession)]
     }
 
+    def 'should throw if trying to pass non-positive parallelism'() {
+        given:
+        def downloadStream = new GridFSDownloadStreamImpl(null, fileInfo, Stub(MongoCollection), null)
+
+        when:
+        downloadStream.parallelism(1)
+
+        then:
+        notThrown(IllegalArgumentException)
+
+        when:
+        downloadStream.parallelism(0)
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    def 'should fetch chunk ranges in parallel and return them in order'() {
+        given:
+        def parallelFileInfo = new GridFSFile(new BsonObjectId(new ObjectId()), 'filename', 9L, 2, new Date(), new Document())
+        def chunksCollection = Mock(MongoCollection)
+        def rangeIterables = [0: chunkRangeIterable(parallelFileInfo, 0, 2), 2: chunkRangeIterable(parallelFileInfo, 2, 4),
+                              4: chunkRangeIterable(parallelFileInfo, 4, 5)]
+        def downloadStream = new GridFSDownloadStreamImpl(null, parallelFileInfo, chunksCollection, null, backgroundExecutor)
+                .batchSize(2)
+                .parallelism(2)
+        def bytes = new byte[9]
+
+        when:
+        def totalRead = 0
+        while (totalRead < bytes.length) {
+            totalRead += downloadStream.read(bytes, totalRead, bytes.length - totalRead)
+        }
+
+        then:
+        bytes == (0..8) as byte[]
+        downloadStream.read() == -1
+        3 * chunksCollection.find(_) >> { BsonDocument filter ->
+            def range = filter.getDocument('n')
+            assert range.getInt32('$lt').getValue() == Math.min(range.getInt32('$gte').getValue() + 2, 5)
+            rangeIterables[range.getInt32('$gte').getValue()]
+        }
+    }
+
+    def 'should restart the parallel fetch window when skipping past it'() {
+        given:
+        def parallelFileInfo = new GridFSFile(new BsonObjectId(new ObjectId()), 'filename', 9L, 2, new Date(), new Document())
+        def chunksCollection = Mock(MongoCollection)
+        def rangeIterables = (0..4).collectEntries { [(it): chunkRangeIterable(parallelFileInfo, it, it + 1)] }
+        def downloadStream = new GridFSDownloadStreamImpl(null, parallelFileInfo, chunksCollection, null, backgroundExecutor)
+                .batchSize(1)
+                .parallelism(2)
+
+        when:
+        def results = [downloadStream.read(), downloadStream.skip(6), downloadStream.read(), downloadStream.read(), downloadStream.read()]
+
+        then:
+        results == [0, 6, 7, 8, -1]
+        // the ranges of chunks 1 and 2 are cancelled by the skip, so they may not be fetched
+        (3..5) * chunksCollection.find(_) >> { BsonDocument filter -> rangeIterables[filter.getDocument('n').getInt32('$gte').getValue()] }
+    }
+
+    def 'should fetch chunks sequentially when using a session and parallelism'() {
+        given:
+        def clientSession = Stub(ClientSession)
+        def findQuery = new BsonDocument('files_id', fileInfo.getId())
+                .append('n', new BsonDocument('$gte', new BsonInt32(0)))
+        def chunksCollection = Mock(MongoCollection)
+        def downloadStream = new GridFSDownloadStreamImpl(clientSession, fileInfo, chunksCollection, null, backgroundExecutor)
+                .parallelism(4)
+
+        when:
+        def result = downloadStream.read()
+
+        then:
+        result == 0
+        1 * chunksCollection.find(clientSession, findQuery) >> chunkRangeIterable(fileInfo, 0, 2)
+        0 * chunksCollection.find(_)
+    }
+
+    def 'should fetch chunks sequentially without a background executor'() {
+        given:
+        def findQuery = new BsonDocument('files_id', fileInfo.getId())
+                .append('n', new BsonDocument('$gte', new BsonInt32(0)))
+        def chunksCollection = Mock(MongoCollection)
+        def downloadStream = new GridFSDownloadStreamImpl(null, fileInfo, chunksCollection, null, null)
+                .parallelism(4)
+
+        when:
+        def result = downloadStream.read()
+
+        then:
+        result == 0
+        1 * chunksCollection.find(findQuery) >> chunkRangeIterable(fileInfo, 0, 2)
+    }
+
     def 'should throw if no chunks found when data is expected'() {
         given:
         def mongoCursor = Mock(MongoCursor)
@@ -672,4 +775,23 @@ class GridFSDownloadStreamSpecification extends Specification {
         where:
         clientSession << [null, Stub(ClientSession)]
     }
+
+    private FindIterable chunkRangeIterable(final GridFSFile file, final int startIndex, final int endIndex) {
+        def chunks = (startIndex..<endIndex).collect { int n ->
+            int chunkLength = (int) Math.min(file.getChunkSize(), file.getLength() - n * file.getChunkSize())
+            def data = (0..<chunkLength).collect { n * file.getChunkSize() + it } as byte[]
+            new BsonDocument('files_id', file.getId()).append('n', new BsonInt32(n)).append('data', new BsonBinary(data))
+        }.iterator()
+        def mongoCursor = Stub(MongoCursor) {
+            hasNext() >> { chunks.hasNext() }
+            next() >> { chunks.next() }
+        }
+        FindIterable findIterable
+        findIterable = Stub(FindIterable) {
+            sort(_) >> { findIterable }
+            batchSize(_) >> { findIterable }
+            iterator() >> mongoCursor
+        }
+        findIterable
+    }
 }
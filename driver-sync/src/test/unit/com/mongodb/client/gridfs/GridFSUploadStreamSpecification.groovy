@@ -27,10 +27,17 @@ import org.bson.BsonString
 import org.bson.Document
 import spock.lang.Specification
 
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor
+
 class GridFSUploadStreamSpecification extends Specification {
     def fileId = new BsonObjectId()
     def filename = 'filename'
     def metadata = new Document()
+    def backgroundExecutor = newClientBackgroundExecutor(false)
+
+    def cleanup() {
+        backgroundExecutor.shutdownNow()
+    }
 
     def 'should return the file id'() {
         when:
@@ -197,6 +204,165 @@ class GridFSUploadStreamSpecification extends Specification {
         clientSession << [null, Stub(ClientSession)]
     }
 
+    def 'should insert the chunks in batches'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(clientSession, filesCollection, chunksCollection, fileId, filename, 2
+                , metadata, null, 2, 1)
+        def insertedChunks = []
+
+        when:
+        uploadStream.write('abc' as byte[])
+
+        then:
+        0 * chunksCollection.insertMany(*_)
+
+        when:
+        uploadStream.write('de' as byte[])
+
+        then:
+        if (clientSession != null) {
+            1 * chunksCollection.insertMany(clientSession, _) >> { args -> insertedChunks.addAll(args[1]*.getInt32('n')*.getValue()) }
+        } else {
+            1 * chunksCollection.insertMany(_) >> { args -> insertedChunks.addAll(args[0]*.getInt32('n')*.getValue()) }
+        }
+        insertedChunks == [0, 1]
+
+        when:
+        uploadStream.close()
+
+        then:
+        if (clientSession != null) {
+            1 * chunksCollection.insertMany(clientSession, _) >> { args -> insertedChunks.addAll(args[1]*.getInt32('n')*.getValue()) }
+        } else {
+            1 * chunksCollection.insertMany(_) >> { args -> insertedChunks.addAll(args[0]*.getInt32('n')*.getValue()) }
+        }
+        insertedChunks == [0, 1, 2]
+
+        then:
+        if (clientSession != null) {
+            1 * filesCollection.insertOne(clientSession, { it.getLength() == 5 })
+        } else {
+            1 * filesCollection.insertOne({ it.getLength() == 5 })
+        }
+
+        where:
+        clientSession << [null, Stub(ClientSession)]
+    }
+
+    def 'should insert batches in parallel and write the files document once they have all been inserted'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2
+                , metadata, null, 2, 2, backgroundExecutor)
+        def insertedChunks = Collections.synchronizedList([])
+
+        when:
+        uploadStream.write((0..10) as byte[])
+        uploadStream.close()
+
+        then:
+        3 * chunksCollection.insertMany(_) >> { List<BsonDocument> chunks -> insertedChunks.addAll(chunks*.getInt32('n')*.getValue()) }
+        insertedChunks.sort() == [0, 1, 2, 3, 4, 5]
+
+        then:
+        1 * filesCollection.insertOne({ it.getLength() == 11 })
+    }
+
+    def 'should insert batches one at a time without a background executor'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2
+                , metadata, null, 2, 2, null)
+        def insertingThreads = []
+
+        when:
+        uploadStream.write((0..10) as byte[])
+        uploadStream.close()
+
+        then:
+        3 * chunksCollection.insertMany(_) >> { insertingThreads.add(Thread.currentThread()) }
+        insertingThreads == [Thread.currentThread()] * 3
+
+        then:
+        1 * filesCollection.insertOne({ it.getLength() == 11 })
+    }
+
+    def 'should delete the inserted chunks and not write the files document when inserting a batch fails'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(null, filesCollection, chunksCollection, fileId, filename, 2
+                , metadata, null, 1, 2, backgroundExecutor)
+
+        when:
+        uploadStream.write((0..3) as byte[])
+        uploadStream.close()
+
+        then:
+        2 * chunksCollection.insertMany(_) >> { throw new MongoGridFSException('failed') }
+
+        then:
+        1 * chunksCollection.deleteMany(new Document('files_id', fileId))
+        0 * filesCollection.insertOne(_)
+        thrown(MongoGridFSException)
+    }
+
+    def 'should delete the inserted chunks when inserting the last chunk on close fails'() {
+        given:
+        def filesCollection = Mock(MongoCollection)
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(clientSession, filesCollection, chunksCollection, fileId, filename, 2
+                , metadata, null)
+
+        when:
+        uploadStream.write((0..2) as byte[])
+        uploadStream.close()
+
+        then:
+        if (clientSession != null) {
+            1 * chunksCollection.insertOne(clientSession, { it.getInt32('n').getValue() == 0 })
+            1 * chunksCollection.insertOne(clientSession, { it.getInt32('n').getValue() == 1 }) >> {
+                throw new MongoGridFSException('failed')
+            }
+            1 * chunksCollection.deleteMany(clientSession, new Document('files_id', fileId))
+        } else {
+            1 * chunksCollection.insertOne({ it.getInt32('n').getValue() == 0 })
+            1 * chunksCollection.insertOne({ it.getInt32('n').getValue() == 1 }) >> { throw new MongoGridFSException('failed') }
+            1 * chunksCollection.deleteMany(new Document('files_id', fileId))
+        }
+        0 * filesCollection.insertOne(*_)
+        def e = thrown(MongoGridFSException)
+        e.message == 'failed'
+
+        where:
+        clientSession << [null, Stub(ClientSession)]
+    }
+
+    def 'should throw the close failure even if deleting the inserted chunks fails'() {
+        given:
+        def chunksCollection = Mock(MongoCollection)
+        def uploadStream = new GridFSUploadStreamImpl(null, Stub(MongoCollection), chunksCollection, fileId, filename, 2
+                , metadata, null)
+        def deleteFailure = new MongoGridFSException('delete failed')
+
+        when:
+        uploadStream.write((0..1) as byte[])
+        uploadStream.write(2)
+        uploadStream.close()
+
+        then:
+        1 * chunksCollection.insertOne(_)
+        1 * chunksCollection.insertOne(_) >> { throw new MongoGridFSException('failed') }
+        1 * chunksCollection.deleteMany(_) >> { throw deleteFailure }
+        def e = thrown(MongoGridFSException)
+        e.message == 'failed'
+        e.suppressed == [deleteFailure] as Throwable[]
+    }
+
     def 'should close the stream on abort'() {
         given:
         def uploadStream = new GridFSUploadStreamImpl(clientSession, Stub(MongoCollection), Stub(MongoCollection), fileId, filename, 255
@@ -17,6 +17,7 @@
 package com.mongodb.client.internal
 
 import com.mongodb.ClusterFixture
+import com.mongodb.MongoClientException
 import com.mongodb.ReadPreference
 import com.mongodb.ServerAddress
 import com.mongodb.connection.ClusterId
@@ -216,6 +217,21 @@ class CryptConnectionSpecification extends Specification {
         payload.getPosition() == 2
     }
 
+    def 'should not have more to come and should reject receiving more to come'() {
+        given:
+        def wrappedConnection = Mock(Connection)
+        def crypt = Mock(Crypt)
+        def cryptConnection = new CryptConnection(wrappedConnection, crypt)
+
+        when:
+        cryptConnection.receiveMoreToCome(new BsonDocumentCodec(), ClusterFixture.OPERATION_CONTEXT)
+
+        then:
+        !cryptConnection.hasMoreToCome()
+        thrown(MongoClientException)
+        0 * wrappedConnection._
+    }
+
     RawBsonDocument toRaw(BsonDocument document) {
         def buffer = new BasicOutputBuffer()
         def writer = new BsonBinaryWriter(buffer)
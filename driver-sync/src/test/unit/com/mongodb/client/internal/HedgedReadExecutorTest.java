@@ -0,0 +1,325 @@
+/*
+ * Copyright 2008-present MongoDB, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.mongodb.client.internal;
+
+import com.mongodb.HedgedReadSettings;
+import com.mongodb.MongoNamespace;
+import com.mongodb.MongoSocketReadTimeoutException;
+import com.mongodb.ReadPreference;
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterDescription;
+import com.mongodb.connection.ServerDescription;
+import com.mongodb.connection.ServerType;
+import com.mongodb.event.HedgedReadCompletedEvent;
+import com.mongodb.event.HedgedReadListener;
+import com.mongodb.event.HedgedReadStartedEvent;
+import com.mongodb.internal.connection.Cluster;
+import com.mongodb.internal.operation.CommandReadOperation;
+import com.mongodb.internal.operation.FindOperation;
+import com.mongodb.internal.selector.ServerAddressExcludingSelector;
+import org.bson.BsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.mongodb.connection.ClusterConnectionMode.MULTIPLE;
+import static com.mongodb.connection.ClusterType.REPLICA_SET;
+import static com.mongodb.connection.ServerConnectionState.CONNECTED;
+import static com.mongodb.internal.mockito.MongoMockito.mock;
+import static com.mongodb.internal.thread.BackgroundExecutors.newClientBackgroundExecutor;
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+class HedgedReadExecutorTest {
+    private static final ServerAddress PRIMARY = new ServerAddress("localhost:27017");
+    private static final ServerAddress FIRST_SECONDARY = new ServerAddress("localhost:27018");
+    private static final ServerAddress SECOND_SECONDARY = new ServerAddress("localhost:27019");
+
+    private final ScheduledExecutorService backgroundExecutor = newClientBackgroundExecutor(false);
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    private final HedgedReadListener listener = new HedgedReadListener() {
+        @Override
+        public void hedgedReadStarted(final HedgedReadStartedEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void hedgedReadCompleted(final HedgedReadCompletedEvent event) {
+            events.add(event);
+        }
+    };
+
+    private final List<HedgedReadExecutor> executors = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executors.forEach(HedgedReadExecutor::close);
+        backgroundExecutor.shutdownNow();
+    }
+
+    @Test
+    void shouldOnlyHedgeIdempotentReadsThatMayBeSentToSecondaries() {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY, SECOND_SECONDARY);
+        FindOperation<BsonDocument> find = new FindOperation<>(new MongoNamespace("db.coll"), new BsonDocumentCodec());
+
+        assertTrue(executor.isHedgeable(find, ReadPreference.nearest()));
+        assertTrue(executor.isHedgeable(find, ReadPreference.secondaryPreferred()));
+        assertFalse(executor.isHedgeable(find, ReadPreference.primary()));
+        assertFalse(executor.isHedgeable(new CommandReadOperation<>("db", new BsonDocument("ping", new BsonDocument()),
+                new BsonDocumentCodec()), ReadPreference.nearest()));
+    }
+
+    @Test
+    void shouldNotHedgeReadsThatCompleteWithinTheDelay() {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY, SECOND_SECONDARY);
+
+        String result = executor.execute("find", ReadPreference.nearest(), (selector, serverAddress) -> {
+            assertNull(selector);
+            serverAddress.set(FIRST_SECONDARY);
+            return "original";
+        });
+
+        assertEquals("original", result);
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void shouldExecuteBothReadsOnTheAttemptExecutor() {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY, SECOND_SECONDARY);
+        Thread callingThread = Thread.currentThread();
+        List<Thread> attemptThreads = new CopyOnWriteArrayList<>();
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+
+        String result = executor.execute("find", ReadPreference.nearest(), (selector, serverAddress) -> {
+            attemptThreads.add(Thread.currentThread());
+            if (selector == null) {
+                serverAddress.set(PRIMARY);
+                awaitUninterruptibly(hedgeFailed);
+                return "original";
+            }
+            hedgeFailed.countDown();
+            throw new IllegalStateException("hedge");
+        });
+
+        assertEquals("original", result);
+        assertEquals(2, attemptThreads.size());
+        for (Thread attemptThread : attemptThreads) {
+            assertNotEquals(callingThread, attemptThread);
+            assertTrue(attemptThread.getName().startsWith("MongoHedgedRead"));
+        }
+    }
+
+    @Test
+    void shouldReturnTheHedgeWithoutWaitingForTheOriginalAndCloseTheOriginalWhenTheHedgeWins() throws InterruptedException {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY, SECOND_SECONDARY);
+        CountDownLatch originalReleased = new CountDownLatch(1);
+        CountDownLatch originalClosed = new CountDownLatch(1);
+
+        long startNanos = System.nanoTime();
+        String result = executor.execute("find", ReadPreference.secondary(), (selector, serverAddress) -> {
+            if (selector == null) {
+                serverAddress.set(FIRST_SECONDARY);
+                // a stalled server, which only responds once the hedge has been returned
+                awaitUninterruptibly(originalReleased);
+                return new CloseableResult(originalClosed);
+            }
+            assertEquals(FIRST_SECONDARY, ((ServerAddressExcludingSelector) selector).getServerAddress());
+            return "hedge";
+        }).toString();
+        long elapsedMillis = NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        assertEquals("hedge", result);
+        assertTrue(elapsedMillis < 5_000, "The hedge was returned after " + elapsedMillis + "ms");
+        assertFalse(originalClosed.await(0, SECONDS));
+        assertEquals(2, events.size());
+        HedgedReadStartedEvent startedEvent = (HedgedReadStartedEvent) events.get(0);
+        assertEquals("find", startedEvent.getCommandName());
+        assertEquals(FIRST_SECONDARY, startedEvent.getServerAddress());
+        assertEquals(10, startedEvent.getDelay(MILLISECONDS));
+        HedgedReadCompletedEvent completedEvent = (HedgedReadCompletedEvent) events.get(1);
+        assertTrue(completedEvent.isSucceeded());
+        assertTrue(completedEvent.isHedgeWon());
+
+        originalReleased.countDown();
+        assertTrue(originalClosed.await(10, SECONDS));
+    }
+
+    @Test
+    void shouldReturnTheOriginalWhenTheHedgeFails() {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY, SECOND_SECONDARY);
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+
+        String result = executor.execute("find", ReadPreference.nearest(), (selector, serverAddress) -> {
+            if (selector == null) {
+                serverAddress.set(PRIMARY);
+                awaitUninterruptibly(hedgeFailed);
+                return "original";
+            }
+            hedgeFailed.countDown();
+            throw new MongoSocketReadTimeoutException("timed out", SECOND_SECONDARY, new RuntimeException());
+        });
+
+        assertEquals("original", result);
+        HedgedReadCompletedEvent completedEvent = (HedgedReadCompletedEvent) events.get(1);
+        assertTrue(completedEvent.isSucceeded());
+        assertFalse(completedEvent.isHedgeWon());
+    }
+
+    @Test
+    void shouldThrowWhenBothReadsFail() {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY, SECOND_SECONDARY);
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+
+        RuntimeException e = assertThrows(RuntimeException.class, () ->
+                executor.execute("find", ReadPreference.nearest(), (selector, serverAddress) -> {
+                    if (selector == null) {
+                        serverAddress.set(PRIMARY);
+                        awaitUninterruptibly(hedgeFailed);
+                        throw new IllegalStateException("original");
+                    }
+                    hedgeFailed.countDown();
+                    throw new IllegalStateException("hedge");
+                }));
+
+        assertInstanceOf(IllegalStateException.class, e);
+        HedgedReadCompletedEvent completedEvent = (HedgedReadCompletedEvent) events.get(1);
+        assertFalse(completedEvent.isSucceeded());
+        assertFalse(completedEvent.isHedgeWon());
+    }
+
+    @Test
+    void shouldNotHedgeWhenNoOtherServerIsEligible() {
+        HedgedReadExecutor executor = createExecutor(PRIMARY, FIRST_SECONDARY);
+        AtomicBoolean hedged = new AtomicBoolean();
+
+        String result = executor.execute("find", ReadPreference.secondary(), (selector, serverAddress) -> {
+            if (selector != null) {
+                hedged.set(true);
+            }
+            serverAddress.set(FIRST_SECONDARY);
+            sleepUninterruptibly(50);
+            return "original";
+        });
+
+        assertEquals("original", result);
+        assertFalse(hedged.get());
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    void shouldTrackTheLatencyPercentile() {
+        HedgedReadExecutor.LatencyPercentile latencyPercentile = new HedgedReadExecutor.LatencyPercentile(0.95);
+        for (int i = 1; i <= 31; i++) {
+            latencyPercentile.add(i);
+        }
+        assertEquals(-1, latencyPercentile.get(-1));
+
+        for (int i = 32; i <= 96; i++) {
+            latencyPercentile.add(i);
+        }
+        assertEquals(92, latencyPercentile.get(-1));
+
+        // only the most recent latencies are considered
+        for (int i = 0; i < 256; i++) {
+            latencyPercentile.add(1000);
+        }
+        assertEquals(1000, latencyPercentile.get(-1));
+    }
+
+    @Test
+    void shouldUseTheConfiguredDelayUntilEnoughLatenciesHaveBeenObserved() {
+        HedgedReadExecutor executor = new HedgedReadExecutor(mock(Cluster.class),
+                HedgedReadSettings.builder().delay(10, MILLISECONDS).adaptive(true).build(), backgroundExecutor, false);
+        executors.add(executor);
+
+        assertEquals(MILLISECONDS.toNanos(10), executor.getDelayNanos());
+        for (int i = 0; i < 32; i++) {
+            executor.execute("find", ReadPreference.nearest(), (selector, serverAddress) -> "original");
+        }
+        assertTrue(executor.getDelayNanos() < MILLISECONDS.toNanos(10));
+    }
+
+    private HedgedReadExecutor createExecutor(final ServerAddress... serverAddresses) {
+        ServerDescription[] serverDescriptions = new ServerDescription[serverAddresses.length];
+        for (int i = 0; i < serverAddresses.length; i++) {
+            serverDescriptions[i] = ServerDescription.builder()
+                    .state(CONNECTED)
+                    .address(serverAddresses[i])
+                    .ok(true)
+                    .type(serverAddresses[i].equals(PRIMARY) ? ServerType.REPLICA_SET_PRIMARY : ServerType.REPLICA_SET_SECONDARY)
+                    .build();
+        }
+        ClusterDescription clusterDescription = new ClusterDescription(MULTIPLE, REPLICA_SET, asList(serverDescriptions));
+        Cluster cluster = mock(Cluster.class, c -> when(c.getCurrentDescription()).thenReturn(clusterDescription));
+        HedgedReadExecutor executor = new HedgedReadExecutor(cluster, HedgedReadSettings.builder()
+                .delay(10, MILLISECONDS)
+                .addHedgedReadListener(listener)
+                .build(), backgroundExecutor, false);
+        executors.add(executor);
+        return executor;
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleepUninterruptibly(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final class CloseableResult implements AutoCloseable {
+        private final CountDownLatch closed;
+
+        CloseableResult(final CountDownLatch closed) {
+            this.closed = closed;
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+
+        @Override
+        public String toString() {
+            return "original";
+        }
+    }
+}
@@ -25,6 +25,7 @@ pluginManagement {
 include(":bom")
 
 include(":bson")
+include(":bson-codec-processor")
 include(":bson-kotlin")
 include(":bson-kotlinx")
 include(":bson-record-codec")